@@ -0,0 +1,156 @@
+package com.devops.payload.loadgen;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToLongFunction;
+
+/**
+ * Load generator for {@code POST /DevOps}. Examples, against a locally started instance:
+ * <pre>
+ * java -jar target/payload-loadgen.jar --mode=open --rate=500 --duration=60
+ * java -jar target/payload-loadgen.jar --mode=closed --concurrency=64
+ * java -jar target/payload-loadgen.jar --mode=curve --rates=250,500,1000,2000
+ * java -jar target/payload-loadgen.jar --mode=startup --runs=5 --command="java -jar ../target/payload-0.0.1-SNAPSHOT.jar"
+ * </pre>
+ * Every run prints a percentile summary and writes {@code .hgrm} files to {@code --output};
+ * {@code curve} also writes {@code curve.csv}, throughput and goodput against latency for each open-loop
+ * rate; stepping the rates past saturation shows whether goodput holds while the excess is shed with 503.
+ * {@code startup} instead launches {@code --command} {@code --runs} times and writes {@code startup.csv}
+ * with the time to health UP and to the first successful {@code /DevOps} response.
+ * Exits with status 1 if any request failed or got an unexpected status other than 503.
+ */
+public final class LoadGenerator {
+
+    private LoadGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadOptions options;
+        try {
+            options = LoadOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+        RequestMix mix = new RequestMix(RequestMix.parseWeights(options.mix()), options.url(), options.apiKey(),
+                options.jwt(), options.timeout());
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(options.timeout())
+                .build();
+        if (options.mode() == LoadOptions.Mode.STARTUP) {
+            System.exit(startup(new StartupProbe(client, mix, options.url(), Duration.ofSeconds(120)), options));
+        } else {
+            System.exit(load(new LoadRunner(client, mix), options, mix));
+        }
+    }
+
+    private static int load(LoadRunner runner, LoadOptions options, RequestMix mix) throws IOException {
+        System.out.printf("%s %s, mix %s%n", options.mode().name().toLowerCase(), options.url(), mix.getWeights());
+        List<RunReport> reports = options.mode() == LoadOptions.Mode.CURVE
+                ? curve(runner, options)
+                : List.of(options.mode() == LoadOptions.Mode.OPEN
+                        ? openLoop(runner, options, options.rate())
+                        : closedLoop(runner, options));
+        for (RunReport report : reports) {
+            report.printSummary(System.out);
+            report.writeHistograms(options.output());
+        }
+        System.out.printf("%nHistograms written to %s%n", options.output().toAbsolutePath());
+
+        boolean clean = reports.stream().allMatch(report -> report.failureCount() == 0 && report.unexpectedCount() == 0);
+        return clean ? 0 : 1;
+    }
+
+    private static RunReport openLoop(LoadRunner runner, LoadOptions options, int rate) {
+        if (!options.warmup().isZero()) {
+            runner.runOpenLoop("warmup", rate, options.warmup());
+        }
+        return runner.runOpenLoop("open-" + rate, rate, options.duration());
+    }
+
+    private static RunReport closedLoop(LoadRunner runner, LoadOptions options) {
+        if (!options.warmup().isZero()) {
+            runner.runClosedLoop("warmup", options.concurrency(), options.warmup());
+        }
+        return runner.runClosedLoop("closed-" + options.concurrency(), options.concurrency(), options.duration());
+    }
+
+    private static List<RunReport> curve(LoadRunner runner, LoadOptions options) throws IOException {
+        List<RunReport> reports = new ArrayList<>();
+        for (int rate : options.rates()) {
+            RunReport report = openLoop(runner, options, rate);
+            System.out.printf("%d req/s: achieved %.1f req/s, goodput %.1f req/s, %d shed, p99 %.3f ms%n", rate,
+                    report.throughputPerSecond(), report.goodputPerSecond(), report.shedCount(),
+                    report.latencyMillis(99));
+            reports.add(report);
+        }
+        Files.createDirectories(options.output());
+        try (PrintStream csv = new PrintStream(Files.newOutputStream(options.output().resolve("curve.csv")))) {
+            writeCurve(csv, options.rates(), reports);
+        }
+        return reports;
+    }
+
+    private static int startup(StartupProbe probe, LoadOptions options) {
+        System.out.printf("%s%n%-5s %14s %18s %10s%n", String.join(" ", options.command()), "run", "health UP ms",
+                "first /DevOps ms", "RSS MB");
+        List<StartupProbe.Result> results = new ArrayList<>();
+        for (int run = 1; run <= options.runs(); run++) {
+            try {
+                StartupProbe.Result result = probe.run(options.command());
+                System.out.printf("%-5d %14d %18d %10d%n", run, result.healthUpMillis(), result.firstResponseMillis(),
+                        result.rssKilobytes() / 1024);
+                results.add(result);
+            } catch (IOException e) {
+                System.err.printf("Run %d failed: %s%n", run, e.getMessage());
+                return 1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return 1;
+            }
+        }
+        System.out.printf("%-5s %14d %18d %10d%n", "p50", median(results, StartupProbe.Result::healthUpMillis),
+                median(results, StartupProbe.Result::firstResponseMillis),
+                median(results, StartupProbe.Result::rssKilobytes) / 1024);
+        try {
+            Files.createDirectories(options.output());
+            try (PrintStream csv = new PrintStream(Files.newOutputStream(options.output().resolve("startup.csv")))) {
+                csv.println("run,health_up_ms,first_response_ms,rss_kb");
+                for (int i = 0; i < results.size(); i++) {
+                    StartupProbe.Result result = results.get(i);
+                    csv.printf("%d,%d,%d,%d%n", i + 1, result.healthUpMillis(), result.firstResponseMillis(),
+                            result.rssKilobytes());
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Cannot write startup.csv: " + e.getMessage());
+            return 1;
+        }
+        return 0;
+    }
+
+    static long median(List<StartupProbe.Result> results, ToLongFunction<StartupProbe.Result> metric) {
+        long[] values = results.stream().mapToLong(metric).sorted().toArray();
+        return values[values.length / 2];
+    }
+
+    static void writeCurve(PrintStream csv, List<Integer> rates, List<RunReport> reports) {
+        csv.println("target_rps,achieved_rps,goodput_rps,shed,p50_ms,p90_ms,p99_ms,p999_ms,max_ms,failed,unexpected");
+        for (int i = 0; i < reports.size(); i++) {
+            RunReport report = reports.get(i);
+            csv.printf(Locale.ROOT, "%d,%.1f,%.1f,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%d,%d%n", rates.get(i),
+                    report.throughputPerSecond(), report.goodputPerSecond(), report.shedCount(),
+                    report.latencyMillis(50), report.latencyMillis(90), report.latencyMillis(99),
+                    report.latencyMillis(99.9), report.maxLatencyMillis(), report.failureCount(),
+                    report.unexpectedCount());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.devops.payload.loadgen;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the service in one of two ways:
+ * <ul>
+ * <li>open loop: requests are started at a constant rate whatever the service does, each on its own
+ * virtual thread, and latency is measured from the scheduled start;</li>
+ * <li>closed loop: a fixed number of workers each send their next request when the previous one
+ * completes.</li>
+ * </ul>
+ */
+public class LoadRunner {
+
+    private final HttpClient client;
+    private final RequestMix mix;
+
+    public LoadRunner(HttpClient client, RequestMix mix) {
+        this.client = client;
+        this.mix = mix;
+    }
+
+    public RunReport runOpenLoop(String name, int requestsPerSecond, Duration duration) {
+        RunReport report = new RunReport(name);
+        long intervalNanos = 1_000_000_000L / requestsPerSecond;
+        long count = duration.toNanos() / intervalNanos;
+        AtomicLong lastCompletion = new AtomicLong();
+        long begin = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < count; i++) {
+                long intended = begin + i * intervalNanos;
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Scenario scenario = mix.next();
+                executor.execute(() -> lastCompletion.accumulateAndGet(send(scenario, intended, report), Math::max));
+            }
+        }
+        report.setElapsedNanos(lastCompletion.get() - begin);
+        return report;
+    }
+
+    public RunReport runClosedLoop(String name, int concurrency, Duration duration) {
+        RunReport report = new RunReport(name);
+        long begin = System.nanoTime();
+        long end = begin + duration.toNanos();
+        AtomicLong lastCompletion = new AtomicLong();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                executor.execute(() -> {
+                    long completed = System.nanoTime();
+                    while (completed < end) {
+                        completed = send(mix.next(), System.nanoTime(), report);
+                    }
+                    lastCompletion.accumulateAndGet(completed, Math::max);
+                });
+            }
+        }
+        report.setElapsedNanos(lastCompletion.get() - begin);
+        return report;
+    }
+
+    /** Sends one request due at {@code intendedNanos}, records it and returns its completion time. */
+    private long send(Scenario scenario, long intendedNanos, RunReport report) {
+        long sent = System.nanoTime();
+        int status;
+        try {
+            status = client.send(mix.request(scenario), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = -1;
+        }
+        long completed = System.nanoTime();
+        report.record(scenario, completed - intendedNanos, completed - sent, status);
+        return completed;
+    }
+}
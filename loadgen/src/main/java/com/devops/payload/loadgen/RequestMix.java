@@ -0,0 +1,100 @@
+package com.devops.payload.loadgen;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Weighted choice of {@link Scenario}s and the request sent for each. Valid requests carry a
+ * sequence number in their message so the service's idempotency cache never answers them as replays.
+ */
+public class RequestMix {
+
+    static final String INVALID_API_KEY = "00000000-0000-0000-0000-000000000000";
+    static final String INVALID_JWT = "invalid-jwt";
+
+    private static final Scenario[] SCENARIOS = Scenario.values();
+
+    private final Map<Scenario, Integer> weights;
+    private final int[] cumulativeWeights = new int[SCENARIOS.length];
+    private final URI uri;
+    private final String apiKey;
+    private final String jwt;
+    private final Duration timeout;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public RequestMix(Map<Scenario, Integer> weights, URI uri, String apiKey, String jwt, Duration timeout) {
+        this.weights = new EnumMap<>(weights);
+        int total = 0;
+        for (Scenario scenario : SCENARIOS) {
+            int weight = weights.getOrDefault(scenario, 0);
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + scenario.getId());
+            }
+            total += weight;
+            cumulativeWeights[scenario.ordinal()] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("The mix needs at least one positive weight");
+        }
+        this.uri = uri;
+        this.apiKey = apiKey;
+        this.jwt = jwt;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Parses {@code valid=85,invalid-key=5,...}; scenarios left out get weight 0.
+     */
+    public static Map<Scenario, Integer> parseWeights(String mix) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected scenario=weight, got '" + entry + "'");
+            }
+            weights.put(Scenario.fromId(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    public Map<Scenario, Integer> getWeights() {
+        return weights;
+    }
+
+    public String getApiKey() {
+        return apiKey;
+    }
+
+    public Scenario next() {
+        return pick(ThreadLocalRandom.current().nextInt(cumulativeWeights[SCENARIOS.length - 1]));
+    }
+
+    /** The scenario owning {@code ticket} in {@code [0, total weight)}. */
+    Scenario pick(int ticket) {
+        for (Scenario scenario : SCENARIOS) {
+            if (ticket < cumulativeWeights[scenario.ordinal()]) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Ticket out of range: " + ticket);
+    }
+
+    public HttpRequest request(Scenario scenario) {
+        long n = sequence.incrementAndGet();
+        String message = scenario == Scenario.INVALID_BODY ? "" : "Load test " + n;
+        String body = "{\"message\":\"" + message
+                + "\",\"to\":\"Juan Perez\",\"from\":\"Rita Asturia\",\"timeToLifeSec\":45}";
+        return HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("X-Parse-REST-API-Key", scenario == Scenario.INVALID_KEY ? INVALID_API_KEY : apiKey)
+                .header("X-JWT-KWY", scenario == Scenario.INVALID_JWT ? INVALID_JWT : jwt)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
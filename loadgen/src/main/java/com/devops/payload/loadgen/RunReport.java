@@ -0,0 +1,155 @@
+package com.devops.payload.loadgen;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies of one run, in microseconds. {@code latency} is measured from when each request was
+ * due to be sent, so in open-loop runs it includes time spent waiting behind a slow service (the
+ * coordinated-omission correction); {@code serviceTime} is measured from when it was actually sent.
+ * In closed-loop runs the two are the same. A 503 is load shedding: counted as {@code shed} rather
+ * than unexpected, and left out of goodput, the rate of responses with the expected status.
+ */
+public class RunReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final int SHED_STATUS = 503;
+
+    private final String name;
+    private final Histogram latency = histogram();
+    private final Histogram serviceTime = histogram();
+    private final Map<Scenario, Histogram> latencyByScenario = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, LongAdder> unexpected = new EnumMap<>(Scenario.class);
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+    private final LongAdder good = new LongAdder();
+    private volatile long elapsedNanos;
+
+    public RunReport(String name) {
+        this.name = name;
+        for (Scenario scenario : Scenario.values()) {
+            latencyByScenario.put(scenario, histogram());
+            unexpected.put(scenario, new LongAdder());
+        }
+    }
+
+    private static Histogram histogram() {
+        // Up to an hour at three significant digits, in microseconds.
+        return new ConcurrentHistogram(TimeUnit.HOURS.toMicros(1), 3);
+    }
+
+    /**
+     * Records one response. {@code status} is -1 when no response arrived (I/O error or timeout).
+     */
+    public void record(Scenario scenario, long latencyNanos, long serviceTimeNanos, int status) {
+        long latencyMicros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        latency.recordValue(latencyMicros);
+        serviceTime.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(serviceTimeNanos)));
+        latencyByScenario.get(scenario).recordValue(latencyMicros);
+        if (status < 0) {
+            failures.increment();
+        } else if (status == scenario.getExpectedStatus()) {
+            good.increment();
+        } else if (status == SHED_STATUS) {
+            shed.increment();
+        } else {
+            unexpected.get(scenario).increment();
+        }
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /** From the start of the run to its last completed request. */
+    long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long totalCount() {
+        return latency.getTotalCount();
+    }
+
+    public long failureCount() {
+        return failures.sum();
+    }
+
+    public long unexpectedCount() {
+        return unexpected.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public long shedCount() {
+        return shed.sum();
+    }
+
+    public double throughputPerSecond() {
+        return elapsedNanos == 0 ? 0 : totalCount() * 1e9 / elapsedNanos;
+    }
+
+    public double goodputPerSecond() {
+        return elapsedNanos == 0 ? 0 : good.sum() * 1e9 / elapsedNanos;
+    }
+
+    /** Latency at {@code percentile} (0-100) in milliseconds. */
+    public double latencyMillis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    public double maxLatencyMillis() {
+        return latency.getMaxValue() / MICROS_PER_MILLI;
+    }
+
+    public void printSummary(PrintStream out) {
+        out.printf("%n== %s: %d requests in %.1f s, %.1f req/s, %.1f goodput/s, %d shed, %d failed, "
+                + "%d unexpected status%n", name, totalCount(), elapsedNanos / 1e9, throughputPerSecond(),
+                goodputPerSecond(), shedCount(), failureCount(), unexpectedCount());
+        out.printf("%-14s %9s %10s %9s %9s %9s %9s %9s%n",
+                "", "count", "unexpected", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        printRow(out, "all (latency)", latency, unexpectedCount());
+        printRow(out, "all (service)", serviceTime, unexpectedCount());
+        for (Scenario scenario : Scenario.values()) {
+            Histogram histogram = latencyByScenario.get(scenario);
+            if (histogram.getTotalCount() > 0) {
+                printRow(out, scenario.getId(), histogram, unexpected.get(scenario).sum());
+            }
+        }
+    }
+
+    private static void printRow(PrintStream out, String label, Histogram histogram, long unexpectedCount) {
+        out.printf("%-14s %9d %10d %9.3f %9.3f %9.3f %9.3f %9.3f%n", label, histogram.getTotalCount(),
+                unexpectedCount, histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(90) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI);
+    }
+
+    /**
+     * Writes the latency and service-time percentile distributions in milliseconds as
+     * {@code <name>.hgrm} and {@code <name>-service.hgrm}, the format the HdrHistogram plotter reads.
+     */
+    public void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        writeHistogram(latency, directory.resolve(name + ".hgrm"));
+        writeHistogram(serviceTime, directory.resolve(name + "-service.hgrm"));
+    }
+
+    private static void writeHistogram(Histogram histogram, Path file) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+}
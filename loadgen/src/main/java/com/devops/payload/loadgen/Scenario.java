@@ -0,0 +1,37 @@
+package com.devops.payload.loadgen;
+
+/**
+ * Kinds of {@code POST /DevOps} request in a load mix, with the status the service must answer.
+ */
+public enum Scenario {
+
+    VALID("valid", 200),
+    INVALID_KEY("invalid-key", 401),
+    INVALID_JWT("invalid-jwt", 401),
+    INVALID_BODY("invalid-body", 400);
+
+    private final String id;
+    private final int expectedStatus;
+
+    Scenario(String id, int expectedStatus) {
+        this.id = id;
+        this.expectedStatus = expectedStatus;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    public static Scenario fromId(String id) {
+        for (Scenario scenario : values()) {
+            if (scenario.id.equals(id)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario '" + id + "'");
+    }
+}
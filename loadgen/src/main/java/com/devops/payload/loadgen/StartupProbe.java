@@ -0,0 +1,108 @@
+package com.devops.payload.loadgen;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the service with a given command and measures, from process launch, the time to actuator
+ * health {@code UP} and to the first {@code 200} from {@code POST /DevOps}, plus its resident set size
+ * once ready. The process is stopped after each run. It gets the mix's API key as {@code API_KEY} unless
+ * that is already set, as the service ships without one.
+ */
+public class StartupProbe {
+
+    private static final long POLL_INTERVAL_MILLIS = 10;
+
+    private final HttpClient client;
+    private final RequestMix mix;
+    private final URI healthUri;
+    private final Duration timeout;
+
+    public StartupProbe(HttpClient client, RequestMix mix, URI devOpsUri, Duration timeout) {
+        this.client = client;
+        this.mix = mix;
+        this.healthUri = devOpsUri.resolve("/actuator/health");
+        this.timeout = timeout;
+    }
+
+    /**
+     * Readiness times from launch; {@code rssKilobytes} is -1 where {@code /proc} is not available.
+     */
+    public record Result(long healthUpMillis, long firstResponseMillis, long rssKilobytes) {
+    }
+
+    public Result run(List<String> command) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        builder.environment().putIfAbsent("API_KEY", mix.getApiKey());
+        Process process = builder.start();
+        try {
+            long deadline = start + timeout.toNanos();
+            long healthUp = -1;
+            long firstResponse = -1;
+            while (healthUp < 0 || firstResponse < 0) {
+                if (!process.isAlive()) {
+                    throw new IOException("Process exited with status " + process.exitValue() + " before it was ready");
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new IOException("Not ready after " + timeout.toSeconds() + " s");
+                }
+                if (healthUp < 0 && isHealthUp()) {
+                    healthUp = System.nanoTime();
+                }
+                if (firstResponse < 0 && isServing()) {
+                    firstResponse = System.nanoTime();
+                }
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            }
+            return new Result(TimeUnit.NANOSECONDS.toMillis(healthUp - start),
+                    TimeUnit.NANOSECONDS.toMillis(firstResponse - start), rssKilobytes(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    static long rssKilobytes(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", Long.toString(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.substring(6).replace("kB", "").trim());
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Not Linux, or the process is gone.
+        }
+        return -1;
+    }
+
+    private boolean isHealthUp() throws InterruptedException {
+        try {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(healthUri).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() == 200 && response.body().contains("\"UP\"");
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private boolean isServing() throws InterruptedException {
+        try {
+            return client.send(mix.request(Scenario.VALID), HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
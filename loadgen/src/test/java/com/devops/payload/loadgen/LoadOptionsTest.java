@@ -0,0 +1,44 @@
+package com.devops.payload.loadgen;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadOptionsTest {
+
+    @Test
+    void testParse_WithOnlyApiKey_ShouldUseDefaults() {
+        LoadOptions options = LoadOptions.parse("--api-key=test-key");
+
+        assertEquals("http://localhost:8080/DevOps", options.url().toString());
+        assertEquals(LoadOptions.Mode.OPEN, options.mode());
+        assertEquals(200, options.rate());
+        assertEquals(Duration.ofSeconds(30), options.duration());
+        assertEquals("test-key", options.apiKey());
+    }
+
+    @Test
+    void testParse_WithArguments_ShouldOverrideDefaults() {
+        LoadOptions options = LoadOptions.parse("--mode=curve", "--rates=50, 100", "--duration=5", "--warmup=0",
+                "--url=http://127.0.0.1:9000/DevOps", "--api-key=test-key");
+
+        assertEquals(LoadOptions.Mode.CURVE, options.mode());
+        assertEquals(List.of(50, 100), options.rates());
+        assertEquals(Duration.ofSeconds(5), options.duration());
+        assertTrue(options.warmup().isZero());
+        assertEquals(9000, options.url().getPort());
+    }
+
+    @Test
+    void testParse_WithInvalidArguments_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> LoadOptions.parse("--unknown=1"));
+        assertThrows(IllegalArgumentException.class, () -> LoadOptions.parse("rate=1"));
+        assertThrows(IllegalArgumentException.class, () -> LoadOptions.parse("--rate=0", "--api-key=test-key"));
+        assertThrows(IllegalArgumentException.class, () -> LoadOptions.parse("--mode=sideways", "--api-key=test-key"));
+        assertThrows(IllegalArgumentException.class, () -> LoadOptions.parse());
+        assertThrows(IllegalArgumentException.class, () -> LoadOptions.parse("--api-key="));
+    }
+}
@@ -0,0 +1,170 @@
+package com.devops.payload.loadgen;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sun.net.httpserver.HttpServer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadRunnerTest {
+
+    private HttpServer server;
+    private LoadRunner runner;
+
+    /** Answers like the service: 401 for the invalid credentials, 400 for a blank message, else 200. */
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/DevOps", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            int status = 200;
+            if (RequestMix.INVALID_API_KEY.equals(exchange.getRequestHeaders().getFirst("X-Parse-REST-API-Key"))
+                    || RequestMix.INVALID_JWT.equals(exchange.getRequestHeaders().getFirst("X-JWT-KWY"))) {
+                status = 401;
+            } else if (body.contains("\"message\":\"\"")) {
+                status = 400;
+            }
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+        URI uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/DevOps");
+        RequestMix mix = new RequestMix(RequestMix.parseWeights("valid=1,invalid-key=1,invalid-jwt=1,invalid-body=1"),
+                uri, "key", "jwt", Duration.ofSeconds(5));
+        runner = new LoadRunner(HttpClient.newHttpClient(), mix);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testRunOpenLoop_ShouldSendAtRateAndMatchExpectedStatuses() {
+        RunReport report = runner.runOpenLoop("open", 200, Duration.ofMillis(500));
+
+        assertEquals(100, report.totalCount());
+        assertEquals(0, report.failureCount());
+        assertEquals(0, report.unexpectedCount());
+        // The last request is scheduled 99 intervals of 5 ms after the first one.
+        assertTrue(report.getElapsedNanos() >= Duration.ofMillis(495).toNanos());
+        assertTrue(report.latencyMillis(50) > 0);
+    }
+
+    @Test
+    void testRunClosedLoop_ShouldRunForDuration() {
+        RunReport report = runner.runClosedLoop("closed", 4, Duration.ofMillis(300));
+
+        // Every client sends until the duration is over, so each sends at least once.
+        assertTrue(report.totalCount() >= 4);
+        assertTrue(report.getElapsedNanos() >= Duration.ofMillis(300).toNanos());
+        assertEquals(0, report.failureCount());
+        assertEquals(0, report.unexpectedCount());
+    }
+
+    @Test
+    void testRunOpenLoop_AgainstStoppedServer_ShouldCountFailures() {
+        server.stop(0);
+
+        RunReport report = runner.runOpenLoop("open", 50, Duration.ofMillis(100));
+
+        assertEquals(5, report.failureCount());
+    }
+
+    @Test
+    void testRunOpenLoop_WhenServiceSheds_ShouldCountShedApartFromGoodput() {
+        server.createContext("/shed", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        URI uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/shed");
+        LoadRunner shedding = new LoadRunner(HttpClient.newHttpClient(),
+                new RequestMix(RequestMix.parseWeights("valid=1"), uri, "key", "jwt", Duration.ofSeconds(5)));
+
+        RunReport report = shedding.runOpenLoop("open", 100, Duration.ofMillis(200));
+
+        assertEquals(20, report.shedCount());
+        assertEquals(0, report.unexpectedCount());
+        assertEquals(0, report.goodputPerSecond());
+    }
+
+    @Test
+    void testRunOpenLoop_ShouldReportGoodput() {
+        RunReport report = runner.runOpenLoop("open", 100, Duration.ofMillis(200));
+
+        assertEquals(0, report.shedCount());
+        assertEquals(report.throughputPerSecond(), report.goodputPerSecond(), 1e-9);
+    }
+
+    @Test
+    void testReports_ShouldWriteHistogramsAndCurve(@TempDir Path directory) throws IOException {
+        RunReport report = runner.runOpenLoop("open-100", 100, Duration.ofMillis(200));
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+
+        report.writeHistograms(directory);
+        LoadGenerator.writeCurve(new PrintStream(csv, true, StandardCharsets.UTF_8), List.of(100), List.of(report));
+
+        assertTrue(Files.readString(directory.resolve("open-100.hgrm")).contains("Percentile"));
+        assertTrue(Files.exists(directory.resolve("open-100-service.hgrm")));
+        String[] lines = csv.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].startsWith("100,"));
+    }
+
+    @Test
+    void testStartupProbe_WithCommandThatExits_ShouldFail() {
+        StartupProbe probe = new StartupProbe(HttpClient.newHttpClient(),
+                new RequestMix(RequestMix.parseWeights("valid=1"), URI.create("http://localhost:1/DevOps"), "key",
+                        "jwt", Duration.ofSeconds(1)),
+                URI.create("http://localhost:1/DevOps"), Duration.ofSeconds(10));
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+
+        IOException e = assertThrows(IOException.class, () -> probe.run(List.of(java, "-version")));
+        assertTrue(e.getMessage().contains("exited"));
+    }
+
+    @Test
+    void testStartupProbe_AgainstRunningServer_ShouldMeasureReadiness(@TempDir Path directory) throws Exception {
+        server.createContext("/actuator/health", exchange -> {
+            byte[] body = "{\"status\":\"UP\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        URI uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/DevOps");
+        StartupProbe probe = new StartupProbe(HttpClient.newHttpClient(),
+                new RequestMix(RequestMix.parseWeights("valid=1"), uri, "key", "jwt", Duration.ofSeconds(1)),
+                uri, Duration.ofSeconds(30));
+        // A process that stays alive; the stub server stands in for the service it would start.
+        Path sleeper = Files.writeString(directory.resolve("Sleeper.java"),
+                "class Sleeper { public static void main(String[] a) throws Exception { Thread.sleep(60_000); } }");
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> command = List.of(java, sleeper.toString());
+
+        StartupProbe.Result result = probe.run(command);
+
+        assertTrue(result.healthUpMillis() >= 0);
+        assertTrue(result.firstResponseMillis() >= 0);
+        if (Files.isDirectory(Path.of("/proc/self"))) {
+            assertTrue(result.rssKilobytes() > 0);
+        }
+    }
+}
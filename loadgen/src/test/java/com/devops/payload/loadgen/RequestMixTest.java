@@ -0,0 +1,62 @@
+package com.devops.payload.loadgen;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestMixTest {
+
+    private static RequestMix mix(String weights) {
+        return new RequestMix(RequestMix.parseWeights(weights), URI.create("http://localhost:8080/DevOps"),
+                "key", "jwt", Duration.ofSeconds(1));
+    }
+
+    @Test
+    void testParseWeights_ShouldMapScenarioIds() {
+        Map<Scenario, Integer> weights = RequestMix.parseWeights("valid=85, invalid-jwt=15");
+
+        assertEquals(Map.of(Scenario.VALID, 85, Scenario.INVALID_JWT, 15), weights);
+    }
+
+    @Test
+    void testParseWeights_WithUnknownScenario_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> RequestMix.parseWeights("valid=1,bogus=2"));
+        assertThrows(IllegalArgumentException.class, () -> RequestMix.parseWeights("valid"));
+    }
+
+    @Test
+    void testPick_ShouldFollowCumulativeWeights() {
+        RequestMix mix = mix("valid=2,invalid-key=0,invalid-jwt=1,invalid-body=1");
+
+        assertEquals(Scenario.VALID, mix.pick(0));
+        assertEquals(Scenario.VALID, mix.pick(1));
+        assertEquals(Scenario.INVALID_JWT, mix.pick(2));
+        assertEquals(Scenario.INVALID_BODY, mix.pick(3));
+        assertThrows(IllegalArgumentException.class, () -> mix.pick(4));
+    }
+
+    @Test
+    void testConstructor_WithoutPositiveWeight_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> mix("valid=0"));
+    }
+
+    @Test
+    void testRequest_ShouldSetCredentialsPerScenario() {
+        RequestMix mix = mix("valid=1");
+
+        HttpRequest valid = mix.request(Scenario.VALID);
+        HttpRequest invalidKey = mix.request(Scenario.INVALID_KEY);
+        HttpRequest invalidJwt = mix.request(Scenario.INVALID_JWT);
+
+        assertEquals("key", valid.headers().firstValue("X-Parse-REST-API-Key").orElseThrow());
+        assertEquals("jwt", valid.headers().firstValue("X-JWT-KWY").orElseThrow());
+        assertEquals(RequestMix.INVALID_API_KEY, invalidKey.headers().firstValue("X-Parse-REST-API-Key").orElseThrow());
+        assertEquals(RequestMix.INVALID_JWT, invalidJwt.headers().firstValue("X-JWT-KWY").orElseThrow());
+        assertEquals("POST", valid.method());
+    }
+}
@@ -0,0 +1,507 @@
+package com.devops.payload.validation.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates a {@code <Type>Validator} implementing {@code GeneratedValidator} for each class with
+ * {@code @NotBlank}, {@code @NotNull} or {@code @Positive} on its fields or getters: one null, blank or
+ * sign check per constraint, with no metadata lookup, reflection or violation set. Values are read
+ * through the JavaBeans getter, or the field itself when it is not private. {@code @NotBlank} on a type
+ * other than {@code CharSequence} calls the {@code ConstraintValidator} registered for it in
+ * {@code META-INF/services}, as Hibernate Validator would.
+ * <p>
+ * A class is left to reflective Bean Validation, with a note, when these checks could not reproduce it
+ * exactly: other constraints or {@code @Valid}, groups or payloads, messages that need interpolation,
+ * supertypes that may declare constraints, or a property that cannot be read without reflection.
+ */
+public class ConstraintValidatorProcessor extends AbstractProcessor {
+
+    static final String NOT_BLANK = "jakarta.validation.constraints.NotBlank";
+    static final String NOT_NULL = "jakarta.validation.constraints.NotNull";
+    static final String POSITIVE = "jakarta.validation.constraints.Positive";
+
+    private static final String CONSTRAINT = "jakarta.validation.Constraint";
+    private static final String CONSTRAINT_VALIDATOR = "jakarta.validation.ConstraintValidator";
+    private static final String CONSTRAINT_VALIDATORS = "META-INF/services/" + CONSTRAINT_VALIDATOR;
+    private static final String VALID = "jakarta.validation.Valid";
+    private static final String VALIDATION_PACKAGE = "com.devops.payload.validation";
+    private static final Set<String> INTEGRAL_BOXES = Set.of("java.lang.Integer", "java.lang.Long",
+            "java.lang.Short", "java.lang.Byte");
+
+    /**
+     * One constraint check; {@code condition} is a format string over the value variable and the
+     * instance of {@code delegate}, if any, that is true when the constraint fails.
+     */
+    private record Check(String property, String read, String type, String condition, String delegate,
+            String code, String message) {
+    }
+
+    private List<TypeElement> registeredValidators;
+
+    private static final class Unsupported extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        Unsupported(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(NOT_BLANK, NOT_NULL, POSITIVE);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if ((element.getKind() == ElementKind.FIELD || element.getKind() == ElementKind.METHOD)
+                        && element.getEnclosingElement().getKind() == ElementKind.CLASS) {
+                    types.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        for (TypeElement type : types) {
+            try {
+                write(type, checks(type));
+            } catch (Unsupported e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "No generated validator for " + type + ": " + e.getMessage(), type);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Cannot write the validator for " + type + ": " + e, type);
+            }
+        }
+        return false;
+    }
+
+    private List<Check> checks(TypeElement type) throws Unsupported {
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL || type.getModifiers().contains(Modifier.ABSTRACT)
+                || !type.getTypeParameters().isEmpty()) {
+            throw new Unsupported("only top-level, concrete, non-generic classes are supported");
+        }
+        if (!isObject(type.getSuperclass()) || !type.getInterfaces().isEmpty()) {
+            throw new Unsupported("its supertypes may declare constraints");
+        }
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (isConstraint(mirror)) {
+                throw new Unsupported("class-level constraints are not supported");
+            }
+        }
+        List<Check> checks = new ArrayList<>();
+        for (Element member : type.getEnclosedElements()) {
+            if (member.getKind() != ElementKind.FIELD && member.getKind() != ElementKind.METHOD) {
+                continue;
+            }
+            TypeMirror memberType = member.getKind() == ElementKind.FIELD ? member.asType()
+                    : ((ExecutableElement) member).getReturnType();
+            if (hasTypeUseConstraint(memberType)) {
+                throw new Unsupported("container element constraints on " + member + " are not supported");
+            }
+            for (AnnotationMirror mirror : member.getAnnotationMirrors()) {
+                String name = annotationName(mirror);
+                if (name.equals(NOT_BLANK) || name.equals(NOT_NULL) || name.equals(POSITIVE)) {
+                    Check check = check(type, member, mirror, name);
+                    if (check != null) {
+                        checks.add(check);
+                    }
+                } else if (name.equals(VALID) || isConstraint(mirror)) {
+                    throw new Unsupported("@" + simpleName(mirror) + " on " + member + " is not supported");
+                }
+            }
+        }
+        return checks;
+    }
+
+    /**
+     * The check for one constraint, or {@code null} if it can never fail, as {@code @NotNull} on a
+     * primitive.
+     */
+    private Check check(TypeElement type, Element member, AnnotationMirror mirror, String name)
+            throws Unsupported {
+        if (member.getModifiers().contains(Modifier.STATIC)) {
+            throw new Unsupported("constraint on static " + member);
+        }
+        String property;
+        String read;
+        TypeMirror valueType;
+        if (member.getKind() == ElementKind.FIELD) {
+            property = member.getSimpleName().toString();
+            valueType = member.asType();
+            ExecutableElement getter = getter(type, property, valueType);
+            if (getter != null) {
+                read = "target." + getter.getSimpleName() + "()";
+            } else if (!member.getModifiers().contains(Modifier.PRIVATE)) {
+                read = "target." + property;
+            } else {
+                throw new Unsupported("private field " + property + " has no getter");
+            }
+        } else {
+            ExecutableElement method = (ExecutableElement) member;
+            property = propertyName(method);
+            if (property == null || method.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new Unsupported(method + " is not a getter that can be called");
+            }
+            valueType = method.getReturnType();
+            read = "target." + method.getSimpleName() + "()";
+        }
+        String message = message(mirror, member);
+        boolean primitive = valueType.getKind().isPrimitive();
+        if (!primitive && valueType.getKind() != TypeKind.DECLARED) {
+            throw new Unsupported("@" + simpleName(mirror) + " on " + member + " of type " + valueType);
+        }
+        String delegate = null;
+        String condition = switch (name) {
+            case NOT_NULL -> primitive ? null : "%1$s == null";
+            case NOT_BLANK -> {
+                if (!primitive && processingEnv.getTypeUtils().isAssignable(valueType,
+                        processingEnv.getElementUtils().getTypeElement("java.lang.CharSequence").asType())) {
+                    // As Hibernate Validator's NotBlankValidator for CharSequence.
+                    yield "%1$s == null || %1$s.toString().trim().isEmpty()";
+                }
+                TypeElement registered = primitive ? null : registeredValidator(mirror, valueType);
+                if (registered != null) {
+                    delegate = registered.getQualifiedName().toString();
+                    yield "!%2$s.isValid(%1$s, null)";
+                }
+                throw new Unsupported("@NotBlank on " + member + " of type " + valueType);
+            }
+            default -> {
+                if (isIntegral(valueType)) {
+                    yield primitive ? "%1$s <= 0" : "%1$s != null && %1$s <= 0";
+                }
+                throw new Unsupported("@Positive on " + member + " of type " + valueType);
+            }
+        };
+        return condition == null ? null
+                : new Check(property, read, typeName(valueType), condition, delegate, simpleName(mirror), message);
+    }
+
+    private String message(AnnotationMirror mirror, Element member) throws Unsupported {
+        String message = null;
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> attribute
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            String attributeName = attribute.getKey().getSimpleName().toString();
+            Object value = attribute.getValue().getValue();
+            switch (attributeName) {
+                case "message" -> message = (String) value;
+                case "groups", "payload" -> {
+                    if (!((List<?>) value).isEmpty()) {
+                        throw new Unsupported("@" + simpleName(mirror) + " on " + member + " sets " + attributeName);
+                    }
+                }
+                default -> throw new Unsupported("@" + simpleName(mirror) + " on " + member + " sets "
+                        + attributeName);
+            }
+        }
+        if (message == null || message.indexOf('{') >= 0 || message.indexOf('}') >= 0
+                || message.indexOf('\\') >= 0) {
+            throw new Unsupported("the message of @" + simpleName(mirror) + " on " + member
+                    + " needs interpolation");
+        }
+        return message;
+    }
+
+    private ExecutableElement getter(TypeElement type, String property, TypeMirror valueType) {
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (property.equals(propertyName(method)) && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && processingEnv.getTypeUtils().isSameType(method.getReturnType(), valueType)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The JavaBeans property a getter reads, or {@code null} if the method is not a getter.
+     */
+    static String propertyName(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        if (!method.getParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID) {
+            return null;
+        }
+        String suffix;
+        if (name.startsWith("get") && name.length() > 3) {
+            suffix = name.substring(3);
+        } else if (name.startsWith("is") && name.length() > 2
+                && method.getReturnType().getKind() == TypeKind.BOOLEAN) {
+            suffix = name.substring(2);
+        } else {
+            return null;
+        }
+        if (suffix.length() > 1 && Character.isUpperCase(suffix.charAt(0))
+                && Character.isUpperCase(suffix.charAt(1))) {
+            return suffix;
+        }
+        return suffix.substring(0, 1).toLowerCase(Locale.ROOT) + suffix.substring(1);
+    }
+
+    /**
+     * The validator registered in {@code META-INF/services} for {@code constraint} on {@code valueType},
+     * or {@code null} if there is none. Validators that read the annotation in {@code initialize}, or
+     * that the generated code cannot instantiate, are not used.
+     */
+    private TypeElement registeredValidator(AnnotationMirror constraint, TypeMirror valueType) throws Unsupported {
+        for (TypeElement validator : registeredValidators()) {
+            DeclaredType validated = constraintValidatorType(validator.asType());
+            if (validated == null || validated.getTypeArguments().size() != 2
+                    || !processingEnv.getTypeUtils().isSameType(validated.getTypeArguments().get(0),
+                            constraint.getAnnotationType())
+                    || !processingEnv.getTypeUtils().isAssignable(valueType,
+                            processingEnv.getTypeUtils().erasure(validated.getTypeArguments().get(1)))) {
+                continue;
+            }
+            if (!isInstantiable(validator) || overridesInitialize(validator)) {
+                throw new Unsupported(validator + " cannot be called without Bean Validation");
+            }
+            return validator;
+        }
+        return null;
+    }
+
+    private List<TypeElement> registeredValidators() {
+        if (registeredValidators == null) {
+            Set<String> names = new LinkedHashSet<>();
+            readServices(StandardLocation.CLASS_OUTPUT, names);
+            readServices(StandardLocation.CLASS_PATH, names);
+            registeredValidators = new ArrayList<>();
+            for (String name : names) {
+                TypeElement validator = processingEnv.getElementUtils().getTypeElement(name);
+                if (validator != null) {
+                    registeredValidators.add(validator);
+                }
+            }
+        }
+        return registeredValidators;
+    }
+
+    private void readServices(StandardLocation location, Set<String> names) {
+        try {
+            FileObject services = processingEnv.getFiler().getResource(location, "", CONSTRAINT_VALIDATORS);
+            try (BufferedReader reader = new BufferedReader(services.openReader(true))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int comment = line.indexOf('#');
+                    String name = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                    if (!name.isEmpty()) {
+                        names.add(name);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // No services file in this location.
+        }
+    }
+
+    private DeclaredType constraintValidatorType(TypeMirror type) {
+        for (TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(type)) {
+            if (supertype instanceof DeclaredType declared
+                    && typeName(declared).equals(CONSTRAINT_VALIDATOR)) {
+                return declared;
+            }
+            DeclaredType inherited = constraintValidatorType(supertype);
+            if (inherited != null) {
+                return inherited;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isInstantiable(TypeElement validator) {
+        if (validator.getNestingKind() != NestingKind.TOP_LEVEL
+                || !validator.getModifiers().contains(Modifier.PUBLIC)
+                || validator.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(validator.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean overridesInitialize(TypeElement validator) {
+        for (ExecutableElement method
+                : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(validator))) {
+            if (method.getSimpleName().contentEquals("initialize") && method.getParameters().size() == 1
+                    && !((TypeElement) method.getEnclosingElement()).getQualifiedName()
+                            .contentEquals(CONSTRAINT_VALIDATOR)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasTypeUseConstraint(TypeMirror type) {
+        if (type instanceof ArrayType array) {
+            return hasAnnotation(array.getComponentType()) || hasTypeUseConstraint(array.getComponentType());
+        }
+        if (type instanceof DeclaredType declared) {
+            for (TypeMirror argument : declared.getTypeArguments()) {
+                if (hasAnnotation(argument) || hasTypeUseConstraint(argument)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean hasAnnotation(TypeMirror type) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (annotationName(mirror).equals(VALID) || isConstraint(mirror)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isConstraint(AnnotationMirror mirror) {
+        Element annotation = mirror.getAnnotationType().asElement();
+        for (AnnotationMirror meta : annotation.getAnnotationMirrors()) {
+            if (annotationName(meta).equals(CONSTRAINT)) {
+                return true;
+            }
+        }
+        // Repeated constraints are wrapped in their List container, which is not itself a constraint.
+        return annotation.getSimpleName().contentEquals("List")
+                && annotation.getEnclosingElement().getKind() == ElementKind.ANNOTATION_TYPE;
+    }
+
+    private static boolean isIntegral(TypeMirror type) {
+        return switch (type.getKind()) {
+            case INT, LONG, SHORT, BYTE -> true;
+            case DECLARED -> INTEGRAL_BOXES.contains(typeName(type));
+            default -> false;
+        };
+    }
+
+    private static boolean isObject(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && typeName(type).equals("java.lang.Object");
+    }
+
+    // Names without the type annotations TypeMirror.toString() would print.
+    private static String typeName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase(Locale.ROOT);
+        }
+        return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+    }
+
+    private static String annotationName(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private static String simpleName(AnnotationMirror mirror) {
+        return mirror.getAnnotationType().asElement().getSimpleName().toString();
+    }
+
+    private void write(TypeElement type, List<Check> checks) throws IOException {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String targetName = type.getSimpleName().toString();
+        String validatorName = targetName + "Validator";
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(
+                packageName.isEmpty() ? validatorName : packageName + "." + validatorName, type);
+        Map<String, List<Check>> byRead = new LinkedHashMap<>();
+        Map<String, String> delegates = new LinkedHashMap<>();
+        for (Check check : checks) {
+            byRead.computeIfAbsent(check.read(), read -> new ArrayList<>()).add(check);
+            if (check.delegate() != null) {
+                delegates.computeIfAbsent(check.delegate(), delegate -> "VALIDATOR_" + delegates.size());
+            }
+        }
+        try (PrintWriter out = new PrintWriter(file.openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+            out.println("@org.springframework.stereotype.Component");
+            out.println("public final class " + validatorName + " implements " + VALIDATION_PACKAGE
+                    + ".GeneratedValidator<" + targetName + "> {");
+            out.println();
+            for (Map.Entry<String, String> delegate : delegates.entrySet()) {
+                out.println("    private static final " + delegate.getKey() + " " + delegate.getValue() + " = new "
+                        + delegate.getKey() + "();");
+                out.println();
+            }
+            out.println("    @Override");
+            out.println("    public Class<" + targetName + "> getTargetType() {");
+            out.println("        return " + targetName + ".class;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public void validate(" + targetName + " target, "
+                    + "org.springframework.validation.Errors errors) {");
+            int index = 0;
+            for (List<Check> propertyChecks : byRead.values()) {
+                String value = "value" + index++;
+                Check first = propertyChecks.get(0);
+                out.println("        " + first.type() + " " + value + " = " + first.read() + ";");
+                for (Check check : propertyChecks) {
+                    out.println("        if (" + check.condition().formatted(value, delegates.get(check.delegate())) + ") {");
+                    out.println("            " + VALIDATION_PACKAGE + ".ConstraintErrors.reject(errors, "
+                            + literal(check.property()) + ", " + value + ", " + literal(check.code()) + ", "
+                            + literal(check.message()) + ");");
+                    out.println("        }");
+                }
+            }
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < 0x20) {
+                // Octal rather than a unicode escape, which javac would turn back into a line break.
+                literal.append(String.format("\\%03o", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
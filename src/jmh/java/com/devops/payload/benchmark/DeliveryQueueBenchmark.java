@@ -0,0 +1,73 @@
+package com.devops.payload.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devops.payload.delivery.DeliveryEnvelope;
+import com.devops.payload.delivery.DeliveryQueue;
+import com.devops.payload.model.DevOpsRequest;
+
+/**
+ * Insert and expiry cost of the delivery queue with a large standing population of pending
+ * messages with mixed TTLs; both should stay flat as {@code pending} grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DeliveryQueueBenchmark {
+
+    private static final int[] TTLS = {1, 5, 30, 45, 300, 3_600, 86_400};
+
+    @Param({"10000", "1000000"})
+    public int pending;
+
+    private AtomicLong clock;
+    private DeliveryQueue deliveryQueue;
+    private DevOpsRequest[] requests;
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        clock = new AtomicLong(0);
+        deliveryQueue = new DeliveryQueue(100, clock::get);
+        requests = new DevOpsRequest[TTLS.length];
+        for (int i = 0; i < TTLS.length; i++) {
+            requests[i] = new DevOpsRequest("This is a test", "Juan Perez", "Rita Asturia", TTLS[i]);
+        }
+        for (int i = 0; i < pending; i++) {
+            deliveryQueue.enqueue(requests[i % requests.length]);
+        }
+    }
+
+    @Benchmark
+    public DeliveryEnvelope enqueueAndPoll() {
+        DeliveryEnvelope envelope = deliveryQueue.enqueue(requests[next++ % requests.length]);
+        deliveryQueue.poll();
+        return envelope;
+    }
+
+    @Benchmark
+    public DeliveryEnvelope enqueueAndTick() {
+        // Every call advances time by one wheel tick, so expiry and cascading are part of the cost.
+        clock.addAndGet(100);
+        DeliveryEnvelope envelope = deliveryQueue.enqueue(requests[next++ % requests.length]);
+        deliveryQueue.expire();
+        return envelope;
+    }
+}
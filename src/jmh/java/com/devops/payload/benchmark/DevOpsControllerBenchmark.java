@@ -0,0 +1,104 @@
+package com.devops.payload.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.autoconfigure.web.servlet.SpringBootMockMvcBuilderCustomizer;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.DefaultMockMvcBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.devops.payload.PayloadApplication;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * End-to-end cost of POST /DevOps, once through MockMvc (full filter chain, no network)
+ * and once through the embedded Tomcat over loopback HTTP.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DevOpsControllerBenchmark {
+
+    @Param({"valid", "invalidApiKey", "invalidJwt", "invalidBody"})
+    public String scenario;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private HttpClient httpClient;
+    private HttpRequest httpRequest;
+    private String apiKey;
+    private String jwt;
+    private String body;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(PayloadApplication.class)
+                .run("--server.port=0", "--logging.level.root=WARN", "--logging.level.com.devops.payload=WARN",
+                        // Every invocation posts the same body, which would otherwise be served as a replay.
+                        "--payload.idempotency.enabled=false");
+
+        DefaultMockMvcBuilder builder = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context);
+        new SpringBootMockMvcBuilderCustomizer((WebApplicationContext) context).customize(builder);
+        mockMvc = builder.build();
+
+        apiKey = "invalidApiKey".equals(scenario) ? BenchmarkFixtures.INVALID_API_KEY : BenchmarkFixtures.VALID_API_KEY;
+        jwt = "invalidJwt".equals(scenario) ? BenchmarkFixtures.INVALID_JWT : BenchmarkFixtures.VALID_JWT;
+        body = "invalidBody".equals(scenario) ? BenchmarkFixtures.INVALID_BODY : BenchmarkFixtures.VALID_BODY;
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        httpRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/DevOps"))
+                .header("X-Parse-REST-API-Key", apiKey)
+                .header("X-JWT-KWY", jwt)
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult mockMvc() throws Exception {
+        return mockMvc.perform(post("/DevOps")
+                .header("X-Parse-REST-API-Key", apiKey)
+                .header("X-JWT-KWY", jwt)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andReturn();
+    }
+
+    @Benchmark
+    public HttpResponse<byte[]> embeddedTomcat() throws Exception {
+        return httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
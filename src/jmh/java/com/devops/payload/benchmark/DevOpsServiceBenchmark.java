@@ -0,0 +1,51 @@
+package com.devops.payload.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devops.payload.codec.ResponseEncoder;
+import com.devops.payload.delivery.DeliveryQueue;
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.DevOpsResponse;
+import com.devops.payload.service.DevOpsService;
+import com.devops.payload.template.ResponseTemplateEngine;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DevOpsServiceBenchmark {
+
+    private DeliveryQueue deliveryQueue;
+    private DevOpsService devOpsService;
+    private DevOpsRequest request;
+
+    @Setup
+    public void setUp() {
+        deliveryQueue = new DeliveryQueue(100, System::currentTimeMillis);
+        devOpsService = new DevOpsService(deliveryQueue, new ResponseTemplateEngine(), new ResponseEncoder(),
+                Optional.empty(), Optional.empty());
+        request = BenchmarkFixtures.validRequest();
+    }
+
+    @Benchmark
+    public DevOpsResponse processDevOpsRequest() {
+        DevOpsResponse response = devOpsService.processDevOpsRequest(request);
+        // Drain so the pending set stays flat for the whole run.
+        deliveryQueue.poll();
+        return response;
+    }
+}
@@ -0,0 +1,81 @@
+package com.devops.payload.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devops.payload.directory.DirectoryIndex;
+
+/**
+ * Lookup cost of the memory-mapped directory index for listed addresses and for unknown ones, which the
+ * Bloom filter should answer without reaching the slot table. The heap limit is far below what the same
+ * addresses would take in a {@code HashSet<String>}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx64m")
+public class DirectoryBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int addresses;
+
+    private Path directory;
+    private DirectoryIndex index;
+    private String[] known;
+    private String[] unknown;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("directory-benchmark");
+        Path source = directory.resolve("directory.txt");
+        try (BufferedWriter writer = Files.newBufferedWriter(source)) {
+            for (int i = 0; i < addresses; i++) {
+                writer.write("user-" + i + "@example.com\n");
+            }
+        }
+        index = DirectoryIndex.build(source, directory.resolve("directory.idx"));
+        known = new String[1024];
+        unknown = new String[1024];
+        for (int i = 0; i < known.length; i++) {
+            known[i] = "user-" + (int) ((long) i * 7919 % addresses) + "@example.com";
+            unknown[i] = "other-" + i + "@example.com";
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(directory.resolve("directory.txt"));
+        Files.deleteIfExists(directory.resolve("directory.idx"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public DirectoryIndex.Lookup known() {
+        return index.lookup(known[next++ & (known.length - 1)]);
+    }
+
+    @Benchmark
+    public DirectoryIndex.Lookup unknown() {
+        return index.lookup(unknown[next++ & (unknown.length - 1)]);
+    }
+}
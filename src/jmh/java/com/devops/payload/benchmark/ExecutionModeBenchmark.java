@@ -0,0 +1,121 @@
+package com.devops.payload.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.devops.payload.PayloadApplication;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Load comparison of the platform-thread and virtual-thread execution modes. A filter that sleeps
+ * for {@code downstreamMillis} stands in for a blocking downstream call, and 256 client threads
+ * keep far more requests in flight than Tomcat's default pool of 200 platform threads can serve.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(256)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String executionMode;
+
+    @Param({"20"})
+    public long downstreamMillis;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest httpRequest;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(PayloadApplication.class, BlockingDownstreamConfiguration.class)
+                .run("--server.port=0", "--logging.level.root=WARN", "--logging.level.com.devops.payload=WARN",
+                        "--payload.execution-mode=" + executionMode, "--payload.idempotency.enabled=false",
+                        "--benchmark.downstream-millis=" + downstreamMillis);
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        httpRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/DevOps"))
+                .header("X-Parse-REST-API-Key", BenchmarkFixtures.VALID_API_KEY)
+                .header("X-JWT-KWY", BenchmarkFixtures.VALID_JWT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(BenchmarkFixtures.VALID_BODY))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int postDevOps() throws Exception {
+        return httpClient.send(httpRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * Deliberately not a {@code @Configuration}: component scanning of {@code com.devops.payload}
+     * would otherwise add it to every benchmark context. It is registered as a source above.
+     */
+    static class BlockingDownstreamConfiguration {
+
+        @Bean
+        FilterRegistrationBean<OncePerRequestFilter> blockingDownstreamFilter(
+                @Value("${benchmark.downstream-millis}") long millis) {
+            OncePerRequestFilter filter = new OncePerRequestFilter() {
+                @Override
+                protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                        throws ServletException, IOException {
+                    try {
+                        Thread.sleep(millis);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    chain.doFilter(request, response);
+                }
+            };
+            FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(filter);
+            registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+            return registration;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.devops.payload.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.devops.payload.PayloadApplication;
+import com.devops.payload.codec.DevOpsProtobufCodec;
+import com.devops.payload.codec.ResponseEncoder;
+import com.devops.payload.codec.ResponseFormat;
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.DevOpsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * End-to-end latency of {@code POST /DevOps} over embedded Tomcat with the request and response
+ * in each negotiated {@code format}, plus the cost of encoding the response alone. Request and
+ * response sizes per format are printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormatBenchmark {
+
+    @Param({"JSON", "CBOR", "SMILE", "PROTOBUF"})
+    public ResponseFormat format;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest httpRequest;
+    private ResponseEncoder encoder;
+    private DevOpsResponse response;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(PayloadApplication.class)
+                .run("--server.port=0", "--logging.level.root=WARN", "--logging.level.com.devops.payload=WARN",
+                        "--payload.idempotency.enabled=false");
+        encoder = new ResponseEncoder();
+        response = new DevOpsResponse("Hello Juan Perez your message will be send");
+
+        byte[] body = encodeRequest(BenchmarkFixtures.validRequest());
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        httpRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/DevOps"))
+                .header("X-Parse-REST-API-Key", BenchmarkFixtures.VALID_API_KEY)
+                .header("X-JWT-KWY", BenchmarkFixtures.VALID_JWT)
+                .header("Content-Type", format.getMediaType().toString())
+                .header("Accept", format.getMediaType().toString())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+
+        HttpResponse<byte[]> first = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+        if (first.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + first.statusCode() + " for " + format);
+        }
+        System.out.printf("%n%s: request %d bytes, response %d bytes%n", format, body.length, first.body().length);
+    }
+
+    private byte[] encodeRequest(DevOpsRequest request) throws Exception {
+        return switch (format) {
+            case JSON -> new ObjectMapper().writeValueAsBytes(request);
+            case CBOR -> new CBORMapper().writeValueAsBytes(request);
+            case SMILE -> new SmileMapper().writeValueAsBytes(request);
+            case PROTOBUF -> DevOpsProtobufCodec.writeRequest(request);
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public HttpResponse<byte[]> embeddedTomcat() throws Exception {
+        return httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    @Benchmark
+    public byte[] encodeResponse() {
+        return encoder.encode(response, format);
+    }
+}
@@ -0,0 +1,73 @@
+package com.devops.payload.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.DevOpsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.nio.charset.StandardCharsets;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBindingBenchmark {
+
+    private ObjectReader requestReader;
+    private ObjectReader responseReader;
+    private ObjectWriter requestWriter;
+    private ObjectWriter responseWriter;
+    private byte[] requestBytes;
+    private byte[] responseBytes;
+    private DevOpsRequest request;
+    private DevOpsResponse response;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        requestReader = objectMapper.readerFor(DevOpsRequest.class);
+        responseReader = objectMapper.readerFor(DevOpsResponse.class);
+        requestWriter = objectMapper.writerFor(DevOpsRequest.class);
+        responseWriter = objectMapper.writerFor(DevOpsResponse.class);
+        requestBytes = BenchmarkFixtures.VALID_BODY.getBytes(StandardCharsets.UTF_8);
+        responseBytes = BenchmarkFixtures.RESPONSE_BODY.getBytes(StandardCharsets.UTF_8);
+        request = BenchmarkFixtures.validRequest();
+        response = new DevOpsResponse("Hello Juan Perez your message will be send");
+    }
+
+    @Benchmark
+    public DevOpsRequest readRequest() throws Exception {
+        return requestReader.readValue(requestBytes);
+    }
+
+    @Benchmark
+    public byte[] writeRequest() throws Exception {
+        return requestWriter.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public DevOpsResponse readResponse() throws Exception {
+        return responseReader.readValue(responseBytes);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws Exception {
+        return responseWriter.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,90 @@
+package com.devops.payload.benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devops.payload.codec.DevOpsProtobufCodec;
+import com.devops.payload.journal.JournalStats;
+import com.devops.payload.journal.MessageJournal;
+import com.devops.payload.model.DevOpsRequest;
+
+/**
+ * Durable appends from 16 concurrent requests: {@link MessageJournal} group commit against the same
+ * record written with a FileChannel and forced once per request. The teardown prints how many appends
+ * each group commit covered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class JournalBenchmark {
+
+    private Path directory;
+    private MessageJournal journal;
+    private FileChannel channel;
+    private DevOpsRequest request;
+    private byte[] record;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory(Path.of("target"), "journal-bench");
+        journal = new MessageJournal(directory.resolve("journal"), 64 << 20, System::currentTimeMillis,
+                (replayed, expiresAtMillis) -> { });
+        channel = FileChannel.open(directory.resolve("per-request.log"), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE);
+        request = BenchmarkFixtures.validRequest();
+        record = DevOpsProtobufCodec.writeRequest(request);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        JournalStats stats = journal.getStats();
+        if (stats.syncs() > 0) {
+            System.out.printf("%n%d appends in %d group commits (%.1f per fsync)%n", stats.appends(), stats.syncs(),
+                    (double) stats.appends() / stats.syncs());
+        }
+        journal.close();
+        channel.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public void groupCommit() {
+        journal.append(request);
+    }
+
+    @Benchmark
+    public void fsyncPerAppend() throws IOException {
+        synchronized (channel) {
+            channel.write(ByteBuffer.wrap(record));
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.devops.payload.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.devops.payload.codec.DevOpsJsonCodec;
+import com.devops.payload.codec.DevOpsJsonHttpMessageConverter;
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.DevOpsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Request binding and response writing through the default Jackson converter and through
+ * {@link DevOpsJsonHttpMessageConverter}, as Spring MVC calls them, plus the bare parse without the
+ * HTTP message wrappers. Run with {@code -prof gc} for the allocation per request; the mock messages
+ * and their headers add the same constant to both converter variants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+    private MappingJackson2HttpMessageConverter jacksonConverter;
+    private DevOpsJsonHttpMessageConverter streamingConverter;
+    private ObjectReader requestReader;
+    private DevOpsJsonCodec codec;
+    private byte[] requestBytes;
+    private DevOpsResponse response;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        jacksonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+        requestReader = objectMapper.readerFor(DevOpsRequest.class);
+        codec = new DevOpsJsonCodec(65536, 262144);
+        streamingConverter = new DevOpsJsonHttpMessageConverter(codec);
+        requestBytes = BenchmarkFixtures.VALID_BODY.getBytes(StandardCharsets.UTF_8);
+        response = new DevOpsResponse("Hello Juan Perez your message will be send");
+    }
+
+    private MockHttpInputMessage input() {
+        MockHttpInputMessage input = new MockHttpInputMessage(requestBytes);
+        input.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        input.getHeaders().setContentLength(requestBytes.length);
+        return input;
+    }
+
+    @Benchmark
+    public DevOpsRequest parseJackson() throws Exception {
+        return requestReader.readValue(requestBytes);
+    }
+
+    @Benchmark
+    public DevOpsRequest parseStreaming() throws Exception {
+        return codec.readRequest(requestBytes, 0, requestBytes.length);
+    }
+
+    @Benchmark
+    public Object readJackson() throws Exception {
+        return jacksonConverter.read(DevOpsRequest.class, input());
+    }
+
+    @Benchmark
+    public Object readStreaming() throws Exception {
+        return streamingConverter.read(DevOpsRequest.class, input());
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage writeJackson() throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        jacksonConverter.write(response, MediaType.APPLICATION_JSON, output);
+        return output;
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage writeStreaming() throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        streamingConverter.write(response, MediaType.APPLICATION_JSON, output);
+        return output;
+    }
+}
@@ -0,0 +1,93 @@
+package com.devops.payload.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devops.payload.exception.InvalidJwtException;
+import com.devops.payload.jwt.JwtAlgorithm;
+import com.devops.payload.jwt.JwtClaims;
+import com.devops.payload.jwt.JwtKey;
+import com.devops.payload.jwt.JwtKeySet;
+import com.devops.payload.jwt.JwtVerifier;
+import com.devops.payload.jwt.VerifiedTokenCache;
+import com.devops.payload.service.JwtService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Run with {@code -prof gc}: {@code verifiedJwt} (keys configured, token already verified) must
+ * report a {@code gc.alloc.rate.norm} of ~0 B/op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final byte[] SECRET = "benchmark-secret-for-hs256-tokens".getBytes(StandardCharsets.UTF_8);
+
+    private JwtService jwtService;
+    private JwtService verifyingJwtService;
+    private String signedJwt;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtService = new JwtService();
+
+        SecretKeySpec key = new SecretKeySpec(SECRET, "HmacSHA256");
+        JwtVerifier verifier = new JwtVerifier(new JwtKeySet(List.of(new JwtKey(null, JwtAlgorithm.HS256, key))),
+                new ObjectMapper(), System::currentTimeMillis, 30);
+        verifyingJwtService = new JwtService(Optional.of(verifier), new VerifiedTokenCache(10_000, 300));
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String signingInput = encoder.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString("{\"sub\":\"1234567890\"}".getBytes(StandardCharsets.UTF_8));
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(key);
+        signedJwt = signingInput + "." + encoder.encodeToString(mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+        verifyingJwtService.validateJwt(signedJwt);
+    }
+
+    @Benchmark
+    public JwtClaims validJwt() {
+        return jwtService.validateJwt(BenchmarkFixtures.VALID_JWT);
+    }
+
+    @Benchmark
+    public JwtClaims verifiedJwt() {
+        return verifyingJwtService.validateJwt(signedJwt);
+    }
+
+    @Benchmark
+    public String verifiedJwtSubject() {
+        return verifyingJwtService.validateJwt(signedJwt).getSubject();
+    }
+
+    @Benchmark
+    public Object rejectedJwt() {
+        try {
+            jwtService.validateJwt(BenchmarkFixtures.INVALID_JWT);
+            return null;
+        } catch (InvalidJwtException e) {
+            return e;
+        }
+    }
+}
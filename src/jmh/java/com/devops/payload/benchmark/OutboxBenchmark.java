@@ -0,0 +1,100 @@
+package com.devops.payload.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devops.payload.delivery.DeliveryQueue;
+import com.devops.payload.delivery.Outbox;
+import com.devops.payload.delivery.PartitionedOutbox;
+import com.devops.payload.model.DevOpsRequest;
+
+/**
+ * Concurrent offers from request threads into one shared, locked {@link DeliveryQueue} versus the
+ * recipient-partitioned outbox. A background thread keeps polling so neither grows without bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Threads(8)
+public class OutboxBenchmark {
+
+    @Param({"shared", "partitioned"})
+    public String outboxType;
+
+    private Outbox outbox;
+    private Thread consumer;
+    private volatile boolean running;
+    private DevOpsRequest[] requests;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        requests = new DevOpsRequest[64];
+        for (int i = 0; i < requests.length; i++) {
+            requests[i] = new DevOpsRequest("This is a test", "Recipient " + i, "Rita Asturia", 45);
+        }
+        running = true;
+        if ("shared".equals(outboxType)) {
+            DeliveryQueue queue = new DeliveryQueue(100, System::currentTimeMillis);
+            outbox = queue;
+            consumer = Thread.ofPlatform().daemon().start(() -> {
+                while (running) {
+                    if (queue.poll() == null) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+        } else {
+            PartitionedOutbox partitioned = new PartitionedOutbox(Runtime.getRuntime().availableProcessors(),
+                    65_536, 100, System::currentTimeMillis);
+            outbox = partitioned;
+            consumer = Thread.ofPlatform().daemon().start(() -> {
+                while (running) {
+                    boolean polled = false;
+                    for (int i = 0; i < partitioned.getPartitionCount(); i++) {
+                        polled |= partitioned.poll(i) != null;
+                    }
+                    if (!polled) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws InterruptedException {
+        running = false;
+        consumer.join();
+        if (outbox instanceof PartitionedOutbox partitioned) {
+            partitioned.close();
+        }
+    }
+
+    @Benchmark
+    public void offer(ThreadIndex index) {
+        outbox.offer(requests[index.next++ & (requests.length - 1)]);
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadIndex {
+
+        int next = (int) Thread.currentThread().threadId();
+    }
+}
@@ -0,0 +1,57 @@
+package com.devops.payload.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devops.payload.apikey.ApiKeyInfo;
+import com.devops.payload.apikey.ApiKeyStatus;
+import com.devops.payload.exception.RateLimitExceededException;
+import com.devops.payload.ratelimit.RateLimiter;
+
+/**
+ * Contended admission on one hot key plus the global budget. Compare {@code -t 1} with
+ * {@code -t <cores>}: with striping the per-operation cost should stay flat.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class RateLimiterBenchmark {
+
+    private static final ApiKeyInfo HOT_KEY = new ApiKeyInfo("acme", ApiKeyStatus.ACTIVE, Long.MAX_VALUE / 2, 1_000_000);
+
+    @Param({"1", "16"})
+    public int globalStripes;
+
+    private RateLimiter rateLimiter;
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new RateLimiter(0, 0, 1_000_000_000L, 1_000_000_000L, globalStripes, System::nanoTime);
+    }
+
+    @Benchmark
+    public Object acquire() {
+        try {
+            rateLimiter.acquire(HOT_KEY);
+            return null;
+        } catch (RateLimitExceededException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.devops.payload.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.autoconfigure.web.servlet.SpringBootMockMvcBuilderCustomizer;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.DefaultMockMvcBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.devops.payload.PayloadApplication;
+import com.devops.payload.exception.InvalidApiKeyException;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Rejection throughput for a bad API key with a valid body of {@code messageLength} characters,
+ * with {@code FastRejectFilter} enabled ({@code fastReject=true}) and with the controller path
+ * only, plus the raw cost of a rejection exception with and without a stack trace.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RejectionBenchmark {
+
+    @Param({"true", "false"})
+    public boolean fastReject;
+
+    @Param({"64", "16384"})
+    public int messageLength;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private HttpClient httpClient;
+    private HttpRequest httpRequest;
+    private String body;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(PayloadApplication.class)
+                .run("--server.port=0", "--logging.level.root=WARN", "--logging.level.com.devops.payload=WARN",
+                        "--payload.fast-reject.enabled=" + fastReject);
+        body = "{\"message\":\"" + "x".repeat(messageLength)
+                + "\",\"to\":\"Juan Perez\",\"from\":\"Rita Asturia\",\"timeToLifeSec\":45}";
+
+        DefaultMockMvcBuilder builder = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context);
+        new SpringBootMockMvcBuilderCustomizer((WebApplicationContext) context).customize(builder);
+        mockMvc = builder.build();
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        httpRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/DevOps"))
+                .header("X-Parse-REST-API-Key", BenchmarkFixtures.INVALID_API_KEY)
+                .header("X-JWT-KWY", BenchmarkFixtures.VALID_JWT)
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult mockMvc() throws Exception {
+        return mockMvc.perform(post("/DevOps")
+                .header("X-Parse-REST-API-Key", BenchmarkFixtures.INVALID_API_KEY)
+                .header("X-JWT-KWY", BenchmarkFixtures.VALID_JWT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andReturn();
+    }
+
+    @Benchmark
+    public HttpResponse<byte[]> embeddedTomcat() throws Exception {
+        return httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    @Benchmark
+    public RuntimeException exception() {
+        return fastReject ? InvalidApiKeyException.stackless(BenchmarkFixtures.INVALID_API_KEY)
+                : new InvalidApiKeyException(BenchmarkFixtures.INVALID_API_KEY);
+    }
+}
@@ -0,0 +1,69 @@
+package com.devops.payload.benchmark;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.DevOpsResponse;
+import com.devops.payload.template.ResponseTemplate;
+import com.devops.payload.template.ResponseTemplateEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Response body encoding: {@code String.format} plus Jackson (the previous path) against a
+ * precompiled template, rendered every time and served from the encoded body cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseTemplateBenchmark {
+
+    private static final String PATTERN = "Hello {to} your message will be send";
+
+    private ObjectWriter responseWriter;
+    private ResponseTemplate uncachedTemplate;
+    private ResponseTemplate cachedTemplate;
+    private DevOpsRequest request;
+
+    @Setup
+    public void setUp() {
+        responseWriter = new ObjectMapper().writerFor(DevOpsResponse.class);
+        uncachedTemplate = new ResponseTemplateEngine(Map.of("en", PATTERN), 0, System::currentTimeMillis)
+                .templateFor(Locale.ENGLISH);
+        cachedTemplate = new ResponseTemplateEngine(Map.of("en", PATTERN), 10_000, System::currentTimeMillis)
+                .templateFor(Locale.ENGLISH);
+        request = BenchmarkFixtures.validRequest();
+    }
+
+    @Benchmark
+    public byte[] formatAndSerialize() throws Exception {
+        String message = String.format("Hello %s your message will be send", request.getTo());
+        return responseWriter.writeValueAsBytes(new DevOpsResponse(message));
+    }
+
+    @Benchmark
+    public byte[] renderTemplate() {
+        return uncachedTemplate.render(request);
+    }
+
+    @Benchmark
+    public byte[] renderTemplateCached() {
+        return cachedTemplate.render(request);
+    }
+}
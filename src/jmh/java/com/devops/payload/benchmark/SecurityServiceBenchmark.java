@@ -0,0 +1,52 @@
+package com.devops.payload.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devops.payload.apikey.ApiKeyInfo;
+import com.devops.payload.apikey.ApiKeyRegistry;
+import com.devops.payload.exception.InvalidApiKeyException;
+import com.devops.payload.service.SecurityService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityServiceBenchmark {
+
+    private SecurityService securityService;
+
+    @Setup
+    public void setUp() {
+        securityService = new SecurityService(
+                new ApiKeyRegistry(BenchmarkFixtures.VALID_API_KEY, "", new ObjectMapper()));
+    }
+
+    @Benchmark
+    public ApiKeyInfo validApiKey() {
+        return securityService.validateApiKey(BenchmarkFixtures.VALID_API_KEY);
+    }
+
+    @Benchmark
+    public Object rejectedApiKey() {
+        try {
+            securityService.validateApiKey(BenchmarkFixtures.INVALID_API_KEY);
+            return null;
+        } catch (InvalidApiKeyException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.devops.payload.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.devops.payload.metrics.RequestStage;
+import com.devops.payload.metrics.RequestStageMetrics;
+
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * Per-request cost of the stage instrumentation on {@code POST /DevOps}: the six stage timers
+ * recorded into a Prometheus registry with histograms, with and without the {@code Server-Timing}
+ * header, against the bare clock reads the stages need anyway.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StageMetricsBenchmark {
+
+    private static final RequestStage[] STAGES = RequestStage.values();
+
+    private RequestStageMetrics metrics;
+    private RequestStageMetrics serverTimingMetrics;
+
+    @Setup
+    public void setUp() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        metrics = new RequestStageMetrics(registry, false);
+        serverTimingMetrics = new RequestStageMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT), true);
+    }
+
+    @Benchmark
+    public long clockOnly() {
+        long time = 0;
+        for (int i = 0; i <= STAGES.length; i++) {
+            time += System.nanoTime();
+        }
+        return time;
+    }
+
+    @Benchmark
+    public long recordStages() {
+        long start = System.nanoTime();
+        for (RequestStage stage : STAGES) {
+            start = metrics.record(stage, start, null);
+        }
+        return start;
+    }
+
+    @Benchmark
+    public String recordStagesWithServerTiming() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        long start = System.nanoTime();
+        for (RequestStage stage : STAGES) {
+            start = serverTimingMetrics.record(stage, start, request);
+        }
+        return serverTimingMetrics.serverTiming(request);
+    }
+}
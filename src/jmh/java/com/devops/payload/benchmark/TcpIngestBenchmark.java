@@ -0,0 +1,124 @@
+package com.devops.payload.benchmark;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.devops.payload.PayloadApplication;
+import com.devops.payload.codec.DevOpsProtobufCodec;
+import com.devops.payload.codec.ResponseFormat;
+import com.devops.payload.ingest.IngestFrames;
+import com.devops.payload.ingest.TcpIngestServer;
+
+/**
+ * Per-message latency of the same protobuf request over {@code POST /DevOps} on embedded Tomcat,
+ * over the TCP ingestion listener one frame at a time, and over TCP with {@value #PIPELINE_DEPTH}
+ * frames pipelined per round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TcpIngestBenchmark {
+
+    private static final int PIPELINE_DEPTH = 64;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest httpRequest;
+    private Socket socket;
+    private OutputStream out;
+    private DataInputStream in;
+    private byte[] frame;
+    private byte[] pipeline;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(PayloadApplication.class)
+                .run("--server.port=0", "--logging.level.root=WARN", "--logging.level.com.devops.payload=WARN",
+                        "--payload.idempotency.enabled=false", "--payload.ingest.tcp.enabled=true",
+                        "--payload.ingest.tcp.port=0");
+
+        int httpPort = ((WebServerApplicationContext) context).getWebServer().getPort();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        httpRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + httpPort + "/DevOps"))
+                .header("X-Parse-REST-API-Key", BenchmarkFixtures.VALID_API_KEY)
+                .header("X-JWT-KWY", BenchmarkFixtures.VALID_JWT)
+                .header("Content-Type", ResponseFormat.PROTOBUF.getMediaType().toString())
+                .header("Accept", ResponseFormat.PROTOBUF.getMediaType().toString())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(
+                        DevOpsProtobufCodec.writeRequest(BenchmarkFixtures.validRequest())))
+                .build();
+
+        frame = IngestFrames.encodeRequest(BenchmarkFixtures.VALID_API_KEY, BenchmarkFixtures.VALID_JWT, null,
+                BenchmarkFixtures.validRequest());
+        pipeline = new byte[frame.length * PIPELINE_DEPTH];
+        for (int i = 0; i < PIPELINE_DEPTH; i++) {
+            System.arraycopy(frame, 0, pipeline, i * frame.length, frame.length);
+        }
+        socket = new Socket("localhost", context.getBean(TcpIngestServer.class).getPort());
+        socket.setTcpNoDelay(true);
+        out = socket.getOutputStream();
+        in = new DataInputStream(socket.getInputStream());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        socket.close();
+        httpClient.close();
+        context.close();
+    }
+
+    private int readResponse() throws IOException {
+        int length = in.readInt();
+        int status = in.readUnsignedShort();
+        in.skipNBytes(length - 2);
+        return status;
+    }
+
+    @Benchmark
+    public HttpResponse<byte[]> http() throws Exception {
+        return httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    @Benchmark
+    public int tcp() throws IOException {
+        out.write(frame);
+        return readResponse();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PIPELINE_DEPTH)
+    public int tcpPipelined() throws IOException {
+        out.write(pipeline);
+        int statuses = 0;
+        for (int i = 0; i < PIPELINE_DEPTH; i++) {
+            statuses += readResponse();
+        }
+        return statuses;
+    }
+}
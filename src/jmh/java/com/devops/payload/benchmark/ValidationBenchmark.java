@@ -0,0 +1,101 @@
+package com.devops.payload.benchmark;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.DevOpsRequestValidator;
+import com.devops.payload.validation.GeneratedValidators;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * Bean Validation on its own, then {@code @Valid} as MVC runs it: the reflective adapter against the
+ * compile-time {@link DevOpsRequestValidator}, both filling a fresh binding result per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private DevOpsRequest validRequest;
+    private DevOpsRequest invalidRequest;
+    private SmartValidator reflective;
+    private SmartValidator generated;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validRequest = BenchmarkFixtures.validRequest();
+        invalidRequest = BenchmarkFixtures.invalidRequest();
+        reflective = new SpringValidatorAdapter(validator);
+        generated = new GeneratedValidators(List.of(new DevOpsRequestValidator()), reflective);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<DevOpsRequest>> validRequest() {
+        return validator.validate(validRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<DevOpsRequest>> rejectedRequest() {
+        return validator.validate(invalidRequest);
+    }
+
+    @Benchmark
+    public BindingResult reflectiveMvcValid() {
+        return validate(reflective, validRequest);
+    }
+
+    @Benchmark
+    public BindingResult reflectiveMvcRejected() {
+        return validate(reflective, invalidRequest);
+    }
+
+    @Benchmark
+    public BindingResult generatedMvcValid() {
+        return validate(generated, validRequest);
+    }
+
+    @Benchmark
+    public BindingResult generatedMvcRejected() {
+        return validate(generated, invalidRequest);
+    }
+
+    private static BindingResult validate(SmartValidator validator, DevOpsRequest request) {
+        BindingResult errors = new BeanPropertyBindingResult(request, "devOpsRequest");
+        validator.validate(request, errors);
+        return errors;
+    }
+}
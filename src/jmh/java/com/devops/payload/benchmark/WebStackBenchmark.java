@@ -0,0 +1,85 @@
+package com.devops.payload.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.ClassUtils;
+
+import com.devops.payload.PayloadApplication;
+
+/**
+ * Servlet (Tomcat) against reactive (WebFlux on Reactor Netty) serving of POST /DevOps, with 128
+ * client threads over loopback HTTP. Throughput and average latency per stack; the reactive
+ * variant needs WebFlux on the classpath: {@code mvn -Pbenchmark,reactive -DskipTests verify
+ * -Djmh.include=WebStackBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(128)
+@Fork(1)
+public class WebStackBenchmark {
+
+    @Param({"servlet", "reactive"})
+    public String stack;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest httpRequest;
+
+    @Setup
+    public void setUp() {
+        boolean reactive = "reactive".equals(stack);
+        if (reactive && !ClassUtils.isPresent("org.springframework.web.reactive.DispatcherHandler", null)) {
+            throw new IllegalStateException("WebFlux is not on the classpath, run with -Pbenchmark,reactive");
+        }
+        context = new SpringApplicationBuilder(PayloadApplication.class)
+                .run("--server.port=0", "--logging.level.root=WARN", "--logging.level.com.devops.payload=WARN",
+                        "--spring.main.web-application-type=" + stack, "--payload.idempotency.enabled=false");
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        httpRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/DevOps"))
+                .header("X-Parse-REST-API-Key", BenchmarkFixtures.VALID_API_KEY)
+                .header("X-JWT-KWY", BenchmarkFixtures.VALID_JWT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(BenchmarkFixtures.VALID_BODY))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int postDevOps() throws Exception {
+        return httpClient.send(httpRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -2,8 +2,14 @@ package com.devops.payload;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.devops.payload.config.PayloadRuntimeHints;
 
 @SpringBootApplication
+@EnableScheduling
+@ImportRuntimeHints(PayloadRuntimeHints.class)
 public class PayloadApplication {
 
 	public static void main(String[] args) {
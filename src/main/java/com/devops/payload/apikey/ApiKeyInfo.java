@@ -0,0 +1,24 @@
+package com.devops.payload.apikey;
+
+/**
+ * Metadata of a registered API key. A limit of {@code 0} means the key is not limited on its own;
+ * for {@code maxMessageBytes}, that the large-message default applies. {@code keyId} identifies the key
+ * without holding it: the registry sets it to the hex SHA-256 of the key, and it defaults to the tenant.
+ */
+public record ApiKeyInfo(String tenant, ApiKeyStatus status, long requestsPerSecond, long burst,
+        long maxMessageBytes, String keyId) {
+
+    public static final String REQUEST_ATTRIBUTE = ApiKeyInfo.class.getName();
+
+    public ApiKeyInfo(String tenant, ApiKeyStatus status, long requestsPerSecond, long burst, long maxMessageBytes) {
+        this(tenant, status, requestsPerSecond, burst, maxMessageBytes, tenant);
+    }
+
+    public ApiKeyInfo(String tenant, ApiKeyStatus status, long requestsPerSecond, long burst) {
+        this(tenant, status, requestsPerSecond, burst, 0);
+    }
+
+    public boolean isActive() {
+        return status == ApiKeyStatus.ACTIVE;
+    }
+}
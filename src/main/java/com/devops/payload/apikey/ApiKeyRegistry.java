@@ -0,0 +1,183 @@
+package com.devops.payload.apikey;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Registry of client API keys. Only SHA-256 digests of the keys are held, in an immutable
+ * {@link ApiKeyTable} snapshot published through a volatile field: a reload builds a complete new
+ * table off to the side and swaps it in, so readers never block and never see a partial file.
+ * <p>
+ * The keys file is JSON:
+ * {@code {"keys": [{"sha256": "<hex>", "tenant": "acme", "status": "ACTIVE", "requestsPerSecond": 100, "burst": 200,
+ * "maxMessageBytes": 10485760}]}}.
+ * A plain {@code "key"} is accepted instead of {@code "sha256"} and hashed on load. The
+ * {@code security.api-key} bootstrap key, when set, is always registered for the {@code default} tenant.
+ * There is no built-in key: the application does not start without a bootstrap key or a keys file.
+ */
+@Component
+public class ApiKeyRegistry implements MeterBinder {
+
+    public static final String DEFAULT_TENANT = "default";
+
+    private static final Logger log = LoggerFactory.getLogger(ApiKeyRegistry.class);
+
+    private final String bootstrapKey;
+    private final Path keysFile;
+    private final ObjectMapper objectMapper;
+
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile ApiKeyTable snapshot;
+    private Object fileVersion;
+    private volatile long reloads;
+    private volatile long reloadFailures;
+
+    @Autowired
+    public ApiKeyRegistry(@Value("${security.api-key:}") String bootstrapKey,
+            @Value("${security.api-keys.file:}") String keysFile, ObjectMapper objectMapper) {
+        this.bootstrapKey = bootstrapKey == null || bootstrapKey.isBlank() ? null : bootstrapKey;
+        this.keysFile = keysFile == null || keysFile.isBlank() ? null : Path.of(keysFile);
+        if (this.bootstrapKey == null && this.keysFile == null) {
+            throw new IllegalStateException("No API keys configured: set security.api-key (API_KEY) or "
+                    + "security.api-keys.file (API_KEYS_FILE)");
+        }
+        this.objectMapper = objectMapper;
+        try {
+            this.fileVersion = currentFileVersion();
+            this.snapshot = load();
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("Cannot load API keys from " + keysFile, e);
+        }
+    }
+
+    /**
+     * @return the metadata of {@code apiKey}, or {@code null} if it is not registered
+     */
+    public ApiKeyInfo resolve(String apiKey) {
+        return snapshot.get(apiKey);
+    }
+
+    /**
+     * @return the bootstrap key, or {@code null} if only the keys file is used
+     */
+    public String getBootstrapKey() {
+        return bootstrapKey;
+    }
+
+    public int size() {
+        return snapshot.size();
+    }
+
+    /**
+     * Reloads the keys file when its modification time or size changed. A file that cannot be read
+     * or parsed leaves the current snapshot in place.
+     */
+    @Scheduled(fixedDelayString = "${security.api-keys.reload-interval-millis:5000}")
+    public void reloadIfChanged() {
+        if (keysFile == null) {
+            return;
+        }
+        reloadLock.lock();
+        try {
+            Object version = currentFileVersion();
+            if (version.equals(fileVersion)) {
+                return;
+            }
+            snapshot = load();
+            fileVersion = version;
+            reloads++;
+            log.info("Reloaded {} API keys from {}", snapshot.size(), keysFile);
+        } catch (IOException | IllegalArgumentException e) {
+            reloadFailures++;
+            log.warn("Keeping previous API keys, cannot reload {}: {}", keysFile, e.getMessage());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private Object currentFileVersion() throws IOException {
+        if (keysFile == null) {
+            return "";
+        }
+        BasicFileAttributes attributes = Files.readAttributes(keysFile, BasicFileAttributes.class);
+        return attributes.lastModifiedTime().toMillis() + ":" + attributes.size();
+    }
+
+    private ApiKeyTable load() throws IOException {
+        JsonNode keys = keysFile == null ? null : objectMapper.readTree(keysFile.toFile()).path("keys");
+        if (keys != null && !keys.isArray()) {
+            throw new IllegalArgumentException("\"keys\" must be an array");
+        }
+        ApiKeyTable table = new ApiKeyTable(1 + (keys == null ? 0 : keys.size()));
+        if (bootstrapKey != null) {
+            long[] digest = ApiKeyTable.digest(bootstrapKey);
+            table.put(digest, new ApiKeyInfo(DEFAULT_TENANT, ApiKeyStatus.ACTIVE, 0, 0, 0, ApiKeyTable.hex(digest)));
+        }
+        if (keys != null) {
+            for (JsonNode entry : keys) {
+                long[] digest = digestOf(entry);
+                table.put(digest, infoOf(entry, ApiKeyTable.hex(digest)));
+            }
+        }
+        return table;
+    }
+
+    private static long[] digestOf(JsonNode entry) {
+        if (entry.hasNonNull("sha256")) {
+            return ApiKeyTable.parseDigest(entry.get("sha256").asText());
+        }
+        if (entry.hasNonNull("key")) {
+            return ApiKeyTable.digest(entry.get("key").asText());
+        }
+        throw new IllegalArgumentException("API key entry needs \"sha256\" or \"key\"");
+    }
+
+    private static ApiKeyInfo infoOf(JsonNode entry, String keyId) {
+        String tenant = entry.path("tenant").asText(null);
+        if (tenant == null || tenant.isBlank()) {
+            throw new IllegalArgumentException("API key entry needs a \"tenant\"");
+        }
+        ApiKeyStatus status = ApiKeyStatus.valueOf(
+                entry.path("status").asText(ApiKeyStatus.ACTIVE.name()).toUpperCase(Locale.ROOT));
+        long requestsPerSecond = entry.path("requestsPerSecond").asLong(0);
+        long burst = entry.path("burst").asLong(requestsPerSecond);
+        long maxMessageBytes = entry.path("maxMessageBytes").asLong(0);
+        if (requestsPerSecond < 0 || burst < 0 || maxMessageBytes < 0) {
+            throw new IllegalArgumentException("API key limits must not be negative");
+        }
+        return new ApiKeyInfo(tenant, status, requestsPerSecond, burst, maxMessageBytes, keyId);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("devops.apikey.registry.size", this, ApiKeyRegistry::size)
+                .description("API keys in the current registry snapshot")
+                .register(registry);
+        FunctionCounter.builder("devops.apikey.registry.reloads", this, r -> r.reloads)
+                .description("Successful reloads of the API keys file")
+                .register(registry);
+        FunctionCounter.builder("devops.apikey.registry.reload.failures", this, r -> r.reloadFailures)
+                .description("Reloads of the API keys file that kept the previous snapshot")
+                .register(registry);
+    }
+}
@@ -0,0 +1,7 @@
+package com.devops.payload.apikey;
+
+public enum ApiKeyStatus {
+    ACTIVE,
+    SUSPENDED,
+    REVOKED
+}
@@ -0,0 +1,97 @@
+package com.devops.payload.apikey;
+
+import java.util.Locale;
+
+import com.devops.payload.digest.Sha256;
+
+/**
+ * Immutable open-addressing table from SHA-256 key digests to {@link ApiKeyInfo}. Digests are
+ * kept as four longs per slot in one flat array and compared without early exit, so a lookup
+ * touches no per-entry objects and its timing does not depend on how many bytes matched.
+ */
+final class ApiKeyTable {
+
+    private final long[] digests;
+    private final ApiKeyInfo[] values;
+    private final int mask;
+    private int size;
+
+    ApiKeyTable(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, expectedSize) * 2 - 1) << 1;
+        this.digests = new long[capacity * 4];
+        this.values = new ApiKeyInfo[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Parses a lowercase or uppercase hex SHA-256 digest into its four big-endian words.
+     */
+    static long[] parseDigest(String hex) {
+        if (hex == null || hex.length() != 64) {
+            throw new IllegalArgumentException("A SHA-256 digest must have 64 hex characters");
+        }
+        String lower = hex.toLowerCase(Locale.ROOT);
+        long[] words = new long[4];
+        for (int i = 0; i < 4; i++) {
+            words[i] = Long.parseUnsignedLong(lower, i * 16, i * 16 + 16, 16);
+        }
+        return words;
+    }
+
+    static long[] digest(String apiKey) {
+        return Sha256.digest(apiKey);
+    }
+
+    /**
+     * Formats a digest as the lowercase hex {@link #parseDigest(String)} reads.
+     */
+    static String hex(long[] digest) {
+        StringBuilder hex = new StringBuilder(64);
+        for (long word : digest) {
+            String part = Long.toHexString(word);
+            hex.repeat('0', 16 - part.length()).append(part);
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Adds or replaces the entry for {@code digest}. Only used while building a snapshot.
+     */
+    void put(long[] digest, ApiKeyInfo info) {
+        int slot = indexOf(digest[0], digest[1], digest[2], digest[3]);
+        if (values[slot] == null) {
+            if (size == (mask + 1) / 2) {
+                throw new IllegalStateException("API key table is full");
+            }
+            size++;
+            int base = slot << 2;
+            System.arraycopy(digest, 0, digests, base, 4);
+        }
+        values[slot] = info;
+    }
+
+    ApiKeyInfo get(String apiKey) {
+        long[] words = Sha256.digest(apiKey);
+        return values[indexOf(words[0], words[1], words[2], words[3])];
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int indexOf(long w0, long w1, long w2, long w3) {
+        int slot = (int) (w0 ^ w0 >>> 32) & mask;
+        while (true) {
+            if (values[slot] == null) {
+                return slot;
+            }
+            int base = slot << 2;
+            long difference = (digests[base] ^ w0) | (digests[base + 1] ^ w1)
+                    | (digests[base + 2] ^ w2) | (digests[base + 3] ^ w3);
+            if (difference == 0) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.devops.payload.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded concurrent cache made of independently locked LRU stripes. A key always maps to the
+ * same stripe, so contention is spread over {@code stripes} locks while each stripe keeps exact
+ * LRU order. Entries also carry an absolute expiry and are dropped when read after it.
+ */
+public class StripedLruCache<K, V> {
+
+    private final Stripe<K, V>[] stripes;
+    private final int stripeMask;
+    private final LongSupplier clock;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public StripedLruCache(int maximumSize, int stripes, LongSupplier clock) {
+        if (maximumSize <= 0 || stripes <= 0 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("maximumSize must be positive and stripes a power of two");
+        }
+        int perStripe = Math.max(1, maximumSize / stripes);
+        this.stripes = new Stripe[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe<>(perStripe, evictions);
+        }
+        this.stripeMask = stripes - 1;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the live value for {@code key} and marks it most recently used, or {@code null}.
+     */
+    public V get(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        long now = clock.getAsLong();
+        stripe.lock.lock();
+        try {
+            Node<V> node = stripe.map.get(key);
+            if (node != null && node.expiresAtMillis <= now) {
+                stripe.map.remove(key);
+                expirations.increment();
+                node = null;
+            }
+            if (node == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return node.value;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public void put(K key, V value, long expiresAtMillis) {
+        Stripe<K, V> stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            stripe.map.put(key, new Node<>(value, expiresAtMillis));
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public V remove(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            Node<V> node = stripe.map.remove(key);
+            return node == null ? null : node.value;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.map.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public long expirationCount() {
+        return expirations.sum();
+    }
+
+    public double hitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private Stripe<K, V> stripeFor(K key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & stripeMask];
+    }
+
+    private record Node<V>(V value, long expiresAtMillis) {
+    }
+
+    private static final class Stripe<K, V> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<K, Node<V>> map;
+
+        Stripe(int capacity, LongAdder evictions) {
+            this.map = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Node<V>> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.devops.payload.codec;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import com.devops.payload.model.DevOpsRequest;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * Reads {@link DevOpsRequest} bodies in one of Jackson's binary formats, ahead of the default CBOR and
+ * Smile converters, with the limits of the JSON codec: unknown fields fail the request, the body is
+ * capped at {@code maxBodyBytes} and string values at {@code maxFieldLength}. Responses are encoded by
+ * {@link ResponseEncoder}, so this converter writes nothing.
+ */
+public class DevOpsBinaryHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final ObjectReader reader;
+    private final int maxBodyBytes;
+
+    private DevOpsBinaryHttpMessageConverter(MediaType mediaType, ObjectMapper mapper, int maxBodyBytes) {
+        super(mediaType);
+        this.reader = mapper.readerFor(DevOpsRequest.class)
+                .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    public static DevOpsBinaryHttpMessageConverter cbor(int maxFieldLength, int maxBodyBytes) {
+        CBORFactory factory = CBORFactory.builder().streamReadConstraints(constraints(maxFieldLength)).build();
+        return new DevOpsBinaryHttpMessageConverter(ResponseFormat.CBOR.getMediaType(), new CBORMapper(factory),
+                maxBodyBytes);
+    }
+
+    public static DevOpsBinaryHttpMessageConverter smile(int maxFieldLength, int maxBodyBytes) {
+        SmileFactory factory = SmileFactory.builder().streamReadConstraints(constraints(maxFieldLength)).build();
+        return new DevOpsBinaryHttpMessageConverter(ResponseFormat.SMILE.getMediaType(), new SmileMapper(factory),
+                maxBodyBytes);
+    }
+
+    private static StreamReadConstraints constraints(int maxFieldLength) {
+        return StreamReadConstraints.builder().maxStringLength(maxFieldLength).maxNestingDepth(1).build();
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == DevOpsRequest.class;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return clazz == DevOpsRequest.class && mediaType != null && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        if (inputMessage.getHeaders().getContentLength() > maxBodyBytes) {
+            throw new HttpMessageNotReadableException("Request body exceeds " + maxBodyBytes + " bytes", inputMessage);
+        }
+        byte[] body = inputMessage.getBody().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            throw new HttpMessageNotReadableException("Request body exceeds " + maxBodyBytes + " bytes", inputMessage);
+        }
+        try {
+            return reader.readValue(body);
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException("Invalid DevOpsRequest: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object response, HttpOutputMessage outputMessage) {
+        throw new HttpMessageNotWritableException("Responses are written by ResponseEncoder");
+    }
+}
@@ -0,0 +1,196 @@
+package com.devops.payload.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.DevOpsResponse;
+import com.devops.payload.pool.BoundedPool;
+import com.devops.payload.spool.SpoolWriter;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
+/**
+ * Reads {@link DevOpsRequest} and writes {@link DevOpsResponse} with Jackson's streaming API, without
+ * databind. The body is read into a pooled buffer and parsed in place; field names are matched
+ * against Jackson's canonicalized names, so only the field values are allocated. Unknown, duplicate
+ * or mistyped fields fail the request, and string values longer than {@code maxFieldLength} are
+ * rejected by the tokenizer before they are materialized. Batches are read item by item with the same
+ * rules through {@link #createBatchParser(InputStream)} and {@link #readRequest(JsonParser)}.
+ */
+public class DevOpsJsonCodec {
+
+    static final int INITIAL_BUFFER_SIZE = 1024;
+    /** Larger buffers serve one oversized request and are then left to the GC. */
+    static final int MAX_RETAINED_BUFFER_SIZE = 16 * 1024;
+
+    private static final int MESSAGE = 1;
+    private static final int TO = 1 << 1;
+    private static final int FROM = 1 << 2;
+    private static final int TIME_TO_LIFE_SEC = 1 << 3;
+
+    private final JsonFactory jsonFactory;
+    private final JsonFactory batchFactory;
+    private final int maxFieldLength;
+    private final int maxBodyBytes;
+    private final BoundedPool<byte[]> buffers;
+
+    public DevOpsJsonCodec(int maxFieldLength, int maxBodyBytes) {
+        this.jsonFactory = JsonFactory.builder()
+                .streamReadConstraints(StreamReadConstraints.builder()
+                        .maxStringLength(maxFieldLength)
+                        .maxNestingDepth(1)
+                        .build())
+                .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .build();
+        // Items sit inside an array; nested values are left to readRequest to reject as mistyped, so that a
+        // batch can skip the offending item and carry on.
+        this.batchFactory = JsonFactory.builder()
+                .streamReadConstraints(StreamReadConstraints.builder()
+                        .maxStringLength(maxFieldLength)
+                        .build())
+                .build();
+        this.maxFieldLength = maxFieldLength;
+        this.maxBodyBytes = maxBodyBytes;
+        this.buffers = new BoundedPool<>(BoundedPool.defaultCapacity(),
+                () -> new byte[Math.min(INITIAL_BUFFER_SIZE, maxBodyBytes)]);
+    }
+
+    /**
+     * @param contentLength the declared body length, or {@code -1} if unknown
+     * @throws JsonParseException if the body is not a well-formed request object within the limits
+     */
+    public DevOpsRequest readRequest(InputStream body, long contentLength) throws IOException {
+        if (contentLength > maxBodyBytes) {
+            throw new JsonParseException(null, "Request body exceeds " + maxBodyBytes + " bytes");
+        }
+        byte[] buffer = buffers.acquire();
+        try {
+            int length = 0;
+            int read;
+            while ((read = body.read(buffer, length, buffer.length - length)) >= 0) {
+                length += read;
+                if (length < buffer.length) {
+                    continue;
+                }
+                if (length == maxBodyBytes) {
+                    if (body.read() >= 0) {
+                        throw new JsonParseException(null, "Request body exceeds " + maxBodyBytes + " bytes");
+                    }
+                    break;
+                }
+                buffer = Arrays.copyOf(buffer, (int) Math.min(buffer.length * 2L, maxBodyBytes));
+            }
+            return readRequest(buffer, 0, length);
+        } finally {
+            if (buffer.length <= MAX_RETAINED_BUFFER_SIZE) {
+                buffers.release(buffer);
+            }
+        }
+    }
+
+    /**
+     * Large-message form of {@link #readRequest(InputStream, long)}: the body is parsed as it streams in
+     * and the message value is written to {@code message}, which spools it and enforces the caller's size
+     * limit. {@code maxBodyBytes} then bounds the rest of the body only.
+     *
+     * @throws JsonParseException if the body is not a well-formed request object within the limits
+     */
+    public DevOpsRequest readRequest(InputStream body, SpoolWriter message) throws IOException {
+        return new StreamingRequestReader(body, maxFieldLength, maxBodyBytes).read(message);
+    }
+
+    public DevOpsRequest readRequest(byte[] body, int offset, int length) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body, offset, length)) {
+            parser.nextToken();
+            DevOpsRequest request = readRequest(parser);
+            if (parser.nextToken() != null) {
+                throw new JsonParseException(parser, "Expected a single JSON object");
+            }
+            return request;
+        }
+    }
+
+    /**
+     * Parser for a JSON array or NDJSON sequence of requests, with string values capped at
+     * {@code maxFieldLength} as for a single request. The body length is not limited.
+     */
+    public JsonParser createBatchParser(InputStream body) throws IOException {
+        return batchFactory.createParser(body);
+    }
+
+    /**
+     * Reads the request object {@code parser} is positioned on, leaving it on the object's
+     * {@code END_OBJECT}.
+     *
+     * @throws JsonParseException if the object has unknown, duplicate or mistyped fields
+     */
+    public DevOpsRequest readRequest(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON object");
+        }
+        DevOpsRequest request = new DevOpsRequest();
+        int seen = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            int field = switch (name) {
+                case "message" -> MESSAGE;
+                case "to" -> TO;
+                case "from" -> FROM;
+                case "timeToLifeSec" -> TIME_TO_LIFE_SEC;
+                default -> throw new JsonParseException(parser, "Unknown field '" + name + "'");
+            };
+            if ((seen & field) != 0) {
+                throw new JsonParseException(parser, "Duplicate field '" + name + "'");
+            }
+            seen |= field;
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case MESSAGE -> request.setMessage(readString(parser, value));
+                case TO -> request.setTo(readString(parser, value));
+                case FROM -> request.setFrom(readString(parser, value));
+                default -> request.setTimeToLifeSec(readInt(parser, value));
+            }
+        }
+        if (token != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Expected a single JSON object");
+        }
+        return request;
+    }
+
+    public void writeResponse(DevOpsResponse response, OutputStream out) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("message", response.getMessage());
+            generator.writeEndObject();
+        }
+    }
+
+    private static String readString(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        throw new JsonParseException(parser, "Expected a string for '" + parser.currentName() + "'");
+    }
+
+    private static Integer readInt(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        throw new JsonParseException(parser, "Expected an integer for '" + parser.currentName() + "'");
+    }
+}
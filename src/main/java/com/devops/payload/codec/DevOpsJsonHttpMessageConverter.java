@@ -0,0 +1,96 @@
+package com.devops.payload.codec;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.devops.payload.apikey.ApiKeyInfo;
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.DevOpsResponse;
+import com.devops.payload.spool.MessageSpool;
+import com.devops.payload.spool.SpoolWriter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+/**
+ * Binds {@link DevOpsRequest} bodies and writes {@link DevOpsResponse} through {@link DevOpsJsonCodec},
+ * ahead of the generic Jackson converter. Every other type is left to the default converters.
+ * <p>
+ * With a {@link MessageSpool} (large-message mode) requests are read as they stream in and the message
+ * is spooled past the threshold, limited by the caller's {@link ApiKeyInfo#maxMessageBytes()} as set on
+ * the request by the fast-reject filter. A spooled message nobody claimed is released when the request
+ * completes.
+ */
+public class DevOpsJsonHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final DevOpsJsonCodec codec;
+    private final MessageSpool spool;
+
+    public DevOpsJsonHttpMessageConverter(DevOpsJsonCodec codec) {
+        this(codec, null);
+    }
+
+    public DevOpsJsonHttpMessageConverter(DevOpsJsonCodec codec, MessageSpool spool) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.codec = codec;
+        this.spool = spool;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == DevOpsRequest.class || clazz == DevOpsResponse.class;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return clazz == DevOpsRequest.class && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return clazz == DevOpsResponse.class && canWrite(mediaType);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            if (spool == null) {
+                return codec.readRequest(inputMessage.getBody(), inputMessage.getHeaders().getContentLength());
+            }
+            return readSpooled(inputMessage);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("Invalid DevOpsRequest: " + e.getOriginalMessage(), e,
+                    inputMessage);
+        }
+    }
+
+    private DevOpsRequest readSpooled(HttpInputMessage inputMessage) throws IOException {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        ApiKeyInfo apiKeyInfo = attributes != null
+                ? (ApiKeyInfo) attributes.getAttribute(ApiKeyInfo.REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                : null;
+        SpoolWriter writer = spool.newWriter(spool.limitFor(apiKeyInfo));
+        DevOpsRequest request;
+        try {
+            request = codec.readRequest(inputMessage.getBody(), writer);
+        } catch (IOException | RuntimeException e) {
+            writer.abort();
+            throw e;
+        }
+        if (request.hasSpooledMessage() && attributes != null) {
+            attributes.registerDestructionCallback(DevOpsRequest.class.getName() + ".messageBody",
+                    request.getMessageBody()::releaseUnclaimed, RequestAttributes.SCOPE_REQUEST);
+        }
+        return request;
+    }
+
+    @Override
+    protected void writeInternal(Object response, HttpOutputMessage outputMessage) throws IOException {
+        codec.writeResponse((DevOpsResponse) response, outputMessage.getBody());
+    }
+}
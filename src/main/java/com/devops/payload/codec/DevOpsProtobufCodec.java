@@ -0,0 +1,221 @@
+package com.devops.payload.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.DevOpsResponse;
+
+/**
+ * Protocol Buffers wire encoding of {@link DevOpsRequest} and {@link DevOpsResponse}, as declared in
+ * {@code src/main/proto/devops.proto}. Hand-written because the messages are tiny and fixed; a field
+ * absent on the wire stays {@code null}, so bean validation sees the same object as from JSON.
+ * Unknown fields are skipped, as protobuf readers do.
+ */
+public class DevOpsProtobufCodec {
+
+    static final int MESSAGE_FIELD = 1;
+    static final int TO_FIELD = 2;
+    static final int FROM_FIELD = 3;
+    static final int TIME_TO_LIFE_SEC_FIELD = 4;
+
+    private static final int VARINT = 0;
+    private static final int FIXED64 = 1;
+    private static final int LENGTH_DELIMITED = 2;
+    private static final int FIXED32 = 5;
+
+    private final int maxFieldLength;
+
+    public DevOpsProtobufCodec(int maxFieldLength) {
+        this.maxFieldLength = maxFieldLength;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the bytes are not a valid encoding within the limits
+     */
+    public DevOpsRequest readRequest(byte[] body, int offset, int length) {
+        Reader reader = new Reader(body, offset, offset + length);
+        DevOpsRequest request = new DevOpsRequest();
+        while (reader.hasRemaining()) {
+            long tag = reader.readVarint();
+            int field = (int) (tag >>> 3);
+            int wireType = (int) (tag & 7);
+            switch (field) {
+                case MESSAGE_FIELD -> request.setMessage(reader.readString(wireType, maxFieldLength));
+                case TO_FIELD -> request.setTo(reader.readString(wireType, maxFieldLength));
+                case FROM_FIELD -> request.setFrom(reader.readString(wireType, maxFieldLength));
+                case TIME_TO_LIFE_SEC_FIELD -> request.setTimeToLifeSec(reader.readInt32(wireType));
+                default -> reader.skip(wireType);
+            }
+        }
+        return request;
+    }
+
+    public DevOpsResponse readResponse(byte[] body) {
+        Reader reader = new Reader(body, 0, body.length);
+        DevOpsResponse response = new DevOpsResponse();
+        while (reader.hasRemaining()) {
+            long tag = reader.readVarint();
+            if ((int) (tag >>> 3) == MESSAGE_FIELD) {
+                response.setMessage(reader.readString((int) (tag & 7), maxFieldLength));
+            } else {
+                reader.skip((int) (tag & 7));
+            }
+        }
+        return response;
+    }
+
+    public static byte[] writeRequest(DevOpsRequest request) {
+        Writer writer = new Writer();
+        writer.writeString(MESSAGE_FIELD, request.getMessage());
+        writer.writeString(TO_FIELD, request.getTo());
+        writer.writeString(FROM_FIELD, request.getFrom());
+        if (request.getTimeToLifeSec() != null) {
+            writer.writeVarint((TIME_TO_LIFE_SEC_FIELD << 3) | VARINT);
+            // int32 is sign-extended to 64 bits on the wire.
+            writer.writeVarint(request.getTimeToLifeSec());
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * {@link #writeRequest(DevOpsRequest)} without the message text: the other fields, then the message
+     * field key and length, so the text can be streamed straight after it from a spooled body.
+     */
+    public static byte[] writeRequestPrefix(DevOpsRequest request) {
+        Writer writer = new Writer();
+        writer.writeString(TO_FIELD, request.getTo());
+        writer.writeString(FROM_FIELD, request.getFrom());
+        if (request.getTimeToLifeSec() != null) {
+            writer.writeVarint((TIME_TO_LIFE_SEC_FIELD << 3) | VARINT);
+            writer.writeVarint(request.getTimeToLifeSec());
+        }
+        writer.writeVarint((MESSAGE_FIELD << 3) | LENGTH_DELIMITED);
+        writer.writeVarint(request.getMessageBody().size());
+        return writer.toByteArray();
+    }
+
+    public static byte[] writeResponse(DevOpsResponse response) {
+        Writer writer = new Writer();
+        writer.writeString(MESSAGE_FIELD, response.getMessage());
+        return writer.toByteArray();
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+        private final int limit;
+        private int position;
+
+        Reader(byte[] buffer, int offset, int limit) {
+            this.buffer = buffer;
+            this.position = offset;
+            this.limit = limit;
+        }
+
+        boolean hasRemaining() {
+            return position < limit;
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= limit) {
+                    throw new IllegalArgumentException("Truncated varint");
+                }
+                byte b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        String readString(int wireType, int maxLength) {
+            if (wireType != LENGTH_DELIMITED) {
+                throw new IllegalArgumentException("Expected a length-delimited field");
+            }
+            int length = readLength();
+            // A UTF-8 string of n chars takes at least n bytes, so this bounds the decoded length too.
+            if (length > maxLength * 3L) {
+                throw new IllegalArgumentException("Field exceeds " + maxLength + " characters");
+            }
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            if (value.length() > maxLength) {
+                throw new IllegalArgumentException("Field exceeds " + maxLength + " characters");
+            }
+            return value;
+        }
+
+        int readInt32(int wireType) {
+            if (wireType != VARINT) {
+                throw new IllegalArgumentException("Expected a varint field");
+            }
+            return (int) readVarint();
+        }
+
+        void skip(int wireType) {
+            switch (wireType) {
+                case VARINT -> readVarint();
+                case FIXED64 -> advance(8);
+                case LENGTH_DELIMITED -> advance(readLength());
+                case FIXED32 -> advance(4);
+                default -> throw new IllegalArgumentException("Unsupported wire type " + wireType);
+            }
+        }
+
+        private int readLength() {
+            long length = readVarint();
+            if (length < 0 || length > limit - position) {
+                throw new IllegalArgumentException("Truncated field");
+            }
+            return (int) length;
+        }
+
+        private void advance(int bytes) {
+            if (bytes > limit - position) {
+                throw new IllegalArgumentException("Truncated field");
+            }
+            position += bytes;
+        }
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer = new byte[64];
+        private int size;
+
+        void writeString(int field, String value) {
+            if (value == null) {
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint((field << 3) | LENGTH_DELIMITED);
+            writeVarint(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void writeVarint(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.devops.payload.codec;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.DevOpsResponse;
+
+/**
+ * Reads {@link DevOpsRequest} and writes {@link DevOpsResponse} as {@code application/x-protobuf}.
+ */
+public class DevOpsProtobufHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final DevOpsProtobufCodec codec;
+    private final int maxBodyBytes;
+
+    public DevOpsProtobufHttpMessageConverter(DevOpsProtobufCodec codec, int maxBodyBytes) {
+        super(ResponseFormat.PROTOBUF.getMediaType());
+        this.codec = codec;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == DevOpsRequest.class || clazz == DevOpsResponse.class;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return clazz == DevOpsRequest.class && mediaType != null && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return clazz == DevOpsResponse.class && canWrite(mediaType);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        if (inputMessage.getHeaders().getContentLength() > maxBodyBytes) {
+            throw new HttpMessageNotReadableException("Request body exceeds " + maxBodyBytes + " bytes", inputMessage);
+        }
+        byte[] body = inputMessage.getBody().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            throw new HttpMessageNotReadableException("Request body exceeds " + maxBodyBytes + " bytes", inputMessage);
+        }
+        try {
+            return codec.readRequest(body, 0, body.length);
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException("Invalid DevOpsRequest: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object response, HttpOutputMessage outputMessage) throws IOException {
+        outputMessage.getBody().write(DevOpsProtobufCodec.writeResponse((DevOpsResponse) response));
+    }
+}
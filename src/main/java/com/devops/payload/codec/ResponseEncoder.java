@@ -0,0 +1,34 @@
+package com.devops.payload.codec;
+
+import org.springframework.stereotype.Component;
+
+import com.devops.payload.model.DevOpsResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * Encodes a {@link DevOpsResponse} in any {@link ResponseFormat}.
+ */
+@Component
+public class ResponseEncoder {
+
+    private final ObjectWriter jsonWriter = new ObjectMapper().writerFor(DevOpsResponse.class);
+    private final ObjectWriter cborWriter = new CBORMapper().writerFor(DevOpsResponse.class);
+    private final ObjectWriter smileWriter = new SmileMapper().writerFor(DevOpsResponse.class);
+
+    public byte[] encode(DevOpsResponse response, ResponseFormat format) {
+        try {
+            return switch (format) {
+                case JSON -> jsonWriter.writeValueAsBytes(response);
+                case CBOR -> cborWriter.writeValueAsBytes(response);
+                case SMILE -> smileWriter.writeValueAsBytes(response);
+                case PROTOBUF -> DevOpsProtobufCodec.writeResponse(response);
+            };
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot encode response as " + format, e);
+        }
+    }
+}
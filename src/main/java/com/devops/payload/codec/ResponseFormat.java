@@ -0,0 +1,62 @@
+package com.devops.payload.codec;
+
+import java.util.List;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * Body formats of {@code /DevOps}. JSON is the default; the binary formats are chosen by media type
+ * in {@code Accept}, honouring quality values.
+ */
+public enum ResponseFormat {
+
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(new MediaType("application", "x-jackson-smile")),
+    PROTOBUF(new MediaType("application", "x-protobuf"));
+
+    private static final ResponseFormat[] FORMATS = values();
+
+    private final MediaType mediaType;
+
+    ResponseFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Picks the format for an {@code Accept} header value. Headers naming no binary format, the
+     * common case, are answered without parsing.
+     */
+    public static ResponseFormat negotiate(String accept) {
+        if (accept == null || !(accept.contains("cbor") || accept.contains("smile") || accept.contains("protobuf"))) {
+            return JSON;
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        ResponseFormat best = JSON;
+        double bestQuality = -1;
+        for (MediaType type : acceptable) {
+            double quality = type.getQualityValue();
+            if (quality <= bestQuality) {
+                continue;
+            }
+            for (ResponseFormat format : FORMATS) {
+                if (quality > 0 && format.mediaType.isCompatibleWith(type)) {
+                    best = format;
+                    bestQuality = quality;
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,304 @@
+package com.devops.payload.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.spool.SpoolWriter;
+import com.fasterxml.jackson.core.JsonParseException;
+
+/**
+ * Single-pass reader of a {@link DevOpsRequest} JSON object straight off the body stream, for large-message
+ * mode. {@code to} and {@code from} are bounded by the field length limit and everything outside the
+ * message value by the body limit, as in {@link DevOpsJsonCodec}; the message value is decoded one code
+ * point at a time into a {@link SpoolWriter}, so only the read buffer is held however long it is. Field
+ * rules match the buffered reader; unpaired surrogate escapes, which have no UTF-8 form, are rejected.
+ */
+final class StreamingRequestReader {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_NAME_LENGTH = 32;
+
+    private final InputStream in;
+    private final int maxFieldLength;
+    private final long maxBodyBytes;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private long outsideMessage;
+    private boolean inMessage;
+    private int markPosition;
+    private long markOutsideMessage;
+
+    StreamingRequestReader(InputStream in, int maxFieldLength, long maxBodyBytes) {
+        this.in = in;
+        this.maxFieldLength = maxFieldLength;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    DevOpsRequest read(SpoolWriter message) throws IOException {
+        if (nextNonWhitespace() != '{') {
+            throw error("Expected a JSON object");
+        }
+        DevOpsRequest request = new DevOpsRequest();
+        int seen = 0;
+        int c = nextNonWhitespace();
+        if (c != '}') {
+            while (true) {
+                if (c != '"') {
+                    throw error("Expected a field name");
+                }
+                String name = readString(MAX_NAME_LENGTH);
+                int field = switch (name) {
+                    case "message" -> 1;
+                    case "to" -> 1 << 1;
+                    case "from" -> 1 << 2;
+                    case "timeToLifeSec" -> 1 << 3;
+                    default -> throw error("Unknown field '" + name + "'");
+                };
+                if ((seen & field) != 0) {
+                    throw error("Duplicate field '" + name + "'");
+                }
+                seen |= field;
+                if (nextNonWhitespace() != ':') {
+                    throw error("Expected ':' after '" + name + "'");
+                }
+                c = nextNonWhitespace();
+                switch (name) {
+                    case "message" -> {
+                        if (c == '"') {
+                            streamString(message);
+                            request.setMessageBody(message.finish());
+                        } else {
+                            readNull(c, name, "a string");
+                        }
+                    }
+                    case "to" -> request.setTo(readNullableString(c, name));
+                    case "from" -> request.setFrom(readNullableString(c, name));
+                    default -> request.setTimeToLifeSec(readInt(c, name));
+                }
+                c = nextNonWhitespace();
+                if (c == '}') {
+                    break;
+                }
+                if (c != ',') {
+                    throw error("Expected ',' or '}'");
+                }
+                c = nextNonWhitespace();
+            }
+        }
+        if (nextNonWhitespace() != -1) {
+            throw error("Expected a single JSON object");
+        }
+        return request;
+    }
+
+    private int next() throws IOException {
+        if (position == limit) {
+            limit = in.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        if (!inMessage && ++outsideMessage > maxBodyBytes) {
+            throw error("Request body exceeds " + maxBodyBytes + " bytes outside the message");
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        int c;
+        do {
+            c = next();
+        } while (c == ' ' || c == '\t' || c == '\n' || c == '\r');
+        return c;
+    }
+
+    private String readString(int maxLength) throws IOException {
+        StringBuilder value = new StringBuilder();
+        int c;
+        while ((c = nextCodePoint()) != -1) {
+            value.appendCodePoint(c);
+            if (value.length() > maxLength) {
+                throw error("String value length exceeds the maximum of " + maxLength);
+            }
+        }
+        return value.toString();
+    }
+
+    private String readNullableString(int c, String name) throws IOException {
+        return c == '"' ? readString(maxFieldLength) : readNull(c, name, "a string");
+    }
+
+    private void streamString(SpoolWriter message) throws IOException {
+        inMessage = true;
+        int c;
+        while ((c = nextCodePoint()) != -1) {
+            message.writeCodePoint(c);
+        }
+        inMessage = false;
+    }
+
+    /**
+     * The next code point of a string value whose opening quote was read, or -1 at the closing quote.
+     */
+    private int nextCodePoint() throws IOException {
+        int c = next();
+        if (c == '"') {
+            return -1;
+        }
+        if (c == '\\') {
+            return escape();
+        }
+        if (c < 0x20) {
+            throw error(c < 0 ? "Unexpected end of input in a string" : "Unescaped control character in a string");
+        }
+        if (c < 0x80) {
+            return c;
+        }
+        int continuation;
+        int codePoint;
+        if ((c & 0xE0) == 0xC0) {
+            continuation = 1;
+            codePoint = c & 0x1F;
+        } else if ((c & 0xF0) == 0xE0) {
+            continuation = 2;
+            codePoint = c & 0x0F;
+        } else if ((c & 0xF8) == 0xF0) {
+            continuation = 3;
+            codePoint = c & 0x07;
+        } else {
+            throw error("Invalid UTF-8 start byte 0x" + Integer.toHexString(c));
+        }
+        for (int i = 0; i < continuation; i++) {
+            int b = next();
+            if ((b & 0xC0) != 0x80) {
+                throw error("Invalid UTF-8 continuation byte");
+            }
+            codePoint = (codePoint << 6) | (b & 0x3F);
+        }
+        if (codePoint < (continuation == 1 ? 0x80 : continuation == 2 ? 0x800 : 0x10000) || codePoint > 0x10FFFF
+                || (codePoint >= 0xD800 && codePoint <= 0xDFFF)) {
+            throw error("Invalid UTF-8 sequence");
+        }
+        return codePoint;
+    }
+
+    private int escape() throws IOException {
+        int c = next();
+        switch (c) {
+            case '"', '\\', '/':
+                return c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                break;
+            default:
+                throw error("Unrecognized escape in a string");
+        }
+        int unit = hex4();
+        if (Character.isHighSurrogate((char) unit)) {
+            if (next() != '\\' || next() != 'u') {
+                throw error("Unpaired surrogate escape in a string");
+            }
+            int low = hex4();
+            if (!Character.isLowSurrogate((char) low)) {
+                throw error("Unpaired surrogate escape in a string");
+            }
+            return Character.toCodePoint((char) unit, (char) low);
+        }
+        if (Character.isLowSurrogate((char) unit)) {
+            throw error("Unpaired surrogate escape in a string");
+        }
+        return unit;
+    }
+
+    private int hex4() throws IOException {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(next(), 16);
+            if (digit < 0) {
+                throw error("Expected 4 hex digits in a \\u escape");
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    private Integer readInt(int c, String name) throws IOException {
+        if (c == 'n') {
+            return readNull(c, name, "an integer");
+        }
+        boolean negative = c == '-';
+        if (negative) {
+            c = next();
+        }
+        if (c < '0' || c > '9') {
+            throw error("Expected an integer for '" + name + "'");
+        }
+        long value = c - '0';
+        boolean leadingZero = c == '0';
+        while (true) {
+            mark();
+            c = next();
+            if (c < '0' || c > '9') {
+                break;
+            }
+            if (leadingZero) {
+                throw error("Leading zeroes are not allowed in '" + name + "'");
+            }
+            value = value * 10 + (c - '0');
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw error("Integer out of range for '" + name + "'");
+            }
+        }
+        if (c == '.' || c == 'e' || c == 'E') {
+            throw error("Expected an integer for '" + name + "'");
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw error("Integer out of range for '" + name + "'");
+        }
+        reset();
+        return (int) value;
+    }
+
+    private <T> T readNull(int c, String name, String expected) throws IOException {
+        if (c == 'n' && next() == 'u' && next() == 'l' && next() == 'l') {
+            return null;
+        }
+        throw error("Expected " + expected + " for '" + name + "'");
+    }
+
+    // Numbers end at the first byte that is not a digit, which must be read again as the next token.
+    private void mark() throws IOException {
+        if (position == limit) {
+            limit = in.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit < 0) {
+                limit = 0;
+            }
+        }
+        markPosition = position;
+        markOutsideMessage = outsideMessage;
+    }
+
+    private void reset() {
+        position = markPosition;
+        outsideMessage = markOutsideMessage;
+    }
+
+    private static JsonParseException error(String message) {
+        return new JsonParseException(null, message);
+    }
+}
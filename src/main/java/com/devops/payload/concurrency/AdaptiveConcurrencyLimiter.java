@@ -0,0 +1,165 @@
+package com.devops.payload.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Concurrency limit for {@code POST /DevOps} that adapts to measured latency, in the manner of the
+ * gradient and TCP Vegas limiters. Every completed request is a sample: a short average tracks current
+ * latency and a baseline the latency without queueing. While the short average stays within
+ * {@code rttTolerance} of the baseline the limit grows by about its square root per update; past it the
+ * limit shrinks in proportion, by at most half, so requests beyond what the service can turn around in
+ * time are shed up front instead of queueing behind the ones in flight.
+ * <p>
+ * The baseline is a long average of the samples taken with less than half the limit in use, or at the
+ * minimum limit, so sustained overload cannot drag it up while a service that became slower for good
+ * is eventually taken as it is. Likewise the limit only grows while at least half of it is in use.
+ */
+@Component
+@ConditionalOnProperty(name = "payload.concurrency-limit.enabled", havingValue = "true")
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+
+    private static final double SHORT_WINDOW = 10;
+    private static final double LONG_WINDOW = 500;
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile int limit;
+
+    // Guarded by lock.
+    private double estimatedLimit;
+    private double shortRttNanos;
+    private double baselineRttNanos;
+    private long samples;
+
+    public AdaptiveConcurrencyLimiter(@Value("${payload.concurrency-limit.initial:20}") int initialLimit,
+            @Value("${payload.concurrency-limit.min:4}") int minLimit,
+            @Value("${payload.concurrency-limit.max:1000}") int maxLimit,
+            @Value("${payload.concurrency-limit.rtt-tolerance:2.0}") double rttTolerance) {
+        if (minLimit < 1 || maxLimit < minLimit || rttTolerance < 1) {
+            throw new IllegalArgumentException("Invalid concurrency limit bounds: min " + minLimit + ", max "
+                    + maxLimit + ", rtt tolerance " + rttTolerance);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.estimatedLimit = clamp(initialLimit);
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Admits a request if fewer than the limit are in flight. Every admitted request must be
+     * {@link #release(long) released}.
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                shed.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        admitted.increment();
+        return true;
+    }
+
+    /**
+     * Ends an admitted request that took {@code rttNanos} and adjusts the limit. A sample that arrives
+     * while another thread is adjusting is dropped rather than waited for.
+     */
+    public void release(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        if (lock.tryLock()) {
+            try {
+                update(Math.max(1, rttNanos), inFlightAtCompletion);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Ends an admitted request whose latency says nothing about the service, such as one that was not
+     * read to the end, without adjusting the limit.
+     */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    private void update(double rttNanos, int inFlightAtCompletion) {
+        if (samples++ == 0) {
+            shortRttNanos = rttNanos;
+            baselineRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) / SHORT_WINDOW;
+        boolean saturated = inFlightAtCompletion >= estimatedLimit / 2;
+        if (shortRttNanos < baselineRttNanos) {
+            baselineRttNanos = shortRttNanos;
+        } else if (!saturated || limit <= minLimit) {
+            baselineRttNanos += (shortRttNanos - baselineRttNanos) / LONG_WINDOW;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1, rttTolerance * baselineRttNanos / shortRttNanos));
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        if (target > estimatedLimit && !saturated) {
+            return;
+        }
+        estimatedLimit = clamp(estimatedLimit * (1 - SMOOTHING) + target * SMOOTHING);
+        limit = (int) estimatedLimit;
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+
+    public ConcurrencyLimitStats getStats() {
+        double baselineMillis;
+        lock.lock();
+        try {
+            baselineMillis = baselineRttNanos / 1_000_000;
+        } finally {
+            lock.unlock();
+        }
+        return new ConcurrencyLimitStats(limit, inFlight.get(), admitted.sum(), shed.sum(), baselineMillis);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("devops.concurrency.limit", this, limiter -> limiter.limit)
+                .description("Current adaptive limit on concurrent requests")
+                .register(registry);
+        Gauge.builder("devops.concurrency.in-flight", inFlight, AtomicInteger::get)
+                .description("Requests admitted and not yet completed")
+                .register(registry);
+        Gauge.builder("devops.concurrency.baseline", this, limiter -> limiter.getStats().baselineMillis())
+                .description("Latency taken as unloaded when adjusting the limit")
+                .baseUnit("milliseconds")
+                .register(registry);
+        FunctionCounter.builder("devops.concurrency.admitted", admitted, LongAdder::sum)
+                .description("Requests admitted under the limit")
+                .register(registry);
+        FunctionCounter.builder("devops.concurrency.shed", shed, LongAdder::sum)
+                .description("Requests rejected with 503 because the limit was reached")
+                .register(registry);
+    }
+}
@@ -0,0 +1,8 @@
+package com.devops.payload.concurrency;
+
+/**
+ * Point-in-time state of an {@link AdaptiveConcurrencyLimiter}; {@code baselineMillis} is the latency it
+ * currently takes as unloaded.
+ */
+public record ConcurrencyLimitStats(int limit, int inFlight, long admitted, long shed, double baselineMillis) {
+}
@@ -0,0 +1,60 @@
+package com.devops.payload.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.devops.payload.codec.DevOpsBinaryHttpMessageConverter;
+import com.devops.payload.codec.DevOpsJsonCodec;
+import com.devops.payload.codec.DevOpsJsonHttpMessageConverter;
+import com.devops.payload.codec.DevOpsProtobufCodec;
+import com.devops.payload.codec.DevOpsProtobufHttpMessageConverter;
+import com.devops.payload.spool.MessageSpool;
+
+/**
+ * Message converters for {@code /DevOps} bodies. Beans are picked up by Boot's HttpMessageConverters
+ * and placed before the defaults, so CBOR and Smile requests are read with the same limits as JSON rather
+ * than by the default Jackson converters for those formats.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CodecConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "payload.codec.enabled", havingValue = "true", matchIfMissing = true)
+    public DevOpsJsonCodec devOpsJsonCodec(@Value("${payload.codec.max-field-length:65536}") int maxFieldLength,
+            @Value("${payload.codec.max-body-bytes:262144}") int maxBodyBytes) {
+        return new DevOpsJsonCodec(maxFieldLength, maxBodyBytes);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "payload.codec.enabled", havingValue = "true", matchIfMissing = true)
+    public DevOpsJsonHttpMessageConverter devOpsJsonHttpMessageConverter(DevOpsJsonCodec codec,
+            ObjectProvider<MessageSpool> spool) {
+        return new DevOpsJsonHttpMessageConverter(codec, spool.getIfAvailable());
+    }
+
+    @Bean
+    public DevOpsProtobufHttpMessageConverter devOpsProtobufHttpMessageConverter(
+            @Value("${payload.codec.max-field-length:65536}") int maxFieldLength,
+            @Value("${payload.codec.max-body-bytes:262144}") int maxBodyBytes) {
+        return new DevOpsProtobufHttpMessageConverter(new DevOpsProtobufCodec(maxFieldLength), maxBodyBytes);
+    }
+
+    @Bean
+    public DevOpsBinaryHttpMessageConverter devOpsCborHttpMessageConverter(
+            @Value("${payload.codec.max-field-length:65536}") int maxFieldLength,
+            @Value("${payload.codec.max-body-bytes:262144}") int maxBodyBytes) {
+        return DevOpsBinaryHttpMessageConverter.cbor(maxFieldLength, maxBodyBytes);
+    }
+
+    @Bean
+    public DevOpsBinaryHttpMessageConverter devOpsSmileHttpMessageConverter(
+            @Value("${payload.codec.max-field-length:65536}") int maxFieldLength,
+            @Value("${payload.codec.max-body-bytes:262144}") int maxBodyBytes) {
+        return DevOpsBinaryHttpMessageConverter.smile(maxFieldLength, maxBodyBytes);
+    }
+}
@@ -0,0 +1,10 @@
+package com.devops.payload.config;
+
+/**
+ * Threads serving the request path: Tomcat's platform thread pool, or one Java 21 virtual
+ * thread per request (including async work and streamed responses).
+ */
+public enum ExecutionMode {
+    PLATFORM,
+    VIRTUAL
+}
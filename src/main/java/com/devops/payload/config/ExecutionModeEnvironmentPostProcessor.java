@@ -0,0 +1,45 @@
+package com.devops.payload.config;
+
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Translates {@code payload.execution-mode} into Spring Boot's threading switch, which moves the
+ * Tomcat executor, {@code applicationTaskExecutor} and MVC async processing onto virtual threads.
+ * In virtual mode it also turns on {@code jdk.tracePinnedThreads} so any carrier pinning caused by
+ * {@code synchronized} sections or native frames is reported instead of silently throttling.
+ */
+public class ExecutionModeEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String EXECUTION_MODE_PROPERTY = "payload.execution-mode";
+    static final String VIRTUAL_THREADS_PROPERTY = "spring.threads.virtual.enabled";
+    static final String TRACE_PINNED_THREADS_PROPERTY = "jdk.tracePinnedThreads";
+    static final String PROPERTY_SOURCE_NAME = "payloadExecutionMode";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (resolveMode(environment) != ExecutionMode.VIRTUAL) {
+            return;
+        }
+
+        environment.getPropertySources().addFirst(
+                new MapPropertySource(PROPERTY_SOURCE_NAME, Map.of(VIRTUAL_THREADS_PROPERTY, "true")));
+
+        if (System.getProperty(TRACE_PINNED_THREADS_PROPERTY) == null) {
+            System.setProperty(TRACE_PINNED_THREADS_PROPERTY, "short");
+        }
+    }
+
+    static ExecutionMode resolveMode(ConfigurableEnvironment environment) {
+        String value = environment.getProperty(EXECUTION_MODE_PROPERTY);
+        if (value == null || value.isBlank()) {
+            return ExecutionMode.PLATFORM;
+        }
+        return ExecutionMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,46 @@
+package com.devops.payload.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.devops.payload.concurrency.AdaptiveConcurrencyLimiter;
+import com.devops.payload.filter.ConcurrencyLimitFilter;
+import com.devops.payload.filter.FastRejectFilter;
+import com.devops.payload.metrics.RequestStageMetrics;
+import com.devops.payload.ratelimit.RateLimiter;
+import com.devops.payload.service.JwtService;
+import com.devops.payload.service.SecurityService;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class FilterConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "payload.fast-reject.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<FastRejectFilter> fastRejectFilter(SecurityService securityService,
+            JwtService jwtService, RateLimiter rateLimiter, RequestStageMetrics stageMetrics) {
+        FilterRegistrationBean<FastRejectFilter> registration = new FilterRegistrationBean<>(
+                new FastRejectFilter(securityService, jwtService, rateLimiter, stageMetrics));
+        registration.addUrlPatterns("/DevOps", "/DevOps/*");
+        // Behind Spring Security, so rejections carry the same CORS and security headers as any other response.
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 5);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "payload.concurrency-limit.enabled", havingValue = "true")
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter,
+            RequestStageMetrics stageMetrics) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(limiter, stageMetrics));
+        // Single requests only: batch responses are streamed asynchronously, past the end of the filter.
+        registration.addUrlPatterns("/DevOps");
+        // Right after the fast-reject filter, so only authenticated, rate-limited requests take a slot.
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,26 @@
+package com.devops.payload.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.devops.payload.jwt.JwtKeySet;
+import com.devops.payload.jwt.JwtVerifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+public class JwtConfiguration {
+
+    @Bean
+    @ConditionalOnExpression("'${security.jwt.key-file:}' != ''")
+    public JwtVerifier jwtVerifier(@Value("${security.jwt.key-file}") Path keyFile,
+            @Value("${security.jwt.clock-skew-seconds:30}") long clockSkewSeconds,
+            ObjectMapper objectMapper) throws IOException {
+        return new JwtVerifier(JwtKeySet.load(keyFile, objectMapper), objectMapper, System::currentTimeMillis,
+                clockSkewSeconds);
+    }
+}
@@ -0,0 +1,32 @@
+package com.devops.payload.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.Validator;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.devops.payload.metrics.RequestStageMetrics;
+import com.devops.payload.metrics.TimedValidator;
+import com.devops.payload.validation.GeneratedValidators;
+
+/**
+ * Times {@code @Valid} on the servlet stack by handing MVC a {@link TimedValidator} around the
+ * application's validators.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class MetricsConfiguration implements WebMvcConfigurer {
+
+    private final GeneratedValidators validators;
+    private final RequestStageMetrics stageMetrics;
+
+    public MetricsConfiguration(GeneratedValidators validators, RequestStageMetrics stageMetrics) {
+        this.validators = validators;
+        this.stageMetrics = stageMetrics;
+    }
+
+    @Override
+    public Validator getValidator() {
+        return new TimedValidator(validators, stageMetrics);
+    }
+}
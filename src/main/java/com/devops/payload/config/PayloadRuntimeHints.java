@@ -0,0 +1,42 @@
+package com.devops.payload.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import com.devops.payload.model.DevOpsBatchError;
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.DevOpsResponse;
+import com.devops.payload.model.MessageBodyNotBlankValidator;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Native image metadata that Spring AOT cannot infer from bean definitions or controller signatures:
+ * Jackson binding of the model in the batch stream and the CBOR/Smile encoders, and Hibernate Validator
+ * reading the constraints declared on {@link DevOpsRequest} fields, including the {@link NotBlank} validator
+ * for spooled message bodies that it loads from {@code META-INF/services}. {@link SecurityConfiguration} needs
+ * nothing beyond what AOT generates for its filter chain.
+ */
+public class PayloadRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingHints.registerReflectionHints(hints.reflection(),
+                DevOpsRequest.class, DevOpsResponse.class, DevOpsBatchError.class);
+
+        hints.reflection().registerType(DevOpsRequest.class,
+                MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_METHODS);
+        for (Class<?> constraint : new Class<?>[] { NotBlank.class, NotNull.class, Positive.class }) {
+            hints.reflection().registerType(constraint, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerResourceBundle("org.hibernate.validator.ValidationMessages");
+        hints.resources().registerPattern("META-INF/services/jakarta.validation.ConstraintValidator");
+        hints.reflection().registerType(MessageBodyNotBlankValidator.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+}
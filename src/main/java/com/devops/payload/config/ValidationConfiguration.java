@@ -0,0 +1,29 @@
+package com.devops.payload.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import com.devops.payload.validation.GeneratedValidator;
+import com.devops.payload.validation.GeneratedValidators;
+
+/**
+ * Dispatches {@code @Valid} targets to the compile-time {@link GeneratedValidator}s, falling back to the
+ * Bean Validation provider for types without one. With {@code payload.validation.generated=false} every
+ * target takes the fallback.
+ */
+@Configuration
+public class ValidationConfiguration {
+
+    @Bean
+    public GeneratedValidators generatedValidators(jakarta.validation.Validator validator,
+            ObjectProvider<GeneratedValidator<?>> generatedValidators,
+            @Value("${payload.validation.generated:true}") boolean generated) {
+        return new GeneratedValidators(generated ? generatedValidators.orderedStream().toList() : List.of(),
+                new SpringValidatorAdapter(validator));
+    }
+}
@@ -1,59 +1,196 @@
 package com.devops.payload.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.devops.payload.apikey.ApiKeyInfo;
+import com.devops.payload.codec.ResponseFormat;
+import com.devops.payload.exception.IdempotencyKeyReusedException;
 import com.devops.payload.exception.InvalidApiKeyException;
 import com.devops.payload.exception.InvalidJwtException;
+import com.devops.payload.exception.JournalUnavailableException;
+import com.devops.payload.exception.MessageTooLargeException;
+import com.devops.payload.exception.RateLimitExceededException;
+import com.devops.payload.exception.UnknownRecipientException;
+import com.devops.payload.idempotency.IdempotencyCache;
+import com.devops.payload.idempotency.IdempotencyKey;
+import com.devops.payload.jwt.JwtClaims;
+import com.devops.payload.metrics.RejectionCause;
+import com.devops.payload.metrics.RequestStage;
+import com.devops.payload.metrics.RequestStageMetrics;
 import com.devops.payload.model.DevOpsRequest;
-import com.devops.payload.model.DevOpsResponse;
+import com.devops.payload.ratelimit.RateLimiter;
+import com.devops.payload.service.DevOpsBatchService;
 import com.devops.payload.service.DevOpsService;
 import com.devops.payload.service.JwtService;
 import com.devops.payload.service.SecurityService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/DevOps")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class DevOpsController {
 
+    private static final MediaType ERROR_CONTENT_TYPE = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
     private final SecurityService securityService;
     private final JwtService jwtService;
     private final DevOpsService devOpsService;
+    private final DevOpsBatchService devOpsBatchService;
+    private final RateLimiter rateLimiter;
+    private final IdempotencyCache idempotencyCache;
+    private final RequestStageMetrics stageMetrics;
 
-    public DevOpsController(SecurityService securityService, JwtService jwtService, DevOpsService devOpsService) {
+    public DevOpsController(SecurityService securityService, JwtService jwtService, DevOpsService devOpsService,
+            DevOpsBatchService devOpsBatchService, RateLimiter rateLimiter, IdempotencyCache idempotencyCache,
+            RequestStageMetrics stageMetrics) {
         this.securityService = securityService;
         this.jwtService = jwtService;
         this.devOpsService = devOpsService;
+        this.devOpsBatchService = devOpsBatchService;
+        this.rateLimiter = rateLimiter;
+        this.idempotencyCache = idempotencyCache;
+        this.stageMetrics = stageMetrics;
+    }
+
+    /**
+     * Runs before the body is bound, so that without {@code FastRejectFilter} a request is authenticated
+     * before its message is read or spooled.
+     */
+    @ModelAttribute
+    void authenticateBeforeBinding(
+            @RequestHeader(value = "X-Parse-REST-API-Key", required = false) String apiKey,
+            @RequestHeader(value = "X-JWT-KWY", required = false) String jwt,
+            HttpServletRequest servletRequest) {
+        authenticate(apiKey, jwt, servletRequest);
     }
 
     @PostMapping
-    public ResponseEntity<DevOpsResponse> handleDevOpsRequest(
+    public ResponseEntity<byte[]> handleDevOpsRequest(
+            @RequestHeader(value = "X-Parse-REST-API-Key", required = false) String apiKey,
+            @RequestHeader(value = "X-JWT-KWY", required = false) String jwt,
+            @Valid @RequestBody DevOpsRequest request,
+            @RequestHeader(value = IdempotencyKey.HEADER, required = false) String idempotencyKey,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            HttpServletRequest servletRequest,
+            Locale locale) {
+
+        ApiKeyInfo apiKeyInfo = authenticate(apiKey, jwt, servletRequest);
+
+        ResponseFormat format = ResponseFormat.negotiate(accept);
+        idempotencyCache.execute(IdempotencyKey.of(apiKeyInfo.tenant(), idempotencyKey, request),
+                request.getTimeToLifeSec(), () -> process(request, servletRequest));
+        long start = System.nanoTime();
+        byte[] body = devOpsService.encodeResponse(request, locale, format);
+        stageMetrics.record(RequestStage.SERIALIZATION, start, servletRequest);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(format.getMediaType());
+        if (stageMetrics.isServerTimingEnabled()) {
+            response.header("Server-Timing", stageMetrics.serverTiming(servletRequest));
+        }
+        return response.body(body);
+    }
+
+    private void process(DevOpsRequest request, HttpServletRequest servletRequest) {
+        long start = System.nanoTime();
+        devOpsService.enqueue(request);
+        stageMetrics.record(RequestStage.PROCESSING, start, servletRequest);
+    }
+
+    @PostMapping(value = "/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> handleDevOpsBatch(
             @RequestHeader(value = "X-Parse-REST-API-Key", required = false) String apiKey,
             @RequestHeader(value = "X-JWT-KWY", required = false) String jwt,
-            @Valid @RequestBody DevOpsRequest request) {
+            HttpServletRequest servletRequest) throws IOException {
+
+        ApiKeyInfo apiKeyInfo = authenticate(apiKey, jwt, servletRequest);
 
-        securityService.validateApiKey(apiKey);
-        jwtService.validateJwt(jwt);
+        InputStream body = servletRequest.getInputStream();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> devOpsBatchService.processBatch(body, out, apiKeyInfo));
+    }
 
-        DevOpsResponse response = devOpsService.processDevOpsRequest(request);
-        return ResponseEntity.ok(response);
+    /**
+     * Validates credentials and rate limit unless {@code FastRejectFilter} already admitted the request.
+     */
+    private ApiKeyInfo authenticate(String apiKey, String jwt, HttpServletRequest servletRequest) {
+        if (servletRequest.getAttribute(ApiKeyInfo.REQUEST_ATTRIBUTE) instanceof ApiKeyInfo admitted) {
+            return admitted;
+        }
+        long start = System.nanoTime();
+        ApiKeyInfo apiKeyInfo = securityService.validateApiKey(apiKey);
+        start = stageMetrics.record(RequestStage.API_KEY, start, servletRequest);
+        JwtClaims claims = jwtService.validateJwt(jwt);
+        start = stageMetrics.record(RequestStage.JWT, start, servletRequest);
+        rateLimiter.acquire(apiKeyInfo);
+        stageMetrics.record(RequestStage.RATE_LIMIT, start, servletRequest);
+        servletRequest.setAttribute(ApiKeyInfo.REQUEST_ATTRIBUTE, apiKeyInfo);
+        servletRequest.setAttribute(JwtClaims.REQUEST_ATTRIBUTE, claims);
+        return apiKeyInfo;
     }
 
+    // Errors are plain text whatever the negotiated body format, as FastRejectFilter writes them.
     @ExceptionHandler({InvalidApiKeyException.class, InvalidJwtException.class})
-    public ResponseEntity<String> handleSecurityException() {
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("ERROR");
+    public ResponseEntity<String> handleSecurityException(RuntimeException e) {
+        stageMetrics.reject(e instanceof InvalidJwtException ? RejectionCause.JWT : RejectionCause.API_KEY);
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).contentType(ERROR_CONTENT_TYPE).body("ERROR");
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<String> handleRateLimitExceeded(RateLimitExceededException e) {
+        stageMetrics.reject(RejectionCause.RATE_LIMIT);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .contentType(ERROR_CONTENT_TYPE)
+                .body("ERROR");
+    }
+
+    @ExceptionHandler(UnknownRecipientException.class)
+    public ResponseEntity<String> handleUnknownRecipient() {
+        stageMetrics.reject(RejectionCause.UNKNOWN_RECIPIENT);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(ERROR_CONTENT_TYPE).body("ERROR");
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<String> handleIdempotencyKeyReused() {
+        stageMetrics.reject(RejectionCause.IDEMPOTENCY_KEY);
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).contentType(ERROR_CONTENT_TYPE).body("ERROR");
+    }
+
+    @ExceptionHandler(MessageTooLargeException.class)
+    public ResponseEntity<String> handleMessageTooLarge() {
+        stageMetrics.reject(RejectionCause.MESSAGE_SIZE);
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).contentType(ERROR_CONTENT_TYPE).body("ERROR");
+    }
+
+    @ExceptionHandler(JournalUnavailableException.class)
+    public ResponseEntity<String> handleJournalUnavailable() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).contentType(ERROR_CONTENT_TYPE).body("ERROR");
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleGeneralException() {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("ERROR");
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(ERROR_CONTENT_TYPE).body("ERROR");
     }
 }
 
@@ -0,0 +1,46 @@
+package com.devops.payload.delivery;
+
+import com.devops.payload.model.DevOpsRequest;
+
+/**
+ * An accepted message waiting for delivery. It is linked both into the FIFO order of its
+ * {@link DeliveryQueue} and into the timing wheel that expires it after {@code timeToLifeSec}.
+ */
+public final class DeliveryEnvelope extends HierarchicalTimingWheel.Entry {
+
+    private final long id;
+    private final DevOpsRequest request;
+    private final long enqueuedAtMillis;
+    private final long expiresAtMillis;
+
+    DeliveryEnvelope queuePrev;
+    DeliveryEnvelope queueNext;
+
+    DeliveryEnvelope(long id, DevOpsRequest request, long enqueuedAtMillis, long expiresAtMillis) {
+        this.id = id;
+        this.request = request;
+        this.enqueuedAtMillis = enqueuedAtMillis;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public DevOpsRequest getRequest() {
+        return request;
+    }
+
+    public long getEnqueuedAtMillis() {
+        return enqueuedAtMillis;
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "DeliveryEnvelope [id=" + id + ", to=" + request.getTo() + ", expiresAtMillis=" + expiresAtMillis + "]";
+    }
+}
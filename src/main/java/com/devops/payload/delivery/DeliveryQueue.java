@@ -0,0 +1,186 @@
+package com.devops.payload.delivery;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devops.payload.model.DevOpsRequest;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * In-memory FIFO of accepted messages. Every message is also scheduled on a
+ * {@link HierarchicalTimingWheel}, so messages older than their {@code timeToLifeSec} are dropped
+ * in O(1) each when the wheel ticks, without scanning the pending set. Each {@link PartitionedOutbox}
+ * lane owns one, written and ticked by the lane worker.
+ */
+public class DeliveryQueue implements Outbox, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(DeliveryQueue.class);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongSupplier clock;
+    private final HierarchicalTimingWheel<DeliveryEnvelope> wheel;
+
+    private DeliveryEnvelope head;
+    private DeliveryEnvelope tail;
+    private long nextId;
+    private long depth;
+    private long enqueued;
+    private long delivered;
+    private long expired;
+
+    public DeliveryQueue(long tickMillis, LongSupplier clock) {
+        this.clock = clock;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, clock.getAsLong());
+    }
+
+    /**
+     * Enqueues the message until it is polled or its time to live runs out.
+     *
+     * @return the envelope, or {@code null} if the message was already expired on arrival
+     */
+    public DeliveryEnvelope enqueue(DevOpsRequest request) {
+        long now = clock.getAsLong();
+        return enqueue(request, now, now + request.getTimeToLifeSec() * 1000L);
+    }
+
+    /**
+     * Enqueues a message that keeps an expiry set earlier, such as one replayed from the journal.
+     *
+     * @return the envelope, or {@code null} if {@code expiresAtMillis} has already passed
+     */
+    public DeliveryEnvelope enqueue(DevOpsRequest request, long expiresAtMillis) {
+        return enqueue(request, clock.getAsLong(), expiresAtMillis);
+    }
+
+    @Override
+    public void offer(DevOpsRequest request) {
+        enqueue(request);
+    }
+
+    @Override
+    public void offer(DevOpsRequest request, long expiresAtMillis) {
+        enqueue(request, expiresAtMillis);
+    }
+
+    private DeliveryEnvelope enqueue(DevOpsRequest request, long now, long expiresAt) {
+        lock.lock();
+        try {
+            DeliveryEnvelope envelope = new DeliveryEnvelope(++nextId, request, now, expiresAt);
+            enqueued++;
+            if (!wheel.schedule(envelope, expiresAt)) {
+                expired++;
+                release(request);
+                return null;
+            }
+            envelope.queuePrev = tail;
+            if (tail != null) {
+                tail.queueNext = envelope;
+            } else {
+                head = envelope;
+            }
+            tail = envelope;
+            depth++;
+            return envelope;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the oldest pending message, or returns {@code null} if none is pending. The caller then owns
+     * a spooled message body and releases it once delivered.
+     */
+    public DeliveryEnvelope poll() {
+        lock.lock();
+        try {
+            DeliveryEnvelope envelope = head;
+            if (envelope == null) {
+                return null;
+            }
+            unlink(envelope);
+            wheel.cancel(envelope);
+            delivered++;
+            return envelope;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Advances the timing wheel to the current time and drops every message whose time to live ran out.
+     */
+    public void expire() {
+        long now = clock.getAsLong();
+        lock.lock();
+        try {
+            wheel.advance(now, envelope -> {
+                unlink(envelope);
+                expired++;
+                release(envelope.getRequest());
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Expired messages have no reader left, so a spooled body is deleted here; polled ones belong to the caller.
+    // A failure is only logged: this runs once per entry of a drained wheel slot, which must be drained whole.
+    private static void release(DevOpsRequest request) {
+        if (!request.hasSpooledMessage()) {
+            return;
+        }
+        try {
+            request.getMessageBody().release();
+        } catch (RuntimeException e) {
+            log.warn("Cannot release expired message body {}", request.getMessageBody(), e);
+        }
+    }
+
+    public DeliveryStats getStats() {
+        lock.lock();
+        try {
+            return new DeliveryStats(depth, enqueued, delivered, expired);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("devops.delivery.queue.depth", this, queue -> queue.getStats().depth())
+                .description("Messages waiting for delivery")
+                .register(registry);
+        FunctionCounter.builder("devops.delivery.enqueued", this, queue -> queue.getStats().enqueued())
+                .description("Messages accepted into the delivery queue")
+                .register(registry);
+        FunctionCounter.builder("devops.delivery.delivered", this, queue -> queue.getStats().delivered())
+                .description("Messages taken from the delivery queue")
+                .register(registry);
+        FunctionCounter.builder("devops.delivery.expired", this, queue -> queue.getStats().expired())
+                .description("Messages dropped after their timeToLifeSec")
+                .register(registry);
+    }
+
+    private void unlink(DeliveryEnvelope envelope) {
+        if (envelope.queuePrev != null) {
+            envelope.queuePrev.queueNext = envelope.queueNext;
+        } else {
+            head = envelope.queueNext;
+        }
+        if (envelope.queueNext != null) {
+            envelope.queueNext.queuePrev = envelope.queuePrev;
+        } else {
+            tail = envelope.queuePrev;
+        }
+        envelope.queuePrev = null;
+        envelope.queueNext = null;
+        depth--;
+    }
+}
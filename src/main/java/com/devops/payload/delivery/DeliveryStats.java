@@ -0,0 +1,4 @@
+package com.devops.payload.delivery;
+
+public record DeliveryStats(long depth, long enqueued, long delivered, long expired) {
+}
@@ -0,0 +1,208 @@
+package com.devops.payload.delivery;
+
+import java.util.function.Consumer;
+
+/**
+ * Hashed hierarchical timing wheel (Varghese &amp; Lauck) with {@value #LEVELS} levels of
+ * {@value #WHEEL_SIZE} slots. Scheduling and cancelling are O(1); advancing costs O(1) per tick
+ * plus the entries that expire or cascade down a level, and runs of ticks with nothing due on the
+ * lower levels are skipped. Entries are intrusive doubly linked list nodes, so no per-schedule
+ * allocation happens inside the wheel.
+ *
+ * <p>Not thread-safe: callers serialize access.
+ */
+public class HierarchicalTimingWheel<E extends HierarchicalTimingWheel.Entry> {
+
+    static final int SLOT_BITS = 6;
+    static final int WHEEL_SIZE = 1 << SLOT_BITS;
+    static final int SLOT_MASK = WHEEL_SIZE - 1;
+    static final int LEVELS = 6;
+    static final long SPAN_TICKS = 1L << (SLOT_BITS * LEVELS);
+
+    private final long tickMillis;
+    private final Bucket[][] buckets = new Bucket[LEVELS][WHEEL_SIZE];
+    private final int[] levelCounts = new int[LEVELS];
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                buckets[level][slot] = new Bucket(level);
+            }
+        }
+    }
+
+    /**
+     * Schedules {@code entry} to expire once the wheel has advanced past {@code deadlineMillis}.
+     *
+     * @return {@code false} if the deadline is not in the future, in which case nothing is scheduled
+     */
+    public boolean schedule(E entry, long deadlineMillis) {
+        if (entry.bucket != null) {
+            throw new IllegalStateException("Entry is already scheduled");
+        }
+        long deadlineTick = Math.ceilDiv(deadlineMillis, tickMillis);
+        if (deadlineTick <= currentTick) {
+            return false;
+        }
+        entry.deadlineTick = deadlineTick;
+        place(entry);
+        size++;
+        return true;
+    }
+
+    public boolean cancel(E entry) {
+        if (entry.bucket == null) {
+            return false;
+        }
+        levelCounts[entry.bucket.level]--;
+        entry.bucket.remove(entry);
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel to {@code nowMillis}, handing every entry whose deadline has passed to
+     * {@code onExpired}. Entries are already unscheduled when the callback runs.
+     */
+    @SuppressWarnings("unchecked")
+    public void advance(long nowMillis, Consumer<? super E> onExpired) {
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                currentTick = targetTick;
+                return;
+            }
+            skipIdleTicks(targetTick);
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level, onExpired);
+                }
+            }
+            Entry entry = detach(0, (int) (currentTick & SLOT_MASK));
+            while (entry != null) {
+                Entry next = entry.next;
+                entry.next = null;
+                size--;
+                onExpired.accept((E) entry);
+                entry = next;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * While the levels below {@code k} are empty nothing can expire or cascade before the next
+     * multiple of {@code WHEEL_SIZE^k} ticks, so the wheel jumps to just before it.
+     */
+    private void skipIdleTicks(long targetTick) {
+        int level = 0;
+        while (level < LEVELS - 1 && levelCounts[level] == 0) {
+            level++;
+        }
+        if (level == 0) {
+            return;
+        }
+        long boundary = ((currentTick >>> (SLOT_BITS * level)) + 1) << (SLOT_BITS * level);
+        currentTick = Math.max(currentTick, Math.min(targetTick, boundary) - 1);
+    }
+
+    private Entry detach(int level, int slot) {
+        Bucket bucket = buckets[level][slot];
+        Entry first = bucket.head;
+        bucket.head = null;
+        for (Entry entry = first; entry != null; entry = entry.next) {
+            entry.bucket = null;
+            entry.prev = null;
+            levelCounts[level]--;
+        }
+        return first;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void cascade(int level, Consumer<? super E> onExpired) {
+        Entry entry = detach(level, (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK));
+        while (entry != null) {
+            Entry next = entry.next;
+            entry.next = null;
+            if (entry.deadlineTick <= currentTick) {
+                size--;
+                onExpired.accept((E) entry);
+            } else {
+                place(entry);
+            }
+            entry = next;
+        }
+    }
+
+    private void place(Entry entry) {
+        long delta = entry.deadlineTick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        // Deadlines beyond the top level's span park in its furthest slot and are re-placed on cascade.
+        long slotTick = delta >= SPAN_TICKS ? currentTick + SPAN_TICKS - 1 : entry.deadlineTick;
+        levelCounts[level]++;
+        buckets[level][(int) ((slotTick >>> (SLOT_BITS * level)) & SLOT_MASK)].add(entry);
+    }
+
+    /**
+     * Intrusive wheel node; extend it to make a type schedulable.
+     */
+    public static class Entry {
+
+        long deadlineTick;
+        Entry prev;
+        Entry next;
+        Bucket bucket;
+
+        public boolean isScheduled() {
+            return bucket != null;
+        }
+    }
+
+    private static final class Bucket {
+
+        private final int level;
+        private Entry head;
+
+        Bucket(int level) {
+            this.level = level;
+        }
+
+        void add(Entry entry) {
+            entry.bucket = this;
+            entry.prev = null;
+            entry.next = head;
+            if (head != null) {
+                head.prev = entry;
+            }
+            head = entry;
+        }
+
+        void remove(Entry entry) {
+            if (entry.prev != null) {
+                entry.prev.next = entry.next;
+            } else {
+                head = entry.next;
+            }
+            if (entry.next != null) {
+                entry.next.prev = entry.prev;
+            }
+            entry.prev = null;
+            entry.next = null;
+            entry.bucket = null;
+        }
+    }
+}
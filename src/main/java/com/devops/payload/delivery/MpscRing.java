@@ -0,0 +1,108 @@
+package com.devops.payload.delivery;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free ring for many producers and a single consumer. Producers claim a slot by CAS on
+ * the producer index and publish the element with a release store; the consumer reads slots in index
+ * order, so elements come out in the order their slots were claimed.
+ */
+final class MpscRing<E> {
+
+    private static final VarHandle PRODUCER_INDEX;
+    private static final VarHandle CONSUMER_INDEX;
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            PRODUCER_INDEX = lookup.findVarHandle(MpscRing.class, "producerIndex", long.class);
+            CONSUMER_INDEX = lookup.findVarHandle(MpscRing.class, "consumerIndex", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] slots;
+    private final int mask;
+
+    private volatile long producerIndex;
+    private volatile long consumerIndex;
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    MpscRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new Object[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * @return {@code false} if the ring is full
+     */
+    boolean offer(E element) {
+        long index;
+        do {
+            index = producerIndex;
+            if (index - consumerIndex >= slots.length) {
+                return false;
+            }
+        } while (!PRODUCER_INDEX.compareAndSet(this, index, index + 1));
+        SLOTS.setRelease(slots, (int) (index & mask), element);
+        return true;
+    }
+
+    /**
+     * Consumer only. Returns {@code null} when empty; waits briefly for a slot that is claimed but not
+     * yet published.
+     */
+    @SuppressWarnings("unchecked")
+    E poll() {
+        long index = consumerIndex;
+        int offset = (int) (index & mask);
+        Object element = SLOTS.getAcquire(slots, offset);
+        if (element == null) {
+            if (index == producerIndex) {
+                return null;
+            }
+            do {
+                Thread.onSpinWait();
+                element = SLOTS.getAcquire(slots, offset);
+            } while (element == null);
+        }
+        SLOTS.setOpaque(slots, offset, null);
+        CONSUMER_INDEX.setRelease(this, index + 1);
+        return (E) element;
+    }
+
+    /**
+     * Consumer only. Hands up to {@code limit} elements to {@code consumer}.
+     *
+     * @return how many elements were drained
+     */
+    int drain(Consumer<E> consumer, int limit) {
+        int drained = 0;
+        E element;
+        while (drained < limit && (element = poll()) != null) {
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    int size() {
+        long consumer = consumerIndex;
+        return (int) Math.max(0, producerIndex - consumer);
+    }
+
+    boolean isEmpty() {
+        return producerIndex == consumerIndex;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+}
@@ -0,0 +1,16 @@
+package com.devops.payload.delivery;
+
+import com.devops.payload.model.DevOpsRequest;
+
+/**
+ * Where accepted messages wait for delivery until their {@code timeToLifeSec} runs out.
+ */
+public interface Outbox {
+
+    void offer(DevOpsRequest request);
+
+    /**
+     * Offers a message that keeps an expiry set earlier, such as one replayed from the journal.
+     */
+    void offer(DevOpsRequest request, long expiresAtMillis);
+}
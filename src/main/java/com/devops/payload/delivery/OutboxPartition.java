@@ -0,0 +1,111 @@
+package com.devops.payload.delivery;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+import com.devops.payload.model.DevOpsRequest;
+
+/**
+ * One lane of a {@link PartitionedOutbox}: request threads offer into a lock-free {@link MpscRing} and a
+ * dedicated worker, the only consumer, moves messages in ring order into the lane's own
+ * {@link DeliveryQueue} and ticks its expiry. The worker parks when the ring is empty.
+ */
+final class OutboxPartition {
+
+    private static final int DRAIN_BATCH = 256;
+    private static final long FULL_RING_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final MpscRing<Entry> ring;
+    private final DeliveryQueue queue;
+    private final LongSupplier clock;
+    private final long tickMillis;
+    private final LongAdder offered = new LongAdder();
+    private final LongAdder ringFull = new LongAdder();
+    private final Thread worker;
+
+    private long lastTick;
+    private volatile boolean running = true;
+    private volatile boolean parked;
+
+    private record Entry(DevOpsRequest request, long expiresAtMillis) {
+    }
+
+    OutboxPartition(int index, int ringCapacity, long tickMillis, LongSupplier clock) {
+        this.ring = new MpscRing<>(ringCapacity);
+        this.queue = new DeliveryQueue(tickMillis, clock);
+        this.clock = clock;
+        this.tickMillis = tickMillis;
+        this.lastTick = clock.getAsLong();
+        this.worker = Thread.ofPlatform().name("devops-outbox-" + index).daemon().start(this::run);
+    }
+
+    /**
+     * Waits for space if the ring is full, so a slow lane pushes back on its producers only.
+     */
+    void offer(DevOpsRequest request, long expiresAtMillis) {
+        Entry entry = new Entry(request, expiresAtMillis);
+        offered.increment();
+        while (!ring.offer(entry)) {
+            ringFull.increment();
+            LockSupport.unpark(worker);
+            LockSupport.parkNanos(FULL_RING_PARK_NANOS);
+        }
+        if (parked) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private void run() {
+        long tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        while (running || !ring.isEmpty()) {
+            int moved = ring.drain(entry -> queue.enqueue(entry.request(), entry.expiresAtMillis()), DRAIN_BATCH);
+            long now = clock.getAsLong();
+            if (now - lastTick >= tickMillis) {
+                queue.expire();
+                lastTick = now;
+            }
+            if (moved == 0) {
+                parked = true;
+                if (ring.isEmpty() && running) {
+                    LockSupport.parkNanos(this, tickNanos);
+                }
+                parked = false;
+            }
+        }
+    }
+
+    DeliveryEnvelope poll() {
+        return queue.poll();
+    }
+
+    /**
+     * Messages offered and neither delivered nor expired yet, whether still in the ring or pending.
+     */
+    long depth() {
+        DeliveryStats stats = queue.getStats();
+        return offered.sum() - stats.delivered() - stats.expired();
+    }
+
+    DeliveryStats getStats() {
+        DeliveryStats stats = queue.getStats();
+        long offeredCount = offered.sum();
+        return new DeliveryStats(offeredCount - stats.delivered() - stats.expired(), offeredCount,
+                stats.delivered(), stats.expired());
+    }
+
+    long ringFullCount() {
+        return ringFull.sum();
+    }
+
+    void stop() {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
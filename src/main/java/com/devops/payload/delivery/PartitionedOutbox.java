@@ -0,0 +1,147 @@
+package com.devops.payload.delivery;
+
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.devops.payload.model.DevOpsRequest;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@link Outbox} split by recipient: {@link DevOpsRequest#getTo()} is hashed onto one of N
+ * {@link OutboxPartition lanes}, one per core by default. Each lane has a single consumer, so messages
+ * to the same recipient keep their order while different recipients are handled in parallel and
+ * request threads never share a lock. Workers start with the bean, so messages replayed from the
+ * journal during startup are already drained.
+ */
+@Component
+public class PartitionedOutbox implements Outbox, MeterBinder, AutoCloseable {
+
+    private final OutboxPartition[] partitions;
+    private final LongSupplier clock;
+
+    @Autowired
+    public PartitionedOutbox(@Value("${payload.outbox.partitions:0}") int partitions,
+            @Value("${payload.outbox.ring-capacity:65536}") int ringCapacity,
+            @Value("${payload.delivery.tick-millis:100}") long tickMillis) {
+        this(partitions > 0 ? partitions : Runtime.getRuntime().availableProcessors(), ringCapacity, tickMillis,
+                System::currentTimeMillis);
+    }
+
+    public PartitionedOutbox(int partitions, int ringCapacity, long tickMillis, LongSupplier clock) {
+        this.clock = clock;
+        this.partitions = new OutboxPartition[partitions];
+        for (int i = 0; i < partitions; i++) {
+            this.partitions[i] = new OutboxPartition(i, ringCapacity, tickMillis, clock);
+        }
+    }
+
+    @Override
+    public void offer(DevOpsRequest request) {
+        offer(request, clock.getAsLong() + request.getTimeToLifeSec() * 1000L);
+    }
+
+    @Override
+    public void offer(DevOpsRequest request, long expiresAtMillis) {
+        partitions[partitionOf(request.getTo())].offer(request, expiresAtMillis);
+    }
+
+    public int partitionOf(String to) {
+        int hash = to == null ? 0 : to.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), partitions.length);
+    }
+
+    public int getPartitionCount() {
+        return partitions.length;
+    }
+
+    /**
+     * Removes the oldest pending message of one lane, or returns {@code null} if none is pending.
+     */
+    public DeliveryEnvelope poll(int partition) {
+        return partitions[partition].poll();
+    }
+
+    public long getDepth(int partition) {
+        return partitions[partition].depth();
+    }
+
+    /**
+     * Deepest lane over the mean lane depth: 1 when balanced, up to the number of lanes when one lane
+     * holds everything, 0 when empty.
+     */
+    public double getImbalance() {
+        long total = 0;
+        long max = 0;
+        for (OutboxPartition partition : partitions) {
+            long depth = partition.depth();
+            total += depth;
+            max = Math.max(max, depth);
+        }
+        return total == 0 ? 0.0 : (double) max * partitions.length / total;
+    }
+
+    /**
+     * Totals over all lanes; depth includes messages still in the rings.
+     */
+    public DeliveryStats getStats() {
+        long depth = 0;
+        long enqueued = 0;
+        long delivered = 0;
+        long expired = 0;
+        for (OutboxPartition partition : partitions) {
+            DeliveryStats stats = partition.getStats();
+            depth += stats.depth();
+            enqueued += stats.enqueued();
+            delivered += stats.delivered();
+            expired += stats.expired();
+        }
+        return new DeliveryStats(depth, enqueued, delivered, expired);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("devops.delivery.queue.depth", this, outbox -> outbox.getStats().depth())
+                .description("Messages waiting for delivery")
+                .register(registry);
+        FunctionCounter.builder("devops.delivery.enqueued", this, outbox -> outbox.getStats().enqueued())
+                .description("Messages accepted into the outbox")
+                .register(registry);
+        FunctionCounter.builder("devops.delivery.delivered", this, outbox -> outbox.getStats().delivered())
+                .description("Messages taken from the outbox")
+                .register(registry);
+        FunctionCounter.builder("devops.delivery.expired", this, outbox -> outbox.getStats().expired())
+                .description("Messages dropped after their timeToLifeSec")
+                .register(registry);
+        for (int i = 0; i < partitions.length; i++) {
+            OutboxPartition partition = partitions[i];
+            Gauge.builder("devops.outbox.partition.depth", partition, OutboxPartition::depth)
+                    .tag("partition", Integer.toString(i))
+                    .description("Messages waiting in one outbox lane")
+                    .register(registry);
+            FunctionCounter.builder("devops.outbox.ring.full", partition, OutboxPartition::ringFullCount)
+                    .tag("partition", Integer.toString(i))
+                    .description("Offers that waited for space in a full lane ring")
+                    .register(registry);
+        }
+        Gauge.builder("devops.outbox.imbalance", this, PartitionedOutbox::getImbalance)
+                .description("Deepest outbox lane over the mean lane depth")
+                .register(registry);
+    }
+
+    /**
+     * Stops the workers once they have drained their rings.
+     */
+    @Override
+    public void close() {
+        for (OutboxPartition partition : partitions) {
+            partition.stop();
+        }
+    }
+}
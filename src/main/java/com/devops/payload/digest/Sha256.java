@@ -0,0 +1,98 @@
+package com.devops.payload.digest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.devops.payload.pool.BoundedPool;
+
+/**
+ * SHA-256 of strings as four big-endian longs, the form in which API key and token digests are
+ * stored and compared. ASCII input, the common case for keys and tokens, is hashed from a pooled
+ * buffer without encoding the string.
+ */
+public final class Sha256 {
+
+    public static final int WORDS = 4;
+
+    /** Inputs longer than this are hashed from a one-off buffer, so pooled buffers stay small. */
+    static final int MAX_POOLED_INPUT = 4096;
+
+    private static final BoundedPool<Scratch> SCRATCH = new BoundedPool<>(BoundedPool.defaultCapacity(),
+            Scratch::new);
+
+    private Sha256() {
+    }
+
+    /**
+     * Digests {@code value} into {@code words[0..3]}.
+     */
+    public static void digest(String value, long[] words) {
+        Scratch scratch = SCRATCH.acquire();
+        try {
+            scratch.digest(value, words);
+        } finally {
+            SCRATCH.release(scratch);
+        }
+    }
+
+    public static long[] digest(String value) {
+        long[] words = new long[WORDS];
+        digest(value, words);
+        return words;
+    }
+
+    private static final class Scratch {
+
+        private final MessageDigest messageDigest;
+        private final byte[] output = new byte[32];
+        private byte[] input = new byte[512];
+
+        Scratch() {
+            try {
+                messageDigest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+
+        void digest(String value, long[] words) {
+            byte[] bytes = ascii(value);
+            if (bytes == null) {
+                messageDigest.update(value.getBytes(StandardCharsets.UTF_8));
+            } else {
+                messageDigest.update(bytes, 0, value.length());
+            }
+            try {
+                messageDigest.digest(output, 0, output.length);
+            } catch (DigestException e) {
+                messageDigest.reset();
+                throw new IllegalStateException("SHA-256 digest failed", e);
+            }
+            for (int w = 0; w < WORDS; w++) {
+                long word = 0;
+                for (int i = w * 8; i < w * 8 + 8; i++) {
+                    word = word << 8 | (output[i] & 0xFF);
+                }
+                words[w] = word;
+            }
+        }
+
+        private byte[] ascii(String value) {
+            int length = value.length();
+            if (input.length < length && length <= MAX_POOLED_INPUT) {
+                input = new byte[Math.min(MAX_POOLED_INPUT, Math.max(length, input.length * 2))];
+            }
+            byte[] buffer = length <= input.length ? input : new byte[length];
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c >= 0x80) {
+                    return null;
+                }
+                buffer[i] = (byte) c;
+            }
+            return buffer;
+        }
+    }
+}
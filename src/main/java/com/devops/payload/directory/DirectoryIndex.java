@@ -0,0 +1,265 @@
+package com.devops.payload.directory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+/**
+ * Read-only set of known addresses in one memory-mapped file, so its size costs page cache rather than
+ * heap. Addresses are compared trimmed and lower-cased. The file is laid out as:
+ *
+ * <pre>
+ * header  64 bytes: magic, Bloom hash count, entries, slot count, Bloom bits, key bytes,
+ *                   size and modification time of the source file it was built from
+ * bloom   Bloom filter bits, about 10 per entry
+ * slots   open-addressing table at most half full, one long per slot:
+ *         upper 32 bits of the address hash, key offset / 4 + 1 (0 = empty)
+ * keys    uint16 length + UTF-8 bytes per address, 4-byte aligned
+ * </pre>
+ *
+ * A lookup checks the Bloom filter first, so most unknown addresses touch a few bits and never reach the
+ * slot table; hits are confirmed by comparing the stored bytes, so the answer is exact.
+ */
+public final class DirectoryIndex {
+
+    /**
+     * How a lookup ended; {@link #FILTERED} means the Bloom filter alone ruled the address out.
+     */
+    public enum Lookup {
+        FILTERED,
+        MISSING,
+        FOUND
+    }
+
+    static final int HEADER_BYTES = 64;
+
+    private static final int MAGIC = 0x44495231;
+    private static final int BLOOM_BITS_PER_ENTRY = 10;
+    private static final int BLOOM_HASHES = 7;
+    private static final int MAX_ADDRESS_BYTES = 0xFFFF;
+
+    private final Path path;
+    private final MappedRegion region;
+    private final int bloomHashes;
+    private final long bloomMask;
+    private final long slotMask;
+    private final long slotsOffset;
+    private final long keysOffset;
+
+    private DirectoryIndex(Path path, MappedRegion region) throws IOException {
+        this.path = path;
+        this.region = region;
+        if (region.size() < HEADER_BYTES || (int) (region.getLong(0) >>> 32) != MAGIC) {
+            throw new IOException("Not a directory index: " + path);
+        }
+        this.bloomHashes = (int) region.getLong(0);
+        long slotCount = region.getLong(16);
+        long bloomBits = region.getLong(24);
+        this.bloomMask = bloomBits - 1;
+        this.slotMask = slotCount - 1;
+        this.slotsOffset = HEADER_BYTES + bloomBits / 8;
+        this.keysOffset = slotsOffset + slotCount * Long.BYTES;
+        if (keysOffset + region.getLong(32) > region.size()) {
+            throw new IOException("Truncated directory index: " + path);
+        }
+    }
+
+    public static DirectoryIndex open(Path file) throws IOException {
+        return open(file, MappedRegion.DEFAULT_CHUNK_BYTES);
+    }
+
+    static DirectoryIndex open(Path file, int chunkBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new DirectoryIndex(file, new MappedRegion(channel, FileChannel.MapMode.READ_ONLY,
+                    channel.size(), chunkBytes));
+        }
+    }
+
+    /**
+     * Builds an index of {@code source}, one address per line ({@code #} comments and blank lines
+     * skipped), into {@code target} and opens it. The source is streamed twice, once to size the tables
+     * and once to fill them, so heap use does not depend on its size. The file is written next to
+     * {@code target} and moved into place once complete.
+     */
+    public static DirectoryIndex build(Path source, Path target) throws IOException {
+        return build(source, target, MappedRegion.DEFAULT_CHUNK_BYTES);
+    }
+
+    static DirectoryIndex build(Path source, Path target, int chunkBytes) throws IOException {
+        long sourceSize = Files.size(source);
+        long sourceModifiedMillis = Files.getLastModifiedTime(source).toMillis();
+        long addresses = 0;
+        long keyBytes = 0;
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                byte[] key = sourceKey(line);
+                if (key != null) {
+                    addresses++;
+                    keyBytes += recordBytes(key.length);
+                }
+            }
+        }
+        if (keyBytes / 4 >= 0xFFFFFFFFL) {
+            throw new IOException("Directory source too large: " + source);
+        }
+        long slotCount = nextPowerOfTwo(Math.max(2, addresses * 2));
+        long bloomBits = nextPowerOfTwo(Math.max(Long.SIZE, addresses * BLOOM_BITS_PER_ENTRY));
+        long fileBytes = HEADER_BYTES + bloomBits / 8 + slotCount * Long.BYTES + keyBytes;
+
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedRegion region = new MappedRegion(channel, FileChannel.MapMode.READ_WRITE, fileBytes, chunkBytes);
+            region.putLong(0, ((long) MAGIC << 32) | BLOOM_HASHES);
+            region.putLong(16, slotCount);
+            region.putLong(24, bloomBits);
+            region.putLong(32, keyBytes);
+            region.putLong(40, sourceSize);
+            region.putLong(48, sourceModifiedMillis);
+            DirectoryIndex index = new DirectoryIndex(temporary, region);
+            long entries = 0;
+            long keyPosition = 0;
+            try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    byte[] key = sourceKey(line);
+                    if (key != null && index.add(key, keyPosition)) {
+                        entries++;
+                        keyPosition += recordBytes(key.length);
+                    }
+                }
+            }
+            region.putLong(8, entries);
+            region.force();
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return open(target, chunkBytes);
+    }
+
+    private boolean add(byte[] key, long keyPosition) {
+        long hash = hash(key);
+        long slot = findSlot(key, hash);
+        if (region.getLong(slot) != 0) {
+            return false;
+        }
+        long record = keysOffset + keyPosition;
+        region.putShort(record, key.length);
+        region.put(record + 2, key);
+        region.putLong(slot, (hash & 0xFFFFFFFF00000000L) | (keyPosition / 4 + 1));
+        long stride = mix(hash) | 1;
+        for (int i = 0; i < bloomHashes; i++) {
+            long bit = (hash + i * stride) & bloomMask;
+            long word = HEADER_BYTES + (bit >>> 6) * Long.BYTES;
+            region.putLong(word, region.getLong(word) | (1L << bit));
+        }
+        return true;
+    }
+
+    public boolean contains(String address) {
+        return lookup(address) == Lookup.FOUND;
+    }
+
+    public Lookup lookup(String address) {
+        byte[] key = key(address);
+        if (key == null) {
+            return Lookup.MISSING;
+        }
+        long hash = hash(key);
+        long stride = mix(hash) | 1;
+        for (int i = 0; i < bloomHashes; i++) {
+            long bit = (hash + i * stride) & bloomMask;
+            if ((region.getLong(HEADER_BYTES + (bit >>> 6) * Long.BYTES) & (1L << bit)) == 0) {
+                return Lookup.FILTERED;
+            }
+        }
+        return region.getLong(findSlot(key, hash)) != 0 ? Lookup.FOUND : Lookup.MISSING;
+    }
+
+    /**
+     * Offset of the slot holding {@code key}, or of the empty slot where it would go.
+     */
+    private long findSlot(byte[] key, long hash) {
+        long tag = hash >>> 32;
+        long slot = hash & slotMask;
+        while (true) {
+            long offset = slotsOffset + slot * Long.BYTES;
+            long value = region.getLong(offset);
+            if (value == 0 || (value >>> 32 == tag && keyEquals(((value & 0xFFFFFFFFL) - 1) * 4, key))) {
+                return offset;
+            }
+            slot = (slot + 1) & slotMask;
+        }
+    }
+
+    private boolean keyEquals(long keyPosition, byte[] key) {
+        long record = keysOffset + keyPosition;
+        if (region.getShort(record) != key.length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (region.get(record + 2 + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long size() {
+        return region.getLong(8);
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Whether this index was built from {@code source} as it is now, judged by size and modification time.
+     */
+    public boolean isBuiltFrom(Path source) throws IOException {
+        return region.getLong(40) == Files.size(source)
+                && region.getLong(48) == Files.getLastModifiedTime(source).toMillis();
+    }
+
+    private static byte[] sourceKey(String line) {
+        return line.strip().startsWith("#") ? null : key(line);
+    }
+
+    private static byte[] key(String address) {
+        if (address == null) {
+            return null;
+        }
+        String normalized = address.strip().toLowerCase(Locale.ROOT);
+        byte[] key = normalized.getBytes(StandardCharsets.UTF_8);
+        return key.length == 0 || key.length > MAX_ADDRESS_BYTES ? null : key;
+    }
+
+    private static long recordBytes(int keyLength) {
+        return (2L + keyLength + 3) & ~3L;
+    }
+
+    private static long nextPowerOfTwo(long value) {
+        return value <= 1 ? 1 : Long.highestOneBit(value - 1) << 1;
+    }
+
+    // FNV-1a over the UTF-8 bytes, finished with the MurmurHash3 mixer so every bit depends on every byte.
+    private static long hash(byte[] key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            hash = (hash ^ (b & 0xFF)) * 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+}
@@ -0,0 +1,8 @@
+package com.devops.payload.directory;
+
+/**
+ * Point-in-time counters of a {@link RecipientDirectory}; {@code filtered} lookups were answered by the
+ * Bloom filter without touching the index table.
+ */
+public record DirectoryStats(long entries, long lookups, long filtered, long unknown, long rebuilds) {
+}
@@ -0,0 +1,75 @@
+package com.devops.payload.directory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A file range mapped as consecutive {@link MappedByteBuffer} chunks, so regions larger than the 2 GB a
+ * single buffer can address stay off the heap. Offsets are absolute within the region; longs must be
+ * 8-byte aligned so they never straddle two chunks.
+ */
+final class MappedRegion {
+
+    static final int DEFAULT_CHUNK_BYTES = 1 << 30;
+
+    private final MappedByteBuffer[] chunks;
+    private final int chunkShift;
+    private final long chunkMask;
+    private final long size;
+
+    MappedRegion(FileChannel channel, FileChannel.MapMode mode, long size, int chunkBytes) throws IOException {
+        if (Integer.bitCount(chunkBytes) != 1 || chunkBytes < Long.BYTES) {
+            throw new IllegalArgumentException("Chunk size must be a power of two of at least 8 bytes");
+        }
+        this.size = size;
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkBytes);
+        this.chunkMask = chunkBytes - 1;
+        this.chunks = new MappedByteBuffer[(int) Math.max(1, Math.ceilDiv(size, chunkBytes))];
+        for (int i = 0; i < chunks.length; i++) {
+            long position = (long) i << chunkShift;
+            chunks[i] = channel.map(mode, position, Math.min(chunkBytes, size - position));
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    byte get(long offset) {
+        return chunks[(int) (offset >>> chunkShift)].get((int) (offset & chunkMask));
+    }
+
+    void put(long offset, byte value) {
+        chunks[(int) (offset >>> chunkShift)].put((int) (offset & chunkMask), value);
+    }
+
+    void put(long offset, byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            put(offset + i, bytes[i]);
+        }
+    }
+
+    long getLong(long offset) {
+        return chunks[(int) (offset >>> chunkShift)].getLong((int) (offset & chunkMask));
+    }
+
+    void putLong(long offset, long value) {
+        chunks[(int) (offset >>> chunkShift)].putLong((int) (offset & chunkMask), value);
+    }
+
+    int getShort(long offset) {
+        return ((get(offset) & 0xFF) << 8) | (get(offset + 1) & 0xFF);
+    }
+
+    void putShort(long offset, int value) {
+        put(offset, (byte) (value >>> 8));
+        put(offset + 1, (byte) value);
+    }
+
+    void force() {
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+    }
+}
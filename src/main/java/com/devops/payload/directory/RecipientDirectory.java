@@ -0,0 +1,164 @@
+package com.devops.payload.directory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Known {@code to}/{@code from} addresses, looked up in a {@link DirectoryIndex} built from a local file
+ * of one address per line. The source is checked on a schedule; when it changed, a new index is built
+ * on the scheduler thread and swapped in atomically, so lookups never wait for a rebuild. An index
+ * already built from the current source is reused across restarts.
+ */
+@Component
+@ConditionalOnProperty(name = "payload.directory.enabled", havingValue = "true")
+public class RecipientDirectory implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(RecipientDirectory.class);
+
+    private final Path source;
+    private final Path indexDirectory;
+    private final AtomicReference<DirectoryIndex> index = new AtomicReference<>();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder filtered = new LongAdder();
+    private final LongAdder unknown = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+
+    private long lastGeneration;
+
+    @Autowired
+    public RecipientDirectory(@Value("${payload.directory.source}") String source,
+            @Value("${payload.directory.index-directory:data/directory}") String indexDirectory) {
+        this(Path.of(source), Path.of(indexDirectory));
+    }
+
+    public RecipientDirectory(Path source, Path indexDirectory) {
+        this.source = source;
+        this.indexDirectory = indexDirectory;
+        try {
+            Files.createDirectories(indexDirectory);
+            index.set(loadOrBuild());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load directory index for " + source, e);
+        }
+    }
+
+    private DirectoryIndex loadOrBuild() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(indexDirectory)) {
+            files = listing.filter(file -> file.getFileName().toString().startsWith("directory-")).sorted().toList();
+        }
+        DirectoryIndex loaded = null;
+        for (Path file : files.reversed()) {
+            if (loaded == null && file.toString().endsWith(".idx")) {
+                try {
+                    DirectoryIndex candidate = DirectoryIndex.open(file);
+                    if (candidate.isBuiltFrom(source)) {
+                        loaded = candidate;
+                        lastGeneration = generationOf(file);
+                        log.info("Directory {}: reusing index {} with {} addresses", source, file, loaded.size());
+                        continue;
+                    }
+                } catch (IOException e) {
+                    log.warn("Ignoring unreadable directory index {}", file, e);
+                }
+            }
+            Files.deleteIfExists(file);
+        }
+        return loaded != null ? loaded : build();
+    }
+
+    private DirectoryIndex build() throws IOException {
+        long started = System.nanoTime();
+        lastGeneration = Math.max(lastGeneration + 1, System.currentTimeMillis());
+        DirectoryIndex built = DirectoryIndex.build(source,
+                indexDirectory.resolve(String.format("directory-%020d.idx", lastGeneration)));
+        log.info("Directory {}: indexed {} addresses in {} ms", source, built.size(),
+                (System.nanoTime() - started) / 1_000_000);
+        return built;
+    }
+
+    private static long generationOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring("directory-".length(), name.length() - ".idx".length()));
+    }
+
+    /**
+     * Rebuilds the index if the source file changed since the current one was built, then swaps it in.
+     * On failure the current index stays in use.
+     */
+    @Scheduled(fixedDelayString = "${payload.directory.refresh-interval-millis:60000}")
+    public synchronized void refresh() {
+        DirectoryIndex current = index.get();
+        try {
+            if (current.isBuiltFrom(source)) {
+                return;
+            }
+            index.set(build());
+            rebuilds.increment();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Cannot rebuild directory index from {}, keeping {}", source, current.path(), e);
+            return;
+        }
+        try {
+            // Lookups still running on the old index keep their mapping after the file is gone.
+            Files.deleteIfExists(current.path());
+        } catch (IOException e) {
+            log.warn("Cannot delete directory index {}", current.path(), e);
+        }
+    }
+
+    public boolean isKnown(String address) {
+        lookups.increment();
+        DirectoryIndex.Lookup result = index.get().lookup(address);
+        if (result == DirectoryIndex.Lookup.FOUND) {
+            return true;
+        }
+        if (result == DirectoryIndex.Lookup.FILTERED) {
+            filtered.increment();
+        }
+        unknown.increment();
+        return false;
+    }
+
+    public DirectoryStats getStats() {
+        return new DirectoryStats(index.get().size(), lookups.sum(), filtered.sum(), unknown.sum(), rebuilds.sum());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("devops.directory.entries", this, directory -> directory.getStats().entries())
+                .description("Addresses in the current directory index")
+                .register(registry);
+        FunctionCounter.builder("devops.directory.lookups", this, directory -> directory.getStats().lookups())
+                .description("Address lookups")
+                .register(registry);
+        FunctionCounter.builder("devops.directory.filtered", this, directory -> directory.getStats().filtered())
+                .description("Lookups ruled out by the Bloom filter alone")
+                .register(registry);
+        FunctionCounter.builder("devops.directory.unknown", this, directory -> directory.getStats().unknown())
+                .description("Lookups of addresses not in the directory")
+                .register(registry);
+        FunctionCounter.builder("devops.directory.rebuilds", this, directory -> directory.getStats().rebuilds())
+                .description("Index rebuilds after the source file changed")
+                .register(registry);
+    }
+}
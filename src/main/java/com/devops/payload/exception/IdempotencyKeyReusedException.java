@@ -0,0 +1,32 @@
+package com.devops.payload.exception;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    private final String idempotencyKey;
+
+    public IdempotencyKeyReusedException(String idempotencyKey) {
+        super();
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    private IdempotencyKeyReusedException(String idempotencyKey, boolean writableStackTrace) {
+        super(null, null, false, writableStackTrace);
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    /**
+     * Variant without stack trace for request-path rejections, where the trace is never read.
+     */
+    public static IdempotencyKeyReusedException stackless(String idempotencyKey) {
+        return new IdempotencyKeyReusedException(idempotencyKey, false);
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Idempotency-Key " + idempotencyKey + " was already used for a different request";
+    }
+}
@@ -9,6 +9,18 @@ public class InvalidApiKeyException extends RuntimeException {
         this.providedKey = providedKey;
     }
 
+    private InvalidApiKeyException(String providedKey, boolean writableStackTrace) {
+        super(null, null, false, writableStackTrace);
+        this.providedKey = providedKey;
+    }
+
+    /**
+     * Variant without stack trace for request-path rejections, where the trace is never read.
+     */
+    public static InvalidApiKeyException stackless(String providedKey) {
+        return new InvalidApiKeyException(providedKey, false);
+    }
+
     @Override
     public String getMessage() {
         return "Invalid API Key provided: " + (providedKey == null ? "null" : "***");
@@ -9,6 +9,18 @@ public class InvalidJwtException extends RuntimeException {
         this.token = token;
     }
 
+    private InvalidJwtException(String token, boolean writableStackTrace) {
+        super(null, null, false, writableStackTrace);
+        this.token = token;
+    }
+
+    /**
+     * Variant without stack trace for request-path rejections, where the trace is never read.
+     */
+    public static InvalidJwtException stackless(String token) {
+        return new InvalidJwtException(token, false);
+    }
+
     @Override
     public String getMessage() {
         return "Invalid or missing JWT token";
@@ -9,6 +9,18 @@ public class InvalidMethodException extends RuntimeException {
         this.method = method;
     }
 
+    private InvalidMethodException(String method, boolean writableStackTrace) {
+        super(null, null, false, writableStackTrace);
+        this.method = method;
+    }
+
+    /**
+     * Variant without stack trace for request-path rejections, where the trace is never read.
+     */
+    public static InvalidMethodException stackless(String method) {
+        return new InvalidMethodException(method, false);
+    }
+
     @Override
     public String getMessage() {
         return "Invalid HTTP method: " + method + ". Only POST is allowed.";
@@ -0,0 +1,16 @@
+package com.devops.payload.exception;
+
+/**
+ * The journal could not make a message durable, because of an I/O failure or because it is closed.
+ * Unlike the other exceptions here, this is a server fault and keeps its stack trace.
+ */
+public class JournalUnavailableException extends RuntimeException {
+
+    public JournalUnavailableException(String message) {
+        super(message);
+    }
+
+    public JournalUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,32 @@
+package com.devops.payload.exception;
+
+public class MessageTooLargeException extends RuntimeException {
+
+    private final long maxBytes;
+
+    public MessageTooLargeException(long maxBytes) {
+        super();
+        this.maxBytes = maxBytes;
+    }
+
+    private MessageTooLargeException(long maxBytes, boolean writableStackTrace) {
+        super(null, null, false, writableStackTrace);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Variant without stack trace for request-path rejections, where the trace is never read.
+     */
+    public static MessageTooLargeException stackless(long maxBytes) {
+        return new MessageTooLargeException(maxBytes, false);
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Message exceeds " + maxBytes + " bytes";
+    }
+}
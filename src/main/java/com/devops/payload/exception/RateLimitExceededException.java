@@ -0,0 +1,32 @@
+package com.devops.payload.exception;
+
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super();
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    private RateLimitExceededException(long retryAfterSeconds, boolean writableStackTrace) {
+        super(null, null, false, writableStackTrace);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Variant without stack trace for request-path rejections, where the trace is never read.
+     */
+    public static RateLimitExceededException stackless(long retryAfterSeconds) {
+        return new RateLimitExceededException(retryAfterSeconds, false);
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Rate limit exceeded, retry after " + retryAfterSeconds + "s";
+    }
+}
@@ -0,0 +1,32 @@
+package com.devops.payload.exception;
+
+public class UnknownRecipientException extends RuntimeException {
+
+    private final String address;
+
+    public UnknownRecipientException(String address) {
+        super();
+        this.address = address;
+    }
+
+    private UnknownRecipientException(String address, boolean writableStackTrace) {
+        super(null, null, false, writableStackTrace);
+        this.address = address;
+    }
+
+    /**
+     * Variant without stack trace for request-path rejections, where the trace is never read.
+     */
+    public static UnknownRecipientException stackless(String address) {
+        return new UnknownRecipientException(address, false);
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Unknown address: " + address;
+    }
+}
@@ -0,0 +1,131 @@
+package com.devops.payload.filter;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.devops.payload.concurrency.AdaptiveConcurrencyLimiter;
+import com.devops.payload.metrics.RejectionCause;
+import com.devops.payload.metrics.RequestStageMetrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Holds {@code POST /DevOps} to the {@link AdaptiveConcurrencyLimiter}. Requests over the limit get a
+ * 503 before the body is read; admitted ones report how long the rest of the chain took once the body
+ * was read to the end, so a slow upload is not taken for a slow service. A request whose body was not
+ * read to the end only gives back its slot.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final RequestStageMetrics stageMetrics;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, RequestStageMetrics stageMetrics) {
+        this.limiter = limiter;
+        this.stageMetrics = stageMetrics;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            stageMetrics.reject(RejectionCause.CONCURRENCY_LIMIT);
+            FastRejectFilter.reject(response, HttpStatus.SERVICE_UNAVAILABLE);
+            return;
+        }
+        BodyTimingRequest timed = new BodyTimingRequest(request);
+        try {
+            filterChain.doFilter(timed, response);
+        } finally {
+            long bodyReadNanos = timed.bodyReadNanos();
+            if (bodyReadNanos != 0) {
+                limiter.release(System.nanoTime() - bodyReadNanos);
+            } else {
+                limiter.releaseWithoutSample();
+            }
+        }
+    }
+
+    /**
+     * Notes when the body was read to the end, or when the chain started for a request without one.
+     */
+    private static final class BodyTimingRequest extends HttpServletRequestWrapper {
+
+        private long bodyReadNanos;
+        private ServletInputStream body;
+
+        BodyTimingRequest(HttpServletRequest request) {
+            super(request);
+            if (request.getContentLengthLong() == 0) {
+                bodyReadNanos = System.nanoTime();
+            }
+        }
+
+        long bodyReadNanos() {
+            return bodyReadNanos;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (body == null) {
+                body = new TimedInputStream(super.getInputStream());
+            }
+            return body;
+        }
+
+        private final class TimedInputStream extends ServletInputStream {
+
+            private final ServletInputStream delegate;
+
+            TimedInputStream(ServletInputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public int read() throws IOException {
+                return ended(delegate.read());
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return ended(delegate.read(b, off, len));
+            }
+
+            private int ended(int read) {
+                if ((read < 0 || delegate.isFinished()) && bodyReadNanos == 0) {
+                    bodyReadNanos = System.nanoTime();
+                }
+                return read;
+            }
+
+            @Override
+            public boolean isFinished() {
+                return delegate.isFinished();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                delegate.setReadListener(readListener);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.devops.payload.filter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.devops.payload.apikey.ApiKeyInfo;
+import com.devops.payload.jwt.JwtClaims;
+import com.devops.payload.metrics.RejectionCause;
+import com.devops.payload.metrics.RequestStage;
+import com.devops.payload.metrics.RequestStageMetrics;
+import com.devops.payload.ratelimit.RateLimiter;
+import com.devops.payload.service.JwtService;
+import com.devops.payload.service.SecurityService;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Checks the credential headers of {@code POST /DevOps*} before the body is read. Rejections are
+ * written from a pre-encoded buffer without throwing, so a credential-stuffing burst costs neither
+ * JSON binding nor stack traces. Admitted requests carry their {@link ApiKeyInfo} and
+ * {@link JwtClaims} as request attributes, which the controller then trusts. Each check is timed
+ * as its {@link RequestStage}.
+ */
+public class FastRejectFilter extends OncePerRequestFilter {
+
+    public static final String API_KEY_HEADER = "X-Parse-REST-API-Key";
+    public static final String JWT_HEADER = "X-JWT-KWY";
+
+    private static final byte[] ERROR_BODY = "ERROR".getBytes(StandardCharsets.UTF_8);
+    private static final String ERROR_CONTENT_TYPE = "text/plain;charset=UTF-8";
+
+    private final SecurityService securityService;
+    private final JwtService jwtService;
+    private final RateLimiter rateLimiter;
+    private final RequestStageMetrics stageMetrics;
+
+    public FastRejectFilter(SecurityService securityService, JwtService jwtService, RateLimiter rateLimiter,
+            RequestStageMetrics stageMetrics) {
+        this.securityService = securityService;
+        this.jwtService = jwtService;
+        this.rateLimiter = rateLimiter;
+        this.stageMetrics = stageMetrics;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        String apiKey = request.getHeader(API_KEY_HEADER);
+        ApiKeyInfo apiKeyInfo = securityService.resolveApiKey(apiKey);
+        start = stageMetrics.record(RequestStage.API_KEY, start, request);
+        if (apiKeyInfo == null) {
+            stageMetrics.reject(RejectionCause.API_KEY);
+            reject(response, HttpStatus.UNAUTHORIZED);
+            return;
+        }
+        JwtClaims claims = jwtService.resolveJwt(request.getHeader(JWT_HEADER));
+        start = stageMetrics.record(RequestStage.JWT, start, request);
+        if (claims == null) {
+            stageMetrics.reject(RejectionCause.JWT);
+            reject(response, HttpStatus.UNAUTHORIZED);
+            return;
+        }
+        long waitNanos = rateLimiter.tryAcquire(apiKeyInfo);
+        stageMetrics.record(RequestStage.RATE_LIMIT, start, request);
+        if (waitNanos > 0) {
+            stageMetrics.reject(RejectionCause.RATE_LIMIT);
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(RateLimiter.toRetryAfterSeconds(waitNanos)));
+            reject(response, HttpStatus.TOO_MANY_REQUESTS);
+            return;
+        }
+
+        request.setAttribute(ApiKeyInfo.REQUEST_ATTRIBUTE, apiKeyInfo);
+        request.setAttribute(JwtClaims.REQUEST_ATTRIBUTE, claims);
+        filterChain.doFilter(request, response);
+    }
+
+    static void reject(HttpServletResponse response, HttpStatus status) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(ERROR_CONTENT_TYPE);
+        response.setContentLength(ERROR_BODY.length);
+        response.getOutputStream().write(ERROR_BODY);
+    }
+}
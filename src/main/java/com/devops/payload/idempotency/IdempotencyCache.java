@@ -0,0 +1,226 @@
+package com.devops.payload.idempotency;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.devops.payload.exception.IdempotencyKeyReusedException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Remembers which requests were processed, by {@link IdempotencyKey}, so that retried requests are
+ * answered without being processed again. Only the outcome is kept, not the encoded response: callers
+ * render a hit in whatever format and locale the retry asks for. A completed request is remembered for
+ * the time-to-live of its message; the total estimated size is capped, oldest first. Duplicates that
+ * arrive while the first request is still being processed wait for its outcome instead of running in
+ * parallel. A different request
+ * sent under an {@code Idempotency-Key} already in use fails with {@link IdempotencyKeyReusedException}.
+ */
+@Component
+public class IdempotencyCache implements MeterBinder {
+
+    /** Per-entry overhead on top of the key: entry, future, map and queue nodes. */
+    static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    private final boolean enabled;
+    private final long maxMemoryBytes;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<IdempotencyKey, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final LongAdder replays = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Autowired
+    public IdempotencyCache(@Value("${payload.idempotency.enabled:true}") boolean enabled,
+            @Value("${payload.idempotency.max-memory-bytes:67108864}") long maxMemoryBytes) {
+        this(enabled, maxMemoryBytes, System::currentTimeMillis);
+    }
+
+    public IdempotencyCache(boolean enabled, long maxMemoryBytes, LongSupplier clock) {
+        this.enabled = enabled;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns at once if {@code key} was processed, waits if the same key is being processed right now,
+     * or runs {@code action} and remembers its success for {@code timeToLifeSec}. A failed action is not
+     * remembered; callers waiting on it see the same exception.
+     *
+     * @throws IdempotencyKeyReusedException if {@code key} is remembered for a different request
+     */
+    public void execute(IdempotencyKey key, int timeToLifeSec, Runnable action) {
+        if (!enabled) {
+            action.run();
+            return;
+        }
+        await(executeAsync(key, timeToLifeSec, action));
+    }
+
+    /**
+     * Non-blocking form of {@link #execute(IdempotencyKey, int, Runnable)}: a duplicate of a
+     * request still in flight gets a future of its outcome instead of waiting for it.
+     */
+    public CompletableFuture<Void> executeAsync(IdempotencyKey key, int timeToLifeSec, Runnable action) {
+        if (!enabled) {
+            return run(action);
+        }
+        Entry fresh = new Entry(key);
+        while (true) {
+            Entry existing = entries.putIfAbsent(key, fresh);
+            if (existing == null) {
+                break;
+            }
+            if (existing.isExpired(clock.getAsLong())) {
+                discard(existing);
+                continue;
+            }
+            if (!existing.key.sameRequest(key)) {
+                return CompletableFuture.failedFuture(IdempotencyKeyReusedException.stackless(key.idempotencyKey()));
+            }
+            replays.increment();
+            return existing.outcome;
+        }
+
+        try {
+            action.run();
+        } catch (RuntimeException | Error e) {
+            entries.remove(key, fresh);
+            fresh.outcome.completeExceptionally(e);
+            return fresh.outcome;
+        }
+        fresh.outcome.complete(null);
+        retain(fresh, timeToLifeSec);
+        return fresh.outcome;
+    }
+
+    /**
+     * Drops expired entries, including from the eviction queue.
+     */
+    @Scheduled(fixedDelayString = "${payload.idempotency.purge-interval-millis:10000}")
+    public void purgeExpired() {
+        long now = clock.getAsLong();
+        insertionOrder.removeIf(entry -> {
+            if (entry.isExpired(now)) {
+                discard(entry);
+                return true;
+            }
+            return entries.get(entry.key) != entry;
+        });
+    }
+
+    public long size() {
+        return entries.size();
+    }
+
+    public long retainedBytes() {
+        return retainedBytes.get();
+    }
+
+    public long replayCount() {
+        return replays.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private void retain(Entry entry, int timeToLifeSec) {
+        if (timeToLifeSec <= 0) {
+            entries.remove(entry.key, entry);
+            return;
+        }
+        entry.weight = ENTRY_OVERHEAD_BYTES + entry.key.estimatedSize();
+        entry.expiresAtMillis = clock.getAsLong() + timeToLifeSec * 1000L;
+        retainedBytes.addAndGet(entry.weight);
+        insertionOrder.add(entry);
+        while (retainedBytes.get() > maxMemoryBytes) {
+            Entry oldest = insertionOrder.poll();
+            if (oldest == null) {
+                break;
+            }
+            if (discard(oldest)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private boolean discard(Entry entry) {
+        if (entries.remove(entry.key, entry)) {
+            retainedBytes.addAndGet(-entry.weight);
+            return true;
+        }
+        return false;
+    }
+
+    private static CompletableFuture<Void> run(Runnable action) {
+        try {
+            action.run();
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException | Error e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static void await(CompletableFuture<Void> outcome) {
+        try {
+            outcome.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("devops.idempotency.replays", replays, LongAdder::sum)
+                .description("Duplicate requests answered from a remembered or in-flight outcome")
+                .register(registry);
+        FunctionCounter.builder("devops.idempotency.evictions", evictions, LongAdder::sum)
+                .description("Remembered outcomes dropped before expiry to stay under the memory cap")
+                .register(registry);
+        Gauge.builder("devops.idempotency.entries", entries, ConcurrentHashMap::size)
+                .description("Remembered and in-flight requests")
+                .register(registry);
+        Gauge.builder("devops.idempotency.bytes", retainedBytes, AtomicLong::get)
+                .description("Estimated memory held by remembered requests")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private static final class Entry {
+
+        private final IdempotencyKey key;
+        private final CompletableFuture<Void> outcome = new CompletableFuture<>();
+        /** Written before the entry is published to the eviction queue, read after. */
+        private volatile long expiresAtMillis = Long.MAX_VALUE;
+        private volatile int weight;
+
+        Entry(IdempotencyKey key) {
+            this.key = key;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+    }
+}
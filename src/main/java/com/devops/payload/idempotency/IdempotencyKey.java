@@ -0,0 +1,123 @@
+package com.devops.payload.idempotency;
+
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Objects;
+
+import com.devops.payload.digest.Sha256;
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.MessageBody;
+
+/**
+ * Identity of a request for duplicate suppression, scoped to its tenant. Response format and locale are
+ * not part of it: a retry is the same request however it asks to be answered. A client supplied {@code Idempotency-Key} wins; otherwise the request content itself is the fingerprint,
+ * via {@link DevOpsRequest#equals(Object)}, so two different requests can never collide. A keyed request
+ * also carries the SHA-256 of its content, which is not part of its identity: {@link #sameRequest} tells
+ * a retry from a different request sent under the same key.
+ */
+public final class IdempotencyKey {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private final String tenant;
+    private final String idempotencyKey;
+    private final DevOpsRequest request;
+    private final long[] requestDigest;
+
+    private IdempotencyKey(String tenant, String idempotencyKey, DevOpsRequest request, long[] requestDigest) {
+        this.tenant = tenant;
+        this.idempotencyKey = idempotencyKey;
+        this.request = request;
+        this.requestDigest = requestDigest;
+    }
+
+    public static IdempotencyKey of(String tenant, String idempotencyKey, DevOpsRequest request) {
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            return new IdempotencyKey(tenant, idempotencyKey, null, digest(request));
+        }
+        return new IdempotencyKey(tenant, null, request, null);
+    }
+
+    public String tenant() {
+        return tenant;
+    }
+
+    public String idempotencyKey() {
+        return idempotencyKey;
+    }
+
+    /**
+     * The request content, or {@code null} for a keyed request.
+     */
+    public DevOpsRequest request() {
+        return request;
+    }
+
+    /**
+     * Whether {@code other}, equal to this key, was built from the same request content.
+     */
+    boolean sameRequest(IdempotencyKey other) {
+        return Arrays.equals(requestDigest, other.requestDigest);
+    }
+
+    /**
+     * Rough retained size in bytes, used for the cache memory cap.
+     */
+    int estimatedSize() {
+        int chars = length(tenant) + length(idempotencyKey);
+        if (request != null) {
+            // A spooled message is held by its digest only, and must not be read back here.
+            chars += (request.hasSpooledMessage() ? 32 : length(request.getMessage())) + length(request.getTo())
+                    + length(request.getFrom());
+        }
+        return 96 + 2 * chars + (requestDigest != null ? 8 * Sha256.WORDS : 0);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    // Fields are length-prefixed, so no two requests share a canonical form; a spooled message enters by
+    // the digest recorded while it was written rather than by reading the file back.
+    private static long[] digest(DevOpsRequest request) {
+        StringBuilder canonical = new StringBuilder();
+        append(canonical, request.getTo());
+        append(canonical, request.getFrom());
+        append(canonical, request.getTimeToLifeSec() == null ? null : request.getTimeToLifeSec().toString());
+        MessageBody message = request.getMessageBody();
+        if (message != null && message.isSpooled()) {
+            canonical.append('s');
+            append(canonical, HexFormat.of().formatHex(message.sha256()));
+        } else {
+            append(canonical, message == null ? null : message.asString());
+        }
+        return Sha256.digest(canonical.toString());
+    }
+
+    private static void append(StringBuilder canonical, String value) {
+        if (value == null) {
+            canonical.append('-');
+        } else {
+            canonical.append(value.length()).append(':').append(value);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tenant, idempotencyKey, request);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof IdempotencyKey other && Objects.equals(tenant, other.tenant)
+                && Objects.equals(idempotencyKey, other.idempotencyKey) && Objects.equals(request, other.request);
+    }
+
+    @Override
+    public String toString() {
+        return "IdempotencyKey [tenant=" + tenant + ", idempotencyKey=" + idempotencyKey + ", request=" + request + "]";
+    }
+}
@@ -0,0 +1,111 @@
+package com.devops.payload.ingest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Serves one TCP connection on its own virtual thread with blocking reads and writes. Every frame
+ * already received is handled before the replies are flushed together, so a pipelining client
+ * gets its responses in order and in as few writes as possible.
+ */
+final class IngestConnection implements Runnable {
+
+    private final SocketChannel channel;
+    private final IngestRequestHandler handler;
+    private final DirectBufferPool bufferPool;
+    private final LongAdder frames;
+    private final int maxFrameBytes;
+    private byte[] frame = new byte[1024];
+
+    IngestConnection(SocketChannel channel, IngestRequestHandler handler, DirectBufferPool bufferPool,
+            LongAdder frames) {
+        this.channel = channel;
+        this.handler = handler;
+        this.bufferPool = bufferPool;
+        this.frames = frames;
+        this.maxFrameBytes = bufferPool.bufferSize() - IngestFrames.LENGTH_PREFIX_BYTES;
+    }
+
+    @Override
+    public void run() {
+        ByteBuffer in = bufferPool.acquire();
+        ByteBuffer out = bufferPool.acquire();
+        try {
+            while (channel.read(in) >= 0) {
+                in.flip();
+                boolean valid = handleFrames(in, out);
+                in.compact();
+                flush(out);
+                if (!valid) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            // The peer went away or the listener is stopping; nothing left to answer.
+        } finally {
+            bufferPool.release(in);
+            bufferPool.release(out);
+            close();
+        }
+    }
+
+    /**
+     * Handles every complete frame in {@code in}. Returns {@code false} after answering a frame
+     * whose length prefix is out of range, since the stream cannot be resynchronized.
+     */
+    private boolean handleFrames(ByteBuffer in, ByteBuffer out) throws IOException {
+        while (in.remaining() >= IngestFrames.LENGTH_PREFIX_BYTES) {
+            int length = in.getInt(in.position());
+            if (length < 0 || length > maxFrameBytes) {
+                write(out, IngestReply.BAD_REQUEST);
+                return false;
+            }
+            if (in.remaining() < IngestFrames.LENGTH_PREFIX_BYTES + length) {
+                return true;
+            }
+            if (frame.length < length) {
+                frame = new byte[Math.max(length, frame.length * 2)];
+            }
+            in.position(in.position() + IngestFrames.LENGTH_PREFIX_BYTES);
+            in.get(frame, 0, length);
+            frames.increment();
+            write(out, handler.handle(frame, 0, length));
+        }
+        return true;
+    }
+
+    private void write(ByteBuffer out, IngestReply reply) throws IOException {
+        int length = IngestFrames.responseFrameLength(reply);
+        if (out.remaining() < length) {
+            flush(out);
+        }
+        if (out.remaining() >= length) {
+            IngestFrames.writeResponse(out, reply);
+            return;
+        }
+        ByteBuffer large = ByteBuffer.allocate(length);
+        IngestFrames.writeResponse(large, reply);
+        writeFully(large.flip());
+    }
+
+    private void flush(ByteBuffer out) throws IOException {
+        writeFully(out.flip());
+        out.clear();
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Already closed.
+        }
+    }
+}
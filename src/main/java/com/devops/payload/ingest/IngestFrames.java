@@ -0,0 +1,65 @@
+package com.devops.payload.ingest;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.devops.payload.codec.DevOpsProtobufCodec;
+import com.devops.payload.model.DevOpsRequest;
+
+/**
+ * Wire format of the TCP ingestion listener. Every frame starts with its length as a big-endian
+ * {@code int32}, not counting those four bytes.
+ * <pre>
+ * request:  uint16 n + API key, uint16 n + JWT, uint16 n + Idempotency-Key (n = 0: none),
+ *           then DevOpsRequest in protobuf encoding (src/main/proto/devops.proto)
+ * response: uint16 status (HTTP codes: 200, 400, 401, 429), uint32 Retry-After seconds,
+ *           then DevOpsResponse in protobuf encoding on 200, or "ERROR"
+ * </pre>
+ * Requests may be pipelined; responses come back in request order.
+ */
+public final class IngestFrames {
+
+    public static final int LENGTH_PREFIX_BYTES = 4;
+    public static final int RESPONSE_HEADER_BYTES = 6;
+
+    private IngestFrames() {
+    }
+
+    /** Encodes a complete request frame, length prefix included. */
+    public static byte[] encodeRequest(String apiKey, String jwt, String idempotencyKey, DevOpsRequest request) {
+        byte[] apiKeyBytes = bytes(apiKey);
+        byte[] jwtBytes = bytes(jwt);
+        byte[] idempotencyKeyBytes = bytes(idempotencyKey);
+        byte[] body = DevOpsProtobufCodec.writeRequest(request);
+        int length = 6 + apiKeyBytes.length + jwtBytes.length + idempotencyKeyBytes.length + body.length;
+        ByteBuffer frame = ByteBuffer.allocate(LENGTH_PREFIX_BYTES + length).putInt(length);
+        putField(frame, apiKeyBytes);
+        putField(frame, jwtBytes);
+        putField(frame, idempotencyKeyBytes);
+        return frame.put(body).array();
+    }
+
+    /** Writes a complete response frame, length prefix included. */
+    static void writeResponse(ByteBuffer out, IngestReply reply) {
+        out.putInt(RESPONSE_HEADER_BYTES + reply.body().length)
+                .putShort((short) reply.status())
+                .putInt((int) reply.retryAfterSeconds())
+                .put(reply.body());
+    }
+
+    static int responseFrameLength(IngestReply reply) {
+        return LENGTH_PREFIX_BYTES + RESPONSE_HEADER_BYTES + reply.body().length;
+    }
+
+    private static byte[] bytes(String value) {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Header field exceeds 65535 bytes");
+        }
+        return bytes;
+    }
+
+    private static void putField(ByteBuffer frame, byte[] bytes) {
+        frame.putShort((short) bytes.length).put(bytes);
+    }
+}
@@ -0,0 +1,24 @@
+package com.devops.payload.ingest;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Outcome of one ingested frame, with the status code the HTTP endpoint would have returned.
+ */
+public record IngestReply(int status, long retryAfterSeconds, byte[] body) {
+
+    private static final byte[] ERROR_BODY = "ERROR".getBytes(StandardCharsets.UTF_8);
+
+    static final IngestReply BAD_REQUEST = new IngestReply(400, 0, ERROR_BODY);
+    static final IngestReply UNAUTHORIZED = new IngestReply(401, 0, ERROR_BODY);
+    static final IngestReply UNPROCESSABLE_ENTITY = new IngestReply(422, 0, ERROR_BODY);
+    static final IngestReply SERVICE_UNAVAILABLE = new IngestReply(503, 0, ERROR_BODY);
+
+    static IngestReply ok(byte[] body) {
+        return new IngestReply(200, 0, body);
+    }
+
+    static IngestReply tooManyRequests(long retryAfterSeconds) {
+        return new IngestReply(429, retryAfterSeconds, ERROR_BODY);
+    }
+}
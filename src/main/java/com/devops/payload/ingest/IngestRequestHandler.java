@@ -0,0 +1,107 @@
+package com.devops.payload.ingest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.devops.payload.apikey.ApiKeyInfo;
+import com.devops.payload.codec.DevOpsProtobufCodec;
+import com.devops.payload.codec.ResponseFormat;
+import com.devops.payload.exception.IdempotencyKeyReusedException;
+import com.devops.payload.exception.JournalUnavailableException;
+import com.devops.payload.idempotency.IdempotencyCache;
+import com.devops.payload.idempotency.IdempotencyKey;
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.ratelimit.RateLimiter;
+import com.devops.payload.service.DevOpsService;
+import com.devops.payload.service.JwtService;
+import com.devops.payload.service.SecurityService;
+import com.devops.payload.validation.GeneratedValidators;
+
+/**
+ * Handles one request frame (see {@link IngestFrames}) with the same checks, in the same order, as
+ * {@code POST /DevOps}: API key, JWT, rate limit, body decoding and bean validation, then
+ * idempotency and {@link DevOpsService}. Responses use the default ("en") template.
+ */
+@Component
+public class IngestRequestHandler {
+
+    private final SecurityService securityService;
+    private final JwtService jwtService;
+    private final RateLimiter rateLimiter;
+    private final DevOpsService devOpsService;
+    private final IdempotencyCache idempotencyCache;
+    private final GeneratedValidators validator;
+    private final DevOpsProtobufCodec codec;
+
+    public IngestRequestHandler(SecurityService securityService, JwtService jwtService, RateLimiter rateLimiter,
+            DevOpsService devOpsService, IdempotencyCache idempotencyCache, GeneratedValidators validator,
+            @Value("${payload.codec.max-field-length:65536}") int maxFieldLength) {
+        this.securityService = securityService;
+        this.jwtService = jwtService;
+        this.rateLimiter = rateLimiter;
+        this.devOpsService = devOpsService;
+        this.idempotencyCache = idempotencyCache;
+        this.validator = validator;
+        this.codec = new DevOpsProtobufCodec(maxFieldLength);
+    }
+
+    /**
+     * Handles the request frame held in {@code frame[offset, offset + length)}, length prefix excluded.
+     */
+    public IngestReply handle(byte[] frame, int offset, int length) {
+        int limit = offset + length;
+        int apiKeyEnd = fieldEnd(frame, offset, limit);
+        int jwtEnd = fieldEnd(frame, apiKeyEnd, limit);
+        int idempotencyKeyEnd = fieldEnd(frame, jwtEnd, limit);
+        if (idempotencyKeyEnd < 0) {
+            return IngestReply.BAD_REQUEST;
+        }
+        String apiKey = string(frame, offset + 2, apiKeyEnd);
+        String jwt = string(frame, apiKeyEnd + 2, jwtEnd);
+        String idempotencyKey = string(frame, jwtEnd + 2, idempotencyKeyEnd);
+
+        ApiKeyInfo apiKeyInfo = securityService.resolveApiKey(apiKey);
+        if (apiKeyInfo == null || jwtService.resolveJwt(jwt) == null) {
+            return IngestReply.UNAUTHORIZED;
+        }
+        long waitNanos = rateLimiter.tryAcquire(apiKeyInfo);
+        if (waitNanos > 0) {
+            return IngestReply.tooManyRequests(RateLimiter.toRetryAfterSeconds(waitNanos));
+        }
+
+        try {
+            DevOpsRequest request = codec.readRequest(frame, idempotencyKeyEnd, limit - idempotencyKeyEnd);
+            if (validator.validateObject(request).hasErrors()) {
+                return IngestReply.BAD_REQUEST;
+            }
+            idempotencyCache.execute(IdempotencyKey.of(apiKeyInfo.tenant(), idempotencyKey, request),
+                    request.getTimeToLifeSec(), () -> devOpsService.enqueue(request));
+            return IngestReply.ok(devOpsService.encodeResponse(request, Locale.ENGLISH, ResponseFormat.PROTOBUF));
+        } catch (IdempotencyKeyReusedException e) {
+            return IngestReply.UNPROCESSABLE_ENTITY;
+        } catch (JournalUnavailableException e) {
+            return IngestReply.SERVICE_UNAVAILABLE;
+        } catch (RuntimeException e) {
+            return IngestReply.BAD_REQUEST;
+        }
+    }
+
+    /**
+     * End of the uint16-length-prefixed field starting at {@code position}, or -1 if it overruns
+     * the frame or {@code position} is already -1.
+     */
+    private static int fieldEnd(byte[] frame, int position, int limit) {
+        if (position < 0 || position + 2 > limit) {
+            return -1;
+        }
+        int end = position + 2 + (((frame[position] & 0xFF) << 8) | (frame[position + 1] & 0xFF));
+        return end > limit ? -1 : end;
+    }
+
+    private static String string(byte[] frame, int from, int to) {
+        return from == to ? null : new String(frame, from, to - from, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,153 @@
+package com.devops.payload.ingest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Optional TCP listener for {@link IngestFrames length-prefixed frames}, for producers that do not
+ * need HTTP. Each connection is served by a virtual thread, reading and writing through pooled
+ * direct buffers; frames go through {@link IngestRequestHandler}, so the outcome matches
+ * {@code POST /DevOps}. Started and stopped with the application context.
+ */
+@Component
+@ConditionalOnProperty(name = "payload.ingest.tcp.enabled", havingValue = "true")
+public class TcpIngestServer implements SmartLifecycle, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(TcpIngestServer.class);
+
+    private final IngestRequestHandler handler;
+    private final int port;
+    private final DirectBufferPool bufferPool;
+    private final ThreadFactory connectionThreads = Thread.ofVirtual().name("devops-ingest-", 0).factory();
+    private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+    private final LongAdder frames = new LongAdder();
+    private volatile ServerSocketChannel serverChannel;
+
+    @Autowired
+    public TcpIngestServer(IngestRequestHandler handler,
+            @Value("${payload.ingest.tcp.port:9090}") int port,
+            @Value("${payload.ingest.tcp.max-frame-bytes:65536}") int maxFrameBytes,
+            @Value("${payload.ingest.tcp.max-pooled-buffers:1024}") int maxPooledBuffers) {
+        this(handler, port, new DirectBufferPool(IngestFrames.LENGTH_PREFIX_BYTES + maxFrameBytes, maxPooledBuffers));
+    }
+
+    public TcpIngestServer(IngestRequestHandler handler, int port, DirectBufferPool bufferPool) {
+        this.handler = handler;
+        this.port = port;
+        this.bufferPool = bufferPool;
+    }
+
+    @Override
+    public void start() {
+        try {
+            serverChannel = ServerSocketChannel.open().bind(new InetSocketAddress(port));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot listen on TCP port " + port, e);
+        }
+        Thread.ofVirtual().name("devops-ingest-acceptor").start(this::acceptLoop);
+        log.info("TCP ingestion listening on port {}", getPort());
+    }
+
+    private void acceptLoop() {
+        ServerSocketChannel server = serverChannel;
+        while (server.isOpen()) {
+            try {
+                SocketChannel channel = server.accept();
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                connections.add(channel);
+                connectionThreads.newThread(() -> {
+                    try {
+                        new IngestConnection(channel, handler, bufferPool, frames).run();
+                    } finally {
+                        connections.remove(channel);
+                    }
+                }).start();
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                log.warn("Cannot accept TCP ingestion connection: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void stop() {
+        ServerSocketChannel server = serverChannel;
+        serverChannel = null;
+        if (server == null) {
+            return;
+        }
+        try {
+            server.close();
+        } catch (IOException e) {
+            log.warn("Cannot close TCP ingestion listener: {}", e.getMessage());
+        }
+        for (SocketChannel channel : connections) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // Already closed by its connection thread.
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return serverChannel != null;
+    }
+
+    /** The bound port, which differs from the configured one when that is 0. */
+    public int getPort() {
+        try {
+            return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int connectionCount() {
+        return connections.size();
+    }
+
+    public long frameCount() {
+        return frames.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("devops.ingest.connections", connections, Set::size)
+                .description("Open TCP ingestion connections")
+                .register(registry);
+        FunctionCounter.builder("devops.ingest.frames", frames, LongAdder::sum)
+                .description("Request frames received on the TCP ingestion listener")
+                .register(registry);
+        Gauge.builder("devops.ingest.buffers.pooled", bufferPool, DirectBufferPool::pooled)
+                .description("Idle direct buffers kept for reuse")
+                .register(registry);
+        FunctionCounter.builder("devops.ingest.buffers.allocated", bufferPool, DirectBufferPool::allocations)
+                .description("Direct buffers allocated because the pool was empty")
+                .register(registry);
+    }
+}
@@ -0,0 +1,232 @@
+package com.devops.payload.journal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+import com.devops.payload.model.MessageBody;
+
+/**
+ * One memory-mapped journal file, named after the sequence of its first record. Records are laid out
+ * back to back:
+ *
+ * <pre>
+ * int32 payload length | int32 CRC32C of the rest | int64 sequence | int64 expiresAtMillis | payload
+ * </pre>
+ *
+ * The file is zero-filled when created, so a zero length marks the end of the written part. A record
+ * that does not fit or fails its CRC is a torn write and ends the segment on replay.
+ */
+final class JournalSegment {
+
+    static final int HEADER_BYTES = 24;
+
+    private static final String PREFIX = "journal-";
+    private static final String SUFFIX = ".seg";
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private int position;
+    private int writtenPosition;
+    private int syncedPosition;
+    private int records;
+    private long lastSequence = -1;
+    private long maxExpiresAtMillis = Long.MIN_VALUE;
+
+    private JournalSegment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static JournalSegment create(Path directory, long baseSequence, int capacity) throws IOException {
+        Path path = directory.resolve(String.format("%s%020d%s", PREFIX, baseSequence, SUFFIX));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        return new JournalSegment(path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity));
+    }
+
+    static JournalSegment open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        return new JournalSegment(path, channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+
+    static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    boolean fits(int payloadLength) {
+        return buffer.capacity() - position >= HEADER_BYTES + payloadLength;
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Claims the space of the next record, to be filled by one of the {@code write} methods, which may run
+     * without the journal lock held. Records are reserved in sequence order.
+     *
+     * @return the offset of the record
+     */
+    int reserve(long sequence, long expiresAtMillis, int payloadLength) {
+        int start = position;
+        position = start + HEADER_BYTES + payloadLength;
+        track(sequence, expiresAtMillis);
+        return start;
+    }
+
+    /**
+     * Copies the record into the space reserved at {@code start}. It is durable once
+     * {@link #force(int, int)} covers it.
+     */
+    void write(int start, long sequence, long expiresAtMillis, byte[] payload) {
+        buffer.put(start + HEADER_BYTES, payload);
+        writeHeader(start, sequence, expiresAtMillis, payload.length);
+    }
+
+    /**
+     * Same as {@link #write(int, long, long, byte[])} for a payload of {@code prefix} followed by the bytes
+     * of {@code body}, streamed from its spool file. If reading the body fails, the reserved space is
+     * written as an already expired record, which replay skips.
+     */
+    void write(int start, long sequence, long expiresAtMillis, byte[] prefix, MessageBody body) throws IOException {
+        int payloadLength = Math.toIntExact(prefix.length + body.size());
+        try {
+            buffer.put(start + HEADER_BYTES, prefix);
+            int offset = start + HEADER_BYTES + prefix.length;
+            byte[] chunk = new byte[8192];
+            try (InputStream in = body.openStream()) {
+                int read;
+                while ((read = in.read(chunk)) > 0) {
+                    if (offset + read > start + HEADER_BYTES + payloadLength) {
+                        throw new IOException("Message body is longer than its recorded size");
+                    }
+                    buffer.put(offset, chunk, 0, read);
+                    offset += read;
+                }
+            }
+            if (offset != start + HEADER_BYTES + payloadLength) {
+                throw new IOException("Message body is shorter than its recorded size");
+            }
+        } catch (IOException | RuntimeException e) {
+            writeHeader(start, sequence, Long.MIN_VALUE, payloadLength);
+            throw e;
+        }
+        writeHeader(start, sequence, expiresAtMillis, payloadLength);
+    }
+
+    private void writeHeader(int start, long sequence, long expiresAtMillis, int payloadLength) {
+        buffer.putLong(start + 8, sequence);
+        buffer.putLong(start + 16, expiresAtMillis);
+        buffer.putInt(start + 4, checksum(start, payloadLength));
+        buffer.putInt(start, payloadLength);
+    }
+
+    /**
+     * Reads records from the start until the end mark or the first torn record, and leaves the segment
+     * positioned after the last valid one.
+     */
+    void scan(RecordVisitor visitor) {
+        position = 0;
+        while (buffer.capacity() - position >= HEADER_BYTES) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || length > buffer.capacity() - position - HEADER_BYTES
+                    || buffer.getInt(position + 4) != checksum(position, length)) {
+                break;
+            }
+            long sequence = buffer.getLong(position + 8);
+            long expiresAtMillis = buffer.getLong(position + 16);
+            visitor.visit(sequence, expiresAtMillis, buffer, position + HEADER_BYTES, length);
+            position += HEADER_BYTES + length;
+            track(sequence, expiresAtMillis);
+        }
+        writtenPosition = position;
+        syncedPosition = position;
+    }
+
+    /**
+     * Writes the pages of {@code [from, to)} to the device; called without the journal lock held.
+     */
+    void force(int from, int to) {
+        if (to > from) {
+            buffer.force(from, to - from);
+        }
+    }
+
+    void delete() throws IOException {
+        channel.close();
+        Files.deleteIfExists(path);
+    }
+
+    void close() throws IOException {
+        channel.close();
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int position() {
+        return position;
+    }
+
+    /**
+     * End of the records that are reserved and written without gaps, the part a force may cover.
+     */
+    int writtenPosition() {
+        return writtenPosition;
+    }
+
+    void markWritten(int writtenPosition) {
+        this.writtenPosition = writtenPosition;
+    }
+
+    int syncedPosition() {
+        return syncedPosition;
+    }
+
+    void markSynced(int syncedPosition) {
+        this.syncedPosition = syncedPosition;
+    }
+
+    int records() {
+        return records;
+    }
+
+    long lastSequence() {
+        return lastSequence;
+    }
+
+    long maxExpiresAtMillis() {
+        return maxExpiresAtMillis;
+    }
+
+    private void track(long sequence, long expiresAtMillis) {
+        records++;
+        lastSequence = sequence;
+        maxExpiresAtMillis = Math.max(maxExpiresAtMillis, expiresAtMillis);
+    }
+
+    private int checksum(int start, int payloadLength) {
+        // Records are written concurrently, so each checksum gets its own CRC32C.
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(start + 8, HEADER_BYTES - 8 + payloadLength));
+        return (int) crc.getValue();
+    }
+
+    @FunctionalInterface
+    interface RecordVisitor {
+
+        void visit(long sequence, long expiresAtMillis, ByteBuffer segment, int payloadOffset, int payloadLength);
+    }
+}
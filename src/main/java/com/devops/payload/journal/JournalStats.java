@@ -0,0 +1,7 @@
+package com.devops.payload.journal;
+
+/**
+ * Point-in-time counters of a {@link MessageJournal}; {@code appends / syncs} is the group commit batch size.
+ */
+public record JournalStats(long segments, long appends, long syncs, long replayed, long deletedSegments) {
+}
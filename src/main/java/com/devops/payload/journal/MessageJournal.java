@@ -0,0 +1,375 @@
+package com.devops.payload.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.devops.payload.codec.DevOpsProtobufCodec;
+import com.devops.payload.delivery.PartitionedOutbox;
+import com.devops.payload.exception.JournalUnavailableException;
+import com.devops.payload.model.DevOpsRequest;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Append-only journal of accepted messages in memory-mapped {@link JournalSegment segments}.
+ * {@link #append(DevOpsRequest)} copies the record into space reserved in the active segment and waits
+ * until a flusher thread has forced it to disk; the flusher forces everything written since its previous
+ * pass at once, so concurrent requests share one fsync (group commit). Segments roll over when full and are deleted
+ * once every message in them has passed its {@code timeToLifeSec}. On startup the unexpired messages
+ * of existing segments are replayed, with their original expiry, before any new append. A spooled
+ * message is streamed from its file into the segment, but replay reads it back into memory.
+ */
+@Component
+@ConditionalOnProperty(name = "payload.journal.enabled", havingValue = "true")
+public class MessageJournal implements MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(MessageJournal.class);
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final LongSupplier clock;
+    private final DevOpsProtobufCodec codec = new DevOpsProtobufCodec(Integer.MAX_VALUE);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition written = lock.newCondition();
+    private final Condition synced = lock.newCondition();
+    private final ArrayDeque<JournalSegment> segments = new ArrayDeque<>();
+    private final ArrayDeque<Reservation> reservations = new ArrayDeque<>();
+    private final Thread flusher;
+
+    private JournalSegment active;
+    private long nextSequence;
+    private long writtenSequence;
+    private long durableSequence;
+    private boolean closed;
+    private UncheckedIOException syncFailure;
+    private long appends;
+    private long syncs;
+    private long replayed;
+    private long deletedSegments;
+
+    /**
+     * Messages found on startup, with the expiry they were journaled with.
+     */
+    @FunctionalInterface
+    public interface ReplayHandler {
+
+        void replay(DevOpsRequest request, long expiresAtMillis);
+    }
+
+    /**
+     * Space claimed for one record, in sequence order; {@code written} once its bytes are copied.
+     */
+    private static final class Reservation {
+
+        final long sequence;
+        final JournalSegment segment;
+        final int start;
+        final int end;
+        boolean written;
+
+        Reservation(long sequence, JournalSegment segment, int start, int end) {
+            this.sequence = sequence;
+            this.segment = segment;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    @Autowired
+    public MessageJournal(@Value("${payload.journal.directory:data/journal}") String directory,
+            @Value("${payload.journal.segment-bytes:67108864}") int segmentBytes, PartitionedOutbox outbox) {
+        this(Path.of(directory), segmentBytes, System::currentTimeMillis, outbox::offer);
+    }
+
+    public MessageJournal(Path directory, int segmentBytes, LongSupplier clock, ReplayHandler replayHandler) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.clock = clock;
+        try {
+            Files.createDirectories(directory);
+            long started = System.nanoTime();
+            replay(replayHandler);
+            log.info("Journal {}: replayed {} messages from {} segments in {} ms", directory, replayed,
+                    segments.size(), (System.nanoTime() - started) / 1_000_000);
+            writtenSequence = nextSequence - 1;
+            durableSequence = writtenSequence;
+            active = JournalSegment.create(directory, nextSequence, segmentBytes);
+            segments.add(active);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open journal in " + directory, e);
+        }
+        flusher = Thread.ofPlatform().name("devops-journal-flusher").daemon().start(this::flushLoop);
+    }
+
+    private void replay(ReplayHandler handler) throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(JournalSegment::isSegment).sorted().toList();
+        }
+        long now = clock.getAsLong();
+        for (Path file : files) {
+            JournalSegment segment = JournalSegment.open(file);
+            segment.scan((sequence, expiresAtMillis, buffer, offset, length) -> {
+                if (expiresAtMillis > now) {
+                    byte[] payload = new byte[length];
+                    buffer.get(offset, payload);
+                    handler.replay(codec.readRequest(payload, 0, length), expiresAtMillis);
+                    replayed++;
+                }
+            });
+            nextSequence = Math.max(nextSequence, segment.lastSequence() + 1);
+            if (segment.maxExpiresAtMillis() <= now) {
+                segment.delete();
+                deletedSegments++;
+            } else {
+                segments.add(segment);
+            }
+        }
+    }
+
+    /**
+     * Journals the message and returns once it is on disk. A spooled body is copied after its space is
+     * reserved, without holding the journal lock, so other appends and the flusher are not held up.
+     *
+     * @throws JournalUnavailableException if the journal is closed or the message could not be written
+     *         and forced to disk
+     * @throws IllegalArgumentException if the encoded message does not fit in an empty segment
+     */
+    public void append(DevOpsRequest request) {
+        boolean spooled = request.hasSpooledMessage();
+        byte[] payload = spooled ? DevOpsProtobufCodec.writeRequestPrefix(request)
+                : DevOpsProtobufCodec.writeRequest(request);
+        long payloadLength = payload.length + (spooled ? request.getMessageBody().size() : 0);
+        if (JournalSegment.HEADER_BYTES + payloadLength > segmentBytes) {
+            throw new IllegalArgumentException("Message of " + payloadLength + " bytes exceeds the journal segment size");
+        }
+        long expiresAtMillis = clock.getAsLong() + request.getTimeToLifeSec() * 1000L;
+        Reservation reservation;
+        lock.lock();
+        try {
+            if (closed) {
+                throw new JournalUnavailableException("Journal is closed");
+            }
+            if (!active.fits((int) payloadLength)) {
+                active = JournalSegment.create(directory, nextSequence, segmentBytes);
+                segments.add(active);
+            }
+            long sequence = nextSequence++;
+            int start = active.reserve(sequence, expiresAtMillis, (int) payloadLength);
+            reservation = new Reservation(sequence, active, start,
+                    start + JournalSegment.HEADER_BYTES + (int) payloadLength);
+            reservations.add(reservation);
+            appends++;
+            if (!spooled) {
+                active.write(start, sequence, expiresAtMillis, payload);
+                markWritten(reservation);
+                awaitDurable(sequence);
+                return;
+            }
+        } catch (IOException e) {
+            throw new JournalUnavailableException("Cannot create journal segment", e);
+        } finally {
+            lock.unlock();
+        }
+        try {
+            reservation.segment.write(reservation.start, reservation.sequence, expiresAtMillis, payload,
+                    request.getMessageBody());
+        } catch (IOException e) {
+            log.warn("Cannot copy spooled message into the journal", e);
+            throw new JournalUnavailableException("Cannot append to journal", e);
+        } finally {
+            lock.lock();
+            try {
+                markWritten(reservation);
+            } finally {
+                lock.unlock();
+            }
+        }
+        lock.lock();
+        try {
+            awaitDurable(reservation.sequence);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Advances {@link #writtenSequence} over the leading reservations that are written, so a force never
+     * covers a record that is still being copied. Called with the lock held.
+     */
+    private void markWritten(Reservation reservation) {
+        reservation.written = true;
+        while (!reservations.isEmpty() && reservations.peek().written) {
+            Reservation head = reservations.poll();
+            head.segment.markWritten(head.end);
+            writtenSequence = head.sequence;
+        }
+        written.signal();
+    }
+
+    /**
+     * Waits, with the lock held, until the flusher has forced {@code sequence} to disk.
+     */
+    private void awaitDurable(long sequence) {
+        while (durableSequence < sequence) {
+            if (syncFailure != null) {
+                throw new JournalUnavailableException("Cannot sync journal", syncFailure);
+            }
+            synced.awaitUninterruptibly();
+        }
+    }
+
+    private void flushLoop() {
+        lock.lock();
+        try {
+            while (true) {
+                // Once closed, the flusher still waits for reservations whose copy is in progress.
+                while (durableSequence == writtenSequence && (!closed || !reservations.isEmpty())) {
+                    written.awaitUninterruptibly();
+                }
+                if (durableSequence == writtenSequence) {
+                    return;
+                }
+                long target = writtenSequence;
+                List<JournalSegment> dirty = new ArrayList<>();
+                List<Integer> ends = new ArrayList<>();
+                for (JournalSegment segment : segments) {
+                    if (segment.writtenPosition() > segment.syncedPosition()) {
+                        dirty.add(segment);
+                        ends.add(segment.writtenPosition());
+                    }
+                }
+                lock.unlock();
+                UncheckedIOException failure = null;
+                try {
+                    for (int i = 0; i < dirty.size(); i++) {
+                        dirty.get(i).force(dirty.get(i).syncedPosition(), ends.get(i));
+                    }
+                } catch (UncheckedIOException e) {
+                    failure = e;
+                } finally {
+                    lock.lock();
+                }
+                if (failure != null) {
+                    log.error("Journal sync failed, rejecting further appends", failure);
+                    syncFailure = failure;
+                    closed = true;
+                    synced.signalAll();
+                    return;
+                }
+                for (int i = 0; i < dirty.size(); i++) {
+                    dirty.get(i).markSynced(ends.get(i));
+                }
+                durableSequence = target;
+                syncs++;
+                synced.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes every full segment whose messages have all passed their time to live.
+     */
+    @Scheduled(fixedDelayString = "${payload.journal.purge-interval-millis:10000}")
+    public void purge() {
+        long now = clock.getAsLong();
+        List<JournalSegment> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            segments.removeIf(segment -> {
+                boolean remove = segment != active && segment.maxExpiresAtMillis() <= now
+                        && segment.syncedPosition() == segment.position();
+                if (remove) {
+                    expired.add(segment);
+                }
+                return remove;
+            });
+            deletedSegments += expired.size();
+        } finally {
+            lock.unlock();
+        }
+        for (JournalSegment segment : expired) {
+            try {
+                segment.delete();
+            } catch (IOException e) {
+                log.warn("Cannot delete journal segment {}", segment.path(), e);
+            }
+        }
+    }
+
+    public JournalStats getStats() {
+        lock.lock();
+        try {
+            return new JournalStats(segments.size(), appends, syncs, replayed, deletedSegments);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("devops.journal.segments", this, journal -> journal.getStats().segments())
+                .description("Journal segment files on disk")
+                .register(registry);
+        FunctionCounter.builder("devops.journal.appends", this, journal -> journal.getStats().appends())
+                .description("Messages written to the journal")
+                .register(registry);
+        FunctionCounter.builder("devops.journal.syncs", this, journal -> journal.getStats().syncs())
+                .description("Group commits (one fsync each) covering the appends")
+                .register(registry);
+        FunctionCounter.builder("devops.journal.replayed", this, journal -> journal.getStats().replayed())
+                .description("Unexpired messages replayed on startup")
+                .register(registry);
+    }
+
+    /**
+     * Forces what is pending, stops the flusher and closes the segment files. Appends after this fail.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            written.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            for (JournalSegment segment : segments) {
+                segment.close();
+            }
+        } catch (IOException e) {
+            log.warn("Cannot close journal segments in {}", directory, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
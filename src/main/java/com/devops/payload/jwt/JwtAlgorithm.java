@@ -0,0 +1,41 @@
+package com.devops.payload.jwt;
+
+/**
+ * JWS algorithms accepted by {@link JwtVerifier}, mapped to their JCA names. ES256 uses the
+ * IEEE P1363 (raw {@code R || S}) signature encoding that JWS prescribes.
+ */
+public enum JwtAlgorithm {
+
+    HS256("HmacSHA256"),
+    RS256("SHA256withRSA"),
+    ES256("SHA256withECDSAinP1363Format");
+
+    private final String jcaName;
+
+    JwtAlgorithm(String jcaName) {
+        this.jcaName = jcaName;
+    }
+
+    public String getJcaName() {
+        return jcaName;
+    }
+
+    public boolean isHmac() {
+        return this == HS256;
+    }
+
+    /**
+     * Returns the algorithm for a JWS {@code alg} header value, or {@code null} if it is not supported.
+     */
+    public static JwtAlgorithm fromHeader(String alg) {
+        if (alg == null) {
+            return null;
+        }
+        for (JwtAlgorithm algorithm : values()) {
+            if (algorithm.name().equals(alg)) {
+                return algorithm;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,167 @@
+package com.devops.payload.jwt;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Lightweight view over the payload segment of a token. Nothing is decoded until a claim is first
+ * asked for; then {@code sub}, {@code aud}, {@code exp} and {@code nbf} are read in one streaming
+ * pass, after which the token itself is dropped, so a cached instance does not retain it. Instances
+ * are safe to share: concurrent first reads may both parse, with equal results.
+ */
+public final class JwtClaims {
+
+    public static final String REQUEST_ATTRIBUTE = JwtClaims.class.getName();
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // Volatile so that a reader seeing it dropped also sees the claims parsed from it.
+    private volatile String token;
+    private final int payloadStart;
+    private final int payloadEnd;
+
+    private volatile boolean parsed;
+    private boolean wellFormed;
+    private String subject;
+    private List<String> audience = List.of();
+    private long expiresAtMillis = Long.MAX_VALUE;
+    private long notBeforeMillis = Long.MIN_VALUE;
+
+    JwtClaims(String token, int payloadStart, int payloadEnd) {
+        this.token = token;
+        this.payloadStart = payloadStart;
+        this.payloadEnd = payloadEnd;
+    }
+
+    /**
+     * Claims of the segment after the first dot of a token that already passed
+     * {@link JwtTokenizer#hasJwtStructure(String)}.
+     */
+    public static JwtClaims of(String token) {
+        int firstDot = token.indexOf('.');
+        return new JwtClaims(token, firstDot + 1, token.indexOf('.', firstDot + 1));
+    }
+
+    /**
+     * Whether the payload is a base64url JSON object with numeric {@code exp}/{@code nbf}.
+     */
+    public boolean isWellFormed() {
+        ensureParsed();
+        return wellFormed;
+    }
+
+    public String getSubject() {
+        ensureParsed();
+        return subject;
+    }
+
+    public List<String> getAudience() {
+        ensureParsed();
+        return audience;
+    }
+
+    /**
+     * @return {@code exp} in epoch milliseconds, or {@link Long#MAX_VALUE} if absent
+     */
+    public long getExpiresAtMillis() {
+        ensureParsed();
+        return expiresAtMillis;
+    }
+
+    /**
+     * @return {@code nbf} in epoch milliseconds, or {@link Long#MIN_VALUE} if absent
+     */
+    public long getNotBeforeMillis() {
+        ensureParsed();
+        return notBeforeMillis;
+    }
+
+    boolean retainsToken() {
+        return token != null;
+    }
+
+    private void ensureParsed() {
+        if (!parsed) {
+            String source = token;
+            if (source == null) {
+                // Parsed and dropped by a concurrent first read.
+                return;
+            }
+            parse(source);
+            parsed = true;
+            token = null;
+        }
+    }
+
+    private void parse(String source) {
+        byte[] buffer = JwtTokenizer.acquireScratch(JwtTokenizer.decodedLength(payloadEnd - payloadStart));
+        try {
+            parse(buffer, JwtTokenizer.decode(source, payloadStart, payloadEnd, buffer));
+        } finally {
+            JwtTokenizer.releaseScratch(buffer);
+        }
+    }
+
+    private void parse(byte[] buffer, int length) {
+        if (length < 0) {
+            return;
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(buffer, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (name) {
+                    case "sub" -> subject = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    case "aud" -> audience = readAudience(parser, value);
+                    case "exp" -> expiresAtMillis = readSeconds(parser, value);
+                    case "nbf" -> notBeforeMillis = readSeconds(parser, value);
+                    default -> parser.skipChildren();
+                }
+            }
+            wellFormed = parser.currentToken() == JsonToken.END_OBJECT;
+        } catch (IOException | IllegalArgumentException e) {
+            wellFormed = false;
+        }
+    }
+
+    private static long readSeconds(JsonParser parser, JsonToken value) throws IOException {
+        if (!value.isNumeric()) {
+            throw new IllegalArgumentException("Time claims must be numeric");
+        }
+        double seconds = parser.getDoubleValue();
+        if (seconds >= Long.MAX_VALUE / 1000L) {
+            return Long.MAX_VALUE;
+        }
+        return seconds <= Long.MIN_VALUE / 1000L ? Long.MIN_VALUE : (long) (seconds * 1000L);
+    }
+
+    private static List<String> readAudience(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            return List.of(parser.getText());
+        }
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return List.of();
+        }
+        List<String> audience = new ArrayList<>();
+        for (JsonToken item = parser.nextToken(); item != JsonToken.END_ARRAY; item = parser.nextToken()) {
+            if (item == null) {
+                throw new IllegalArgumentException("Unterminated aud claim");
+            }
+            if (item == JsonToken.VALUE_STRING) {
+                audience.add(parser.getText());
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return List.copyOf(audience);
+    }
+}
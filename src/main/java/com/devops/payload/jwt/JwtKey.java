@@ -0,0 +1,9 @@
+package com.devops.payload.jwt;
+
+import java.security.Key;
+
+/**
+ * A verification key together with the algorithm it may verify and its optional key id.
+ */
+public record JwtKey(String kid, JwtAlgorithm algorithm, Key key) {
+}
@@ -0,0 +1,156 @@
+package com.devops.payload.jwt;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Immutable set of JWT verification keys loaded from a local file, which may hold a JWKS
+ * document ({@code {"keys": [...]}}) or a single JWK, a PEM encoded RSA or EC public key, or a
+ * raw HS256 shared secret.
+ */
+public final class JwtKeySet {
+
+    private static final String PEM_BEGIN = "-----BEGIN PUBLIC KEY-----";
+    private static final String PEM_END = "-----END PUBLIC KEY-----";
+
+    private final List<JwtKey> keys;
+
+    public JwtKeySet(List<JwtKey> keys) {
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("At least one JWT verification key is required");
+        }
+        this.keys = List.copyOf(keys);
+    }
+
+    public static JwtKeySet load(Path path, ObjectMapper objectMapper) throws IOException {
+        String content = Files.readString(path, StandardCharsets.UTF_8).trim();
+        try {
+            if (content.startsWith("{")) {
+                return fromJwks(objectMapper.readTree(content));
+            }
+            if (content.startsWith(PEM_BEGIN)) {
+                return new JwtKeySet(List.of(fromPem(content)));
+            }
+            return new JwtKeySet(List.of(new JwtKey(null, JwtAlgorithm.HS256,
+                    new SecretKeySpec(content.getBytes(StandardCharsets.UTF_8), JwtAlgorithm.HS256.getJcaName()))));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Unreadable JWT key file " + path, e);
+        }
+    }
+
+    /**
+     * Keys that may verify a token with the given header values. A token without {@code kid}
+     * is tried against every key of its algorithm.
+     */
+    public List<JwtKey> candidates(String kid, JwtAlgorithm algorithm) {
+        List<JwtKey> candidates = new ArrayList<>(1);
+        for (JwtKey key : keys) {
+            if (key.algorithm() == algorithm && (kid == null || key.kid() == null || kid.equals(key.kid()))) {
+                candidates.add(key);
+            }
+        }
+        return candidates;
+    }
+
+    public List<JwtKey> getKeys() {
+        return keys;
+    }
+
+    static JwtKeySet fromJwks(JsonNode document) throws GeneralSecurityException {
+        List<JwtKey> keys = new ArrayList<>();
+        if (document.has("keys")) {
+            for (JsonNode jwk : document.get("keys")) {
+                JwtKey key = fromJwk(jwk);
+                if (key != null) {
+                    keys.add(key);
+                }
+            }
+        } else {
+            JwtKey key = fromJwk(document);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        return new JwtKeySet(keys);
+    }
+
+    private static JwtKey fromJwk(JsonNode jwk) throws GeneralSecurityException {
+        String kid = jwk.hasNonNull("kid") ? jwk.get("kid").asText() : null;
+        String use = jwk.hasNonNull("use") ? jwk.get("use").asText() : "sig";
+        if (!"sig".equals(use)) {
+            return null;
+        }
+        String kty = jwk.path("kty").asText();
+        switch (kty) {
+            case "oct" -> {
+                return new JwtKey(kid, JwtAlgorithm.HS256,
+                        new SecretKeySpec(decode(jwk, "k"), JwtAlgorithm.HS256.getJcaName()));
+            }
+            case "RSA" -> {
+                RSAPublicKeySpec spec = new RSAPublicKeySpec(new BigInteger(1, decode(jwk, "n")),
+                        new BigInteger(1, decode(jwk, "e")));
+                return new JwtKey(kid, JwtAlgorithm.RS256, KeyFactory.getInstance("RSA").generatePublic(spec));
+            }
+            case "EC" -> {
+                if (!"P-256".equals(jwk.path("crv").asText())) {
+                    return null;
+                }
+                ECPoint point = new ECPoint(new BigInteger(1, decode(jwk, "x")), new BigInteger(1, decode(jwk, "y")));
+                ECPublicKeySpec spec = new ECPublicKeySpec(point, p256());
+                return new JwtKey(kid, JwtAlgorithm.ES256, KeyFactory.getInstance("EC").generatePublic(spec));
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    private static JwtKey fromPem(String pem) throws GeneralSecurityException {
+        String base64 = pem.replace(PEM_BEGIN, "").replace(PEM_END, "").replaceAll("\\s", "");
+        X509EncodedKeySpec spec = new X509EncodedKeySpec(Base64.getDecoder().decode(base64));
+        try {
+            return new JwtKey(null, JwtAlgorithm.RS256, KeyFactory.getInstance("RSA").generatePublic(spec));
+        } catch (GeneralSecurityException notRsa) {
+            PublicKey key = KeyFactory.getInstance("EC").generatePublic(spec);
+            if (((ECPublicKey) key).getParams().getCurve().getField().getFieldSize() != 256) {
+                throw new GeneralSecurityException("Only P-256 EC keys are supported");
+            }
+            return new JwtKey(null, JwtAlgorithm.ES256, key);
+        }
+    }
+
+    private static byte[] decode(JsonNode jwk, String field) throws GeneralSecurityException {
+        if (!jwk.hasNonNull(field)) {
+            throw new GeneralSecurityException("JWK is missing '" + field + "'");
+        }
+        return Base64.getUrlDecoder().decode(jwk.get(field).asText());
+    }
+
+    private static ECParameterSpec p256() throws GeneralSecurityException {
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec("secp256r1"));
+        return parameters.getParameterSpec(ECParameterSpec.class);
+    }
+}
@@ -0,0 +1,136 @@
+package com.devops.payload.jwt;
+
+import com.devops.payload.pool.BoundedPool;
+
+/**
+ * Index-based scanning and base64url decoding of compact JWS tokens. Segment boundaries are found
+ * with a single pass over the token and segments are decoded into caller or pooled buffers,
+ * so neither the token nor its segments are ever copied into intermediate strings or arrays.
+ */
+public final class JwtTokenizer {
+
+    private static final byte[] BASE64URL = new byte[128];
+
+    /** Pooled scratch size; longer segments get a one-off buffer. */
+    static final int SCRATCH_SIZE = 2048;
+
+    private static final BoundedPool<byte[]> SCRATCH = new BoundedPool<>(BoundedPool.defaultCapacity(),
+            () -> new byte[SCRATCH_SIZE]);
+
+    static {
+        java.util.Arrays.fill(BASE64URL, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private JwtTokenizer() {
+    }
+
+    /**
+     * Legacy structural rule: the token has at least three dot-separated parts, not counting empty
+     * trailing parts (the semantics of {@code token.split("\\.").length >= 3}).
+     */
+    public static boolean hasJwtStructure(String token) {
+        int end = token.length() - 1;
+        while (end >= 0 && token.charAt(end) == '.') {
+            end--;
+        }
+        int dots = 0;
+        for (int i = 0; i < end && dots < 2; i++) {
+            if (token.charAt(i) == '.') {
+                dots++;
+            }
+        }
+        return dots >= 2;
+    }
+
+    /**
+     * Returns the indexes of the two separators of a compact JWS packed as
+     * {@code firstDot << 32 | secondDot}, or {@code -1} unless the token has exactly three segments.
+     */
+    public static long compactBounds(String token) {
+        int firstDot = -1;
+        int secondDot = -1;
+        for (int i = 0, length = token.length(); i < length; i++) {
+            if (token.charAt(i) == '.') {
+                if (firstDot < 0) {
+                    firstDot = i;
+                } else if (secondDot < 0) {
+                    secondDot = i;
+                } else {
+                    return -1;
+                }
+            }
+        }
+        return secondDot < 0 ? -1 : (long) firstDot << 32 | secondDot;
+    }
+
+    public static int firstDot(long bounds) {
+        return (int) (bounds >>> 32);
+    }
+
+    public static int secondDot(long bounds) {
+        return (int) bounds;
+    }
+
+    public static int decodedLength(int encodedLength) {
+        int remainder = encodedLength & 3;
+        return (encodedLength >>> 2) * 3 + (remainder == 0 ? 0 : remainder - 1);
+    }
+
+    /**
+     * Decodes the unpadded base64url range {@code [from, to)} of {@code token} into {@code dst}.
+     *
+     * @return the number of bytes written, or {@code -1} if the range is not valid base64url
+     */
+    public static int decode(CharSequence token, int from, int to, byte[] dst) {
+        int length = to - from;
+        if ((length & 3) == 1) {
+            return -1;
+        }
+        int out = 0;
+        int accumulator = 0;
+        int bits = 0;
+        for (int i = from; i < to; i++) {
+            char c = token.charAt(i);
+            int value = c < 128 ? BASE64URL[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            accumulator = accumulator << 6 | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                dst[out++] = (byte) (accumulator >>> bits);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Decodes into a fresh array; meant for paths that keep the bytes, such as signature checks.
+     */
+    public static byte[] decode(CharSequence token, int from, int to) {
+        byte[] decoded = new byte[decodedLength(to - from)];
+        if (decode(token, from, to, decoded) < 0) {
+            throw new IllegalArgumentException("Invalid base64url segment");
+        }
+        return decoded;
+    }
+
+    /**
+     * Returns a scratch buffer of at least {@code minLength} bytes, to be handed back with
+     * {@link #releaseScratch(byte[])} once its content is no longer needed.
+     */
+    static byte[] acquireScratch(int minLength) {
+        return minLength <= SCRATCH_SIZE ? SCRATCH.acquire() : new byte[minLength];
+    }
+
+    static void releaseScratch(byte[] buffer) {
+        if (buffer.length == SCRATCH_SIZE) {
+            SCRATCH.release(buffer);
+        }
+    }
+}
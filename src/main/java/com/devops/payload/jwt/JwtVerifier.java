@@ -0,0 +1,125 @@
+package com.devops.payload.jwt;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import javax.crypto.Mac;
+
+import com.devops.payload.exception.InvalidJwtException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Verifies compact JWS tokens: HS256, RS256 or ES256 signature against a {@link JwtKeySet},
+ * then the {@code exp} and {@code nbf} claims with a configurable clock skew.
+ */
+public class JwtVerifier {
+
+    private final JwtKeySet keySet;
+    private final ObjectMapper objectMapper;
+    private final LongSupplier clock;
+    private final long clockSkewMillis;
+
+    public JwtVerifier(JwtKeySet keySet, ObjectMapper objectMapper, LongSupplier clock, long clockSkewSeconds) {
+        this.keySet = keySet;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.clockSkewMillis = clockSkewSeconds * 1000L;
+    }
+
+    /**
+     * @return the verified claims of the token
+     * @throws InvalidJwtException if the token is malformed, badly signed, expired or not yet valid
+     */
+    public JwtClaims verify(String token) {
+        JwtClaims claims = tryVerify(token);
+        if (claims == null) {
+            throw InvalidJwtException.stackless(token);
+        }
+        return claims;
+    }
+
+    /**
+     * Same checks as {@link #verify(String)}, reporting failure as {@code null} instead of an exception.
+     */
+    public JwtClaims tryVerify(String token) {
+        long bounds = JwtTokenizer.compactBounds(token);
+        if (bounds < 0) {
+            return null;
+        }
+        int firstDot = JwtTokenizer.firstDot(bounds);
+        int secondDot = JwtTokenizer.secondDot(bounds);
+
+        try {
+            JsonNode header = objectMapper.readTree(decode(token, 0, firstDot));
+            JwtAlgorithm algorithm = JwtAlgorithm.fromHeader(header.path("alg").asText(null));
+            if (algorithm == null) {
+                return null;
+            }
+            String kid = header.hasNonNull("kid") ? header.get("kid").asText() : null;
+
+            byte[] signature = decode(token, secondDot + 1, token.length());
+            byte[] signingInput = signingInput(token, secondDot);
+            try {
+                if (!verifySignature(keySet.candidates(kid, algorithm), signingInput, secondDot, signature)) {
+                    return null;
+                }
+            } finally {
+                JwtTokenizer.releaseScratch(signingInput);
+            }
+
+            JwtClaims claims = new JwtClaims(token, firstDot + 1, secondDot);
+            return isCurrent(claims) ? claims : null;
+        } catch (IOException | IllegalArgumentException | GeneralSecurityException e) {
+            return null;
+        }
+    }
+
+    private boolean isCurrent(JwtClaims claims) {
+        if (!claims.isWellFormed()) {
+            return false;
+        }
+        long now = clock.getAsLong();
+        return now + clockSkewMillis >= claims.getNotBeforeMillis()
+                && now - clockSkewMillis < claims.getExpiresAtMillis();
+    }
+
+    private static byte[] signingInput(String token, int length) {
+        byte[] signingInput = JwtTokenizer.acquireScratch(length);
+        for (int i = 0; i < length; i++) {
+            signingInput[i] = (byte) token.charAt(i);
+        }
+        return signingInput;
+    }
+
+    private static boolean verifySignature(List<JwtKey> candidates, byte[] signingInput, int length,
+            byte[] signature) throws GeneralSecurityException {
+        for (JwtKey key : candidates) {
+            if (key.algorithm().isHmac()) {
+                Mac mac = Mac.getInstance(key.algorithm().getJcaName());
+                mac.init(key.key());
+                mac.update(signingInput, 0, length);
+                if (MessageDigest.isEqual(mac.doFinal(), signature)) {
+                    return true;
+                }
+            } else {
+                Signature verifier = Signature.getInstance(key.algorithm().getJcaName());
+                verifier.initVerify((PublicKey) key.key());
+                verifier.update(signingInput, 0, length);
+                if (verifier.verify(signature)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static byte[] decode(String token, int from, int to) {
+        return JwtTokenizer.decode(token, from, to);
+    }
+}
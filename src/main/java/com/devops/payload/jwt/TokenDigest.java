@@ -0,0 +1,55 @@
+package com.devops.payload.jwt;
+
+import com.devops.payload.digest.Sha256;
+import com.devops.payload.pool.BoundedPool;
+
+/**
+ * SHA-256 of a token, used as cache key so that raw tokens are never retained in memory.
+ * Lookups go through a pooled {@linkplain #acquireProbe(String) probe} that is refilled in place,
+ * so only entries actually stored in a cache are allocated.
+ */
+public final class TokenDigest {
+
+    private static final BoundedPool<TokenDigest> PROBES = new BoundedPool<>(BoundedPool.defaultCapacity(),
+            TokenDigest::new);
+
+    private final long[] words = new long[Sha256.WORDS];
+
+    private TokenDigest() {
+    }
+
+    public static TokenDigest of(String token) {
+        TokenDigest digest = new TokenDigest();
+        Sha256.digest(token, digest.words);
+        return digest;
+    }
+
+    /**
+     * Digests {@code token} into a pooled probe for a single lookup. The probe must be handed back
+     * with {@link #releaseProbe(TokenDigest)} once the lookup is done and must never be stored.
+     */
+    static TokenDigest acquireProbe(String token) {
+        TokenDigest probe = PROBES.acquire();
+        Sha256.digest(token, probe.words);
+        return probe;
+    }
+
+    static void releaseProbe(TokenDigest probe) {
+        PROBES.release(probe);
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) words[0];
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (!(obj instanceof TokenDigest))
+            return false;
+        long[] other = ((TokenDigest) obj).words;
+        return words[0] == other[0] && words[1] == other[1] && words[2] == other[2] && words[3] == other[3];
+    }
+}
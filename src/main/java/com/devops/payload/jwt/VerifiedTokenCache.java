@@ -0,0 +1,88 @@
+package com.devops.payload.jwt;
+
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.devops.payload.cache.StripedLruCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Remembers tokens whose signature and time claims were already verified, keyed by their
+ * {@link TokenDigest}, together with their {@link JwtClaims} view, which is parsed before it is
+ * stored and so no longer holds the token. An entry lives until the
+ * token's {@code exp} (capped at {@code maxTtlSeconds}) or until LRU pressure evicts it.
+ * A hit allocates nothing.
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private static final int STRIPES = 16;
+
+    private final StripedLruCache<TokenDigest, JwtClaims> cache;
+    private final LongSupplier clock;
+    private final long maxTtlMillis;
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${security.jwt.cache.max-size:10000}") int maximumSize,
+            @Value("${security.jwt.cache.max-ttl-seconds:300}") long maxTtlSeconds) {
+        this(maximumSize, maxTtlSeconds, System::currentTimeMillis);
+    }
+
+    public VerifiedTokenCache(int maximumSize, long maxTtlSeconds, LongSupplier clock) {
+        this.cache = new StripedLruCache<>(maximumSize, STRIPES, clock);
+        this.clock = clock;
+        this.maxTtlMillis = maxTtlSeconds * 1000L;
+    }
+
+    /**
+     * @return the claims cached for {@code token}, or {@code null} if it was not verified recently
+     */
+    public JwtClaims lookup(String token) {
+        TokenDigest probe = TokenDigest.acquireProbe(token);
+        try {
+            return cache.get(probe);
+        } finally {
+            TokenDigest.releaseProbe(probe);
+        }
+    }
+
+    public void remember(String token, JwtClaims claims) {
+        long now = clock.getAsLong();
+        long expiresAtMillis = Math.min(claims.getExpiresAtMillis(), now + maxTtlMillis);
+        cache.put(TokenDigest.of(token), claims, expiresAtMillis);
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public double hitRate() {
+        return cache.hitRate();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("devops.jwt.cache.hits", cache, StripedLruCache::hitCount)
+                .description("JWT verifications answered from the verified-token cache")
+                .register(registry);
+        FunctionCounter.builder("devops.jwt.cache.misses", cache, StripedLruCache::missCount)
+                .description("JWT verifications that needed a signature check")
+                .register(registry);
+        FunctionCounter.builder("devops.jwt.cache.evictions", cache, StripedLruCache::evictionCount)
+                .description("Verified tokens evicted under LRU pressure")
+                .register(registry);
+        Gauge.builder("devops.jwt.cache.hit.ratio", cache, StripedLruCache::hitRate)
+                .description("Share of JWT verifications answered from the cache")
+                .register(registry);
+        Gauge.builder("devops.jwt.cache.size", cache, StripedLruCache::size)
+                .description("Verified tokens currently cached")
+                .register(registry);
+    }
+}
@@ -0,0 +1,27 @@
+package com.devops.payload.metrics;
+
+/**
+ * Why a {@code POST /DevOps} request was turned away; the {@code cause} tag of
+ * {@code devops.request.rejections}.
+ */
+public enum RejectionCause {
+
+    API_KEY("api-key"),
+    JWT("jwt"),
+    RATE_LIMIT("rate-limit"),
+    VALIDATION("validation"),
+    UNKNOWN_RECIPIENT("unknown-recipient"),
+    MESSAGE_SIZE("message-size"),
+    IDEMPOTENCY_KEY("idempotency-key"),
+    CONCURRENCY_LIMIT("concurrency-limit");
+
+    private final String id;
+
+    RejectionCause(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+}
@@ -0,0 +1,25 @@
+package com.devops.payload.metrics;
+
+/**
+ * Timed stages of {@code POST /DevOps}, in request order. The id is both the {@code stage} tag of
+ * {@code devops.request.stage} and the metric name in the {@code Server-Timing} header.
+ */
+public enum RequestStage {
+
+    API_KEY("api-key"),
+    JWT("jwt"),
+    RATE_LIMIT("rate-limit"),
+    VALIDATION("validation"),
+    PROCESSING("processing"),
+    SERIALIZATION("serialization");
+
+    private final String id;
+
+    RequestStage(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+}
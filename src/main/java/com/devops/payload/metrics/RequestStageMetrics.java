@@ -0,0 +1,79 @@
+package com.devops.payload.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Per-stage latency ({@code devops.request.stage}, with histogram buckets) and rejection counts
+ * ({@code devops.request.rejections}) for {@code POST /DevOps}. Meters are resolved once up front,
+ * so recording a stage is a clock read and a timer update, with no tag lookup.
+ * <p>
+ * Stages are chained: {@link #record} returns the time it read, to be passed as the start of the
+ * next stage.
+ */
+@Component
+public class RequestStageMetrics {
+
+    private final Timer[] stageTimers;
+    private final Counter[] rejectionCounters;
+    private final boolean serverTiming;
+
+    public RequestStageMetrics(MeterRegistry registry,
+            @Value("${payload.metrics.server-timing.enabled:false}") boolean serverTiming) {
+        this.serverTiming = serverTiming;
+        RequestStage[] stages = RequestStage.values();
+        stageTimers = new Timer[stages.length];
+        for (RequestStage stage : stages) {
+            stageTimers[stage.ordinal()] = Timer.builder("devops.request.stage")
+                    .description("Time spent in one stage of POST /DevOps")
+                    .tag("stage", stage.getId())
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+        RejectionCause[] causes = RejectionCause.values();
+        rejectionCounters = new Counter[causes.length];
+        for (RejectionCause cause : causes) {
+            rejectionCounters[cause.ordinal()] = Counter.builder("devops.request.rejections")
+                    .description("POST /DevOps requests rejected, by cause")
+                    .tag("cause", cause.getId())
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Records {@code stage} as having run from {@code startNanos} until now, and returns now.
+     */
+    public long record(RequestStage stage, long startNanos, HttpServletRequest request) {
+        long now = System.nanoTime();
+        long nanos = now - startNanos;
+        stageTimers[stage.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+        if (serverTiming && request != null) {
+            StageTimings.of(request).add(stage, nanos);
+        }
+        return now;
+    }
+
+    public void reject(RejectionCause cause) {
+        rejectionCounters[cause.ordinal()].increment();
+    }
+
+    public boolean isServerTimingEnabled() {
+        return serverTiming;
+    }
+
+    /** The {@code Server-Timing} header value for {@code request}, or {@code null} when disabled. */
+    public String serverTiming(HttpServletRequest request) {
+        if (!serverTiming) {
+            return null;
+        }
+        return StageTimings.of(request).toServerTiming();
+    }
+}
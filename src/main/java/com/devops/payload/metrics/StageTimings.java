@@ -0,0 +1,55 @@
+package com.devops.payload.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Stage durations of one request, kept as a request attribute to render the {@code Server-Timing}
+ * header. Only allocated when that header is enabled.
+ */
+public class StageTimings {
+
+    public static final String REQUEST_ATTRIBUTE = StageTimings.class.getName();
+
+    private static final RequestStage[] STAGES = RequestStage.values();
+
+    private final long[] nanos = new long[STAGES.length];
+
+    static StageTimings of(HttpServletRequest request) {
+        if (request.getAttribute(REQUEST_ATTRIBUTE) instanceof StageTimings timings) {
+            return timings;
+        }
+        StageTimings timings = new StageTimings();
+        request.setAttribute(REQUEST_ATTRIBUTE, timings);
+        return timings;
+    }
+
+    void add(RequestStage stage, long stageNanos) {
+        nanos[stage.ordinal()] += stageNanos;
+    }
+
+    public long nanos(RequestStage stage) {
+        return nanos[stage.ordinal()];
+    }
+
+    /** Renders the recorded stages as {@code name;dur=<ms>} entries; stages that did not run are left out. */
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder(128);
+        for (RequestStage stage : STAGES) {
+            long stageNanos = nanos[stage.ordinal()];
+            if (stageNanos == 0) {
+                continue;
+            }
+            if (!header.isEmpty()) {
+                header.append(", ");
+            }
+            long micros = stageNanos / 1000;
+            header.append(stage.getId()).append(";dur=").append(micros / 1000).append('.');
+            long fraction = micros % 1000;
+            if (fraction < 100) {
+                header.append(fraction < 10 ? "00" : "0");
+            }
+            header.append(fraction);
+        }
+        return header.toString();
+    }
+}
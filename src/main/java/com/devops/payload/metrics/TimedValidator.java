@@ -0,0 +1,61 @@
+package com.devops.payload.metrics;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * MVC validator that times {@code @Valid} as the {@link RequestStage#VALIDATION} stage and counts
+ * failed validations as rejections, delegating the checks themselves.
+ */
+public class TimedValidator implements SmartValidator {
+
+    private final SmartValidator delegate;
+    private final RequestStageMetrics metrics;
+
+    public TimedValidator(SmartValidator delegate, RequestStageMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        long start = System.nanoTime();
+        delegate.validate(target, errors);
+        recordValidation(start, errors);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        long start = System.nanoTime();
+        delegate.validate(target, errors, validationHints);
+        recordValidation(start, errors);
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors,
+            Object... validationHints) {
+        delegate.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+
+    private void recordValidation(long start, Errors errors) {
+        metrics.record(RequestStage.VALIDATION, start, metrics.isServerTimingEnabled() ? currentRequest() : null);
+        if (errors.hasErrors()) {
+            metrics.reject(RejectionCause.VALIDATION);
+        }
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servlet ? servlet.getRequest() : null;
+    }
+}
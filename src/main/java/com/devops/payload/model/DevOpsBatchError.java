@@ -0,0 +1,65 @@
+package com.devops.payload.model;
+
+public class DevOpsBatchError {
+
+    private int index;
+    private String error;
+
+    public DevOpsBatchError() {
+    }
+
+    public DevOpsBatchError(int index, String error) {
+        this.index = index;
+        this.error = error;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + index;
+        result = prime * result + ((error == null) ? 0 : error.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        DevOpsBatchError other = (DevOpsBatchError) obj;
+        if (index != other.index)
+            return false;
+        if (error == null) {
+            if (other.error != null)
+                return false;
+        } else if (!error.equals(other.error))
+            return false;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "DevOpsBatchError [index=" + index + ", error=" + error + "]";
+    }
+
+}
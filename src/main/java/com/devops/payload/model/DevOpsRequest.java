@@ -1,13 +1,17 @@
 package com.devops.payload.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
 public class DevOpsRequest {
 
+    // Spooled to disk instead of held in memory when large messages are enabled. Package-private so the
+    // generated DevOpsRequestValidator can read it: getMessage() returns the text, not the handle.
     @NotBlank(message = "Message cannot be blank")
-    private String message;
+    MessageBody message;
 
     @NotBlank(message = "To field cannot be blank")
     private String to;
@@ -23,18 +27,38 @@ public class DevOpsRequest {
     }
 
     public DevOpsRequest(String message, String to, String from, Integer timeToLifeSec) {
-        this.message = message;
+        setMessage(message);
         this.to = to;
         this.from = from;
         this.timeToLifeSec = timeToLifeSec;
     }
 
+    /**
+     * The message text. A spooled message is read into memory here; code that may see large messages
+     * should use {@link #getMessageBody()} instead.
+     */
     public String getMessage() {
-        return message;
+        return message == null ? null : message.asString();
     }
 
     public void setMessage(String message) {
-        this.message = message;
+        this.message = message == null ? null : MessageBody.of(message);
+    }
+
+    /**
+     * The message as a lazy handle, or {@code null} if there is none.
+     */
+    @JsonIgnore
+    public MessageBody getMessageBody() {
+        return message;
+    }
+
+    public void setMessageBody(MessageBody body) {
+        this.message = body;
+    }
+
+    public boolean hasSpooledMessage() {
+        return message != null && message.isSpooled();
     }
 
     public String getTo() {
@@ -0,0 +1,167 @@
+package com.devops.payload.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lazy handle on the text of {@link DevOpsRequest#getMessageBody() a message}: either held in memory or
+ * spooled to a file while the request was read, in which case only its size, SHA-256 and blankness are
+ * on the heap. Two spooled bodies are equal when their size and digest are.
+ * <p>
+ * A spooled file lives until {@link #release()}. {@code DevOpsService} {@link #claim() claims} the body
+ * when the message is accepted, after which whoever removes it from the outbox releases it; an unclaimed
+ * body is released when its HTTP request completes.
+ */
+public final class MessageBody {
+
+    private static final int OPEN = 0;
+    private static final int CLAIMED = 1;
+    private static final int RELEASED = 2;
+
+    private final String text;
+    private final Path file;
+    private final long size;
+    private final byte[] sha256;
+    private final boolean blank;
+    private final Runnable onRelease;
+    private final AtomicInteger state = new AtomicInteger(OPEN);
+
+    private MessageBody(String text, Path file, long size, byte[] sha256, boolean blank, Runnable onRelease) {
+        this.text = text;
+        this.file = file;
+        this.size = size;
+        this.sha256 = sha256;
+        this.blank = blank;
+        this.onRelease = onRelease;
+    }
+
+    public static MessageBody of(String text) {
+        return new MessageBody(text, null, -1, null, false, null);
+    }
+
+    /**
+     * @param onRelease run once, after the file is deleted
+     */
+    public static MessageBody spooled(Path file, long size, byte[] sha256, boolean blank, Runnable onRelease) {
+        return new MessageBody(null, file, size, sha256.clone(), blank, onRelease);
+    }
+
+    public boolean isSpooled() {
+        return file != null;
+    }
+
+    /**
+     * Length of the text in UTF-8 bytes.
+     */
+    public long size() {
+        return file != null ? size : text.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * SHA-256 of the UTF-8 text of a spooled body, or {@code null} for one held in memory.
+     */
+    public byte[] sha256() {
+        return sha256 == null ? null : sha256.clone();
+    }
+
+    public boolean isBlank() {
+        return file != null ? blank : text.isBlank();
+    }
+
+    /**
+     * The text as UTF-8 bytes, streamed from the spool file if there is one.
+     */
+    public InputStream openStream() throws IOException {
+        if (file == null) {
+            return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+        }
+        if (state.get() == RELEASED) {
+            throw new IOException("Message body was released: " + file);
+        }
+        return Files.newInputStream(file);
+    }
+
+    /**
+     * The text as a {@code String}, which for a spooled body reads the whole file into memory.
+     */
+    public String asString() {
+        if (file == null) {
+            return text;
+        }
+        try (InputStream in = openStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read spooled message " + file, e);
+        }
+    }
+
+    /**
+     * Takes ownership of the body, so completing the request no longer releases it.
+     *
+     * @return {@code false} if it was already claimed or released
+     */
+    public boolean claim() {
+        return state.compareAndSet(OPEN, CLAIMED);
+    }
+
+    /**
+     * Deletes the spool file unless the body was claimed.
+     */
+    public void releaseUnclaimed() {
+        if (state.compareAndSet(OPEN, RELEASED)) {
+            delete();
+        }
+    }
+
+    /**
+     * Deletes the spool file; later calls do nothing.
+     */
+    public void release() {
+        if (state.getAndSet(RELEASED) != RELEASED) {
+            delete();
+        }
+    }
+
+    private void delete() {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete spooled message " + file, e);
+        } finally {
+            if (onRelease != null) {
+                onRelease.run();
+            }
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return file != null ? Arrays.hashCode(sha256) : text.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof MessageBody other) || isSpooled() != other.isSpooled()) {
+            return false;
+        }
+        return file != null ? size == other.size && Arrays.equals(sha256, other.sha256) : text.equals(other.text);
+    }
+
+    @Override
+    public String toString() {
+        return file != null ? "<spooled " + size + " bytes>" : text;
+    }
+}
@@ -0,0 +1,18 @@
+package com.devops.payload.model;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * {@link NotBlank} for {@link MessageBody}, registered through {@code META-INF/services} so Hibernate
+ * Validator picks it for the message of a {@link DevOpsRequest}. Spooled bodies answer from the flag
+ * recorded while they were written, without reading the file.
+ */
+public class MessageBodyNotBlankValidator implements ConstraintValidator<NotBlank, MessageBody> {
+
+    @Override
+    public boolean isValid(MessageBody body, ConstraintValidatorContext context) {
+        return body != null && !body.isBlank();
+    }
+}
@@ -0,0 +1,77 @@
+package com.devops.payload.pool;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Small lock-free pool of reusable scratch objects (digests, buffers, sinks) shared by all threads.
+ * Unlike a {@link ThreadLocal}, it keeps working with one virtual thread per request: the number of
+ * pooled objects is bounded by the slots, not by the threads that ever ran. {@link #acquire()} falls
+ * back to a fresh object when every slot is empty, and {@link #release(Object)} drops the object when
+ * every slot is taken, so callers never wait. Neither allocates when the pool has a hit.
+ */
+public final class BoundedPool<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final Supplier<T> factory;
+    private final int mask;
+
+    /**
+     * @param capacity slots, rounded up to a power of two
+     */
+    public BoundedPool(int capacity, Supplier<T> factory) {
+        int size = Integer.highestOneBit(Math.max(1, capacity) * 2 - 1);
+        this.slots = new AtomicReferenceArray<>(size);
+        this.factory = factory;
+        this.mask = size - 1;
+    }
+
+    /**
+     * Twice the available processors: enough for every carrier thread to hold one object while
+     * another is being released.
+     */
+    public static int defaultCapacity() {
+        return Runtime.getRuntime().availableProcessors() * 2;
+    }
+
+    public T acquire() {
+        int start = start();
+        for (int i = 0; i <= mask; i++) {
+            int slot = (start + i) & mask;
+            T value = slots.get(slot);
+            if (value != null && slots.compareAndSet(slot, value, null)) {
+                return value;
+            }
+        }
+        return factory.get();
+    }
+
+    public void release(T value) {
+        int start = start();
+        for (int i = 0; i <= mask; i++) {
+            int slot = (start + i) & mask;
+            if (slots.get(slot) == null && slots.compareAndSet(slot, null, value)) {
+                return;
+            }
+        }
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    int pooled() {
+        int pooled = 0;
+        for (int i = 0; i <= mask; i++) {
+            if (slots.get(i) != null) {
+                pooled++;
+            }
+        }
+        return pooled;
+    }
+
+    private int start() {
+        // Spread threads over the slots so concurrent callers rarely contend on the same one.
+        return (int) (Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L >>> 40) & mask;
+    }
+}
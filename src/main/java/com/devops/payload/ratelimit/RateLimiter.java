@@ -0,0 +1,141 @@
+package com.devops.payload.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.devops.payload.apikey.ApiKeyInfo;
+import com.devops.payload.exception.RateLimitExceededException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Per-API-key and global request rate limits. A key uses the limits of its {@link ApiKeyInfo},
+ * or the configured defaults when it has none; a rate of {@code 0} disables that limit. Buckets are
+ * keyed by {@link ApiKeyInfo#keyId()}, so the limiter never holds a plaintext key. Buckets
+ * that have refilled completely are evicted periodically, which loses no state because a full
+ * bucket equals a fresh one, so memory only grows with the keys active in the last burst window.
+ */
+@Component
+public class RateLimiter implements MeterBinder {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long defaultRequestsPerSecond;
+    private final long defaultBurst;
+    private final StripedTokenBucket globalBucket;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final LongAdder keyRejections = new LongAdder();
+    private final LongAdder globalRejections = new LongAdder();
+
+    @Autowired
+    public RateLimiter(@Value("${payload.rate-limit.default-requests-per-second:0}") long defaultRequestsPerSecond,
+            @Value("${payload.rate-limit.default-burst:0}") long defaultBurst,
+            @Value("${payload.rate-limit.global-requests-per-second:0}") long globalRequestsPerSecond,
+            @Value("${payload.rate-limit.global-burst:0}") long globalBurst) {
+        this(defaultRequestsPerSecond, defaultBurst, globalRequestsPerSecond, globalBurst,
+                Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1), System::nanoTime);
+    }
+
+    public RateLimiter(long defaultRequestsPerSecond, long defaultBurst, long globalRequestsPerSecond,
+            long globalBurst, int globalStripes, LongSupplier nanoClock) {
+        this.defaultRequestsPerSecond = defaultRequestsPerSecond;
+        this.defaultBurst = defaultBurst > 0 ? defaultBurst : defaultRequestsPerSecond;
+        this.globalBucket = globalRequestsPerSecond <= 0 ? null
+                : new StripedTokenBucket(globalRequestsPerSecond,
+                        globalBurst > 0 ? globalBurst : globalRequestsPerSecond, globalStripes, nanoClock.getAsLong());
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Takes one permit for the key, then one from the global budget.
+     *
+     * @throws RateLimitExceededException with the seconds to wait if either limit is exhausted
+     */
+    public void acquire(ApiKeyInfo apiKeyInfo) {
+        long waitNanos = tryAcquire(apiKeyInfo);
+        if (waitNanos > 0) {
+            throw RateLimitExceededException.stackless(toRetryAfterSeconds(waitNanos));
+        }
+    }
+
+    /**
+     * Same as {@link #acquire(ApiKeyInfo)} without an exception.
+     *
+     * @return {@code 0} if admitted, otherwise the nanoseconds until a permit is available
+     */
+    public long tryAcquire(ApiKeyInfo apiKeyInfo) {
+        long now = nanoClock.getAsLong();
+        long requestsPerSecond = apiKeyInfo.requestsPerSecond() > 0 ? apiKeyInfo.requestsPerSecond()
+                : defaultRequestsPerSecond;
+        if (requestsPerSecond > 0) {
+            long burst = apiKeyInfo.requestsPerSecond() > 0 ? apiKeyInfo.burst() : defaultBurst;
+            long waitNanos = bucketFor(apiKeyInfo.keyId(), requestsPerSecond, burst, now).tryAcquire(now);
+            if (waitNanos > 0) {
+                keyRejections.increment();
+                return waitNanos;
+            }
+        }
+        if (globalBucket != null) {
+            long waitNanos = globalBucket.tryAcquire(now);
+            if (waitNanos > 0) {
+                globalRejections.increment();
+                return waitNanos;
+            }
+        }
+        return 0;
+    }
+
+    public static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1L, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+    }
+
+    /**
+     * Drops buckets that are full again. A permit taken concurrently with the removal may be
+     * forgotten, which errs towards the client by at most one request.
+     */
+    @Scheduled(fixedDelayString = "${payload.rate-limit.eviction-interval-millis:10000}")
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    public int trackedKeys() {
+        return buckets.size();
+    }
+
+    private TokenBucket bucketFor(String keyId, long requestsPerSecond, long burst, long now) {
+        TokenBucket bucket = buckets.get(keyId);
+        if (bucket != null && bucket.hasLimits(requestsPerSecond, burst)) {
+            return bucket;
+        }
+        // New key, or its limits changed with a registry reload.
+        return buckets.compute(keyId, (key, current) -> current != null && current.hasLimits(requestsPerSecond, burst)
+                ? current
+                : new TokenBucket(requestsPerSecond, burst, now));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("devops.ratelimit.rejected", keyRejections, LongAdder::sum)
+                .tag("scope", "key")
+                .description("Requests rejected by their API key's rate limit")
+                .register(registry);
+        FunctionCounter.builder("devops.ratelimit.rejected", globalRejections, LongAdder::sum)
+                .tag("scope", "global")
+                .description("Requests rejected by the global rate limit")
+                .register(registry);
+        Gauge.builder("devops.ratelimit.buckets", buckets, ConcurrentHashMap::size)
+                .description("API keys with a partially drained token bucket")
+                .register(registry);
+    }
+}
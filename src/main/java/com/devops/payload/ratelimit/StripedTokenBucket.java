@@ -0,0 +1,42 @@
+package com.devops.payload.ratelimit;
+
+/**
+ * Token bucket split into independent stripes, each refilling at {@code 1/stripes} of the rate
+ * with its share of the burst. A thread starts at the stripe picked by its id and only visits the
+ * others when that one is empty, so under load CAS traffic is spread across cache lines instead
+ * of converging on a single word.
+ */
+final class StripedTokenBucket {
+
+    private final TokenBucket[] stripes;
+    private final int mask;
+
+    StripedTokenBucket(long requestsPerSecond, long burst, int stripes, long nowNanos) {
+        if (stripes <= 0 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("stripes must be a power of two");
+        }
+        long intervalNanos = Math.max(1L, 1_000_000_000L * stripes / requestsPerSecond);
+        long stripeBurst = Math.max(1L, (burst + stripes - 1) / stripes);
+        this.stripes = new TokenBucket[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new TokenBucket(requestsPerSecond, stripeBurst, intervalNanos, nowNanos);
+        }
+        this.mask = stripes - 1;
+    }
+
+    /**
+     * @return {@code 0} if a token was taken, otherwise the shortest wait over all stripes
+     */
+    long tryAcquire(long nowNanos) {
+        int start = (int) Thread.currentThread().threadId();
+        long shortestWait = Long.MAX_VALUE;
+        for (int i = 0; i <= mask; i++) {
+            long waitNanos = stripes[(start + i) & mask].tryAcquire(nowNanos);
+            if (waitNanos == 0) {
+                return 0;
+            }
+            shortestWait = Math.min(shortestWait, waitNanos);
+        }
+        return shortestWait;
+    }
+}
@@ -0,0 +1,70 @@
+package com.devops.payload.ratelimit;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Lock-free token bucket kept as a single long: the theoretical arrival time (GCRA) of the next
+ * request, in nanoseconds. Holding {@code burst} tokens is the same as that time being at most
+ * {@code now}, and every permit pushes it one emission interval further, so acquiring is a single
+ * CAS with no separate refill step. A bucket whose arrival time has passed is full, hence
+ * indistinguishable from a fresh one.
+ */
+final class TokenBucket {
+
+    private static final VarHandle ARRIVAL;
+
+    static {
+        try {
+            ARRIVAL = MethodHandles.lookup().findVarHandle(TokenBucket.class, "arrivalNanos", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final long requestsPerSecond;
+    private final long burst;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+
+    private volatile long arrivalNanos;
+
+    TokenBucket(long requestsPerSecond, long burst, long nowNanos) {
+        this(requestsPerSecond, burst, Math.max(1L, 1_000_000_000L / requestsPerSecond), nowNanos);
+    }
+
+    TokenBucket(long requestsPerSecond, long burst, long intervalNanos, long nowNanos) {
+        this.requestsPerSecond = requestsPerSecond;
+        this.burst = Math.max(1L, burst);
+        this.intervalNanos = intervalNanos;
+        this.toleranceNanos = this.burst * intervalNanos;
+        this.arrivalNanos = nowNanos;
+    }
+
+    /**
+     * Takes one token.
+     *
+     * @return {@code 0} if a token was taken, otherwise the nanoseconds until one is available
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long arrival = (long) ARRIVAL.getVolatile(this);
+            long next = Math.max(arrival, nowNanos) + intervalNanos;
+            long waitNanos = next - nowNanos - toleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (ARRIVAL.compareAndSet(this, arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    boolean isFull(long nowNanos) {
+        return (long) ARRIVAL.getVolatile(this) <= nowNanos;
+    }
+
+    boolean hasLimits(long requestsPerSecond, long burst) {
+        return this.requestsPerSecond == requestsPerSecond && this.burst == Math.max(1L, burst);
+    }
+}
@@ -0,0 +1,267 @@
+package com.devops.payload.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.devops.payload.apikey.ApiKeyInfo;
+import com.devops.payload.codec.DevOpsJsonCodec;
+import com.devops.payload.exception.MessageTooLargeException;
+import com.devops.payload.exception.UnknownRecipientException;
+import com.devops.payload.model.DevOpsBatchError;
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.MessageBody;
+import com.devops.payload.ratelimit.RateLimiter;
+import com.devops.payload.spool.MessageSpool;
+import com.devops.payload.validation.GeneratedValidators;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Streams a JSON array or an NDJSON sequence of {@link DevOpsRequest} items and writes one
+ * NDJSON line per item, either a {@code DevOpsResponse} or a {@link DevOpsBatchError}.
+ * Items are read with the {@link DevOpsJsonCodec} rules of a single request, including its field length
+ * limit, and held to the caller's message size limit. They are parsed, validated and processed in chunks
+ * so the batch is never buffered whole; large chunks are split by recipient into slices run on
+ * {@code applicationTaskExecutor}, which follows the configured
+ * {@link com.devops.payload.config.ExecutionMode}, so each recipient's items are still enqueued in batch
+ * order. Every item after the first takes its
+ * own rate-limit permit (the first is the one that admitted the request), so a batch is charged
+ * like the equivalent single requests; an item over the limit, or one that fails for any reason,
+ * gets an error line and the rest of the batch carries on.
+ */
+@Service
+public class DevOpsBatchService {
+
+    static final int CHUNK_SIZE = 256;
+    static final int PARALLEL_THRESHOLD = 64;
+    static final int SLICE_SIZE = 32;
+    static final String ERROR = "ERROR";
+
+    private static final Logger log = LoggerFactory.getLogger(DevOpsBatchService.class);
+
+    private final DevOpsService devOpsService;
+    private final RateLimiter rateLimiter;
+    private final GeneratedValidators validator;
+    private final ObjectMapper objectMapper;
+    private final AsyncTaskExecutor taskExecutor;
+    private final MessageSpool spool;
+    private final DevOpsJsonCodec codec;
+    private final ObjectWriter resultWriter;
+
+    public DevOpsBatchService(DevOpsService devOpsService, RateLimiter rateLimiter, GeneratedValidators validator,
+            ObjectMapper objectMapper, @Qualifier("applicationTaskExecutor") AsyncTaskExecutor taskExecutor,
+            Optional<MessageSpool> spool,
+            @Value("${payload.codec.max-field-length:65536}") int maxFieldLength,
+            @Value("${payload.codec.max-body-bytes:262144}") int maxBodyBytes) {
+        this.devOpsService = devOpsService;
+        this.rateLimiter = rateLimiter;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.taskExecutor = taskExecutor;
+        this.spool = spool.orElse(null);
+        this.codec = new DevOpsJsonCodec(maxFieldLength, maxBodyBytes);
+        this.resultWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * @param apiKeyInfo the caller's key, charged one permit per item after the first
+     */
+    public void processBatch(InputStream in, OutputStream out, ApiKeyInfo apiKeyInfo) throws IOException {
+        try (JsonParser parser = codec.createBatchParser(in);
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            List<BatchItem> chunk = new ArrayList<>(CHUNK_SIZE);
+            int index = 0;
+            try {
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.START_ARRAY) {
+                    token = parser.nextToken();
+                }
+                while (token != null && token != JsonToken.END_ARRAY) {
+                    DevOpsRequest request = readItem(parser);
+                    chunk.add(new BatchItem(index++, request));
+                    if (chunk.size() == CHUNK_SIZE) {
+                        writeChunk(generator, chunk, apiKeyInfo);
+                    }
+                    token = parser.nextToken();
+                }
+                writeChunk(generator, chunk, apiKeyInfo);
+            } catch (JsonProcessingException e) {
+                // Malformed input: everything parsed so far is answered, then the stream ends with an error.
+                writeChunk(generator, chunk, apiKeyInfo);
+                writeLine(generator, new DevOpsBatchError(index, ERROR));
+            }
+        }
+    }
+
+    private DevOpsRequest readItem(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        JsonStreamContext parent = parser.getParsingContext().getParent();
+        try {
+            return codec.readRequest(parser);
+        } catch (JsonParseException e) {
+            if (e instanceof JsonEOFException) {
+                throw e;
+            }
+            // Skip the rest of the offending object so the next item starts on a clean token; input that is
+            // malformed rather than just invalid fails again here and ends the batch.
+            while (parser.currentToken() != null
+                    && !(parser.currentToken() == JsonToken.END_OBJECT && parser.getParsingContext() == parent)) {
+                parser.nextToken();
+            }
+            return null;
+        }
+    }
+
+    private void writeChunk(JsonGenerator generator, List<BatchItem> chunk, ApiKeyInfo apiKeyInfo)
+            throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        if (chunk.size() < PARALLEL_THRESHOLD) {
+            for (BatchItem item : chunk) {
+                writeLine(generator, processItem(item, apiKeyInfo));
+            }
+        } else {
+            // Slices run in parallel but each one in order, so all items to one recipient go to the same slice
+            // to reach the journal and the outbox in batch order.
+            int sliceCount = (chunk.size() + SLICE_SIZE - 1) / SLICE_SIZE;
+            List<List<BatchItem>> slices = new ArrayList<>(sliceCount);
+            for (int i = 0; i < sliceCount; i++) {
+                slices.add(new ArrayList<>(SLICE_SIZE));
+            }
+            for (BatchItem item : chunk) {
+                slices.get(sliceOf(item.request(), sliceCount)).add(item);
+            }
+            List<CompletableFuture<List<Object>>> results = new ArrayList<>(sliceCount);
+            for (List<BatchItem> slice : slices) {
+                results.add(slice.isEmpty() ? CompletableFuture.completedFuture(List.of())
+                        : submitSlice(slice, apiKeyInfo));
+            }
+            int first = chunk.get(0).index();
+            Object[] ordered = new Object[chunk.size()];
+            for (int i = 0; i < sliceCount; i++) {
+                List<BatchItem> slice = slices.get(i);
+                List<Object> sliceResults = joinSlice(results.get(i), slice);
+                for (int j = 0; j < slice.size(); j++) {
+                    ordered[slice.get(j).index() - first] = sliceResults.get(j);
+                }
+            }
+            for (Object result : ordered) {
+                writeLine(generator, result);
+            }
+        }
+        generator.flush();
+        chunk.clear();
+    }
+
+    /**
+     * Slice of a parallel chunk that {@code request} goes to: chosen by recipient, so that the items of one
+     * recipient keep their order. Items that could not be read have no recipient and go to the first slice.
+     */
+    static int sliceOf(DevOpsRequest request, int sliceCount) {
+        if (request == null || request.getTo() == null) {
+            return 0;
+        }
+        int hash = request.getTo().hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), sliceCount);
+    }
+
+    private CompletableFuture<List<Object>> submitSlice(List<BatchItem> slice, ApiKeyInfo apiKeyInfo) {
+        try {
+            return CompletableFuture.supplyAsync(() -> processSlice(slice, apiKeyInfo), taskExecutor);
+        } catch (RuntimeException e) {
+            // Executor rejected the task; answered per item like any other failure.
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private List<Object> joinSlice(CompletableFuture<List<Object>> result, List<BatchItem> slice) {
+        try {
+            return result.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            log.warn("Batch slice of {} items from index {} failed", slice.size(), slice.get(0).index(), cause);
+            List<Object> errors = new ArrayList<>(slice.size());
+            for (BatchItem item : slice) {
+                errors.add(new DevOpsBatchError(item.index(), ERROR));
+            }
+            return errors;
+        }
+    }
+
+    private List<Object> processSlice(List<BatchItem> slice, ApiKeyInfo apiKeyInfo) {
+        List<Object> results = new ArrayList<>(slice.size());
+        for (BatchItem item : slice) {
+            results.add(processItem(item, apiKeyInfo));
+        }
+        return results;
+    }
+
+    private Object processItem(BatchItem item, ApiKeyInfo apiKeyInfo) {
+        if (item.index() > 0 && rateLimiter.tryAcquire(apiKeyInfo) > 0) {
+            return new DevOpsBatchError(item.index(), ERROR);
+        }
+        DevOpsRequest request = item.request();
+        try {
+            if (request == null || validator.validateObject(request).hasErrors()) {
+                return new DevOpsBatchError(item.index(), ERROR);
+            }
+            checkMessageSize(request.getMessageBody(), apiKeyInfo);
+            return devOpsService.processDevOpsRequest(request);
+        } catch (MessageTooLargeException | UnknownRecipientException e) {
+            return new DevOpsBatchError(item.index(), ERROR);
+        } catch (RuntimeException e) {
+            log.warn("Batch item {} failed", item.index(), e);
+            return new DevOpsBatchError(item.index(), ERROR);
+        }
+    }
+
+    /**
+     * Applies the limit a spooled message of the caller would get. Without large-message mode only a limit
+     * set on the key applies, as the field length limit already bounds the rest.
+     */
+    private void checkMessageSize(MessageBody message, ApiKeyInfo apiKeyInfo) {
+        long maxBytes = spool != null ? spool.limitFor(apiKeyInfo) : apiKeyInfo.maxMessageBytes();
+        // UTF-8 takes at most three bytes per char, so most messages are let through without encoding them.
+        if (message != null && maxBytes > 0 && 3L * message.asString().length() > maxBytes
+                && message.size() > maxBytes) {
+            throw MessageTooLargeException.stackless(maxBytes);
+        }
+    }
+
+    private void writeLine(JsonGenerator generator, Object value) throws IOException {
+        resultWriter.writeValue(generator, value);
+        generator.writeRaw('\n');
+    }
+
+    private record BatchItem(int index, DevOpsRequest request) {
+    }
+}
@@ -1,17 +1,81 @@
 package com.devops.payload.service;
 
+import java.util.Locale;
+import java.util.Optional;
+
 import org.springframework.stereotype.Service;
 
+import com.devops.payload.codec.ResponseEncoder;
+import com.devops.payload.codec.ResponseFormat;
+import com.devops.payload.delivery.Outbox;
+import com.devops.payload.directory.RecipientDirectory;
+import com.devops.payload.exception.UnknownRecipientException;
+import com.devops.payload.journal.MessageJournal;
 import com.devops.payload.model.DevOpsRequest;
 import com.devops.payload.model.DevOpsResponse;
+import com.devops.payload.template.ResponseTemplateEngine;
 
 @Service
 public class DevOpsService {
 
+    private final Outbox outbox;
+    private final ResponseTemplateEngine templateEngine;
+    private final ResponseEncoder responseEncoder;
+    private final MessageJournal journal;
+    private final RecipientDirectory directory;
+
+    public DevOpsService(Outbox outbox, ResponseTemplateEngine templateEngine, ResponseEncoder responseEncoder,
+            Optional<MessageJournal> journal, Optional<RecipientDirectory> directory) {
+        this.outbox = outbox;
+        this.templateEngine = templateEngine;
+        this.responseEncoder = responseEncoder;
+        this.journal = journal.orElse(null);
+        this.directory = directory.orElse(null);
+    }
+
     public DevOpsResponse processDevOpsRequest(DevOpsRequest request) {
-        String recipientName = request.getTo();
-        String message = String.format("Hello %s your message will be send", recipientName);
+        enqueue(request);
+
+        String message = templateEngine.templateFor(Locale.ENGLISH).message(request);
         return new DevOpsResponse(message);
     }
-}
 
+    /**
+     * The processing half of {@link #processDevOpsRequest(DevOpsRequest)}, for callers that encode the
+     * response themselves with {@link #encodeResponse}. With the directory enabled, {@code to} and
+     * {@code from} must be known addresses; with the journal enabled, returns only once the message is
+     * on disk. A spooled message body is claimed by the outbox.
+     *
+     * @throws UnknownRecipientException if the directory does not know {@code to} or {@code from}
+     * @throws com.devops.payload.exception.JournalUnavailableException if the journal cannot take the message
+     */
+    public void enqueue(DevOpsRequest request) {
+        if (directory != null) {
+            if (!directory.isKnown(request.getTo())) {
+                throw UnknownRecipientException.stackless(request.getTo());
+            }
+            if (!directory.isKnown(request.getFrom())) {
+                throw UnknownRecipientException.stackless(request.getFrom());
+            }
+        }
+        if (journal != null) {
+            journal.append(request);
+        }
+        if (request.hasSpooledMessage()) {
+            request.getMessageBody().claim();
+        }
+        outbox.offer(request);
+    }
+
+    /**
+     * The response body for an already {@link #enqueue(DevOpsRequest) enqueued} request, in the template
+     * variant for {@code locale}. JSON keeps the pre-encoded template path.
+     */
+    public byte[] encodeResponse(DevOpsRequest request, Locale locale, ResponseFormat format) {
+        if (format == ResponseFormat.JSON) {
+            return templateEngine.templateFor(locale).render(request);
+        }
+        DevOpsResponse response = new DevOpsResponse(templateEngine.templateFor(locale).message(request));
+        return responseEncoder.encode(response, format);
+    }
+}
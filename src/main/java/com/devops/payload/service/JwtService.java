@@ -1,25 +1,64 @@
 package com.devops.payload.service;
 
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.devops.payload.exception.InvalidJwtException;
+import com.devops.payload.jwt.JwtClaims;
+import com.devops.payload.jwt.JwtTokenizer;
+import com.devops.payload.jwt.JwtVerifier;
+import com.devops.payload.jwt.VerifiedTokenCache;
 
 @Service
 public class JwtService {
 
-    public void validateJwt(String jwt) {
-        if (jwt == null || jwt.trim().isEmpty()) {
-            throw new InvalidJwtException(null);
-        }
+    private final JwtVerifier jwtVerifier;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public JwtService() {
+        this(Optional.empty(), null);
+    }
+
+    @Autowired
+    public JwtService(Optional<JwtVerifier> jwtVerifier, VerifiedTokenCache verifiedTokenCache) {
+        this.jwtVerifier = jwtVerifier.orElse(null);
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
 
-        if (!isValidJwtFormat(jwt)) {
-            throw new InvalidJwtException(jwt);
+    /**
+     * Validates the token and returns a lazily decoded view of its claims. With keys configured a
+     * repeated token is answered from the verified-token cache without allocating.
+     */
+    public JwtClaims validateJwt(String jwt) {
+        JwtClaims claims = resolveJwt(jwt);
+        if (claims == null) {
+            throw InvalidJwtException.stackless(jwt);
         }
+        return claims;
     }
 
-    private boolean isValidJwtFormat(String jwt) {
-        // JWT should have at least 3 parts separated by dots
-        return jwt.split("\\.").length >= 3;
+    /**
+     * Same as {@link #validateJwt(String)} but returns {@code null} for a missing or invalid token.
+     */
+    public JwtClaims resolveJwt(String jwt) {
+        if (jwt == null || jwt.isBlank()) {
+            return null;
+        }
+
+        if (jwtVerifier == null) {
+            // No keys configured (security.jwt.key-file): only the token structure can be checked.
+            return JwtTokenizer.hasJwtStructure(jwt) ? JwtClaims.of(jwt) : null;
+        }
+
+        JwtClaims claims = verifiedTokenCache.lookup(jwt);
+        if (claims == null) {
+            claims = jwtVerifier.tryVerify(jwt);
+            if (claims != null) {
+                verifiedTokenCache.remember(jwt, claims);
+            }
+        }
+        return claims;
     }
 }
-
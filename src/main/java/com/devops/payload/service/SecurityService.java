@@ -1,27 +1,43 @@
 package com.devops.payload.service;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.devops.payload.apikey.ApiKeyInfo;
+import com.devops.payload.apikey.ApiKeyRegistry;
 import com.devops.payload.exception.InvalidApiKeyException;
 
 @Service
 public class SecurityService {
 
-    private static final String VALID_API_KEY = "2f5ae96c-b558-4c7b-a590-a501ae1c3f6c";
+    private final ApiKeyRegistry apiKeyRegistry;
 
-    public void validateApiKey(String apiKey) {
-        if (apiKey == null || apiKey.trim().isEmpty()) {
-            throw new InvalidApiKeyException(null);
+    public SecurityService(ApiKeyRegistry apiKeyRegistry) {
+        this.apiKeyRegistry = apiKeyRegistry;
+    }
+
+    /**
+     * @return the metadata of the key, so later stages need not look it up again
+     */
+    public ApiKeyInfo validateApiKey(String apiKey) {
+        ApiKeyInfo apiKeyInfo = resolveApiKey(apiKey);
+        if (apiKeyInfo == null) {
+            throw InvalidApiKeyException.stackless(apiKey == null || apiKey.isBlank() ? null : apiKey);
         }
+        return apiKeyInfo;
+    }
 
-        if (!VALID_API_KEY.equals(apiKey)) {
-            throw new InvalidApiKeyException(apiKey);
+    /**
+     * Same as {@link #validateApiKey(String)} but returns {@code null} for a missing, unknown or inactive key.
+     */
+    public ApiKeyInfo resolveApiKey(String apiKey) {
+        if (apiKey == null || apiKey.isBlank()) {
+            return null;
         }
+        ApiKeyInfo apiKeyInfo = apiKeyRegistry.resolve(apiKey);
+        return apiKeyInfo == null || !apiKeyInfo.isActive() ? null : apiKeyInfo;
     }
 
     public String getValidApiKey() {
-        return VALID_API_KEY;
+        return apiKeyRegistry.getBootstrapKey();
     }
 }
-
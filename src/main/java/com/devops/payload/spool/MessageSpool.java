@@ -0,0 +1,137 @@
+package com.devops.payload.spool;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.devops.payload.apikey.ApiKeyInfo;
+import com.devops.payload.model.MessageBody;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Spool directory for large-message mode. Hands out a {@link SpoolWriter} per request, sized by the
+ * caller's {@link ApiKeyInfo#maxMessageBytes()} or the default limit, and keeps count of the spooled
+ * files still on disk. Files left over from a previous run belong to requests that are gone and are
+ * deleted on startup.
+ */
+@Component
+@ConditionalOnProperty(name = "payload.large-message.enabled", havingValue = "true")
+public class MessageSpool implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(MessageSpool.class);
+
+    private static final String PREFIX = "spool-";
+    private static final String SUFFIX = ".msg";
+
+    private final Path directory;
+    private final int thresholdBytes;
+    private final long maxBytes;
+    private final AtomicLong files = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final LongAdder spooled = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    @Autowired
+    public MessageSpool(@Value("${payload.large-message.spool-directory:}") String directory,
+            @Value("${payload.large-message.spool-threshold-bytes:65536}") int thresholdBytes,
+            @Value("${payload.large-message.max-bytes:16777216}") long maxBytes) {
+        this(directory.isBlank() ? Path.of(System.getProperty("java.io.tmpdir"), "payload-spool") : Path.of(directory),
+                thresholdBytes, maxBytes);
+    }
+
+    public MessageSpool(Path directory, int thresholdBytes, long maxBytes) {
+        this.directory = directory;
+        this.thresholdBytes = thresholdBytes;
+        this.maxBytes = maxBytes;
+        try {
+            Files.createDirectories(directory);
+            List<Path> leftovers;
+            try (Stream<Path> listing = Files.list(directory)) {
+                leftovers = listing.filter(MessageSpool::isSpoolFile).toList();
+            }
+            for (Path leftover : leftovers) {
+                Files.deleteIfExists(leftover);
+            }
+            if (!leftovers.isEmpty()) {
+                log.info("Spool {}: deleted {} files from a previous run", directory, leftovers.size());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot prepare spool directory " + directory, e);
+        }
+    }
+
+    private static boolean isSpoolFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    /**
+     * Message size limit for the caller, or the default one if it has none or is not known yet.
+     */
+    public long limitFor(ApiKeyInfo apiKeyInfo) {
+        return apiKeyInfo != null && apiKeyInfo.maxMessageBytes() > 0 ? apiKeyInfo.maxMessageBytes() : maxBytes;
+    }
+
+    public SpoolWriter newWriter(long maxBytes) {
+        return new SpoolWriter(this, thresholdBytes, maxBytes);
+    }
+
+    Path newFile() throws IOException {
+        return Files.createTempFile(directory, PREFIX, SUFFIX);
+    }
+
+    MessageBody spooled(Path file, long size, byte[] sha256, boolean blank) {
+        spooled.increment();
+        files.incrementAndGet();
+        bytes.addAndGet(size);
+        return MessageBody.spooled(file, size, sha256, blank, () -> {
+            files.decrementAndGet();
+            bytes.addAndGet(-size);
+        });
+    }
+
+    void rejected() {
+        rejected.increment();
+    }
+
+    void deleteFailed(Path file, IOException e) {
+        log.warn("Cannot delete spool file {}", file, e);
+    }
+
+    public SpoolStats getStats() {
+        return new SpoolStats(files.get(), bytes.get(), spooled.sum(), rejected.sum());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("devops.spool.files", this, spool -> spool.getStats().files())
+                .description("Spooled messages on disk")
+                .register(registry);
+        Gauge.builder("devops.spool.bytes", this, spool -> spool.getStats().bytes())
+                .description("Bytes of spooled messages on disk")
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder("devops.spool.spooled", this, spool -> spool.getStats().spooled())
+                .description("Messages spooled to disk past the threshold")
+                .register(registry);
+        FunctionCounter.builder("devops.spool.rejected", this, spool -> spool.getStats().rejected())
+                .description("Messages rejected for exceeding the caller's size limit")
+                .register(registry);
+    }
+}
@@ -0,0 +1,7 @@
+package com.devops.payload.spool;
+
+/**
+ * Point-in-time counters of a {@link MessageSpool}; {@code files} and {@code bytes} are what is on disk now.
+ */
+public record SpoolStats(long files, long bytes, long spooled, long rejected) {
+}
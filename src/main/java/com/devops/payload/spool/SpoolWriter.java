@@ -0,0 +1,134 @@
+package com.devops.payload.spool;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import com.devops.payload.exception.MessageTooLargeException;
+import com.devops.payload.model.MessageBody;
+
+/**
+ * Collects one message as it is decoded. Text stays in a heap buffer up to the spool threshold; past it
+ * the buffer is written to a new spool file and from then on reused as a fixed write buffer, so the heap
+ * held does not grow with the message. The size limit is checked on every byte.
+ */
+public final class SpoolWriter {
+
+    private final MessageSpool spool;
+    private final int thresholdBytes;
+    private final long maxBytes;
+
+    private byte[] buffer;
+    private int count;
+    private long size;
+    private boolean blank = true;
+    private Path file;
+    private OutputStream out;
+    private MessageDigest digest;
+    private MessageBody finished;
+
+    SpoolWriter(MessageSpool spool, int thresholdBytes, long maxBytes) {
+        this.spool = spool;
+        this.thresholdBytes = Math.max(1, thresholdBytes);
+        this.maxBytes = maxBytes;
+        this.buffer = new byte[Math.min(256, this.thresholdBytes)];
+    }
+
+    /**
+     * Appends one Unicode code point as UTF-8.
+     *
+     * @throws MessageTooLargeException once the message passes the limit; the writer is aborted
+     */
+    public void writeCodePoint(int codePoint) throws IOException {
+        if (blank && !Character.isWhitespace(codePoint)) {
+            blank = false;
+        }
+        if (codePoint < 0x80) {
+            put(codePoint);
+        } else if (codePoint < 0x800) {
+            put(0xC0 | (codePoint >>> 6));
+            put(0x80 | (codePoint & 0x3F));
+        } else if (codePoint < 0x10000) {
+            put(0xE0 | (codePoint >>> 12));
+            put(0x80 | ((codePoint >>> 6) & 0x3F));
+            put(0x80 | (codePoint & 0x3F));
+        } else {
+            put(0xF0 | (codePoint >>> 18));
+            put(0x80 | ((codePoint >>> 12) & 0x3F));
+            put(0x80 | ((codePoint >>> 6) & 0x3F));
+            put(0x80 | (codePoint & 0x3F));
+        }
+    }
+
+    private void put(int b) throws IOException {
+        if (++size > maxBytes) {
+            abort();
+            spool.rejected();
+            throw MessageTooLargeException.stackless(maxBytes);
+        }
+        if (count == buffer.length) {
+            if (file == null && buffer.length < thresholdBytes) {
+                buffer = Arrays.copyOf(buffer, (int) Math.min(buffer.length * 2L, thresholdBytes));
+            } else {
+                flush();
+            }
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    private void flush() throws IOException {
+        if (file == null) {
+            file = spool.newFile();
+            out = Files.newOutputStream(file);
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        digest.update(buffer, 0, count);
+        out.write(buffer, 0, count);
+        count = 0;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * The message written so far, in memory or spooled.
+     */
+    public MessageBody finish() throws IOException {
+        if (file == null) {
+            finished = MessageBody.of(new String(buffer, 0, count, StandardCharsets.UTF_8));
+        } else {
+            flush();
+            out.close();
+            finished = spool.spooled(file, size, digest.digest(), blank);
+        }
+        return finished;
+    }
+
+    /**
+     * Discards the message, deleting its spool file, whether or not it was finished.
+     */
+    public void abort() {
+        if (finished != null) {
+            finished.release();
+        } else if (file != null) {
+            try {
+                out.close();
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                spool.deleteFailed(file, e);
+            }
+        }
+        file = null;
+        finished = null;
+    }
+}
@@ -0,0 +1,119 @@
+package com.devops.payload.template;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer that writes text as escaped UTF-8 JSON string content, with the same
+ * escaping as Jackson's default generator: quote, backslash and control characters.
+ */
+final class JsonByteSink {
+
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] buffer;
+    private int size;
+
+    JsonByteSink(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    void reset() {
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return buffer.length;
+    }
+
+    void write(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    void writeEscaped(CharSequence text) {
+        int length = text.length();
+        // Worst case per char: a 6-byte \\u00XX escape or 3 UTF-8 bytes.
+        ensureCapacity(length * 6);
+        byte[] out = buffer;
+        int position = size;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                if (c == '"' || c == '\\') {
+                    out[position++] = '\\';
+                    out[position++] = (byte) c;
+                } else if (c < 0x20) {
+                    position = writeControl(out, position, c);
+                } else {
+                    out[position++] = (byte) c;
+                }
+            } else if (c < 0x800) {
+                out[position++] = (byte) (0xC0 | c >> 6);
+                out[position++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                out[position++] = (byte) (0xF0 | codePoint >> 18);
+                out[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                out[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                out[position++] = (byte) (0x80 | codePoint & 0x3F);
+            } else {
+                // Unpaired surrogates become U+FFFD, as String.getBytes(UTF_8) does.
+                char encoded = Character.isSurrogate(c) ? '\uFFFD' : c;
+                out[position++] = (byte) (0xE0 | encoded >> 12);
+                out[position++] = (byte) (0x80 | encoded >> 6 & 0x3F);
+                out[position++] = (byte) (0x80 | encoded & 0x3F);
+            }
+        }
+        size = position;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private static int writeControl(byte[] out, int position, char c) {
+        switch (c) {
+            case '\n' -> {
+                out[position++] = '\\';
+                out[position++] = 'n';
+            }
+            case '\r' -> {
+                out[position++] = '\\';
+                out[position++] = 'r';
+            }
+            case '\t' -> {
+                out[position++] = '\\';
+                out[position++] = 't';
+            }
+            case '\b' -> {
+                out[position++] = '\\';
+                out[position++] = 'b';
+            }
+            case '\f' -> {
+                out[position++] = '\\';
+                out[position++] = 'f';
+            }
+            default -> {
+                out[position++] = '\\';
+                out[position++] = 'u';
+                out[position++] = '0';
+                out[position++] = '0';
+                out[position++] = HEX[c >> 4];
+                out[position++] = HEX[c & 0xF];
+            }
+        }
+        return position;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (size + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+        }
+    }
+}
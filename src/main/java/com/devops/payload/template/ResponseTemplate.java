@@ -0,0 +1,148 @@
+package com.devops.payload.template;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import com.devops.payload.cache.StripedLruCache;
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.pool.BoundedPool;
+
+/**
+ * A response message pattern such as {@code "Hello {to} your message will be send"}, compiled
+ * once into the literal parts of the final {@code {"message":"..."}} body, already escaped and
+ * UTF-8 encoded. Rendering only escapes the request fields between them. When the pattern uses
+ * no field but {@code {to}}, encoded bodies are cached per recipient.
+ */
+public final class ResponseTemplate {
+
+    /** Bodies above this size are rendered every time rather than cached. */
+    static final int MAX_CACHED_BODY_BYTES = 1024;
+
+    private static final String BODY_PREFIX = "{\"message\":\"";
+    private static final String BODY_SUFFIX = "\"}";
+
+    /** Sinks grown past this by a long field serve that one render and are then left to the GC. */
+    static final int MAX_POOLED_SINK_BYTES = 4096;
+
+    private static final BoundedPool<JsonByteSink> SINKS = new BoundedPool<>(BoundedPool.defaultCapacity(),
+            () -> new JsonByteSink(256));
+
+    private final String pattern;
+    private final String[] literals;
+    private final byte[][] encodedLiterals;
+    private final Field[] fields;
+    private final StripedLruCache<String, byte[]> cache;
+
+    enum Field {
+        TO,
+        FROM
+    }
+
+    ResponseTemplate(String pattern, int cacheSize, LongSupplier clock) {
+        List<String> literalList = new ArrayList<>();
+        List<Field> fieldList = new ArrayList<>();
+        int start = 0;
+        for (int open = pattern.indexOf('{'); open >= 0; open = pattern.indexOf('{', start)) {
+            int close = pattern.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in template: " + pattern);
+            }
+            literalList.add(pattern.substring(start, open));
+            fieldList.add(switch (pattern.substring(open + 1, close)) {
+                case "to" -> Field.TO;
+                case "from" -> Field.FROM;
+                default -> throw new IllegalArgumentException("Unknown placeholder in template: " + pattern);
+            });
+            start = close + 1;
+        }
+        literalList.add(pattern.substring(start));
+
+        this.pattern = pattern;
+        this.literals = literalList.toArray(String[]::new);
+        this.fields = fieldList.toArray(Field[]::new);
+        this.encodedLiterals = new byte[literals.length][];
+        for (int i = 0; i < literals.length; i++) {
+            this.encodedLiterals[i] = encodeLiteral(i == 0 ? BODY_PREFIX : "", literals[i],
+                    i == literals.length - 1 ? BODY_SUFFIX : "");
+        }
+        boolean recipientOnly = fieldList.stream().allMatch(Field.TO::equals);
+        this.cache = cacheSize > 0 && recipientOnly ? new StripedLruCache<>(cacheSize, 16, clock) : null;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Returns the encoded {@code {"message":"..."}} body for {@code request}. The array may be
+     * shared with other callers and must not be modified.
+     */
+    public byte[] render(DevOpsRequest request) {
+        String to = request.getTo();
+        if (cache != null && to != null) {
+            byte[] cached = cache.get(to);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        byte[] body = encode(request);
+        if (cache != null && to != null && body.length <= MAX_CACHED_BODY_BYTES) {
+            cache.put(to, body, Long.MAX_VALUE);
+        }
+        return body;
+    }
+
+    private byte[] encode(DevOpsRequest request) {
+        JsonByteSink sink = SINKS.acquire();
+        try {
+            sink.reset();
+            for (int i = 0; i < fields.length; i++) {
+                sink.write(encodedLiterals[i]);
+                sink.writeEscaped(String.valueOf(valueOf(fields[i], request)));
+            }
+            sink.write(encodedLiterals[fields.length]);
+            return sink.toByteArray();
+        } finally {
+            if (sink.capacity() <= MAX_POOLED_SINK_BYTES) {
+                SINKS.release(sink);
+            }
+        }
+    }
+
+    /**
+     * Returns the plain message text, for callers that serialize it themselves.
+     */
+    public String message(DevOpsRequest request) {
+        StringBuilder message = new StringBuilder(pattern.length() + 32);
+        for (int i = 0; i < fields.length; i++) {
+            message.append(literals[i]).append(valueOf(fields[i], request));
+        }
+        return message.append(literals[fields.length]).toString();
+    }
+
+    long cacheHits() {
+        return cache == null ? 0 : cache.hitCount();
+    }
+
+    long cacheMisses() {
+        return cache == null ? 0 : cache.missCount();
+    }
+
+    long cacheSize() {
+        return cache == null ? 0 : cache.size();
+    }
+
+    private static String valueOf(Field field, DevOpsRequest request) {
+        return field == Field.TO ? request.getTo() : request.getFrom();
+    }
+
+    private static byte[] encodeLiteral(String jsonBefore, String literal, String jsonAfter) {
+        JsonByteSink sink = new JsonByteSink(16);
+        sink.write(jsonBefore.getBytes(StandardCharsets.UTF_8));
+        sink.writeEscaped(literal);
+        sink.write(jsonAfter.getBytes(StandardCharsets.UTF_8));
+        return sink.toByteArray();
+    }
+}
@@ -0,0 +1,83 @@
+package com.devops.payload.template;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Response templates by language, from {@code payload.response.templates.<language>}. Templates
+ * are compiled at startup; a request picks the variant of its locale's language and falls back to
+ * {@link #DEFAULT_LANGUAGE}.
+ */
+@Component
+public class ResponseTemplateEngine implements MeterBinder {
+
+    public static final String DEFAULT_LANGUAGE = "en";
+
+    static final Map<String, String> DEFAULT_TEMPLATES = Map.of(
+            "en", "Hello {to} your message will be send",
+            "es", "Hola {to}, tu mensaje será enviado");
+
+    private final Map<String, ResponseTemplate> templates;
+    private final ResponseTemplate defaultTemplate;
+
+    public ResponseTemplateEngine() {
+        this(DEFAULT_TEMPLATES, 0, System::currentTimeMillis);
+    }
+
+    @Autowired
+    public ResponseTemplateEngine(Environment environment,
+            @Value("${payload.response.cache.max-size:10000}") int cacheSize) {
+        this(Binder.get(environment)
+                .bind("payload.response.templates", Bindable.mapOf(String.class, String.class))
+                .orElse(DEFAULT_TEMPLATES), cacheSize, System::currentTimeMillis);
+    }
+
+    public ResponseTemplateEngine(Map<String, String> patterns, int cacheSize, LongSupplier clock) {
+        if (!patterns.containsKey(DEFAULT_LANGUAGE)) {
+            throw new IllegalArgumentException("A template for language '" + DEFAULT_LANGUAGE + "' is required");
+        }
+        int cachePerTemplate = cacheSize / patterns.size();
+        Map<String, ResponseTemplate> compiled = new HashMap<>();
+        patterns.forEach((language, pattern) -> compiled.put(language.toLowerCase(Locale.ROOT),
+                new ResponseTemplate(pattern, cachePerTemplate, clock)));
+        this.templates = Map.copyOf(compiled);
+        this.defaultTemplate = templates.get(DEFAULT_LANGUAGE);
+    }
+
+    public ResponseTemplate templateFor(Locale locale) {
+        if (locale == null) {
+            return defaultTemplate;
+        }
+        return templates.getOrDefault(locale.getLanguage(), defaultTemplate);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("devops.response.cache.hits", this,
+                        engine -> engine.templates.values().stream().mapToLong(ResponseTemplate::cacheHits).sum())
+                .description("Responses served from the encoded body cache")
+                .register(registry);
+        FunctionCounter.builder("devops.response.cache.misses", this,
+                        engine -> engine.templates.values().stream().mapToLong(ResponseTemplate::cacheMisses).sum())
+                .description("Responses rendered from their template")
+                .register(registry);
+        Gauge.builder("devops.response.cache.size", this,
+                        engine -> engine.templates.values().stream().mapToLong(ResponseTemplate::cacheSize).sum())
+                .description("Encoded response bodies currently cached")
+                .register(registry);
+    }
+}
@@ -0,0 +1,36 @@
+package com.devops.payload.validation;
+
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+
+/**
+ * Reports a failed constraint from generated code with the field, codes, arguments, rejected value and
+ * message {@code SpringValidatorAdapter} would give the same violation, so error handling cannot tell the
+ * two paths apart.
+ */
+public final class ConstraintErrors {
+
+    private ConstraintErrors() {
+    }
+
+    /**
+     * @param code simple name of the constraint annotation, e.g. {@code NotBlank}
+     */
+    public static void reject(Errors errors, String field, Object rejectedValue, String code, String message) {
+        FieldError existing = errors.getFieldError(field);
+        if (existing != null && existing.isBindingFailure()) {
+            return;
+        }
+        Object[] arguments = {new DefaultMessageSourceResolvable(
+                new String[] {errors.getObjectName() + Errors.NESTED_PATH_SEPARATOR + field, field}, field)};
+        if (errors instanceof BindingResult bindingResult) {
+            // Adding the error directly keeps the bean wrapper from reading the value again.
+            bindingResult.addError(new FieldError(errors.getObjectName(), bindingResult.getNestedPath() + field,
+                    rejectedValue, false, bindingResult.resolveMessageCodes(code, field), arguments, message));
+        } else {
+            errors.rejectValue(field, code, arguments, message);
+        }
+    }
+}
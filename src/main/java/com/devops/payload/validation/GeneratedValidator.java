@@ -0,0 +1,15 @@
+package com.devops.payload.validation;
+
+import org.springframework.validation.Errors;
+
+/**
+ * Straight-line checks of the default-group constraints of one model class, generated at compile time by
+ * {@code ConstraintValidatorProcessor} as {@code <Type>Validator} next to the class. Failures are reported
+ * through {@link ConstraintErrors} the way {@code SpringValidatorAdapter} reports violations.
+ */
+public interface GeneratedValidator<T> {
+
+    Class<T> getTargetType();
+
+    void validate(T target, Errors errors);
+}
@@ -0,0 +1,57 @@
+package com.devops.payload.validation;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * MVC validator that runs the {@link GeneratedValidator} of a target's exact class and hands everything
+ * else to the reflective Bean Validation adapter: classes without one, subclasses, and validations with
+ * hints such as {@code @Validated} groups, which generated code does not know about.
+ */
+public class GeneratedValidators implements SmartValidator {
+
+    private final Map<Class<?>, GeneratedValidator<?>> validators = new HashMap<>();
+    private final SmartValidator fallback;
+
+    public GeneratedValidators(Collection<? extends GeneratedValidator<?>> validators, SmartValidator fallback) {
+        for (GeneratedValidator<?> validator : validators) {
+            this.validators.put(validator.getTargetType(), validator);
+        }
+        this.fallback = fallback;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return validators.containsKey(clazz) || fallback.supports(clazz);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void validate(Object target, Errors errors) {
+        GeneratedValidator<Object> validator = (GeneratedValidator<Object>) validators.get(target.getClass());
+        if (validator != null) {
+            validator.validate(target, errors);
+        } else {
+            fallback.validate(target, errors);
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        if (validationHints.length == 0) {
+            validate(target, errors);
+        } else {
+            fallback.validate(target, errors, validationHints);
+        }
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors,
+            Object... validationHints) {
+        fallback.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+}
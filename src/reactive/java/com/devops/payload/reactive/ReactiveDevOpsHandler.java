@@ -0,0 +1,229 @@
+package com.devops.payload.reactive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import org.reactivestreams.Publisher;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.devops.payload.apikey.ApiKeyInfo;
+import com.devops.payload.codec.DevOpsJsonCodec;
+import com.devops.payload.codec.ResponseFormat;
+import com.devops.payload.exception.IdempotencyKeyReusedException;
+import com.devops.payload.exception.JournalUnavailableException;
+import com.devops.payload.exception.MessageTooLargeException;
+import com.devops.payload.filter.FastRejectFilter;
+import com.devops.payload.idempotency.IdempotencyCache;
+import com.devops.payload.idempotency.IdempotencyKey;
+import com.devops.payload.jwt.JwtClaims;
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.ratelimit.RateLimiter;
+import com.devops.payload.service.DevOpsBatchService;
+import com.devops.payload.service.DevOpsService;
+import com.devops.payload.service.JwtService;
+import com.devops.payload.service.SecurityService;
+import com.devops.payload.spool.MessageSpool;
+import com.devops.payload.spool.SpoolWriter;
+import com.devops.payload.validation.GeneratedValidators;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * The {@code /DevOps} contract on WebFlux. Credentials and rate limit are checked from the headers
+ * before the body is subscribed to, as {@link FastRejectFilter} does on the servlet stack. Bodies are
+ * read with {@link DevOpsJsonCodec} and the same limits as on the servlet stack; in large-message mode the
+ * body is spooled as it streams in and held to the caller's message size limit.
+ * <p>
+ * Enqueuing can block: the journal waits for its fsync and a full outbox lane parks the producer. It
+ * therefore runs on {@link Schedulers#boundedElastic()}, as do spooling and the batch endpoint.
+ * Authentication and decoding a body held in memory stay on the event loop.
+ * <p>
+ * A batch is streamed both ways: {@link DevOpsBatchService} reads the body as an {@code InputStream} fed
+ * by the request's buffers as they arrive and writes results to an {@code OutputStream} published as the
+ * response body, so neither side is held in memory whole and a slow client pushes back on processing.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveDevOpsHandler {
+
+    private static final byte[] ERROR_BODY = "ERROR".getBytes(StandardCharsets.UTF_8);
+    private static final MediaType ERROR_CONTENT_TYPE = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+    /** Body buffers requested ahead while a blocking reader consumes the body. */
+    private static final int BODY_DEMAND = 4;
+    private static final Executor BLOCKING_EXECUTOR = task -> Schedulers.boundedElastic().schedule(task);
+
+    private final SecurityService securityService;
+    private final JwtService jwtService;
+    private final RateLimiter rateLimiter;
+    private final DevOpsService devOpsService;
+    private final DevOpsBatchService devOpsBatchService;
+    private final IdempotencyCache idempotencyCache;
+    private final GeneratedValidators validator;
+    private final MessageSpool spool;
+    private final DevOpsJsonCodec codec;
+    private final int maxBodyBytes;
+
+    public ReactiveDevOpsHandler(SecurityService securityService, JwtService jwtService, RateLimiter rateLimiter,
+            DevOpsService devOpsService, DevOpsBatchService devOpsBatchService, IdempotencyCache idempotencyCache,
+            GeneratedValidators validator, Optional<MessageSpool> spool,
+            @Value("${payload.codec.max-field-length:65536}") int maxFieldLength,
+            @Value("${payload.codec.max-body-bytes:262144}") int maxBodyBytes) {
+        this.securityService = securityService;
+        this.jwtService = jwtService;
+        this.rateLimiter = rateLimiter;
+        this.devOpsService = devOpsService;
+        this.devOpsBatchService = devOpsBatchService;
+        this.idempotencyCache = idempotencyCache;
+        this.validator = validator;
+        this.spool = spool.orElse(null);
+        this.codec = new DevOpsJsonCodec(maxFieldLength, maxBodyBytes);
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    public Mono<ServerResponse> handleDevOpsRequest(ServerRequest request) {
+        Mono<ServerResponse> rejection = admit(request);
+        if (rejection != null) {
+            return rejection;
+        }
+        ApiKeyInfo apiKeyInfo = (ApiKeyInfo) request.attributes().get(ApiKeyInfo.REQUEST_ATTRIBUTE);
+        String idempotencyKey = request.headers().firstHeader(IdempotencyKey.HEADER);
+        Locale locale = request.exchange().getLocaleContext().getLocale();
+
+        return readRequest(request, apiKeyInfo)
+                .flatMap(body -> process(body, apiKeyInfo, idempotencyKey, locale)
+                        .doFinally(signal -> releaseUnclaimed(body)))
+                .flatMap(body -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(body))
+                .switchIfEmpty(Mono.defer(() -> error(HttpStatus.BAD_REQUEST)))
+                .onErrorResume(IdempotencyKeyReusedException.class, e -> error(HttpStatus.UNPROCESSABLE_ENTITY))
+                .onErrorResume(MessageTooLargeException.class, e -> error(HttpStatus.PAYLOAD_TOO_LARGE))
+                .onErrorResume(JournalUnavailableException.class, e -> error(HttpStatus.SERVICE_UNAVAILABLE))
+                .onErrorResume(e -> error(HttpStatus.BAD_REQUEST));
+    }
+
+    /**
+     * Empty if {@code body} is invalid.
+     */
+    private Mono<byte[]> process(DevOpsRequest body, ApiKeyInfo apiKeyInfo, String idempotencyKey, Locale locale) {
+        if (validator.validateObject(body).hasErrors()) {
+            return Mono.empty();
+        }
+        return Mono.fromFuture(() -> idempotencyCache.executeAsync(
+                        IdempotencyKey.of(apiKeyInfo.tenant(), idempotencyKey, body),
+                        body.getTimeToLifeSec(),
+                        () -> devOpsService.enqueue(body)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(Mono.fromSupplier(() -> devOpsService.encodeResponse(body, locale, ResponseFormat.JSON)));
+    }
+
+    public Mono<ServerResponse> handleDevOpsBatch(ServerRequest request) {
+        Mono<ServerResponse> rejection = admit(request);
+        if (rejection != null) {
+            return rejection;
+        }
+        ApiKeyInfo apiKeyInfo = (ApiKeyInfo) request.attributes().get(ApiKeyInfo.REQUEST_ATTRIBUTE);
+        Flux<DataBuffer> body = request.body(BodyExtractors.toDataBuffers());
+        Publisher<DataBuffer> results = DataBufferUtils.outputStreamPublisher(
+                out -> processBatch(body, out, apiKeyInfo),
+                request.exchange().getResponse().bufferFactory(),
+                BLOCKING_EXECUTOR);
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(BodyInserters.fromDataBuffers(results));
+    }
+
+    public Mono<ServerResponse> methodNotAllowed(ServerRequest request) {
+        return error(HttpStatus.METHOD_NOT_ALLOWED);
+    }
+
+    /**
+     * Checks credentials and rate limit. Returns the rejection to send, or {@code null} once the
+     * {@link ApiKeyInfo} and {@link JwtClaims} are stored as request attributes.
+     */
+    private Mono<ServerResponse> admit(ServerRequest request) {
+        String apiKey = request.headers().firstHeader(FastRejectFilter.API_KEY_HEADER);
+        ApiKeyInfo apiKeyInfo = securityService.resolveApiKey(apiKey);
+        if (apiKeyInfo == null) {
+            return error(HttpStatus.UNAUTHORIZED);
+        }
+        JwtClaims claims = jwtService.resolveJwt(request.headers().firstHeader(FastRejectFilter.JWT_HEADER));
+        if (claims == null) {
+            return error(HttpStatus.UNAUTHORIZED);
+        }
+        long waitNanos = rateLimiter.tryAcquire(apiKeyInfo);
+        if (waitNanos > 0) {
+            return ServerResponse.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, Long.toString(RateLimiter.toRetryAfterSeconds(waitNanos)))
+                    .contentType(ERROR_CONTENT_TYPE)
+                    .bodyValue(ERROR_BODY);
+        }
+        request.attributes().put(ApiKeyInfo.REQUEST_ATTRIBUTE, apiKeyInfo);
+        request.attributes().put(JwtClaims.REQUEST_ATTRIBUTE, claims);
+        return null;
+    }
+
+    private Mono<DevOpsRequest> readRequest(ServerRequest request, ApiKeyInfo apiKeyInfo) {
+        Flux<DataBuffer> body = request.body(BodyExtractors.toDataBuffers());
+        if (spool == null) {
+            return DataBufferUtils.join(body, maxBodyBytes).map(this::decode);
+        }
+        return Mono.fromCallable(() -> decodeSpooled(body, apiKeyInfo))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private DevOpsRequest decode(DataBuffer buffer) {
+        int length = buffer.readableByteCount();
+        try (InputStream in = buffer.asInputStream(true)) {
+            return codec.readRequest(in, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private DevOpsRequest decodeSpooled(Flux<DataBuffer> body, ApiKeyInfo apiKeyInfo) throws IOException {
+        SpoolWriter writer = spool.newWriter(spool.limitFor(apiKeyInfo));
+        try (InputStream in = DataBufferUtils.subscriberInputStream(body, BODY_DEMAND)) {
+            return codec.readRequest(in, writer);
+        } catch (IOException | RuntimeException e) {
+            writer.abort();
+            throw e;
+        }
+    }
+
+    private static void releaseUnclaimed(DevOpsRequest body) {
+        if (body.hasSpooledMessage()) {
+            body.getMessageBody().releaseUnclaimed();
+        }
+    }
+
+    private void processBatch(Flux<DataBuffer> body, OutputStream out, ApiKeyInfo apiKeyInfo) {
+        try (InputStream in = DataBufferUtils.subscriberInputStream(body, BODY_DEMAND)) {
+            devOpsBatchService.processBatch(in, out, apiKeyInfo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Mono<ServerResponse> error(HttpStatus status) {
+        return ServerResponse.status(status).contentType(ERROR_CONTENT_TYPE).bodyValue(ERROR_BODY);
+    }
+}
@@ -0,0 +1,24 @@
+package com.devops.payload.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRoutesConfiguration {
+
+    @Bean
+    public RouterFunction<ServerResponse> devOpsRoutes(ReactiveDevOpsHandler handler) {
+        return RouterFunctions.route()
+                .POST("/DevOps", handler::handleDevOpsRequest)
+                .POST("/DevOps/batch", handler::handleDevOpsBatch)
+                .route(RequestPredicates.path("/DevOps").or(RequestPredicates.path("/DevOps/batch")),
+                        handler::methodNotAllowed)
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.devops.payload.apikey;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApiKeyRegistryTest {
+
+    private static final String BOOTSTRAP_KEY = "bootstrap-key";
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static String sha256(String value) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes("UTF-8")));
+    }
+
+    private Path writeKeys(Path file, String json, long modifiedMillis) throws Exception {
+        Files.writeString(file, json);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modifiedMillis));
+        return file;
+    }
+
+    @Test
+    void testResolve_WithoutKeysFile_ShouldOnlyKnowBootstrapKey() {
+        ApiKeyRegistry registry = new ApiKeyRegistry(BOOTSTRAP_KEY, "", objectMapper);
+
+        assertEquals(ApiKeyRegistry.DEFAULT_TENANT, registry.resolve(BOOTSTRAP_KEY).tenant());
+        assertNull(registry.resolve("other"));
+        assertEquals(1, registry.size());
+        assertEquals(BOOTSTRAP_KEY, registry.getBootstrapKey());
+    }
+
+    @Test
+    void testResolve_WithoutBootstrapKey_ShouldOnlyKnowKeysFile() throws Exception {
+        Path file = writeKeys(tempDir.resolve("keys.json"), "{\"keys\":[{\"key\":\"acme-key\",\"tenant\":\"acme\"}]}",
+                1_000);
+
+        ApiKeyRegistry registry = new ApiKeyRegistry("", file.toString(), objectMapper);
+
+        assertEquals("acme", registry.resolve("acme-key").tenant());
+        assertNull(registry.resolve(""));
+        assertEquals(1, registry.size());
+        assertNull(registry.getBootstrapKey());
+    }
+
+    @Test
+    void testConstructor_WithoutAnyKey_ShouldFailFast() {
+        assertThrows(IllegalStateException.class, () -> new ApiKeyRegistry("", "", objectMapper));
+        assertThrows(IllegalStateException.class, () -> new ApiKeyRegistry(null, " ", objectMapper));
+    }
+
+    @Test
+    void testResolve_WithKeysFile_ShouldCarryMetadata() throws Exception {
+        Path file = writeKeys(tempDir.resolve("keys.json"), "{\"keys\":["
+                + "{\"sha256\":\"" + sha256("acme-key") + "\",\"tenant\":\"acme\",\"requestsPerSecond\":100,\"burst\":200,"
+                + "\"maxMessageBytes\":1048576},"
+                + "{\"key\":\"globex-key\",\"tenant\":\"globex\",\"status\":\"suspended\",\"requestsPerSecond\":5}"
+                + "]}", 1_000);
+
+        ApiKeyRegistry registry = new ApiKeyRegistry(BOOTSTRAP_KEY, file.toString(), objectMapper);
+
+        assertEquals(new ApiKeyInfo("acme", ApiKeyStatus.ACTIVE, 100, 200, 1_048_576, sha256("acme-key")),
+                registry.resolve("acme-key"));
+        assertEquals(new ApiKeyInfo("globex", ApiKeyStatus.SUSPENDED, 5, 5, 0, sha256("globex-key")),
+                registry.resolve("globex-key"));
+        assertNotNull(registry.resolve(BOOTSTRAP_KEY));
+        assertEquals(3, registry.size());
+    }
+
+    @Test
+    void testConstructor_WithInvalidKeysFile_ShouldFailFast() throws Exception {
+        Path file = writeKeys(tempDir.resolve("keys.json"), "{\"keys\":[{\"key\":\"k\"}]}", 1_000);
+
+        assertThrows(IllegalStateException.class,
+                () -> new ApiKeyRegistry(BOOTSTRAP_KEY, file.toString(), objectMapper));
+        assertThrows(IllegalStateException.class,
+                () -> new ApiKeyRegistry(BOOTSTRAP_KEY, tempDir.resolve("missing.json").toString(), objectMapper));
+    }
+
+    @Test
+    void testReloadIfChanged_ShouldSwapSnapshot() throws Exception {
+        Path file = writeKeys(tempDir.resolve("keys.json"), "{\"keys\":[{\"key\":\"old\",\"tenant\":\"a\"}]}", 1_000);
+        ApiKeyRegistry registry = new ApiKeyRegistry(BOOTSTRAP_KEY, file.toString(), objectMapper);
+
+        writeKeys(file, "{\"keys\":[{\"key\":\"new\",\"tenant\":\"b\"}]}", 2_000);
+        registry.reloadIfChanged();
+
+        assertNull(registry.resolve("old"));
+        assertEquals("b", registry.resolve("new").tenant());
+        assertNotNull(registry.resolve(BOOTSTRAP_KEY));
+    }
+
+    @Test
+    void testReloadIfChanged_WithUnchangedFile_ShouldKeepSnapshot() throws Exception {
+        Path file = writeKeys(tempDir.resolve("keys.json"), "{\"keys\":[{\"key\":\"old\",\"tenant\":\"a\"}]}", 1_000);
+        ApiKeyRegistry registry = new ApiKeyRegistry(BOOTSTRAP_KEY, file.toString(), objectMapper);
+        SimpleMeterRegistry meters = new SimpleMeterRegistry();
+        registry.bindTo(meters);
+
+        registry.reloadIfChanged();
+
+        assertEquals(0.0, meters.get("devops.apikey.registry.reloads").functionCounter().count());
+        assertEquals(2.0, meters.get("devops.apikey.registry.size").gauge().value());
+    }
+
+    @Test
+    void testReloadIfChanged_WithBrokenFile_ShouldKeepPreviousSnapshot() throws Exception {
+        Path file = writeKeys(tempDir.resolve("keys.json"), "{\"keys\":[{\"key\":\"old\",\"tenant\":\"a\"}]}", 1_000);
+        ApiKeyRegistry registry = new ApiKeyRegistry(BOOTSTRAP_KEY, file.toString(), objectMapper);
+        SimpleMeterRegistry meters = new SimpleMeterRegistry();
+        registry.bindTo(meters);
+
+        writeKeys(file, "{\"keys\":[{\"key\":", 2_000);
+        registry.reloadIfChanged();
+
+        assertEquals("a", registry.resolve("old").tenant());
+        assertEquals(1.0, meters.get("devops.apikey.registry.reload.failures").functionCounter().count());
+    }
+}
@@ -0,0 +1,58 @@
+package com.devops.payload.apikey;
+
+import java.util.HexFormat;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApiKeyTableTest {
+
+    private static final ApiKeyInfo ACME = new ApiKeyInfo("acme", ApiKeyStatus.ACTIVE, 0, 0);
+
+    @Test
+    void testGet_ShouldFindEveryKeyAndRejectOthers() {
+        ApiKeyTable table = new ApiKeyTable(1_000);
+        for (int i = 0; i < 1_000; i++) {
+            table.put(ApiKeyTable.digest("key-" + i), new ApiKeyInfo("tenant-" + i, ApiKeyStatus.ACTIVE, 0, 0));
+        }
+
+        assertEquals(1_000, table.size());
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals("tenant-" + i, table.get("key-" + i).tenant());
+        }
+        assertNull(table.get("key-1000"));
+        assertNull(table.get(""));
+    }
+
+    @Test
+    void testPut_WithSameDigest_ShouldReplaceEntry() {
+        ApiKeyTable table = new ApiKeyTable(2);
+        table.put(ApiKeyTable.digest("k"), ACME);
+        ApiKeyInfo suspended = new ApiKeyInfo("acme", ApiKeyStatus.SUSPENDED, 0, 0);
+
+        table.put(ApiKeyTable.digest("k"), suspended);
+
+        assertEquals(1, table.size());
+        assertSame(suspended, table.get("k"));
+    }
+
+    @Test
+    void testPut_BeyondExpectedSize_ShouldThrowException() {
+        ApiKeyTable table = new ApiKeyTable(2);
+        table.put(ApiKeyTable.digest("a"), ACME);
+        table.put(ApiKeyTable.digest("b"), ACME);
+
+        assertThrows(IllegalStateException.class, () -> table.put(ApiKeyTable.digest("c"), ACME));
+    }
+
+    @Test
+    void testParseDigest_ShouldMatchComputedDigest() throws Exception {
+        String hex = HexFormat.of().formatHex(
+                java.security.MessageDigest.getInstance("SHA-256").digest("clé".getBytes("UTF-8")));
+
+        assertArrayEquals(ApiKeyTable.digest("clé"), ApiKeyTable.parseDigest(hex.toUpperCase()));
+        assertThrows(IllegalArgumentException.class, () -> ApiKeyTable.parseDigest("abc"));
+        assertThrows(NumberFormatException.class, () -> ApiKeyTable.parseDigest("z".repeat(64)));
+    }
+}
@@ -0,0 +1,83 @@
+package com.devops.payload.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedLruCacheTest {
+
+    private AtomicLong clock;
+    private StripedLruCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(0);
+        cache = new StripedLruCache<>(3, 1, clock::get);
+    }
+
+    @Test
+    void testGet_ShouldReturnStoredValueUntilExpiry() {
+        cache.put("a", "A", 100);
+
+        assertEquals("A", cache.get("a"));
+        clock.set(100);
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.expirationCount());
+    }
+
+    @Test
+    void testPut_OverCapacity_ShouldEvictLeastRecentlyUsed() {
+        cache.put("a", "A", Long.MAX_VALUE);
+        cache.put("b", "B", Long.MAX_VALUE);
+        cache.put("c", "C", Long.MAX_VALUE);
+        cache.get("a");
+
+        cache.put("d", "D", Long.MAX_VALUE);
+
+        assertNull(cache.get("b"));
+        assertEquals("A", cache.get("a"));
+        assertEquals("D", cache.get("d"));
+        assertEquals(1, cache.evictionCount());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void testRemove_ShouldReturnPreviousValue() {
+        cache.put("a", "A", Long.MAX_VALUE);
+
+        assertEquals("A", cache.remove("a"));
+        assertNull(cache.remove("a"));
+    }
+
+    @Test
+    void testHitRate_ShouldCountHitsAndMisses() {
+        assertEquals(0.0, cache.hitRate());
+        cache.put("a", "A", Long.MAX_VALUE);
+        cache.get("a");
+        cache.get("missing");
+
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        assertEquals(0.5, cache.hitRate());
+    }
+
+    @Test
+    void testConstructor_WithInvalidArguments_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new StripedLruCache<>(0, 1, clock::get));
+        assertThrows(IllegalArgumentException.class, () -> new StripedLruCache<>(10, 3, clock::get));
+    }
+
+    @Test
+    void testStripes_ShouldSpreadKeysAndBoundTotalSize() {
+        StripedLruCache<Integer, Integer> striped = new StripedLruCache<>(64, 8, clock::get);
+        for (int i = 0; i < 1_000; i++) {
+            striped.put(i, i, Long.MAX_VALUE);
+        }
+
+        assertTrue(striped.size() <= 64);
+        assertEquals(999, striped.get(999));
+    }
+}
@@ -0,0 +1,69 @@
+package com.devops.payload.codec;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.DevOpsResponse;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DevOpsBinaryHttpMessageConverterTest {
+
+    private final DevOpsBinaryHttpMessageConverter cbor = DevOpsBinaryHttpMessageConverter.cbor(16, 128);
+    private final DevOpsBinaryHttpMessageConverter smile = DevOpsBinaryHttpMessageConverter.smile(16, 128);
+
+    private static Map<String, Object> fields(String message) {
+        return Map.of("message", message, "to", "t", "from", "f", "timeToLifeSec", 1);
+    }
+
+    @Test
+    void testCanRead_ShouldOnlyAcceptDevOpsRequestInItsFormat() {
+        assertTrue(cbor.canRead(DevOpsRequest.class, MediaType.APPLICATION_CBOR));
+        assertFalse(cbor.canRead(DevOpsRequest.class, ResponseFormat.SMILE.getMediaType()));
+        assertFalse(cbor.canRead(DevOpsRequest.class, null));
+        assertFalse(cbor.canRead(DevOpsResponse.class, MediaType.APPLICATION_CBOR));
+        assertTrue(smile.canRead(DevOpsRequest.class, ResponseFormat.SMILE.getMediaType()));
+        assertFalse(smile.canWrite(DevOpsResponse.class, ResponseFormat.SMILE.getMediaType()));
+    }
+
+    @Test
+    void testRead_WithValidBody_ShouldReturnRequest() throws IOException {
+        DevOpsRequest request = new DevOpsRequest("m", "t", "f", 1);
+
+        assertEquals(request, cbor.read(DevOpsRequest.class,
+                new MockHttpInputMessage(new CBORMapper().writeValueAsBytes(request))));
+        assertEquals(request, smile.read(DevOpsRequest.class,
+                new MockHttpInputMessage(new SmileMapper().writeValueAsBytes(request))));
+    }
+
+    @Test
+    void testRead_WithUnknownField_ShouldThrowNotReadable() {
+        assertNotReadable(Map.of("message", "m", "to", "t", "from", "f", "timeToLifeSec", 1,
+                "priority", "high"));
+    }
+
+    @Test
+    void testRead_WithOversizedBodyOrField_ShouldThrowNotReadable() {
+        assertNotReadable(fields("x".repeat(17)));
+        assertThrows(HttpMessageNotReadableException.class,
+                () -> cbor.read(DevOpsRequest.class, new MockHttpInputMessage(new byte[129])));
+        assertThrows(HttpMessageNotReadableException.class,
+                () -> smile.read(DevOpsRequest.class, new MockHttpInputMessage(new byte[129])));
+    }
+
+    /** Checks both formats. */
+    private void assertNotReadable(Map<String, Object> fields) {
+        assertThrows(HttpMessageNotReadableException.class, () -> cbor.read(DevOpsRequest.class,
+                new MockHttpInputMessage(new CBORMapper().writeValueAsBytes(fields))));
+        assertThrows(HttpMessageNotReadableException.class, () -> smile.read(DevOpsRequest.class,
+                new MockHttpInputMessage(new SmileMapper().writeValueAsBytes(fields))));
+    }
+}
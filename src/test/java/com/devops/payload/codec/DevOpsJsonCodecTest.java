@@ -0,0 +1,229 @@
+package com.devops.payload.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.devops.payload.exception.MessageTooLargeException;
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.DevOpsResponse;
+import com.devops.payload.spool.MessageSpool;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DevOpsJsonCodecTest {
+
+    private static final String VALID_BODY =
+            "{\"message\":\"This is a test\",\"to\":\"Juan Perez\",\"from\":\"Rita Asturia\",\"timeToLifeSec\":45}";
+
+    private final DevOpsJsonCodec codec = new DevOpsJsonCodec(1024, 4096);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path spoolDirectory;
+
+    private DevOpsRequest read(String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return codec.readRequest(new ByteArrayInputStream(bytes), bytes.length);
+    }
+
+    private DevOpsRequest readStreaming(byte[] json, long maxMessageBytes) throws IOException {
+        MessageSpool spool = new MessageSpool(spoolDirectory, 64, maxMessageBytes);
+        return codec.readRequest(new ByteArrayInputStream(json), spool.newWriter(maxMessageBytes));
+    }
+
+    private DevOpsRequest readStreaming(String json) throws IOException {
+        return readStreaming(json.getBytes(StandardCharsets.UTF_8), 1 << 20);
+    }
+
+    private long spoolFiles() throws IOException {
+        try (Stream<Path> files = Files.list(spoolDirectory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void testReadRequest_WithValidBody_ShouldBindAllFields() throws IOException {
+        assertEquals(new DevOpsRequest("This is a test", "Juan Perez", "Rita Asturia", 45), read(VALID_BODY));
+    }
+
+    @Test
+    void testReadRequest_WithReorderedFieldsAndEscapes_ShouldMatchJackson() throws IOException {
+        String json = "{\"timeToLifeSec\":7,\"from\":\"Mar\\u00eda\",\"to\":\"\\\"Ana\\\"\",\"message\":\"a\\nb\"}";
+
+        assertEquals(objectMapper.readValue(json, DevOpsRequest.class), read(json));
+    }
+
+    @Test
+    void testReadRequest_WithNullsAndMissingFields_ShouldLeaveThemNull() throws IOException {
+        DevOpsRequest request = read("{\"message\":null,\"timeToLifeSec\":null}");
+
+        assertNull(request.getMessage());
+        assertNull(request.getTo());
+        assertNull(request.getTimeToLifeSec());
+    }
+
+    @Test
+    void testReadRequest_WithUnknownField_ShouldThrow() {
+        assertThrows(JsonProcessingException.class, () -> read("{\"message\":\"a\",\"priority\":1}"));
+    }
+
+    @Test
+    void testReadRequest_WithDuplicateField_ShouldThrow() {
+        assertThrows(JsonProcessingException.class, () -> read("{\"to\":\"a\",\"to\":\"b\"}"));
+    }
+
+    @Test
+    void testReadRequest_WithWrongTypes_ShouldThrow() {
+        assertThrows(JsonProcessingException.class, () -> read("{\"to\":42}"));
+        assertThrows(JsonProcessingException.class, () -> read("{\"timeToLifeSec\":\"45\"}"));
+        assertThrows(JsonProcessingException.class, () -> read("{\"timeToLifeSec\":99999999999}"));
+        assertThrows(JsonProcessingException.class, () -> read("{\"message\":{\"nested\":true}}"));
+    }
+
+    @Test
+    void testReadRequest_WithOversizedField_ShouldThrow() {
+        assertThrows(JsonProcessingException.class, () -> read("{\"message\":\"" + "x".repeat(1025) + "\"}"));
+    }
+
+    @Test
+    void testReadRequest_WithDeclaredLengthOverLimit_ShouldThrowBeforeReading() {
+        ByteArrayInputStream body = new ByteArrayInputStream(VALID_BODY.getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(JsonProcessingException.class, () -> codec.readRequest(body, 4097));
+        assertEquals(VALID_BODY.length(), body.available());
+    }
+
+    @Test
+    void testReadRequest_WithUndeclaredBodyOverLimit_ShouldThrow() {
+        String json = "{\"message\":\"" + "x".repeat(1000) + "\"}" + " ".repeat(4096);
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(JsonProcessingException.class, () -> codec.readRequest(new ByteArrayInputStream(bytes), -1));
+    }
+
+    @Test
+    void testReadRequest_WithBodyLargerThanInitialBuffer_ShouldGrowBuffer() throws IOException {
+        String message = "x".repeat(1000);
+        String json = "{\"message\":\"" + message + "\",\"to\":\"" + message + "\"}";
+
+        DevOpsRequest request = codec.readRequest(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), -1);
+
+        assertEquals(message, request.getMessage());
+        assertEquals(message, request.getTo());
+    }
+
+    @Test
+    void testReadRequest_WithTrailingContentOrNonObject_ShouldThrow() {
+        assertThrows(JsonProcessingException.class, () -> read(VALID_BODY + "{}"));
+        assertThrows(JsonProcessingException.class, () -> read("[" + VALID_BODY + "]"));
+        assertThrows(JsonProcessingException.class, () -> read(""));
+        assertThrows(JsonProcessingException.class, () -> read("{not json"));
+    }
+
+    @Test
+    void testReadRequestFromBatchParser_ShouldApplySameRules() throws IOException {
+        String batch = "[" + VALID_BODY + ",{\"to\":\"x\",\"to\":\"y\"},{\"from\":\"" + "x".repeat(1025) + "\"}]";
+        byte[] bytes = batch.getBytes(StandardCharsets.UTF_8);
+        try (JsonParser parser = codec.createBatchParser(new ByteArrayInputStream(bytes))) {
+            assertEquals(JsonToken.START_ARRAY, parser.nextToken());
+            parser.nextToken();
+            assertEquals(read(VALID_BODY), codec.readRequest(parser));
+            assertEquals(JsonToken.END_OBJECT, parser.currentToken());
+
+            parser.nextToken();
+            assertThrows(JsonProcessingException.class, () -> codec.readRequest(parser));
+            parser.skipChildren();
+            parser.nextToken();
+            assertThrows(JsonProcessingException.class, () -> codec.readRequest(parser));
+        }
+    }
+
+    @Test
+    void testWriteResponse_ShouldMatchJackson() throws IOException {
+        DevOpsResponse response = new DevOpsResponse("Hello \"Juan\" ñ");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        codec.writeResponse(response, out);
+
+        assertEquals(objectMapper.writeValueAsString(response), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testReadRequestStreaming_ShouldMatchBufferedReader() throws IOException {
+        for (String json : new String[] {
+                VALID_BODY,
+                "{\"timeToLifeSec\":7,\"from\":\"Mar\\u00eda\",\"to\":\"\\\"Ana\\\"\",\"message\":\"a\\nb\\/c\"}",
+                " { \"message\" : \"ñ 😀 \\ud83d\\ude00\" , \"timeToLifeSec\" : -0 } ",
+                "{\"message\":null,\"to\":null,\"timeToLifeSec\":null}",
+                "{}" }) {
+            assertEquals(read(json), readStreaming(json), json);
+        }
+    }
+
+    @Test
+    void testReadRequestStreaming_WithMessagePastThreshold_ShouldSpoolIt() throws IOException {
+        String message = "ü".repeat(10_000);
+        String json = "{\"message\":\"" + message
+                + "\",\"to\":\"Juan Perez\",\"from\":\"Rita Asturia\",\"timeToLifeSec\":45}";
+
+        DevOpsRequest request = readStreaming(json);
+
+        assertTrue(request.hasSpooledMessage());
+        assertEquals(20_000, request.getMessageBody().size());
+        assertEquals(message, request.getMessage());
+        assertEquals("Juan Perez", request.getTo());
+        assertEquals(45, request.getTimeToLifeSec());
+        assertEquals(1, spoolFiles());
+    }
+
+    @Test
+    void testReadRequestStreaming_WithMessageOverLimit_ShouldThrowAndLeaveNoFile() {
+        byte[] json = ("{\"message\":\"" + "x".repeat(2000) + "\"}").getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(MessageTooLargeException.class, () -> readStreaming(json, 1000));
+        assertEquals(0, assertDoesNotThrow(this::spoolFiles));
+    }
+
+    @Test
+    void testReadRequestStreaming_WithOtherFieldsOverLimits_ShouldThrow() {
+        assertThrows(JsonProcessingException.class,
+                () -> readStreaming("{\"to\":\"" + "x".repeat(1025) + "\"}"));
+        assertThrows(JsonProcessingException.class,
+                () -> readStreaming("{\"message\":\"m\"" + " ".repeat(4096) + "}"));
+    }
+
+    @Test
+    void testReadRequestStreaming_WithInvalidBodies_ShouldThrow() {
+        for (String json : new String[] {
+                VALID_BODY + "{}",
+                "[" + VALID_BODY + "]",
+                "",
+                "{\"unknown\":1}",
+                "{\"to\":\"a\",\"to\":\"b\"}",
+                "{\"message\":1}",
+                "{\"timeToLifeSec\":\"1\"}",
+                "{\"timeToLifeSec\":1.5}",
+                "{\"timeToLifeSec\":01}",
+                "{\"timeToLifeSec\":2147483648}",
+                "{\"message\":\"\\ud83d\"}",
+                "{\"message\":\"\\q\"}",
+                "{\"message\":\"unterminated",
+                "{\"message\":\"a\"" }) {
+            assertThrows(JsonProcessingException.class, () -> readStreaming(json), json);
+        }
+        byte[] truncatedUtf8 = { '{', '"', 'm', 'e', 's', 's', 'a', 'g', 'e', '"', ':', '"', (byte) 0xC3, '"', '}' };
+        assertThrows(JsonProcessingException.class, () -> readStreaming(truncatedUtf8, 1024));
+    }
+}
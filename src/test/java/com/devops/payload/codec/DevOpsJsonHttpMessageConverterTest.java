@@ -0,0 +1,62 @@
+package com.devops.payload.codec;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.devops.payload.model.DevOpsBatchError;
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.DevOpsResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DevOpsJsonHttpMessageConverterTest {
+
+    private final DevOpsJsonHttpMessageConverter converter =
+            new DevOpsJsonHttpMessageConverter(new DevOpsJsonCodec(1024, 4096));
+
+    @Test
+    void testCanRead_ShouldOnlyAcceptDevOpsRequestAsJson() {
+        assertTrue(converter.canRead(DevOpsRequest.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canRead(DevOpsRequest.class, null));
+        assertFalse(converter.canRead(DevOpsResponse.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(DevOpsRequest.class, MediaType.APPLICATION_XML));
+    }
+
+    @Test
+    void testCanWrite_ShouldOnlyAcceptDevOpsResponse() {
+        assertTrue(converter.canWrite(DevOpsResponse.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(DevOpsRequest.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(DevOpsBatchError.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void testRead_WithValidBody_ShouldReturnRequest() throws IOException {
+        MockHttpInputMessage input = new MockHttpInputMessage(
+                "{\"message\":\"m\",\"to\":\"t\",\"from\":\"f\",\"timeToLifeSec\":1}".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(new DevOpsRequest("m", "t", "f", 1), converter.read(DevOpsRequest.class, input));
+    }
+
+    @Test
+    void testRead_WithUnknownField_ShouldThrowNotReadable() {
+        MockHttpInputMessage input = new MockHttpInputMessage("{\"extra\":1}".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(HttpMessageNotReadableException.class, () -> converter.read(DevOpsRequest.class, input));
+    }
+
+    @Test
+    void testWrite_ShouldWriteJsonBody() throws IOException {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(new DevOpsResponse("Hello"), MediaType.APPLICATION_JSON, output);
+
+        assertEquals("{\"message\":\"Hello\"}", output.getBodyAsString(StandardCharsets.UTF_8));
+        assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(output.getHeaders().getContentType()));
+    }
+}
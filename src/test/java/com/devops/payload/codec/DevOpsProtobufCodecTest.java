@@ -0,0 +1,81 @@
+package com.devops.payload.codec;
+
+import org.junit.jupiter.api.Test;
+
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.DevOpsResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DevOpsProtobufCodecTest {
+
+    private final DevOpsProtobufCodec codec = new DevOpsProtobufCodec(64);
+
+    private DevOpsRequest roundTrip(DevOpsRequest request) {
+        byte[] bytes = DevOpsProtobufCodec.writeRequest(request);
+        return codec.readRequest(bytes, 0, bytes.length);
+    }
+
+    @Test
+    void testWriteRequest_ShouldMatchProtobufWireFormat() {
+        byte[] bytes = DevOpsProtobufCodec.writeRequest(new DevOpsRequest("hi", "a", "b", 300));
+
+        // field 1 "hi", field 2 "a", field 3 "b", field 4 varint 300
+        assertArrayEquals(new byte[] {0x0A, 2, 'h', 'i', 0x12, 1, 'a', 0x1A, 1, 'b', 0x20, (byte) 0xAC, 0x02}, bytes);
+    }
+
+    @Test
+    void testReadRequest_RoundTrip_ShouldPreserveAllFields() {
+        DevOpsRequest request = new DevOpsRequest("Mensaje ñ 🚀", "Juan Perez", "Rita Asturia", 45);
+
+        assertEquals(request, roundTrip(request));
+    }
+
+    @Test
+    void testReadRequest_WithMissingFields_ShouldLeaveThemNull() {
+        DevOpsRequest request = roundTrip(new DevOpsRequest("only message", null, null, null));
+
+        assertEquals("only message", request.getMessage());
+        assertNull(request.getTo());
+        assertNull(request.getTimeToLifeSec());
+    }
+
+    @Test
+    void testReadRequest_WithNegativeTtl_ShouldDecodeSignExtendedVarint() {
+        assertEquals(-1, roundTrip(new DevOpsRequest("m", "t", "f", -1)).getTimeToLifeSec());
+    }
+
+    @Test
+    void testReadRequest_WithUnknownFields_ShouldSkipThem() {
+        byte[] known = DevOpsProtobufCodec.writeRequest(new DevOpsRequest("m", "t", "f", 5));
+        byte[] unknown = {(byte) 0x28, 7, (byte) 0x32, 2, 'x', 'y', (byte) 0x3D, 1, 2, 3, 4, (byte) 0x41, 1, 2, 3, 4, 5, 6, 7, 8};
+        byte[] body = new byte[unknown.length + known.length];
+        System.arraycopy(unknown, 0, body, 0, unknown.length);
+        System.arraycopy(known, 0, body, unknown.length, known.length);
+
+        assertEquals(new DevOpsRequest("m", "t", "f", 5), codec.readRequest(body, 0, body.length));
+    }
+
+    @Test
+    void testReadRequest_WithTruncatedOrMistypedInput_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> codec.readRequest(new byte[] {0x0A, 5, 'a'}, 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> codec.readRequest(new byte[] {(byte) 0x80}, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> codec.readRequest(new byte[] {0x08, 1}, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> codec.readRequest(new byte[] {0x22, 0}, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> codec.readRequest(new byte[] {0x0B}, 0, 1));
+    }
+
+    @Test
+    void testReadRequest_WithOversizedField_ShouldThrow() {
+        byte[] bytes = DevOpsProtobufCodec.writeRequest(new DevOpsRequest("x".repeat(65), "t", "f", 1));
+
+        assertThrows(IllegalArgumentException.class, () -> codec.readRequest(bytes, 0, bytes.length));
+    }
+
+    @Test
+    void testResponse_RoundTrip_ShouldPreserveMessage() {
+        byte[] bytes = DevOpsProtobufCodec.writeResponse(new DevOpsResponse("Hello Juan Perez your message will be send"));
+
+        assertEquals("Hello Juan Perez your message will be send", codec.readResponse(bytes).getMessage());
+    }
+}
@@ -0,0 +1,55 @@
+package com.devops.payload.codec;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.DevOpsResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DevOpsProtobufHttpMessageConverterTest {
+
+    private final DevOpsProtobufHttpMessageConverter converter =
+            new DevOpsProtobufHttpMessageConverter(new DevOpsProtobufCodec(1024), 64);
+
+    @Test
+    void testCanRead_ShouldOnlyAcceptDevOpsRequestAsProtobuf() {
+        assertTrue(converter.canRead(DevOpsRequest.class, ResponseFormat.PROTOBUF.getMediaType()));
+        assertFalse(converter.canRead(DevOpsRequest.class, null));
+        assertFalse(converter.canRead(DevOpsRequest.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(DevOpsResponse.class, ResponseFormat.PROTOBUF.getMediaType()));
+    }
+
+    @Test
+    void testRead_WithValidBody_ShouldReturnRequest() throws IOException {
+        DevOpsRequest request = new DevOpsRequest("m", "t", "f", 1);
+
+        Object read = converter.read(DevOpsRequest.class,
+                new MockHttpInputMessage(DevOpsProtobufCodec.writeRequest(request)));
+
+        assertEquals(request, read);
+    }
+
+    @Test
+    void testRead_WithInvalidOrOversizedBody_ShouldThrowNotReadable() {
+        assertThrows(HttpMessageNotReadableException.class,
+                () -> converter.read(DevOpsRequest.class, new MockHttpInputMessage(new byte[] {0x0A, 9})));
+        assertThrows(HttpMessageNotReadableException.class,
+                () -> converter.read(DevOpsRequest.class, new MockHttpInputMessage(new byte[65])));
+    }
+
+    @Test
+    void testWrite_ShouldWriteProtobufBody() throws IOException {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(new DevOpsResponse("Hello"), ResponseFormat.PROTOBUF.getMediaType(), output);
+
+        assertArrayEquals(DevOpsProtobufCodec.writeResponse(new DevOpsResponse("Hello")), output.getBodyAsBytes());
+    }
+}
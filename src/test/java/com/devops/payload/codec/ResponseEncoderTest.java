@@ -0,0 +1,36 @@
+package com.devops.payload.codec;
+
+import org.junit.jupiter.api.Test;
+
+import com.devops.payload.model.DevOpsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseEncoderTest {
+
+    private final ResponseEncoder encoder = new ResponseEncoder();
+    private final DevOpsResponse response = new DevOpsResponse("Hello Juan Perez your message will be send");
+
+    @Test
+    void testEncode_InEveryFormat_ShouldDecodeBackToResponse() throws Exception {
+        assertEquals(response, new ObjectMapper().readValue(encoder.encode(response, ResponseFormat.JSON),
+                DevOpsResponse.class));
+        assertEquals(response, new CBORMapper().readValue(encoder.encode(response, ResponseFormat.CBOR),
+                DevOpsResponse.class));
+        assertEquals(response, new SmileMapper().readValue(encoder.encode(response, ResponseFormat.SMILE),
+                DevOpsResponse.class));
+        assertEquals(response, new DevOpsProtobufCodec(1024).readResponse(
+                encoder.encode(response, ResponseFormat.PROTOBUF)));
+    }
+
+    @Test
+    void testEncode_BinaryFormats_ShouldBeSmallerThanJson() {
+        int json = encoder.encode(response, ResponseFormat.JSON).length;
+
+        assertTrue(encoder.encode(response, ResponseFormat.CBOR).length < json);
+        assertTrue(encoder.encode(response, ResponseFormat.PROTOBUF).length < json);
+    }
+}
@@ -0,0 +1,36 @@
+package com.devops.payload.codec;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseFormatTest {
+
+    @Test
+    void testNegotiate_WithoutBinaryType_ShouldReturnJson() {
+        assertEquals(ResponseFormat.JSON, ResponseFormat.negotiate(null));
+        assertEquals(ResponseFormat.JSON, ResponseFormat.negotiate("*/*"));
+        assertEquals(ResponseFormat.JSON, ResponseFormat.negotiate("application/json"));
+        assertEquals(ResponseFormat.JSON, ResponseFormat.negotiate("text/html"));
+    }
+
+    @Test
+    void testNegotiate_WithBinaryType_ShouldReturnIt() {
+        assertEquals(ResponseFormat.CBOR, ResponseFormat.negotiate("application/cbor"));
+        assertEquals(ResponseFormat.SMILE, ResponseFormat.negotiate("application/x-jackson-smile"));
+        assertEquals(ResponseFormat.PROTOBUF, ResponseFormat.negotiate("application/x-protobuf"));
+    }
+
+    @Test
+    void testNegotiate_WithQualityValues_ShouldPreferHighest() {
+        assertEquals(ResponseFormat.PROTOBUF,
+                ResponseFormat.negotiate("application/json;q=0.5, application/x-protobuf"));
+        assertEquals(ResponseFormat.JSON, ResponseFormat.negotiate("application/cbor;q=0.2, application/json"));
+        assertEquals(ResponseFormat.JSON, ResponseFormat.negotiate("application/cbor;q=0"));
+    }
+
+    @Test
+    void testNegotiate_WithMalformedHeader_ShouldReturnJson() {
+        assertEquals(ResponseFormat.JSON, ResponseFormat.negotiate("application/cbor;q=abc;;"));
+    }
+}
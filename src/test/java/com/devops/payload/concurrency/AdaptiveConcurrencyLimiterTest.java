@@ -0,0 +1,149 @@
+package com.devops.payload.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    /** Keeps every slot busy: each completion with {@code rttNanos} is replaced by a new request. */
+    private static void runSaturated(AdaptiveConcurrencyLimiter limiter, long rttNanos, int completions) {
+        while (limiter.tryAcquire()) {
+        }
+        for (int i = 0; i < completions; i++) {
+            limiter.release(rttNanos);
+            while (limiter.tryAcquire()) {
+            }
+        }
+    }
+
+    @Test
+    void testTryAcquire_AtLimit_ShouldShedUntilReleased() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(3, 1, 10, 1.5);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        limiter.release(MILLIS);
+
+        assertTrue(limiter.tryAcquire());
+        ConcurrencyLimitStats stats = limiter.getStats();
+        assertEquals(3, stats.inFlight());
+        assertEquals(4, stats.admitted());
+        assertEquals(1, stats.shed());
+    }
+
+    @Test
+    void testReleaseWithoutSample_ShouldFreeSlotAndKeepLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 1.5);
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+
+        limiter.releaseWithoutSample();
+
+        assertTrue(limiter.tryAcquire());
+        ConcurrencyLimitStats stats = limiter.getStats();
+        assertEquals(2, stats.limit());
+        assertEquals(0.0, stats.baselineMillis());
+    }
+
+    @Test
+    void testRelease_WithSteadyLatencyUnderFullUse_ShouldRaiseLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 4, 1000, 1.5);
+
+        runSaturated(limiter, 5 * MILLIS, 200);
+
+        assertTrue(limiter.getStats().limit() > 50, "limit " + limiter.getStats().limit());
+        assertEquals(5.0, limiter.getStats().baselineMillis(), 0.01);
+    }
+
+    @Test
+    void testRelease_WhenLatencyRisesPastTolerance_ShouldLowerLimitAndKeepBaseline() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 4, 1000, 1.5);
+        runSaturated(limiter, 5 * MILLIS, 20);
+        int before = limiter.getStats().limit();
+
+        runSaturated(limiter, 50 * MILLIS, 100);
+
+        ConcurrencyLimitStats stats = limiter.getStats();
+        assertTrue(stats.limit() < before / 4, "limit " + stats.limit() + " from " + before);
+        assertTrue(stats.baselineMillis() < 10, "baseline " + stats.baselineMillis());
+    }
+
+    @Test
+    void testRelease_WhenSlowerForGoodAtMinimumLimit_ShouldMoveBaselineUp() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 4, 1000, 1.5);
+        runSaturated(limiter, 5 * MILLIS, 20);
+
+        runSaturated(limiter, 50 * MILLIS, 5000);
+
+        assertTrue(limiter.getStats().baselineMillis() > 15, "baseline " + limiter.getStats().baselineMillis());
+    }
+
+    @Test
+    void testRelease_WithLatencyBackToBaseline_ShouldRecover() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 4, 1000, 1.5);
+        runSaturated(limiter, 5 * MILLIS, 20);
+        runSaturated(limiter, 50 * MILLIS, 500);
+        int shrunk = limiter.getStats().limit();
+
+        runSaturated(limiter, 5 * MILLIS, 500);
+
+        assertTrue(limiter.getStats().limit() > shrunk * 4, "limit " + limiter.getStats().limit());
+    }
+
+    @Test
+    void testRelease_WithLittleOfTheLimitInUse_ShouldNotRaiseIt() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 1000, 1.5);
+
+        for (int i = 0; i < 500; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(5 * MILLIS);
+        }
+
+        assertEquals(20, limiter.getStats().limit());
+    }
+
+    @Test
+    void testRelease_WithSlowerLatencyWhileIdle_ShouldMoveBaselineUp() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 1000, 1.5);
+
+        for (int i = 0; i < 5000; i++) {
+            limiter.tryAcquire();
+            limiter.release((i < 10 ? 5 : 20) * MILLIS);
+        }
+
+        assertEquals(20.0, limiter.getStats().baselineMillis(), 0.5);
+    }
+
+    @Test
+    void testConstructor_WithInvalidBounds_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(10, 0, 100, 1.5));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(10, 20, 10, 1.5));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(10, 1, 100, 0.5));
+        assertEquals(100, new AdaptiveConcurrencyLimiter(500, 1, 100, 1.5).getStats().limit());
+    }
+
+    @Test
+    void testBindTo_ShouldPublishLimitInFlightAndShed() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 1.5);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        limiter.bindTo(registry);
+
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        assertEquals(2.0, registry.get("devops.concurrency.limit").gauge().value());
+        assertEquals(2.0, registry.get("devops.concurrency.in-flight").gauge().value());
+        assertEquals(2.0, registry.get("devops.concurrency.admitted").functionCounter().count());
+        assertEquals(1.0, registry.get("devops.concurrency.shed").functionCounter().count());
+        assertEquals(0.0, registry.get("devops.concurrency.baseline").gauge().value());
+    }
+}
@@ -0,0 +1,72 @@
+package com.devops.payload.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExecutionModeEnvironmentPostProcessorTest {
+
+    private ExecutionModeEnvironmentPostProcessor postProcessor;
+    private String previousTracePinnedThreads;
+
+    @BeforeEach
+    void setUp() {
+        postProcessor = new ExecutionModeEnvironmentPostProcessor();
+        previousTracePinnedThreads = System.clearProperty(ExecutionModeEnvironmentPostProcessor.TRACE_PINNED_THREADS_PROPERTY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (previousTracePinnedThreads == null) {
+            System.clearProperty(ExecutionModeEnvironmentPostProcessor.TRACE_PINNED_THREADS_PROPERTY);
+        } else {
+            System.setProperty(ExecutionModeEnvironmentPostProcessor.TRACE_PINNED_THREADS_PROPERTY, previousTracePinnedThreads);
+        }
+    }
+
+    @Test
+    void testPostProcess_WithVirtualMode_ShouldEnableVirtualThreads() {
+        MockEnvironment environment = new MockEnvironment().withProperty("payload.execution-mode", "virtual");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertEquals("true", environment.getProperty("spring.threads.virtual.enabled"));
+        assertEquals("short", System.getProperty("jdk.tracePinnedThreads"));
+    }
+
+    @Test
+    void testPostProcess_WithPlatformMode_ShouldLeaveEnvironmentUntouched() {
+        MockEnvironment environment = new MockEnvironment().withProperty("payload.execution-mode", "PLATFORM");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertNull(environment.getProperty("spring.threads.virtual.enabled"));
+        assertNull(System.getProperty("jdk.tracePinnedThreads"));
+    }
+
+    @Test
+    void testPostProcess_WithExistingPinningTrace_ShouldKeepIt() {
+        System.setProperty("jdk.tracePinnedThreads", "full");
+        MockEnvironment environment = new MockEnvironment().withProperty("payload.execution-mode", "VIRTUAL");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertEquals("full", System.getProperty("jdk.tracePinnedThreads"));
+    }
+
+    @Test
+    void testResolveMode_WithoutProperty_ShouldDefaultToPlatform() {
+        assertEquals(ExecutionMode.PLATFORM, ExecutionModeEnvironmentPostProcessor.resolveMode(new MockEnvironment()));
+    }
+
+    @Test
+    void testResolveMode_WithUnknownValue_ShouldThrowException() {
+        MockEnvironment environment = new MockEnvironment().withProperty("payload.execution-mode", "green");
+
+        assertThrows(IllegalArgumentException.class, () -> ExecutionModeEnvironmentPostProcessor.resolveMode(environment));
+    }
+}
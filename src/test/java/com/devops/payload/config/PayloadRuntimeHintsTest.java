@@ -0,0 +1,55 @@
+package com.devops.payload.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import com.devops.payload.model.DevOpsBatchError;
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.DevOpsResponse;
+import com.devops.payload.model.MessageBodyNotBlankValidator;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayloadRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new PayloadRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void testModel_ShouldBeRegisteredForJacksonBinding() throws Exception {
+        assertTrue(RuntimeHintsPredicates.reflection().onConstructor(DevOpsRequest.class.getConstructor()).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(DevOpsRequest.class, "setMessage").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(DevOpsResponse.class, "getMessage").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(DevOpsBatchError.class, "getIndex").test(hints));
+    }
+
+    @Test
+    void testRequestConstraints_ShouldBeReadableByValidator() {
+        assertTrue(RuntimeHintsPredicates.reflection().onField(DevOpsRequest.class, "timeToLifeSec").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(NotBlank.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Positive.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS).test(hints));
+        assertTrue(hints.resources().resourceBundleHints()
+                .anyMatch(bundle -> bundle.getBaseName().equals("org.hibernate.validator.ValidationMessages")));
+    }
+
+    @Test
+    void testMessageBodyValidator_ShouldBeLoadableFromServices() {
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/jakarta.validation.ConstraintValidator").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(MessageBodyNotBlankValidator.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS).test(hints));
+    }
+}
@@ -0,0 +1,26 @@
+package com.devops.payload.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ValidationConfigurationTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    void testValidationConfigurationBeanExists() {
+        assertTrue(applicationContext.containsBean("validationConfiguration"));
+        assertTrue(applicationContext.containsBean("generatedValidators"));
+    }
+
+    @Test
+    void testGeneratedDevOpsRequestValidatorBeanExists() {
+        assertTrue(applicationContext.containsBean("devOpsRequestValidator"));
+    }
+}
@@ -0,0 +1,137 @@
+package com.devops.payload.delivery;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.MessageBody;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeliveryQueueTest {
+
+    private AtomicLong clock;
+    private DeliveryQueue deliveryQueue;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000);
+        deliveryQueue = new DeliveryQueue(100, clock::get);
+    }
+
+    private static DevOpsRequest request(String to, int timeToLifeSec) {
+        return new DevOpsRequest("Message", to, "Rita Asturia", timeToLifeSec);
+    }
+
+    @Test
+    void testPoll_ShouldReturnMessagesInFifoOrder() {
+        deliveryQueue.enqueue(request("first", 10));
+        deliveryQueue.enqueue(request("second", 5));
+
+        assertEquals("first", deliveryQueue.poll().getRequest().getTo());
+        assertEquals("second", deliveryQueue.poll().getRequest().getTo());
+        assertNull(deliveryQueue.poll());
+        assertEquals(new DeliveryStats(0, 2, 2, 0), deliveryQueue.getStats());
+    }
+
+    @Test
+    void testEnqueue_ShouldStampEnvelope() {
+        DeliveryEnvelope envelope = deliveryQueue.enqueue(request("Juan Perez", 45));
+
+        assertEquals(1, envelope.getId());
+        assertEquals(1_000_000, envelope.getEnqueuedAtMillis());
+        assertEquals(1_045_000, envelope.getExpiresAtMillis());
+        assertTrue(envelope.toString().contains("Juan Perez"));
+    }
+
+    private static DevOpsRequest spooledRequest(String to, Path file, AtomicInteger released) {
+        DevOpsRequest request = request(to, 1);
+        request.setMessageBody(MessageBody.spooled(file, 10, new byte[32], false, released::incrementAndGet));
+        return request;
+    }
+
+    @Test
+    void testExpire_WhenReleasingOneBodyFails_ShouldStillDropEveryExpiredMessage(@TempDir Path directory)
+            throws Exception {
+        AtomicInteger released = new AtomicInteger();
+        // A non-empty directory cannot be deleted, so releasing this body throws.
+        Path undeletable = Files.createDirectory(directory.resolve("undeletable"));
+        Files.writeString(undeletable.resolve("child"), "x");
+        deliveryQueue.enqueue(spooledRequest("first", Files.writeString(directory.resolve("a"), "x"), released));
+        deliveryQueue.enqueue(spooledRequest("failing", undeletable, released));
+        deliveryQueue.enqueue(spooledRequest("last", Files.writeString(directory.resolve("b"), "x"), released));
+
+        clock.addAndGet(1_500);
+        deliveryQueue.expire();
+
+        assertEquals(new DeliveryStats(0, 3, 0, 3), deliveryQueue.getStats());
+        assertEquals(3, released.get());
+        assertFalse(Files.exists(directory.resolve("a")));
+        assertFalse(Files.exists(directory.resolve("b")));
+    }
+
+    @Test
+    void testExpire_ShouldDropOnlyMessagesPastTheirTimeToLive() {
+        deliveryQueue.enqueue(request("short", 1));
+        deliveryQueue.enqueue(request("long", 60));
+        deliveryQueue.enqueue(request("medium", 2));
+
+        clock.addAndGet(1_500);
+        deliveryQueue.expire();
+        assertEquals(new DeliveryStats(2, 3, 0, 1), deliveryQueue.getStats());
+
+        clock.addAndGet(1_000);
+        deliveryQueue.expire();
+        assertEquals(new DeliveryStats(1, 3, 0, 2), deliveryQueue.getStats());
+        assertEquals("long", deliveryQueue.poll().getRequest().getTo());
+    }
+
+    @Test
+    void testExpire_AfterPoll_ShouldNotCountDeliveredMessage() {
+        deliveryQueue.enqueue(request("Juan Perez", 1));
+        deliveryQueue.poll();
+
+        clock.addAndGet(5_000);
+        deliveryQueue.expire();
+
+        assertEquals(new DeliveryStats(0, 1, 1, 0), deliveryQueue.getStats());
+    }
+
+    @Test
+    void testEnqueue_WithNonPositiveTimeToLive_ShouldCountAsExpired() {
+        assertNull(deliveryQueue.enqueue(request("Juan Perez", 0)));
+        assertEquals(new DeliveryStats(0, 1, 0, 1), deliveryQueue.getStats());
+    }
+
+    @Test
+    void testEnqueue_WithExplicitExpiry_ShouldKeepIt() {
+        DeliveryEnvelope envelope = deliveryQueue.enqueue(request("Juan Perez", 45), 1_010_000);
+
+        assertEquals(1_000_000, envelope.getEnqueuedAtMillis());
+        assertEquals(1_010_000, envelope.getExpiresAtMillis());
+        assertNull(deliveryQueue.enqueue(request("Maria Garcia", 45), 999_000));
+    }
+
+    @Test
+    void testBindTo_ShouldPublishQueueMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        deliveryQueue.bindTo(registry);
+        deliveryQueue.enqueue(request("Juan Perez", 1));
+        deliveryQueue.enqueue(request("Maria Garcia", 30));
+        clock.addAndGet(2_000);
+        deliveryQueue.expire();
+
+        assertEquals(1.0, registry.get("devops.delivery.queue.depth").gauge().value());
+        assertEquals(2.0, registry.get("devops.delivery.enqueued").functionCounter().count());
+        assertEquals(1.0, registry.get("devops.delivery.expired").functionCounter().count());
+        assertEquals(0.0, registry.get("devops.delivery.delivered").functionCounter().count());
+    }
+}
@@ -0,0 +1,149 @@
+package com.devops.payload.delivery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 10;
+
+    private HierarchicalTimingWheel<TestEntry> wheel;
+    private List<TestEntry> expired;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HierarchicalTimingWheel<>(TICK, 0);
+        expired = new ArrayList<>();
+    }
+
+    @Test
+    void testSchedule_WithPastDeadline_ShouldReturnFalse() {
+        assertFalse(wheel.schedule(new TestEntry(0), 0));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testSchedule_WithAlreadyScheduledEntry_ShouldThrowException() {
+        TestEntry entry = new TestEntry(100);
+        wheel.schedule(entry, 100);
+
+        assertThrows(IllegalStateException.class, () -> wheel.schedule(entry, 200));
+    }
+
+    @Test
+    void testConstructor_WithNonPositiveTick_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimingWheel<>(0, 0));
+    }
+
+    @Test
+    void testAdvance_ShouldExpireEntryAtDeadlineButNotBefore() {
+        TestEntry entry = new TestEntry(55);
+        wheel.schedule(entry, 55);
+
+        wheel.advance(50, expired::add);
+        assertTrue(expired.isEmpty());
+        assertTrue(entry.isScheduled());
+
+        wheel.advance(60, expired::add);
+        assertEquals(List.of(entry), expired);
+        assertFalse(entry.isScheduled());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testCancel_ShouldPreventExpiry() {
+        TestEntry entry = new TestEntry(100);
+        wheel.schedule(entry, 100);
+
+        assertTrue(wheel.cancel(entry));
+        assertFalse(wheel.cancel(entry));
+        wheel.advance(1_000, expired::add);
+
+        assertTrue(expired.isEmpty());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testAdvance_WithDeadlinesAcrossAllLevels_ShouldExpireEachOnItsTick() {
+        long[] deadlines = {TICK, 63 * TICK, 64 * TICK, 65 * TICK, 4_095 * TICK, 4_096 * TICK, 300_000 * TICK,
+                20_000_000 * TICK};
+        for (long deadline : deadlines) {
+            wheel.schedule(new TestEntry(deadline), deadline);
+        }
+
+        long now = 0;
+        int seen = 0;
+        while (seen < deadlines.length) {
+            now += TICK;
+            wheel.advance(now, entry -> {
+                expired.add(entry);
+            });
+            for (; seen < expired.size(); seen++) {
+                assertEquals(deadlines[seen], now);
+            }
+            if (now > deadlines[deadlines.length - 1]) {
+                fail("Entries did not expire");
+            }
+            // Jump ahead while the next deadline is far away to keep the test fast.
+            if (seen < deadlines.length && deadlines[seen] - now > 10 * TICK) {
+                long jumpTo = deadlines[seen] - 2 * TICK;
+                wheel.advance(jumpTo, expired::add);
+                assertEquals(seen, expired.size());
+                now = jumpTo;
+            }
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testAdvance_WithRandomDeadlines_ShouldNeverExpireEarlyOrLate() {
+        Random random = new Random(42);
+        List<TestEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            long deadline = 1 + random.nextInt(200_000);
+            TestEntry entry = new TestEntry(deadline);
+            entries.add(entry);
+            wheel.schedule(entry, deadline);
+        }
+
+        long now = 0;
+        while (wheel.size() > 0) {
+            now += 7 * TICK;
+            long advancedTo = now;
+            wheel.advance(now, entry -> {
+                assertTrue(entry.deadline <= advancedTo);
+                assertTrue(entry.deadline > advancedTo - 7 * TICK - TICK);
+                expired.add(entry);
+            });
+        }
+        assertEquals(entries.size(), expired.size());
+    }
+
+    @Test
+    void testAdvance_BeyondTopLevelSpan_ShouldStillExpire() {
+        long deadline = (HierarchicalTimingWheel.SPAN_TICKS + 5) * TICK;
+        TestEntry entry = new TestEntry(deadline);
+        wheel.schedule(entry, deadline);
+
+        wheel.advance(deadline - TICK, expired::add);
+        assertTrue(expired.isEmpty());
+
+        wheel.advance(deadline, expired::add);
+        assertEquals(List.of(entry), expired);
+    }
+
+    private static final class TestEntry extends HierarchicalTimingWheel.Entry {
+
+        private final long deadline;
+
+        TestEntry(long deadline) {
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.devops.payload.delivery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MpscRingTest {
+
+    @Test
+    void testCapacity_ShouldRoundUpToPowerOfTwo() {
+        assertEquals(8, new MpscRing<String>(5).capacity());
+        assertEquals(2, new MpscRing<String>(1).capacity());
+        assertEquals(1024, new MpscRing<String>(1024).capacity());
+    }
+
+    @Test
+    void testOffer_WhenFull_ShouldReturnFalseUntilPolled() {
+        MpscRing<String> ring = new MpscRing<>(2);
+
+        assertTrue(ring.offer("a"));
+        assertTrue(ring.offer("b"));
+        assertFalse(ring.offer("c"));
+        assertEquals("a", ring.poll());
+        assertTrue(ring.offer("c"));
+        assertEquals(2, ring.size());
+    }
+
+    @Test
+    void testPoll_ShouldReturnElementsInOfferOrderAcrossWraparound() {
+        MpscRing<Integer> ring = new MpscRing<>(4);
+        List<Integer> polled = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(ring.offer(i));
+            if (i % 2 == 1) {
+                ring.drain(polled::add, 2);
+            }
+        }
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), polled);
+        assertNull(ring.poll());
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void testConcurrentProducers_ShouldKeepEachProducersOrder() throws Exception {
+        int producers = 4;
+        int perProducer = 50_000;
+        MpscRing<long[]> ring = new MpscRing<>(256);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (long i = 0; i < perProducer; i++) {
+                    long[] element = { producer, i };
+                    while (!ring.offer(element)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            }));
+        }
+
+        start.countDown();
+        long[] next = new long[producers];
+        int received = 0;
+        while (received < producers * perProducer) {
+            long[] element = ring.poll();
+            if (element == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            assertEquals(next[(int) element[0]]++, element[1]);
+            received++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(ring.isEmpty());
+    }
+}
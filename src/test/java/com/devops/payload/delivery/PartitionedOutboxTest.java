@@ -0,0 +1,178 @@
+package com.devops.payload.delivery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.devops.payload.model.DevOpsRequest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartitionedOutboxTest {
+
+    private AtomicLong clock;
+    private PartitionedOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000);
+        outbox = new PartitionedOutbox(4, 16, 10, clock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outbox.close();
+    }
+
+    private static DevOpsRequest request(String message, String to, int timeToLifeSec) {
+        return new DevOpsRequest(message, to, "Rita Asturia", timeToLifeSec);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+            Thread.sleep(1);
+        }
+    }
+
+    private List<String> drain(int partition) {
+        List<String> messages = new ArrayList<>();
+        DeliveryEnvelope envelope;
+        while ((envelope = outbox.poll(partition)) != null) {
+            messages.add(envelope.getRequest().getMessage());
+        }
+        return messages;
+    }
+
+    @Test
+    void testPartitionOf_ShouldBeStablePerRecipient() {
+        assertEquals(outbox.partitionOf("Juan Perez"), outbox.partitionOf("Juan Perez"));
+        assertEquals(outbox.partitionOf(null), outbox.partitionOf(null));
+        for (int i = 0; i < 100; i++) {
+            int partition = outbox.partitionOf("Recipient " + i);
+            assertTrue(partition >= 0 && partition < outbox.getPartitionCount());
+        }
+    }
+
+    @Test
+    void testOffer_FromConcurrentProducers_ShouldKeepOrderPerRecipient() throws Exception {
+        int producers = 4;
+        int perProducer = 2_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            String to = "Recipient " + p;
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    outbox.offer(request(Integer.toString(i), to, 60));
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        List<List<String>> received = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            received.add(new ArrayList<>());
+        }
+        long total = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (total < producers * perProducer && System.nanoTime() < deadline) {
+            for (int partition = 0; partition < outbox.getPartitionCount(); partition++) {
+                DeliveryEnvelope envelope;
+                while ((envelope = outbox.poll(partition)) != null) {
+                    String to = envelope.getRequest().getTo();
+                    received.get(Integer.parseInt(to.substring("Recipient ".length()))).add(envelope.getRequest().getMessage());
+                    total++;
+                }
+            }
+        }
+        for (List<String> messages : received) {
+            assertEquals(perProducer, messages.size());
+            for (int i = 0; i < perProducer; i++) {
+                assertEquals(Integer.toString(i), messages.get(i));
+            }
+        }
+        assertEquals(new DeliveryStats(0, producers * perProducer, producers * perProducer, 0), outbox.getStats());
+    }
+
+    @Test
+    void testOffer_ShouldCountDepthBeforeTheWorkerMovesIt() throws Exception {
+        outbox.offer(request("first", "Juan Perez", 60));
+
+        assertEquals(1, outbox.getStats().depth());
+        assertEquals(1, outbox.getDepth(outbox.partitionOf("Juan Perez")));
+        int partition = outbox.partitionOf("Juan Perez");
+        await(() -> outbox.poll(partition) != null);
+        assertEquals(0, outbox.getStats().depth());
+    }
+
+    @Test
+    void testWorker_ShouldExpireMessagesPastTheirTimeToLive() throws Exception {
+        outbox.offer(request("short", "Juan Perez", 1));
+        outbox.offer(request("long", "Juan Perez", 60));
+        clock.addAndGet(2_000);
+
+        await(() -> outbox.getStats().expired() == 1);
+        assertEquals(List.of("long"), drain(outbox.partitionOf("Juan Perez")));
+    }
+
+    @Test
+    void testOffer_WithExplicitExpiry_ShouldKeepIt() throws Exception {
+        outbox.offer(request("replayed", "Juan Perez", 60), 1_005_000);
+        int partition = outbox.partitionOf("Juan Perez");
+
+        await(() -> outbox.getDepth(partition) == 1 && outbox.getStats().enqueued() == 1);
+        DeliveryEnvelope envelope = null;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (envelope == null && System.nanoTime() < deadline) {
+            envelope = outbox.poll(partition);
+        }
+        assertNotNull(envelope);
+        assertEquals(1_005_000, envelope.getExpiresAtMillis());
+    }
+
+    @Test
+    void testOffer_WhenRingIsFull_ShouldWaitForTheWorker() {
+        for (int i = 0; i < 1_000; i++) {
+            outbox.offer(request(Integer.toString(i), "Juan Perez", 60));
+        }
+
+        assertEquals(1_000, outbox.getStats().enqueued());
+        assertEquals(1_000, outbox.getDepth(outbox.partitionOf("Juan Perez")));
+    }
+
+    @Test
+    void testImbalance_ShouldCompareDeepestLaneWithMean() {
+        assertEquals(0.0, outbox.getImbalance());
+
+        outbox.offer(request("first", "Juan Perez", 60));
+        outbox.offer(request("second", "Juan Perez", 60));
+
+        assertEquals(4.0, outbox.getImbalance());
+    }
+
+    @Test
+    void testBindTo_ShouldPublishLaneMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        outbox.bindTo(registry);
+        outbox.offer(request("first", "Juan Perez", 60));
+        String partition = Integer.toString(outbox.partitionOf("Juan Perez"));
+
+        assertEquals(1.0, registry.get("devops.outbox.partition.depth").tag("partition", partition).gauge().value());
+        assertEquals(4, registry.get("devops.outbox.partition.depth").gauges().size());
+        assertEquals(4.0, registry.get("devops.outbox.imbalance").gauge().value());
+        assertEquals(1.0, registry.get("devops.delivery.queue.depth").gauge().value());
+        assertEquals(1.0, registry.get("devops.delivery.enqueued").functionCounter().count());
+        assertNotNull(registry.get("devops.outbox.ring.full").tag("partition", partition).functionCounter());
+    }
+}
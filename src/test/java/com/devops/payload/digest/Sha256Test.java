@@ -0,0 +1,34 @@
+package com.devops.payload.digest;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Sha256Test {
+
+    private static long[] reference(String value) throws Exception {
+        ByteBuffer digest = ByteBuffer.wrap(
+                MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        return new long[] {digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong()};
+    }
+
+    @Test
+    void testDigest_ShouldMatchMessageDigestForAsciiAndNonAscii() throws Exception {
+        for (String value : new String[] {"", "abc", "x".repeat(2_000), "clave-ñ", "😀"}) {
+            assertArrayEquals(reference(value), Sha256.digest(value), value);
+        }
+    }
+
+    @Test
+    void testDigest_IntoWords_ShouldOverwriteAllFourWords() throws Exception {
+        long[] words = {1, 2, 3, 4};
+
+        Sha256.digest("abc", words);
+
+        assertArrayEquals(reference("abc"), words);
+    }
+}
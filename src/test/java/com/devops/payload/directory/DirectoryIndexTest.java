@@ -0,0 +1,97 @@
+package com.devops.payload.directory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirectoryIndexTest {
+
+    @TempDir
+    Path directory;
+
+    private Path source(int addresses) throws IOException {
+        Path source = directory.resolve("directory.txt");
+        try (BufferedWriter writer = Files.newBufferedWriter(source)) {
+            for (int i = 0; i < addresses; i++) {
+                writer.write("user-" + i + "@example.com\n");
+            }
+        }
+        return source;
+    }
+
+    @Test
+    void testContains_ShouldFindEveryListedAddressAndNoOther() throws IOException {
+        DirectoryIndex index = DirectoryIndex.build(source(10_000), directory.resolve("directory.idx"));
+
+        assertEquals(10_000, index.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(index.contains("user-" + i + "@example.com"));
+            assertFalse(index.contains("other-" + i + "@example.com"));
+        }
+    }
+
+    @Test
+    void testLookup_ShouldRuleOutMostUnknownAddressesWithTheBloomFilter() throws IOException {
+        DirectoryIndex index = DirectoryIndex.build(source(10_000), directory.resolve("directory.idx"));
+
+        int filtered = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (index.lookup("other-" + i + "@example.com") == DirectoryIndex.Lookup.FILTERED) {
+                filtered++;
+            }
+        }
+        assertTrue(filtered > 9_800, "Bloom filter passed " + (10_000 - filtered) + " unknown addresses");
+    }
+
+    @Test
+    void testBuild_ShouldNormalizeSkipCommentsAndDeduplicate() throws IOException {
+        Path source = Files.writeString(directory.resolve("directory.txt"),
+                "# recipients\n  Juan Perez \n\njuan perez\nRita Asturia\n");
+
+        DirectoryIndex index = DirectoryIndex.build(source, directory.resolve("directory.idx"));
+
+        assertEquals(2, index.size());
+        assertTrue(index.contains("JUAN PEREZ"));
+        assertTrue(index.contains("rita asturia "));
+        assertFalse(index.contains("# recipients"));
+        assertFalse(index.contains(""));
+        assertFalse(index.contains(null));
+    }
+
+    @Test
+    void testOpen_WithChunksSmallerThanTheFile_ShouldReadAcrossChunkBoundaries() throws IOException {
+        Path file = directory.resolve("directory.idx");
+        DirectoryIndex.build(source(1_000), file, 64);
+
+        DirectoryIndex index = DirectoryIndex.open(file, 64);
+
+        assertEquals(1_000, index.size());
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(index.contains("user-" + i + "@example.com"));
+        }
+        assertFalse(index.contains("user-1000@example.com"));
+    }
+
+    @Test
+    void testIsBuiltFrom_ShouldDetectSourceChanges() throws IOException {
+        Path source = source(10);
+        DirectoryIndex index = DirectoryIndex.build(source, directory.resolve("directory.idx"));
+
+        assertTrue(index.isBuiltFrom(source));
+        Files.writeString(source, "new@example.com\n", java.nio.file.StandardOpenOption.APPEND);
+        assertFalse(index.isBuiltFrom(source));
+    }
+
+    @Test
+    void testOpen_WithForeignFile_ShouldFail() throws IOException {
+        Path file = Files.write(directory.resolve("directory.idx"), new byte[128]);
+
+        assertThrows(IOException.class, () -> DirectoryIndex.open(file));
+    }
+}
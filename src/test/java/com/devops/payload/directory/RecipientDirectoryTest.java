@@ -0,0 +1,95 @@
+package com.devops.payload.directory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecipientDirectoryTest {
+
+    @TempDir
+    Path directory;
+
+    private long indexFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory.resolve("index"))) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void testRefresh_WhenSourceChanged_ShouldSwapInNewIndex() throws IOException {
+        Path source = Files.writeString(directory.resolve("directory.txt"), "Juan Perez\n");
+        RecipientDirectory recipients = new RecipientDirectory(source, directory.resolve("index"));
+        assertTrue(recipients.isKnown("Juan Perez"));
+        assertFalse(recipients.isKnown("Maria Garcia"));
+
+        Files.writeString(source, "Juan Perez\nMaria Garcia\n");
+        Files.setLastModifiedTime(source, FileTime.fromMillis(Files.getLastModifiedTime(source).toMillis() + 1_000));
+        recipients.refresh();
+
+        assertTrue(recipients.isKnown("Maria Garcia"));
+        assertEquals(new DirectoryStats(2, 3, 1, 1, 1), recipients.getStats());
+        assertEquals(1, indexFiles());
+    }
+
+    @Test
+    void testRefresh_WhenSourceUnchanged_ShouldKeepIndex() throws IOException {
+        Path source = Files.writeString(directory.resolve("directory.txt"), "Juan Perez\n");
+        RecipientDirectory recipients = new RecipientDirectory(source, directory.resolve("index"));
+
+        recipients.refresh();
+
+        assertEquals(0, recipients.getStats().rebuilds());
+    }
+
+    @Test
+    void testRefresh_WhenSourceIsGone_ShouldKeepServingTheCurrentIndex() throws IOException {
+        Path source = Files.writeString(directory.resolve("directory.txt"), "Juan Perez\n");
+        RecipientDirectory recipients = new RecipientDirectory(source, directory.resolve("index"));
+
+        Files.delete(source);
+        recipients.refresh();
+
+        assertTrue(recipients.isKnown("Juan Perez"));
+    }
+
+    @Test
+    void testConstructor_WithIndexOfCurrentSource_ShouldReuseItAndDropStaleFiles() throws IOException {
+        Path source = Files.writeString(directory.resolve("directory.txt"), "Juan Perez\n");
+        new RecipientDirectory(source, directory.resolve("index"));
+        Files.writeString(directory.resolve("index").resolve("directory-00000000000000000001.idx.tmp"), "partial");
+        Path built;
+        try (Stream<Path> files = Files.list(directory.resolve("index"))) {
+            built = files.filter(file -> file.toString().endsWith(".idx")).findFirst().orElseThrow();
+        }
+
+        RecipientDirectory restarted = new RecipientDirectory(source, directory.resolve("index"));
+
+        assertTrue(restarted.isKnown("Juan Perez"));
+        assertEquals(1, indexFiles());
+        assertTrue(Files.exists(built));
+    }
+
+    @Test
+    void testBindTo_ShouldPublishLookupCounters() throws IOException {
+        Path source = Files.writeString(directory.resolve("directory.txt"), "Juan Perez\n");
+        RecipientDirectory recipients = new RecipientDirectory(source, directory.resolve("index"));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        recipients.bindTo(registry);
+
+        recipients.isKnown("Juan Perez");
+        recipients.isKnown("Maria Garcia");
+
+        assertEquals(1.0, registry.get("devops.directory.entries").gauge().value());
+        assertEquals(2.0, registry.get("devops.directory.lookups").functionCounter().count());
+        assertEquals(1.0, registry.get("devops.directory.unknown").functionCounter().count());
+    }
+}
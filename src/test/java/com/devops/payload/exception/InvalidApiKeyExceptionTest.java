@@ -37,5 +37,13 @@ class InvalidApiKeyExceptionTest {
 
         assertInstanceOf(RuntimeException.class, exception);
     }
-}
 
+    @Test
+    void testInvalidApiKeyException_Stackless_ShouldSkipStackTrace() {
+        InvalidApiKeyException exception = InvalidApiKeyException.stackless("some-key");
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(new InvalidApiKeyException("some-key").getMessage(), exception.getMessage());
+        assertTrue(new InvalidApiKeyException("some-key").getStackTrace().length > 0);
+    }
+}
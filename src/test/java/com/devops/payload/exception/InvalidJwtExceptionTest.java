@@ -29,5 +29,13 @@ class InvalidJwtExceptionTest {
 
         assertInstanceOf(RuntimeException.class, exception);
     }
-}
 
+    @Test
+    void testInvalidJwtException_Stackless_ShouldSkipStackTrace() {
+        InvalidJwtException exception = InvalidJwtException.stackless("a.b");
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(new InvalidJwtException("a.b").getMessage(), exception.getMessage());
+        assertTrue(new InvalidJwtException("a.b").getStackTrace().length > 0);
+    }
+}
@@ -30,5 +30,13 @@ class InvalidMethodExceptionTest {
 
         assertInstanceOf(RuntimeException.class, exception);
     }
-}
 
+    @Test
+    void testInvalidMethodException_Stackless_ShouldSkipStackTrace() {
+        InvalidMethodException exception = InvalidMethodException.stackless("GET");
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(new InvalidMethodException("GET").getMessage(), exception.getMessage());
+        assertTrue(new InvalidMethodException("GET").getStackTrace().length > 0);
+    }
+}
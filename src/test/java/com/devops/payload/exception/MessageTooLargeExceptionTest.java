@@ -0,0 +1,24 @@
+package com.devops.payload.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageTooLargeExceptionTest {
+
+    @Test
+    void testMessageTooLargeException_ShouldExposeLimit() {
+        MessageTooLargeException exception = new MessageTooLargeException(1024);
+
+        assertEquals(1024, exception.getMaxBytes());
+        assertTrue(exception.getMessage().contains("1024 bytes"));
+    }
+
+    @Test
+    void testMessageTooLargeException_Stackless_ShouldSkipStackTrace() {
+        MessageTooLargeException exception = MessageTooLargeException.stackless(2048);
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(new MessageTooLargeException(2048).getMessage(), exception.getMessage());
+    }
+}
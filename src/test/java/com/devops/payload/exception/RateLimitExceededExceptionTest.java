@@ -0,0 +1,30 @@
+package com.devops.payload.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitExceededExceptionTest {
+
+    @Test
+    void testRateLimitExceededException_ShouldExposeRetryAfter() {
+        RateLimitExceededException exception = new RateLimitExceededException(3);
+
+        assertEquals(3, exception.getRetryAfterSeconds());
+        assertTrue(exception.getMessage().contains("retry after 3s"));
+    }
+
+    @Test
+    void testRateLimitExceededException_IsRuntimeException() {
+        assertTrue(new RateLimitExceededException(1) instanceof RuntimeException);
+    }
+
+    @Test
+    void testRateLimitExceededException_Stackless_ShouldSkipStackTrace() {
+        RateLimitExceededException exception = RateLimitExceededException.stackless(2);
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(new RateLimitExceededException(2).getMessage(), exception.getMessage());
+        assertTrue(new RateLimitExceededException(2).getStackTrace().length > 0);
+    }
+}
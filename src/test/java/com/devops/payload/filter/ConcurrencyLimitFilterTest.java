@@ -0,0 +1,123 @@
+package com.devops.payload.filter;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.devops.payload.concurrency.AdaptiveConcurrencyLimiter;
+import com.devops.payload.metrics.RequestStageMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private ConcurrencyLimitFilter filter;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 1.5);
+        registry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitFilter(limiter, new RequestStageMetrics(registry, false));
+    }
+
+    @Test
+    void testDoFilter_UnderLimit_ShouldContinueAndRelease() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/DevOps");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertSame(request, ((HttpServletRequestWrapper) chain.getRequest()).getRequest());
+        assertEquals(0, limiter.getStats().inFlight());
+        assertEquals(1, limiter.getStats().admitted());
+    }
+
+    @Test
+    void testDoFilter_WithSlowUpload_ShouldSampleLatencyFromTheEndOfTheBody() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/DevOps");
+        request.setContent("{\"message\":\"m\"}".getBytes());
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                try {
+                    // The time the body takes to arrive.
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                req.getInputStream().readAllBytes();
+            }
+        });
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        double baselineMillis = limiter.getStats().baselineMillis();
+        assertTrue(baselineMillis > 0 && baselineMillis < 200, "baseline " + baselineMillis);
+        assertEquals(0, limiter.getStats().inFlight());
+    }
+
+    @Test
+    void testDoFilter_WhenBodyIsNotReadToTheEnd_ShouldReleaseWithoutSample() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/DevOps");
+        request.setContent("{\"message\":\"m\"}".getBytes());
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals(0, limiter.getStats().inFlight());
+        assertEquals(0.0, limiter.getStats().baselineMillis());
+    }
+
+    @Test
+    void testDoFilter_OverLimit_ShouldReturnServiceUnavailable() throws Exception {
+        assertTrue(limiter.tryAcquire());
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/DevOps"), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(503, response.getStatus());
+        assertEquals("ERROR", response.getContentAsString());
+        assertEquals(1, limiter.getStats().shed());
+        assertEquals(1, registry.get("devops.request.rejections").tag("cause", "concurrency-limit").counter().count());
+    }
+
+    @Test
+    void testDoFilter_WhenChainThrows_ShouldStillRelease() {
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                throw new IllegalStateException("boom");
+            }
+        });
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/DevOps");
+
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(request, new MockHttpServletResponse(), chain));
+        assertEquals(0, limiter.getStats().inFlight());
+    }
+
+    @Test
+    void testDoFilter_WithGet_ShouldNotTakeASlot() throws Exception {
+        assertTrue(limiter.tryAcquire());
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/DevOps"), new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(0, limiter.getStats().shed());
+    }
+}
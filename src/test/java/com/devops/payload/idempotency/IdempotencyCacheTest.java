@@ -0,0 +1,235 @@
+package com.devops.payload.idempotency;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.devops.payload.exception.IdempotencyKeyReusedException;
+import com.devops.payload.model.DevOpsRequest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private static IdempotencyKey key(String message) {
+        return IdempotencyKey.of("default", null, new DevOpsRequest(message, "Juan Perez", "Rita Asturia", 45));
+    }
+
+    private void process() {
+        calls.incrementAndGet();
+    }
+
+    @Test
+    void testExecute_WithDuplicateWithinTtl_ShouldNotProcessAgain() {
+        IdempotencyCache cache = new IdempotencyCache(true, 1 << 20, now::get);
+
+        cache.execute(key("a"), 45, this::process);
+        cache.execute(key("a"), 45, this::process);
+
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.replayCount());
+    }
+
+    @Test
+    void testExecute_WithSameHeaderKeyAndDifferentRequest_ShouldReject() {
+        IdempotencyCache cache = new IdempotencyCache(true, 1 << 20, now::get);
+        cache.execute(IdempotencyKey.of("default", "retry-1", new DevOpsRequest("a", "Juan Perez", "Rita Asturia", 45)),
+                45, this::process);
+
+        IdempotencyKey reused = IdempotencyKey.of("default", "retry-1",
+                new DevOpsRequest("b", "Juan Perez", "Rita Asturia", 45));
+
+        assertThrows(IdempotencyKeyReusedException.class, () -> cache.execute(reused, 45, this::process));
+        assertEquals(1, calls.get());
+        assertEquals(0, cache.replayCount());
+        cache.execute(IdempotencyKey.of("default", "retry-1",
+                new DevOpsRequest("a", "Juan Perez", "Rita Asturia", 45)), 45, this::process);
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.replayCount());
+    }
+
+    @Test
+    void testExecute_AfterTtl_ShouldProcessAgain() {
+        IdempotencyCache cache = new IdempotencyCache(true, 1 << 20, now::get);
+
+        cache.execute(key("a"), 45, this::process);
+        now.addAndGet(45_000);
+        cache.execute(key("a"), 45, this::process);
+
+        assertEquals(2, calls.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testExecute_WhenDisabled_ShouldAlwaysProcess() {
+        IdempotencyCache cache = new IdempotencyCache(false, 1 << 20, now::get);
+
+        cache.execute(key("a"), 45, this::process);
+        cache.execute(key("a"), 45, this::process);
+
+        assertEquals(2, calls.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testExecute_WhenActionFails_ShouldNotRememberFailure() {
+        IdempotencyCache cache = new IdempotencyCache(true, 1 << 20, now::get);
+
+        assertThrows(IllegalStateException.class, () -> cache.execute(key("a"), 45, () -> {
+            throw new IllegalStateException("queue full");
+        }));
+        cache.execute(key("a"), 45, this::process);
+
+        assertEquals(1, calls.get());
+        assertEquals(0, cache.replayCount());
+    }
+
+    @Test
+    void testExecute_OverMemoryCap_ShouldEvictOldestFirst() {
+        long entryBytes = IdempotencyCache.ENTRY_OVERHEAD_BYTES + key("a").estimatedSize();
+        IdempotencyCache cache = new IdempotencyCache(true, 2 * entryBytes, now::get);
+
+        cache.execute(key("a"), 45, this::process);
+        cache.execute(key("b"), 45, this::process);
+        cache.execute(key("c"), 45, this::process);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictionCount());
+        assertTrue(cache.retainedBytes() <= 2 * entryBytes);
+        cache.execute(key("a"), 45, this::process);
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void testPurgeExpired_ShouldReleaseMemory() {
+        IdempotencyCache cache = new IdempotencyCache(true, 1 << 20, now::get);
+        cache.execute(key("a"), 1, this::process);
+        cache.execute(key("b"), 60, this::process);
+
+        now.addAndGet(1_000);
+        cache.purgeExpired();
+
+        assertEquals(1, cache.size());
+        assertEquals(IdempotencyCache.ENTRY_OVERHEAD_BYTES + key("b").estimatedSize(), cache.retainedBytes());
+    }
+
+    @Test
+    void testExecute_WithConcurrentDuplicates_ShouldProcessOnce() throws Exception {
+        IdempotencyCache cache = new IdempotencyCache(true, 1 << 20, now::get);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?> first = executor.submit(() -> cache.execute(key("a"), 45, () -> {
+                started.countDown();
+                awaitQuietly(release);
+                process();
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<?> second = executor.submit(() -> cache.execute(key("a"), 45, this::process));
+            Future<?> third = executor.submit(() -> cache.execute(key("a"), 45, this::process));
+            release.countDown();
+
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+            third.get(5, TimeUnit.SECONDS);
+            assertEquals(1, calls.get());
+            assertEquals(2, cache.replayCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testExecute_WhenInFlightActionFails_ShouldPropagateToWaiters() throws Exception {
+        IdempotencyCache cache = new IdempotencyCache(true, 1 << 20, now::get);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> cache.execute(key("a"), 45, () -> {
+                started.countDown();
+                awaitQuietly(release);
+                throw new IllegalStateException("queue full");
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<?> second = executor.submit(() -> cache.execute(key("a"), 45, this::process));
+            release.countDown();
+
+            Exception failure = assertThrows(Exception.class, () -> first.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, failure.getCause());
+            try {
+                second.get(5, TimeUnit.SECONDS);
+                assertEquals(1, calls.get());
+            } catch (ExecutionException e) {
+                assertInstanceOf(IllegalStateException.class, e.getCause());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testExecuteAsync_WithDuplicateInFlight_ShouldReturnSameFuture() {
+        IdempotencyCache cache = new IdempotencyCache(true, 1 << 20, now::get);
+        AtomicReference<CompletableFuture<Void>> nested = new AtomicReference<>();
+
+        CompletableFuture<Void> first = cache.executeAsync(key("a"), 45, () -> {
+            nested.set(cache.executeAsync(key("a"), 45, this::process));
+            assertFalse(nested.get().isDone());
+            process();
+        });
+
+        assertSame(first, nested.get());
+        assertTrue(first.isDone());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testExecuteAsync_WhenActionFails_ShouldReturnFailedFuture() {
+        IdempotencyCache cache = new IdempotencyCache(true, 1 << 20, now::get);
+
+        CompletableFuture<Void> outcome = cache.executeAsync(key("a"), 45, () -> {
+            throw new IllegalStateException("queue full");
+        });
+
+        assertTrue(outcome.isCompletedExceptionally());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testBindTo_ShouldExposeMeters() {
+        IdempotencyCache cache = new IdempotencyCache(true, 1 << 20, now::get);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.execute(key("a"), 45, this::process);
+        cache.execute(key("a"), 45, this::process);
+
+        assertEquals(1.0, registry.get("devops.idempotency.replays").functionCounter().count());
+        assertEquals(1.0, registry.get("devops.idempotency.entries").gauge().value());
+        assertEquals(cache.retainedBytes(), (long) registry.get("devops.idempotency.bytes").gauge().value());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.devops.payload.idempotency;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.MessageBody;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyKeyTest {
+
+    private final DevOpsRequest request = new DevOpsRequest("This is a test", "Juan Perez", "Rita Asturia", 45);
+
+    @Test
+    void testOf_WithHeader_ShouldIgnoreRequestContent() {
+        IdempotencyKey first = IdempotencyKey.of("acme", "abc-123", request);
+        IdempotencyKey second = IdempotencyKey.of("acme", "abc-123",
+                new DevOpsRequest("Other", "Someone", "Else", 10));
+
+        assertEquals(first, second);
+        assertNull(first.request());
+        assertFalse(first.sameRequest(second));
+        assertTrue(first.sameRequest(IdempotencyKey.of("acme", "abc-123",
+                new DevOpsRequest("This is a test", "Juan Perez", "Rita Asturia", 45))));
+    }
+
+    @Test
+    void testOf_WithHeaderAndSpooledMessages_ShouldCompareTheirDigests() {
+        DevOpsRequest first = new DevOpsRequest(null, "Juan Perez", "Rita Asturia", 45);
+        first.setMessageBody(MessageBody.spooled(Path.of("a.tmp"), 3, new byte[32], false, null));
+        DevOpsRequest same = new DevOpsRequest(null, "Juan Perez", "Rita Asturia", 45);
+        same.setMessageBody(MessageBody.spooled(Path.of("b.tmp"), 3, new byte[32], false, null));
+        byte[] otherDigest = new byte[32];
+        otherDigest[0] = 1;
+        DevOpsRequest other = new DevOpsRequest(null, "Juan Perez", "Rita Asturia", 45);
+        other.setMessageBody(MessageBody.spooled(Path.of("c.tmp"), 3, otherDigest, false, null));
+
+        IdempotencyKey key = IdempotencyKey.of("acme", "abc-123", first);
+
+        assertTrue(key.sameRequest(IdempotencyKey.of("acme", "abc-123", same)));
+        assertFalse(key.sameRequest(IdempotencyKey.of("acme", "abc-123", other)));
+    }
+
+    @Test
+    void testOf_WithoutHeader_ShouldUseRequestContent() {
+        IdempotencyKey first = IdempotencyKey.of("acme", null, request);
+        IdempotencyKey second = IdempotencyKey.of("acme", " ",
+                new DevOpsRequest("This is a test", "Juan Perez", "Rita Asturia", 45));
+
+        assertEquals(first, second);
+        assertNotEquals(first, IdempotencyKey.of("acme", null, new DevOpsRequest("This is a test", "Juan Perez",
+                "Rita Asturia", 46)));
+    }
+
+    @Test
+    void testOf_WithDifferentTenants_ShouldNotBeEqual() {
+        assertNotEquals(IdempotencyKey.of("acme", "abc-123", request), IdempotencyKey.of("other", "abc-123", request));
+    }
+
+    @Test
+    void testEstimatedSize_ShouldGrowWithContent() {
+        IdempotencyKey small = IdempotencyKey.of("acme", null, request);
+        IdempotencyKey large = IdempotencyKey.of("acme", null,
+                new DevOpsRequest("x".repeat(1000), "Juan Perez", "Rita Asturia", 45));
+
+        assertTrue(large.estimatedSize() - small.estimatedSize() >= 2 * (1000 - request.getMessage().length()));
+    }
+}
@@ -0,0 +1,48 @@
+package com.devops.payload.ingest;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirectBufferPoolTest {
+
+    @Test
+    void testAcquire_AfterRelease_ShouldReuseClearedBuffer() {
+        DirectBufferPool pool = new DirectBufferPool(128, 4);
+        ByteBuffer buffer = pool.acquire();
+        buffer.putInt(42);
+
+        pool.release(buffer);
+        ByteBuffer reused = pool.acquire();
+
+        assertSame(buffer, reused);
+        assertTrue(reused.isDirect());
+        assertEquals(0, reused.position());
+        assertEquals(128, reused.limit());
+        assertEquals(1, pool.allocations());
+    }
+
+    @Test
+    void testRelease_BeyondMaxPooled_ShouldDropBuffer() {
+        DirectBufferPool pool = new DirectBufferPool(64, 1);
+        ByteBuffer first = pool.acquire();
+        ByteBuffer second = pool.acquire();
+
+        pool.release(first);
+        pool.release(second);
+
+        assertEquals(1, pool.pooled());
+        assertSame(first, pool.acquire());
+        assertEquals(0, pool.pooled());
+    }
+
+    @Test
+    void testRelease_WithForeignBuffer_ShouldThrow() {
+        DirectBufferPool pool = new DirectBufferPool(64, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> pool.release(ByteBuffer.allocate(64)));
+        assertThrows(IllegalArgumentException.class, () -> pool.release(ByteBuffer.allocateDirect(32)));
+    }
+}
@@ -0,0 +1,286 @@
+package com.devops.payload.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.devops.payload.codec.DevOpsProtobufCodec;
+import com.devops.payload.exception.JournalUnavailableException;
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.spool.MessageSpool;
+import com.devops.payload.spool.SpoolWriter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageJournalTest {
+
+    private static final int SEGMENT_BYTES = 4096;
+
+    @TempDir
+    Path directory;
+
+    private AtomicLong clock;
+    private MessageJournal journal;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000);
+        journal = open(new ArrayList<>());
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    private MessageJournal open(List<String> replayed) {
+        return new MessageJournal(directory, SEGMENT_BYTES, clock::get,
+                (request, expiresAtMillis) -> replayed.add(request.getTo() + "@" + expiresAtMillis));
+    }
+
+    private static DevOpsRequest request(String to, int timeToLifeSec) {
+        return new DevOpsRequest("This is a test", to, "Rita Asturia", timeToLifeSec);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(JournalSegment::isSegment).sorted().toList();
+        }
+    }
+
+    @Test
+    void testReopen_ShouldReplayUnexpiredMessagesInOrderWithTheirExpiry() {
+        journal.append(request("first", 10));
+        journal.append(request("second", 1));
+        journal.append(request("third", 60));
+        journal.close();
+        clock.addAndGet(5_000);
+
+        List<String> replayed = new ArrayList<>();
+        journal = open(replayed);
+
+        assertEquals(List.of("first@1010000", "third@1060000"), replayed);
+        assertEquals(2, journal.getStats().replayed());
+    }
+
+    @Test
+    void testReopen_AfterMoreAppends_ShouldKeepOlderSegments() {
+        journal.append(request("first", 60));
+        journal.close();
+        journal = open(new ArrayList<>());
+        journal.append(request("second", 60));
+        journal.close();
+
+        List<String> replayed = new ArrayList<>();
+        journal = open(replayed);
+
+        assertEquals(List.of("first@1060000", "second@1060000"), replayed);
+    }
+
+    @Test
+    void testReplay_WithTornRecord_ShouldStopAtLastValidOne() throws IOException {
+        journal.append(request("first", 60));
+        journal.append(request("second", 60));
+        journal.close();
+        Path segment = segmentFiles().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            // Flip a payload byte of the second record, as if its pages were only partly written.
+            int firstRecord = JournalSegment.HEADER_BYTES + DevOpsProtobufCodec.writeRequest(request("first", 60)).length;
+            channel.write(ByteBuffer.wrap(new byte[] { 0x7f }), firstRecord + JournalSegment.HEADER_BYTES + 3);
+        }
+
+        List<String> replayed = new ArrayList<>();
+        journal = open(replayed);
+
+        assertEquals(List.of("first@1060000"), replayed);
+    }
+
+    @Test
+    void testAppend_WhenSegmentIsFull_ShouldRollOver() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            journal.append(request("Juan Perez " + i, 60));
+        }
+
+        assertTrue(segmentFiles().size() > 1);
+        assertEquals(segmentFiles().size(), journal.getStats().segments());
+        journal.close();
+        List<String> replayed = new ArrayList<>();
+        journal = open(replayed);
+        assertEquals(100, replayed.size());
+        assertEquals("Juan Perez 99@1060000", replayed.get(99));
+    }
+
+    @Test
+    void testPurge_ShouldDeleteSegmentsWhoseMessagesAllExpired() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            journal.append(request("Juan Perez " + i, i < 70 ? 1 : 60));
+        }
+        int before = segmentFiles().size();
+        clock.addAndGet(2_000);
+
+        journal.purge();
+
+        int after = segmentFiles().size();
+        assertTrue(after < before);
+        assertEquals(before - after, journal.getStats().deletedSegments());
+        journal.close();
+        List<String> replayed = new ArrayList<>();
+        journal = open(replayed);
+        assertEquals(30, replayed.size());
+    }
+
+    @Test
+    void testReopen_WithOnlyExpiredMessages_ShouldDeleteTheirSegments() throws IOException {
+        journal.append(request("Juan Perez", 1));
+        journal.close();
+        clock.addAndGet(2_000);
+
+        journal = open(new ArrayList<>());
+
+        assertEquals(1, segmentFiles().size());
+        assertEquals(1, journal.getStats().deletedSegments());
+    }
+
+    @Test
+    void testAppend_FromConcurrentThreads_ShouldShareSyncs() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 800; i++) {
+                String to = "Juan Perez " + i;
+                futures.add(executor.submit(() -> journal.append(request(to, 60))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        JournalStats stats = journal.getStats();
+        assertEquals(800, stats.appends());
+        assertTrue(stats.syncs() <= stats.appends());
+        journal.close();
+        List<String> replayed = new ArrayList<>();
+        journal = open(replayed);
+        assertEquals(800, replayed.size());
+    }
+
+    @Test
+    void testAppend_LargerThanSegment_ShouldBeRejected() {
+        DevOpsRequest request = new DevOpsRequest("x".repeat(SEGMENT_BYTES), "Juan Perez", "Rita Asturia", 60);
+
+        assertThrows(IllegalArgumentException.class, () -> journal.append(request));
+    }
+
+    @Test
+    void testAppend_WithSpooledMessage_ShouldReplayItsText() throws IOException {
+        String message = "spooled ñ ".repeat(100);
+        SpoolWriter writer = new MessageSpool(directory.resolve("spool"), 16, 1 << 20).newWriter(1 << 20);
+        for (int codePoint : message.codePoints().toArray()) {
+            writer.writeCodePoint(codePoint);
+        }
+        DevOpsRequest request = new DevOpsRequest(null, "Juan Perez", "Rita Asturia", 60);
+        request.setMessageBody(writer.finish());
+        journal.append(request);
+        journal.close();
+
+        List<DevOpsRequest> replayed = new ArrayList<>();
+        journal = new MessageJournal(directory, SEGMENT_BYTES, clock::get,
+                (replayedRequest, expiresAtMillis) -> replayed.add(replayedRequest));
+
+        assertEquals(List.of(new DevOpsRequest(message, "Juan Perez", "Rita Asturia", 60)), replayed);
+    }
+
+    @Test
+    void testAppend_WhenSpooledBodyCannotBeRead_ShouldFailAndKeepTheJournalUsable() throws IOException {
+        SpoolWriter writer = new MessageSpool(directory.resolve("spool"), 16, 1 << 20).newWriter(1 << 20);
+        for (int codePoint : "spooled".repeat(20).codePoints().toArray()) {
+            writer.writeCodePoint(codePoint);
+        }
+        DevOpsRequest spooled = new DevOpsRequest(null, "Juan Perez", "Rita Asturia", 60);
+        spooled.setMessageBody(writer.finish());
+        spooled.getMessageBody().release();
+        journal.append(request("first", 60));
+
+        assertThrows(JournalUnavailableException.class, () -> journal.append(spooled));
+        journal.append(request("third", 60));
+        journal.close();
+
+        List<String> replayed = new ArrayList<>();
+        journal = open(replayed);
+        assertEquals(List.of("first@1060000", "third@1060000"), replayed);
+    }
+
+    @Test
+    void testAppend_SpooledBodiesAlongsideSmallMessages_ShouldReplayAll() throws Exception {
+        MessageSpool spool = new MessageSpool(directory.resolve("spool"), 16, 1 << 20);
+        Map<String, String> expected = new HashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                DevOpsRequest request = request("Juan Perez " + i, 60);
+                if (i % 4 == 0) {
+                    String message = ("spooled " + i + " ").repeat(30);
+                    SpoolWriter writer = spool.newWriter(1 << 20);
+                    for (int codePoint : message.codePoints().toArray()) {
+                        writer.writeCodePoint(codePoint);
+                    }
+                    request.setMessageBody(writer.finish());
+                }
+                expected.put(request.getTo(), request.getMessage());
+                futures.add(executor.submit(() -> journal.append(request)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        journal.close();
+
+        Map<String, String> replayed = new HashMap<>();
+        journal = new MessageJournal(directory, SEGMENT_BYTES, clock::get,
+                (request, expiresAtMillis) -> replayed.put(request.getTo(), request.getMessage()));
+        assertEquals(expected, replayed);
+    }
+
+    @Test
+    void testAppend_AfterClose_ShouldFail() {
+        journal.close();
+
+        assertThrows(JournalUnavailableException.class, () -> journal.append(request("Juan Perez", 60)));
+    }
+
+    @Test
+    void testBindTo_ShouldPublishJournalMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        journal.bindTo(registry);
+        journal.append(request("Juan Perez", 60));
+
+        assertEquals(1.0, registry.get("devops.journal.appends").functionCounter().count());
+        assertEquals(1.0, registry.get("devops.journal.syncs").functionCounter().count());
+        assertEquals(1.0, registry.get("devops.journal.segments").gauge().value());
+        assertEquals(0.0, registry.get("devops.journal.replayed").functionCounter().count());
+    }
+}
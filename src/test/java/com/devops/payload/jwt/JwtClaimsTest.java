@@ -0,0 +1,54 @@
+package com.devops.payload.jwt;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtClaimsTest {
+
+    private static JwtClaims claims(String payloadJson) {
+        return JwtClaims.of("header." + JwtTestTokens.encode(payloadJson) + ".signature");
+    }
+
+    @Test
+    void testGetters_ShouldReadRegisteredClaims() {
+        JwtClaims claims = claims("{\"sub\":\"alice\",\"aud\":\"devops\",\"exp\":1700000060,\"nbf\":1700000000,"
+                + "\"scope\":{\"nested\":[1,2]}}");
+
+        assertTrue(claims.isWellFormed());
+        assertEquals("alice", claims.getSubject());
+        assertEquals(List.of("devops"), claims.getAudience());
+        assertEquals(1_700_000_060_000L, claims.getExpiresAtMillis());
+        assertEquals(1_700_000_000_000L, claims.getNotBeforeMillis());
+    }
+
+    @Test
+    void testGetAudience_WithArray_ShouldKeepOnlyStrings() {
+        JwtClaims claims = claims("{\"aud\":[\"a\",1,{\"x\":2},\"b\"],\"sub\":\"bob\"}");
+
+        assertEquals(List.of("a", "b"), claims.getAudience());
+        assertEquals("bob", claims.getSubject());
+    }
+
+    @Test
+    void testGetters_WithoutClaims_ShouldReturnDefaults() {
+        JwtClaims claims = claims("{}");
+
+        assertTrue(claims.isWellFormed());
+        assertNull(claims.getSubject());
+        assertTrue(claims.getAudience().isEmpty());
+        assertEquals(Long.MAX_VALUE, claims.getExpiresAtMillis());
+        assertEquals(Long.MIN_VALUE, claims.getNotBeforeMillis());
+    }
+
+    @Test
+    void testIsWellFormed_WithBadPayloads_ShouldReturnFalse() {
+        assertFalse(claims("{\"exp\":\"tomorrow\"}").isWellFormed());
+        assertFalse(claims("[1,2]").isWellFormed());
+        assertFalse(claims("{\"sub\":").isWellFormed());
+        assertFalse(JwtClaims.of("part1.part2.part3").isWellFormed());
+        assertFalse(JwtClaims.of("h.!!!.s").isWellFormed());
+    }
+}
@@ -0,0 +1,122 @@
+package com.devops.payload.jwt;
+
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtKeySetTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static String unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > length) {
+            bytes = Arrays.copyOfRange(bytes, bytes.length - length, bytes.length);
+        } else if (bytes.length < length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return JwtTestTokens.encode(bytes);
+    }
+
+    @Test
+    void testLoad_WithRawSecret_ShouldCreateHs256Key() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("secret"), "shared-secret\n");
+
+        JwtKeySet keySet = JwtKeySet.load(file, objectMapper);
+
+        assertEquals(1, keySet.getKeys().size());
+        assertEquals(JwtAlgorithm.HS256, keySet.getKeys().get(0).algorithm());
+        assertArrayEquals("shared-secret".getBytes(), keySet.getKeys().get(0).key().getEncoded());
+    }
+
+    @Test
+    void testLoad_WithPemRsaKey_ShouldCreateRs256Key() throws Exception {
+        KeyPair keyPair = JwtTestTokens.rsaKeyPair();
+        String pem = "-----BEGIN PUBLIC KEY-----\n"
+                + Base64.getMimeEncoder().encodeToString(keyPair.getPublic().getEncoded())
+                + "\n-----END PUBLIC KEY-----\n";
+        Path file = Files.writeString(tempDir.resolve("rsa.pem"), pem);
+
+        JwtKey key = JwtKeySet.load(file, objectMapper).getKeys().get(0);
+
+        assertEquals(JwtAlgorithm.RS256, key.algorithm());
+        assertEquals(keyPair.getPublic(), key.key());
+    }
+
+    @Test
+    void testLoad_WithPemEcKey_ShouldCreateEs256Key() throws Exception {
+        KeyPair keyPair = JwtTestTokens.ecKeyPair();
+        String pem = "-----BEGIN PUBLIC KEY-----\n"
+                + Base64.getMimeEncoder().encodeToString(keyPair.getPublic().getEncoded())
+                + "\n-----END PUBLIC KEY-----";
+        Path file = Files.writeString(tempDir.resolve("ec.pem"), pem);
+
+        JwtKey key = JwtKeySet.load(file, objectMapper).getKeys().get(0);
+
+        assertEquals(JwtAlgorithm.ES256, key.algorithm());
+        assertEquals(keyPair.getPublic(), key.key());
+    }
+
+    @Test
+    void testLoad_WithJwks_ShouldCreateEverySigningKey() throws Exception {
+        RSAPublicKey rsa = (RSAPublicKey) JwtTestTokens.rsaKeyPair().getPublic();
+        ECPublicKey ec = (ECPublicKey) JwtTestTokens.ecKeyPair().getPublic();
+        String jwks = "{\"keys\":["
+                + "{\"kty\":\"oct\",\"kid\":\"h\",\"k\":\"" + JwtTestTokens.encode(JwtTestTokens.HMAC_SECRET) + "\"},"
+                + "{\"kty\":\"RSA\",\"kid\":\"r\",\"n\":\"" + JwtTestTokens.encode(rsa.getModulus().toByteArray())
+                + "\",\"e\":\"" + JwtTestTokens.encode(rsa.getPublicExponent().toByteArray()) + "\"},"
+                + "{\"kty\":\"EC\",\"kid\":\"e\",\"crv\":\"P-256\",\"x\":\"" + unsigned(ec.getW().getAffineX(), 32)
+                + "\",\"y\":\"" + unsigned(ec.getW().getAffineY(), 32) + "\"},"
+                + "{\"kty\":\"RSA\",\"kid\":\"enc\",\"use\":\"enc\",\"n\":\"AQAB\",\"e\":\"AQAB\"},"
+                + "{\"kty\":\"OKP\",\"kid\":\"x\"}"
+                + "]}";
+        Path file = Files.writeString(tempDir.resolve("jwks.json"), jwks);
+
+        JwtKeySet keySet = JwtKeySet.load(file, objectMapper);
+
+        assertEquals(3, keySet.getKeys().size());
+        assertEquals(rsa, keySet.candidates("r", JwtAlgorithm.RS256).get(0).key());
+        assertEquals(ec, keySet.candidates("e", JwtAlgorithm.ES256).get(0).key());
+        assertEquals(1, keySet.candidates(null, JwtAlgorithm.HS256).size());
+        assertTrue(keySet.candidates("other", JwtAlgorithm.RS256).isEmpty());
+    }
+
+    @Test
+    void testLoad_WithSingleJwk_ShouldCreateKey() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("jwk.json"),
+                "{\"kty\":\"oct\",\"k\":\"" + JwtTestTokens.encode(JwtTestTokens.HMAC_SECRET) + "\"}");
+
+        assertEquals(JwtAlgorithm.HS256, JwtKeySet.load(file, objectMapper).getKeys().get(0).algorithm());
+    }
+
+    @Test
+    void testLoad_WithoutUsableKeys_ShouldThrowException() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("empty.json"), "{\"keys\":[]}");
+
+        assertThrows(IllegalArgumentException.class, () -> JwtKeySet.load(file, objectMapper));
+    }
+
+    @Test
+    void testLoad_WithBrokenJwk_ShouldThrowIOException() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("broken.json"), "{\"keys\":[{\"kty\":\"RSA\",\"n\":\"AQAB\"}]}");
+
+        assertThrows(java.io.IOException.class, () -> JwtKeySet.load(file, objectMapper));
+    }
+}
@@ -0,0 +1,78 @@
+package com.devops.payload.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Signs compact JWS tokens for tests.
+ */
+public final class JwtTestTokens {
+
+    public static final byte[] HMAC_SECRET = "test-secret-for-hs256-signatures!".getBytes(StandardCharsets.UTF_8);
+
+    private JwtTestTokens() {
+    }
+
+    public static KeyPair rsaKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    public static KeyPair ecKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    public static String hs256(String claimsJson) throws Exception {
+        return hs256(null, claimsJson);
+    }
+
+    public static String hs256(String kid, String claimsJson) throws Exception {
+        String signingInput = signingInput("HS256", kid, claimsJson);
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(HMAC_SECRET, "HmacSHA256"));
+        return signingInput + "." + encode(mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    public static String rs256(PrivateKey key, String kid, String claimsJson) throws Exception {
+        return sign("RS256", "SHA256withRSA", key, kid, claimsJson);
+    }
+
+    public static String es256(PrivateKey key, String kid, String claimsJson) throws Exception {
+        return sign("ES256", "SHA256withECDSAinP1363Format", key, kid, claimsJson);
+    }
+
+    public static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public static String encode(String text) {
+        return encode(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sign(String alg, String jcaName, PrivateKey key, String kid, String claimsJson)
+            throws Exception {
+        String signingInput = signingInput(alg, kid, claimsJson);
+        Signature signature = Signature.getInstance(jcaName);
+        signature.initSign(key);
+        signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + "." + encode(signature.sign());
+    }
+
+    private static String signingInput(String alg, String kid, String claimsJson) {
+        String header = kid == null
+                ? "{\"alg\":\"" + alg + "\",\"typ\":\"JWT\"}"
+                : "{\"alg\":\"" + alg + "\",\"typ\":\"JWT\",\"kid\":\"" + kid + "\"}";
+        return encode(header) + "." + encode(claimsJson);
+    }
+}
@@ -0,0 +1,61 @@
+package com.devops.payload.jwt;
+
+import java.util.Base64;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenizerTest {
+
+    @Test
+    void testHasJwtStructure_ShouldMatchLegacySplitRule() {
+        String[] tokens = {"a.b.c", "a.b", "a.b.", "a.b.c.d", ".a.b", "a..b", "...", "", "abc", "a.b.c.", "..a"};
+        for (String token : tokens) {
+            assertEquals(token.split("\\.").length >= 3, JwtTokenizer.hasJwtStructure(token), token);
+        }
+    }
+
+    @Test
+    void testCompactBounds_WithThreeSegments_ShouldReturnDotIndexes() {
+        long bounds = JwtTokenizer.compactBounds("ab.cde.f");
+
+        assertEquals(2, JwtTokenizer.firstDot(bounds));
+        assertEquals(6, JwtTokenizer.secondDot(bounds));
+    }
+
+    @Test
+    void testCompactBounds_WithOtherSegmentCounts_ShouldReturnMinusOne() {
+        assertEquals(-1, JwtTokenizer.compactBounds("a.b"));
+        assertEquals(-1, JwtTokenizer.compactBounds("a.b.c.d"));
+        assertEquals(-1, JwtTokenizer.compactBounds("abc"));
+    }
+
+    @Test
+    void testDecode_ShouldMatchJdkDecoder() {
+        Random random = new Random(42);
+        for (int length = 0; length < 64; length++) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            String encoded = "x." + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes) + ".y";
+            byte[] dst = new byte[JwtTokenizer.decodedLength(encoded.length() - 4)];
+
+            int written = JwtTokenizer.decode(encoded, 2, encoded.length() - 2, dst);
+
+            assertEquals(length, written);
+            assertArrayEquals(bytes, dst);
+        }
+    }
+
+    @Test
+    void testDecode_WithInvalidInput_ShouldReturnMinusOne() {
+        byte[] dst = new byte[16];
+
+        assertEquals(-1, JwtTokenizer.decode("ab+/", 0, 4, dst));
+        assertEquals(-1, JwtTokenizer.decode("abcd=", 0, 5, dst));
+        assertEquals(-1, JwtTokenizer.decode("abcde", 0, 5, dst));
+        assertEquals(-1, JwtTokenizer.decode("abñd", 0, 4, dst));
+        assertThrows(IllegalArgumentException.class, () -> JwtTokenizer.decode("ab*d", 0, 4));
+    }
+}
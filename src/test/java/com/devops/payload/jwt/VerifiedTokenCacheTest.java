@@ -0,0 +1,110 @@
+package com.devops.payload.jwt;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private AtomicLong clock;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000);
+        cache = new VerifiedTokenCache(1_000, 300, clock::get);
+    }
+
+    private static JwtClaims claims(String payloadJson) {
+        return JwtClaims.of("h." + JwtTestTokens.encode(payloadJson) + ".s");
+    }
+
+    @Test
+    void testLookup_AfterRemember_ShouldReturnSameClaims() {
+        JwtClaims claims = claims("{\"exp\":1060}");
+        assertNull(cache.lookup("a.b.c"));
+
+        cache.remember("a.b.c", claims);
+
+        assertSame(claims, cache.lookup("a.b.c"));
+        assertNull(cache.lookup("a.b.d"));
+        assertEquals(1.0 / 3.0, cache.hitRate(), 1e-9);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testRemember_ShouldNotRetainRawToken() {
+        JwtClaims claims = claims("{\"sub\":\"alice\",\"exp\":1060}");
+        assertTrue(claims.retainsToken());
+
+        cache.remember("a.b.c", claims);
+
+        assertFalse(cache.lookup("a.b.c").retainsToken());
+        assertEquals("alice", cache.lookup("a.b.c").getSubject());
+    }
+
+    @Test
+    void testLookup_AfterTokenExpiry_ShouldMiss() {
+        cache.remember("a.b.c", claims("{\"exp\":1060}"));
+
+        clock.set(1_060_000);
+
+        assertNull(cache.lookup("a.b.c"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testRemember_WithoutExp_ShouldBeCappedAtMaxTtl() {
+        cache.remember("a.b.c", claims("{}"));
+
+        clock.addAndGet(299_000);
+        assertNotNull(cache.lookup("a.b.c"));
+        clock.addAndGet(1_000);
+        assertNull(cache.lookup("a.b.c"));
+    }
+
+    @Test
+    void testTokenDigest_Probe_ShouldBeReusedAfterRelease() {
+        TokenDigest probe = TokenDigest.acquireProbe("a.b.c");
+        assertEquals(TokenDigest.of("a.b.c"), probe);
+        TokenDigest.releaseProbe(probe);
+
+        TokenDigest reused = TokenDigest.acquireProbe("x.y.z");
+        assertSame(probe, reused);
+        assertEquals(TokenDigest.of("x.y.z"), reused);
+        TokenDigest.releaseProbe(reused);
+        assertEquals(TokenDigest.of("ñ.b.c"), TokenDigest.of("ñ.b.c"));
+    }
+
+    @Test
+    void testTokenDigest_EqualsAndHashCode() {
+        TokenDigest digest = TokenDigest.of("a.b.c");
+
+        assertEquals(digest, TokenDigest.of("a.b.c"));
+        assertEquals(digest.hashCode(), TokenDigest.of("a.b.c").hashCode());
+        assertNotEquals(digest, TokenDigest.of("a.b.d"));
+        assertNotEquals(digest, "a.b.c");
+        assertEquals(digest, digest);
+    }
+
+    @Test
+    void testBindTo_ShouldPublishHitRateMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        cache.lookup("a.b.c");
+        cache.remember("a.b.c", claims("{}"));
+        cache.lookup("a.b.c");
+        cache.lookup("a.b.c");
+
+        assertEquals(2.0, registry.get("devops.jwt.cache.hits").functionCounter().count());
+        assertEquals(1.0, registry.get("devops.jwt.cache.misses").functionCounter().count());
+        assertEquals(0.0, registry.get("devops.jwt.cache.evictions").functionCounter().count());
+        assertEquals(2.0 / 3.0, registry.get("devops.jwt.cache.hit.ratio").gauge().value(), 1e-9);
+        assertEquals(1.0, registry.get("devops.jwt.cache.size").gauge().value());
+    }
+}
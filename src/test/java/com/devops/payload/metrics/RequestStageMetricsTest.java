@@ -0,0 +1,60 @@
+package com.devops.payload.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestStageMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void testRecord_ShouldUpdateStageTimerAndReturnEndTime() {
+        RequestStageMetrics metrics = new RequestStageMetrics(registry, false);
+        long start = System.nanoTime();
+
+        long end = metrics.record(RequestStage.JWT, start, null);
+
+        Timer timer = registry.get("devops.request.stage").tag("stage", "jwt").timer();
+        assertEquals(1, timer.count());
+        assertTrue(end >= start);
+        assertEquals(0, registry.get("devops.request.stage").tag("stage", "api-key").timer().count());
+    }
+
+    @Test
+    void testReject_ShouldCountByCause() {
+        RequestStageMetrics metrics = new RequestStageMetrics(registry, false);
+
+        metrics.reject(RejectionCause.VALIDATION);
+        metrics.reject(RejectionCause.VALIDATION);
+
+        assertEquals(2, registry.get("devops.request.rejections").tag("cause", "validation").counter().count());
+    }
+
+    @Test
+    void testServerTiming_WhenDisabled_ShouldNotTouchRequest() {
+        RequestStageMetrics metrics = new RequestStageMetrics(registry, false);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        metrics.record(RequestStage.API_KEY, System.nanoTime(), request);
+
+        assertNull(metrics.serverTiming(request));
+        assertNull(request.getAttribute(StageTimings.REQUEST_ATTRIBUTE));
+    }
+
+    @Test
+    void testServerTiming_WhenEnabled_ShouldListRecordedStages() {
+        RequestStageMetrics metrics = new RequestStageMetrics(registry, true);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        long start = metrics.record(RequestStage.API_KEY, System.nanoTime() - 1_000_000, request);
+        metrics.record(RequestStage.JWT, start - 2_000_000, request);
+
+        assertTrue(metrics.serverTiming(request).matches("api-key;dur=1\\.\\d{3}, jwt;dur=2\\.\\d{3}"),
+                metrics.serverTiming(request));
+    }
+}
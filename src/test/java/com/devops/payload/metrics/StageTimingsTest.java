@@ -0,0 +1,34 @@
+package com.devops.payload.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StageTimingsTest {
+
+    @Test
+    void testToServerTiming_ShouldListRecordedStagesInMilliseconds() {
+        StageTimings timings = new StageTimings();
+        timings.add(RequestStage.API_KEY, 12_345);
+        timings.add(RequestStage.PROCESSING, 2_500_000);
+        timings.add(RequestStage.PROCESSING, 1_000);
+
+        assertEquals("api-key;dur=0.012, processing;dur=2.501", timings.toServerTiming());
+    }
+
+    @Test
+    void testToServerTiming_WithNothingRecorded_ShouldBeEmpty() {
+        assertEquals("", new StageTimings().toServerTiming());
+    }
+
+    @Test
+    void testOf_ShouldReuseRequestAttribute() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        StageTimings timings = StageTimings.of(request);
+
+        assertSame(timings, StageTimings.of(request));
+        assertSame(timings, request.getAttribute(StageTimings.REQUEST_ATTRIBUTE));
+    }
+}
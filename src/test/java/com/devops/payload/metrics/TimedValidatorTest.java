@@ -0,0 +1,40 @@
+package com.devops.payload.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import com.devops.payload.model.DevOpsRequest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimedValidatorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private TimedValidator validator() {
+        LocalValidatorFactoryBean delegate = new LocalValidatorFactoryBean();
+        delegate.afterPropertiesSet();
+        return new TimedValidator(delegate, new RequestStageMetrics(registry, false));
+    }
+
+    @Test
+    void testValidate_ShouldDelegateTimeAndCountFailures() {
+        TimedValidator validator = validator();
+        DevOpsRequest valid = new DevOpsRequest("m", "t", "f", 1);
+        DevOpsRequest invalid = new DevOpsRequest("", "t", "f", -1);
+        Errors validErrors = new BeanPropertyBindingResult(valid, "request");
+        Errors invalidErrors = new BeanPropertyBindingResult(invalid, "request");
+
+        validator.validate(valid, validErrors);
+        validator.validate(invalid, invalidErrors, new Object[0]);
+
+        assertFalse(validErrors.hasErrors());
+        assertEquals(2, invalidErrors.getErrorCount());
+        assertEquals(2, registry.get("devops.request.stage").tag("stage", "validation").timer().count());
+        assertEquals(1, registry.get("devops.request.rejections").tag("cause", "validation").counter().count());
+    }
+}
@@ -0,0 +1,54 @@
+package com.devops.payload.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DevOpsBatchErrorTest {
+
+    @Test
+    void testDevOpsBatchError_ConstructorWithParameters() {
+        DevOpsBatchError error = new DevOpsBatchError(3, "ERROR");
+
+        assertEquals(3, error.getIndex());
+        assertEquals("ERROR", error.getError());
+    }
+
+    @Test
+    void testDevOpsBatchError_Setters() {
+        DevOpsBatchError error = new DevOpsBatchError();
+        error.setIndex(7);
+        error.setError("ERROR");
+
+        assertEquals(7, error.getIndex());
+        assertEquals("ERROR", error.getError());
+    }
+
+    @Test
+    void testDevOpsBatchError_Equals_SameValues() {
+        assertEquals(new DevOpsBatchError(1, "ERROR"), new DevOpsBatchError(1, "ERROR"));
+        assertEquals(new DevOpsBatchError(1, null), new DevOpsBatchError(1, null));
+    }
+
+    @Test
+    void testDevOpsBatchError_Equals_DifferentValues() {
+        DevOpsBatchError error = new DevOpsBatchError(1, "ERROR");
+
+        assertNotEquals(error, new DevOpsBatchError(2, "ERROR"));
+        assertNotEquals(error, new DevOpsBatchError(1, "OTHER"));
+        assertNotEquals(new DevOpsBatchError(1, null), error);
+        assertNotEquals(error, null);
+        assertNotEquals(error, "ERROR");
+        assertEquals(error, error);
+    }
+
+    @Test
+    void testDevOpsBatchError_HashCode_EqualObjects() {
+        assertEquals(new DevOpsBatchError(1, "ERROR").hashCode(), new DevOpsBatchError(1, "ERROR").hashCode());
+    }
+
+    @Test
+    void testDevOpsBatchError_ToString() {
+        assertTrue(new DevOpsBatchError(4, "ERROR").toString().contains("index=4"));
+    }
+}
@@ -1,11 +1,42 @@
 package com.devops.payload.model;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class DevOpsRequestTest {
 
+    @TempDir
+    Path directory;
+
+    private MessageBody spooled(String text) throws IOException, NoSuchAlgorithmException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        Path file = Files.write(Files.createTempFile(directory, "spool-", ".msg"), bytes);
+        return MessageBody.spooled(file, bytes.length, MessageDigest.getInstance("SHA-256").digest(bytes),
+                text.isBlank(), null);
+    }
+
+    private static Set<ConstraintViolation<DevOpsRequest>> validate(DevOpsRequest request) {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Validator validator = factory.getValidator();
+            return validator.validate(request);
+        }
+    }
+
     @Test
     void testDevOpsRequest_ConstructorWithParameters() {
         DevOpsRequest request = new DevOpsRequest("Test message", "Juan Perez", "Rita Asturia", 45);
@@ -113,5 +144,59 @@ class DevOpsRequestTest {
 
         assertNotEquals(request1, request2);
     }
-}
 
+    @Test
+    void testDevOpsRequest_WithSpooledMessage_ShouldReadItLazily() throws Exception {
+        DevOpsRequest request = new DevOpsRequest(null, "To", "From", 45);
+        MessageBody body = spooled("Spooled message");
+
+        request.setMessageBody(body);
+
+        assertTrue(request.hasSpooledMessage());
+        assertSame(body, request.getMessageBody());
+        assertEquals("Spooled message", request.getMessage());
+        assertTrue(request.toString().contains("<spooled 15 bytes>"));
+
+        request.setMessage("Inline");
+        assertFalse(request.hasSpooledMessage());
+        assertEquals("Inline", request.getMessage());
+    }
+
+    @Test
+    void testDevOpsRequest_GetMessageBody_ShouldReturnTheSameHandleOnEveryCall() {
+        DevOpsRequest request = new DevOpsRequest("Message", "To", "From", 45);
+
+        assertSame(request.getMessageBody(), request.getMessageBody());
+    }
+
+    @Test
+    void testDevOpsRequest_Equals_WithSameSpooledText() throws Exception {
+        DevOpsRequest request1 = new DevOpsRequest(null, "To", "From", 45);
+        DevOpsRequest request2 = new DevOpsRequest(null, "To", "From", 45);
+        request1.setMessageBody(spooled("Spooled message"));
+        request2.setMessageBody(spooled("Spooled message"));
+
+        assertEquals(request1, request2);
+        assertEquals(request1.hashCode(), request2.hashCode());
+    }
+
+    @Test
+    void testDevOpsRequest_Validation_ShouldRejectBlankMessageInEitherForm() throws Exception {
+        DevOpsRequest valid = new DevOpsRequest("Message", "To", "From", 45);
+        DevOpsRequest blank = new DevOpsRequest("  ", "To", "From", 45);
+        DevOpsRequest missing = new DevOpsRequest(null, "To", "From", 45);
+        DevOpsRequest spooledBlank = new DevOpsRequest(null, "To", "From", 45);
+        spooledBlank.setMessageBody(spooled("    "));
+        DevOpsRequest spooledValid = new DevOpsRequest(null, "To", "From", 45);
+        spooledValid.setMessageBody(spooled("Message"));
+
+        assertTrue(validate(valid).isEmpty());
+        assertTrue(validate(spooledValid).isEmpty());
+        for (DevOpsRequest request : new DevOpsRequest[] { blank, missing, spooledBlank }) {
+            Set<ConstraintViolation<DevOpsRequest>> violations = validate(request);
+            assertEquals(1, violations.size());
+            assertEquals("Message cannot be blank", violations.iterator().next().getMessage());
+            assertEquals("message", violations.iterator().next().getPropertyPath().toString());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.devops.payload.pool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPoolTest {
+
+    @Test
+    void testAcquire_AfterRelease_ShouldReuseObject() {
+        AtomicInteger created = new AtomicInteger();
+        BoundedPool<byte[]> pool = new BoundedPool<>(4, () -> {
+            created.incrementAndGet();
+            return new byte[8];
+        });
+
+        byte[] first = pool.acquire();
+        pool.release(first);
+
+        assertSame(first, pool.acquire());
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void testRelease_WhenFull_ShouldDropExtraObjects() {
+        BoundedPool<Object> pool = new BoundedPool<>(3, Object::new);
+        assertEquals(4, pool.capacity());
+        List<Object> acquired = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            acquired.add(pool.acquire());
+        }
+
+        acquired.forEach(pool::release);
+
+        assertEquals(4, pool.pooled());
+    }
+
+    @Test
+    void testAcquire_FromManyVirtualThreads_ShouldStayBounded() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        BoundedPool<Object> pool = new BoundedPool<>(2, () -> {
+            created.incrementAndGet();
+            return new Object();
+        });
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            threads.add(Thread.startVirtualThread(() -> pool.release(pool.acquire())));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(pool.pooled() <= 2);
+        assertTrue(created.get() < 1_000, "objects should be reused across threads");
+    }
+}
@@ -0,0 +1,136 @@
+package com.devops.payload.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.devops.payload.apikey.ApiKeyInfo;
+import com.devops.payload.apikey.ApiKeyStatus;
+import com.devops.payload.exception.RateLimitExceededException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    private static final ApiKeyInfo UNLIMITED = new ApiKeyInfo("default", ApiKeyStatus.ACTIVE, 0, 0);
+    private static final ApiKeyInfo LIMITED = limited("acme-key");
+
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(0);
+    }
+
+    @Test
+    void testAcquire_WithoutLimits_ShouldAlwaysPass() {
+        RateLimiter rateLimiter = new RateLimiter(0, 0, 0, 0, 1, clock::get);
+
+        for (int i = 0; i < 1_000; i++) {
+            rateLimiter.acquire(UNLIMITED);
+        }
+        assertEquals(0, rateLimiter.trackedKeys());
+    }
+
+    @Test
+    void testAcquire_OverKeyLimit_ShouldThrowWithRetryAfter() {
+        RateLimiter rateLimiter = new RateLimiter(0, 0, 0, 0, 1, clock::get);
+        rateLimiter.acquire(LIMITED);
+        rateLimiter.acquire(LIMITED);
+
+        RateLimitExceededException e = assertThrows(RateLimitExceededException.class,
+                () -> rateLimiter.acquire(LIMITED));
+
+        assertEquals(1, e.getRetryAfterSeconds());
+        assertDoesNotThrow(() -> rateLimiter.acquire(limited("other-key")));
+        clock.set(SECOND / 2);
+        assertDoesNotThrow(() -> rateLimiter.acquire(LIMITED));
+    }
+
+    @Test
+    void testAcquire_WithDefaultLimit_ShouldApplyToKeysWithoutLimits() {
+        RateLimiter rateLimiter = new RateLimiter(1, 1, 0, 0, 1, clock::get);
+        rateLimiter.acquire(UNLIMITED);
+
+        assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(UNLIMITED));
+    }
+
+    @Test
+    void testAcquire_OverGlobalLimit_ShouldThrowForEveryKey() {
+        RateLimiter rateLimiter = new RateLimiter(0, 0, 1, 2, 1, clock::get);
+        rateLimiter.acquire(unlimited("a"));
+        rateLimiter.acquire(unlimited("b"));
+
+        assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(unlimited("c")));
+    }
+
+    @Test
+    void testAcquire_AfterLimitsChange_ShouldUseNewLimits() {
+        RateLimiter rateLimiter = new RateLimiter(0, 0, 0, 0, 1, clock::get);
+        rateLimiter.acquire(LIMITED);
+        rateLimiter.acquire(LIMITED);
+
+        ApiKeyInfo raised = new ApiKeyInfo("acme", ApiKeyStatus.ACTIVE, 10, 10, 0, LIMITED.keyId());
+        assertDoesNotThrow(() -> rateLimiter.acquire(raised));
+    }
+
+    @Test
+    void testEvictIdle_ShouldDropOnlyRefilledBuckets() {
+        RateLimiter rateLimiter = new RateLimiter(0, 0, 0, 0, 1, clock::get);
+        rateLimiter.acquire(limited("a"));
+        clock.set(SECOND / 4);
+        rateLimiter.acquire(limited("b"));
+        rateLimiter.acquire(limited("b"));
+
+        clock.set(SECOND / 2);
+        rateLimiter.evictIdle();
+
+        assertEquals(1, rateLimiter.trackedKeys());
+    }
+
+    @Test
+    void testBindTo_ShouldCountRejectionsByScope() {
+        RateLimiter rateLimiter = new RateLimiter(0, 0, 1, 1, 1, clock::get);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        rateLimiter.bindTo(registry);
+        rateLimiter.acquire(limited("a"));
+        assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(limited("b")));
+
+        assertEquals(1.0, registry.get("devops.ratelimit.rejected").tag("scope", "global").functionCounter().count());
+        assertEquals(0.0, registry.get("devops.ratelimit.rejected").tag("scope", "key").functionCounter().count());
+        assertEquals(2.0, registry.get("devops.ratelimit.buckets").gauge().value());
+    }
+
+    @Test
+    void testTryAcquire_ShouldReturnWaitInsteadOfThrowing() {
+        RateLimiter rateLimiter = new RateLimiter(0, 0, 0, 0, 1, clock::get);
+        assertEquals(0, rateLimiter.tryAcquire(LIMITED));
+        assertEquals(0, rateLimiter.tryAcquire(LIMITED));
+
+        assertEquals(SECOND / 2, rateLimiter.tryAcquire(LIMITED));
+        assertEquals(1, RateLimiter.toRetryAfterSeconds(SECOND / 2));
+        assertEquals(2, RateLimiter.toRetryAfterSeconds(SECOND + 1));
+    }
+
+    @Test
+    void testAcquire_KeysOfOneTenant_ShouldHaveSeparateBuckets() {
+        RateLimiter rateLimiter = new RateLimiter(0, 0, 0, 0, 1, clock::get);
+        rateLimiter.acquire(LIMITED);
+        rateLimiter.acquire(LIMITED);
+
+        assertDoesNotThrow(() -> rateLimiter.acquire(limited("acme-second-key")));
+        assertEquals(2, rateLimiter.trackedKeys());
+    }
+
+    private static ApiKeyInfo limited(String keyId) {
+        return new ApiKeyInfo("acme", ApiKeyStatus.ACTIVE, 2, 2, 0, keyId);
+    }
+
+    private static ApiKeyInfo unlimited(String keyId) {
+        return new ApiKeyInfo("default", ApiKeyStatus.ACTIVE, 0, 0, 0, keyId);
+    }
+}
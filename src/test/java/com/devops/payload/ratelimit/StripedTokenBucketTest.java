@@ -0,0 +1,42 @@
+package com.devops.payload.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedTokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void testTryAcquire_ShouldGrantWholeBurstAcrossStripes() {
+        StripedTokenBucket bucket = new StripedTokenBucket(100, 8, 4, 0);
+
+        for (int i = 0; i < 8; i++) {
+            assertEquals(0, bucket.tryAcquire(0), "permit " + i);
+        }
+        assertTrue(bucket.tryAcquire(0) > 0);
+    }
+
+    @Test
+    void testTryAcquire_ShouldRefillAtAggregateRate() {
+        StripedTokenBucket bucket = new StripedTokenBucket(100, 4, 4, 0);
+        while (bucket.tryAcquire(0) == 0) {
+            // drain
+        }
+
+        int granted = 0;
+        for (long now = 0; now < SECOND; now += SECOND / 1_000) {
+            if (bucket.tryAcquire(now) == 0) {
+                granted++;
+            }
+        }
+
+        assertTrue(granted >= 96 && granted <= 104, "granted " + granted);
+    }
+
+    @Test
+    void testConstructor_WithInvalidStripes_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new StripedTokenBucket(10, 10, 3, 0));
+    }
+}
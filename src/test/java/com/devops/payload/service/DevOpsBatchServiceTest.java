@@ -0,0 +1,281 @@
+package com.devops.payload.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import com.devops.payload.apikey.ApiKeyInfo;
+import com.devops.payload.apikey.ApiKeyStatus;
+import com.devops.payload.codec.ResponseEncoder;
+import com.devops.payload.delivery.DeliveryQueue;
+import com.devops.payload.delivery.Outbox;
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.DevOpsRequestValidator;
+import com.devops.payload.ratelimit.RateLimiter;
+import com.devops.payload.template.ResponseTemplateEngine;
+import com.devops.payload.validation.GeneratedValidators;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DevOpsBatchServiceTest {
+
+    private static final String VALID_ITEM = "{\"message\":\"Test\",\"to\":\"Juan Perez\",\"from\":\"Rita Asturia\",\"timeToLifeSec\":45}";
+    private static final String VALID_RESPONSE = "{\"message\":\"Hello Juan Perez your message will be send\"}";
+    private static final ApiKeyInfo UNLIMITED = new ApiKeyInfo("default", ApiKeyStatus.ACTIVE, 0, 0);
+    private static final int MAX_FIELD_LENGTH = 1024;
+
+    private ValidatorFactory validatorFactory;
+    private DevOpsBatchService devOpsBatchService;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
+        taskExecutor.setVirtualThreads(true);
+        devOpsBatchService = batchService(new DeliveryQueue(100, System::currentTimeMillis), taskExecutor);
+    }
+
+    private DevOpsBatchService batchService(Outbox outbox, AsyncTaskExecutor taskExecutor) {
+        DevOpsService devOpsService = new DevOpsService(outbox, new ResponseTemplateEngine(), new ResponseEncoder(),
+                Optional.empty(), Optional.empty());
+        GeneratedValidators validators = new GeneratedValidators(List.of(new DevOpsRequestValidator()),
+                new SpringValidatorAdapter(validatorFactory.getValidator()));
+        return new DevOpsBatchService(devOpsService, new RateLimiter(0, 0, 0, 0), validators, new ObjectMapper(),
+                taskExecutor, Optional.empty(), MAX_FIELD_LENGTH, 262_144);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    private List<String> process(String body) throws Exception {
+        return process(devOpsBatchService, body, UNLIMITED);
+    }
+
+    private static List<String> process(DevOpsBatchService service, String body, ApiKeyInfo apiKeyInfo)
+            throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.processBatch(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), out, apiKeyInfo);
+        return out.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    private static String largeBatch(int count) {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"message\":\"m\",\"to\":\"User").append(i).append("\",\"from\":\"f\",\"timeToLifeSec\":10}");
+        }
+        return body.append(']').toString();
+    }
+
+    @Test
+    void testProcessBatch_WithJsonArray_ShouldReturnOneLinePerItem() throws Exception {
+        List<String> lines = process("[" + VALID_ITEM + "," + VALID_ITEM + "]");
+
+        assertEquals(List.of(VALID_RESPONSE, VALID_RESPONSE), lines);
+    }
+
+    @Test
+    void testProcessBatch_WithNdjson_ShouldReturnOneLinePerItem() throws Exception {
+        List<String> lines = process(VALID_ITEM + "\n" + VALID_ITEM + "\n");
+
+        assertEquals(List.of(VALID_RESPONSE, VALID_RESPONSE), lines);
+    }
+
+    @Test
+    void testProcessBatch_WithInvalidItem_ShouldReturnErrorForThatItemOnly() throws Exception {
+        String invalid = "{\"message\":\"\",\"to\":\"Juan Perez\",\"from\":\"Rita Asturia\",\"timeToLifeSec\":45}";
+        List<String> lines = process("[" + VALID_ITEM + "," + invalid + "," + VALID_ITEM + "]");
+
+        assertEquals(List.of(VALID_RESPONSE, "{\"index\":1,\"error\":\"ERROR\"}", VALID_RESPONSE), lines);
+    }
+
+    @Test
+    void testProcessBatch_WithUnbindableItem_ShouldSkipToNextItem() throws Exception {
+        String unbindable = "{\"message\":\"Test\",\"to\":{\"nested\":[1,2]},\"from\":\"Rita Asturia\",\"timeToLifeSec\":45}";
+        List<String> lines = process(VALID_ITEM + "\n" + unbindable + "\n" + VALID_ITEM);
+
+        assertEquals(List.of(VALID_RESPONSE, "{\"index\":1,\"error\":\"ERROR\"}", VALID_RESPONSE), lines);
+    }
+
+    @Test
+    void testProcessBatch_WithUnknownOrDuplicateField_ShouldReturnErrorForThatItemOnly() throws Exception {
+        String unknown = VALID_ITEM.replace("\"timeToLifeSec\"", "\"extra\":true,\"timeToLifeSec\"");
+        String duplicate = VALID_ITEM.replace("\"from\"", "\"to\":\"Juan Perez\",\"from\"");
+        List<String> lines = process("[" + unknown + "," + VALID_ITEM + "," + duplicate + "]");
+
+        assertEquals(List.of("{\"index\":0,\"error\":\"ERROR\"}", VALID_RESPONSE,
+                "{\"index\":2,\"error\":\"ERROR\"}"), lines);
+    }
+
+    @Test
+    void testProcessBatch_WithFieldOverMaxLength_ShouldEndWithError() throws Exception {
+        String oversized = VALID_ITEM.replace("\"Test\"", "\"" + "x".repeat(MAX_FIELD_LENGTH + 1) + "\"");
+        List<String> lines = process(VALID_ITEM + "\n" + oversized + "\n" + VALID_ITEM);
+
+        assertEquals(List.of(VALID_RESPONSE, "{\"index\":1,\"error\":\"ERROR\"}"), lines);
+    }
+
+    @Test
+    void testProcessBatch_WithMessageOverKeyLimit_ShouldReturnErrorForThatItemOnly() throws Exception {
+        ApiKeyInfo small = new ApiKeyInfo("small", ApiKeyStatus.ACTIVE, 0, 0, 8);
+        String large = VALID_ITEM.replace("\"Test\"", "\"Longer than eight bytes\"");
+
+        List<String> lines = process(devOpsBatchService, VALID_ITEM + "\n" + large + "\n" + VALID_ITEM, small);
+
+        assertEquals(List.of(VALID_RESPONSE, "{\"index\":1,\"error\":\"ERROR\"}", VALID_RESPONSE), lines);
+    }
+
+    @Test
+    void testProcessBatch_WithNonObjectItem_ShouldReturnError() throws Exception {
+        List<String> lines = process("[42," + VALID_ITEM + "]");
+
+        assertEquals(List.of("{\"index\":0,\"error\":\"ERROR\"}", VALID_RESPONSE), lines);
+    }
+
+    @Test
+    void testProcessBatch_WithMalformedJson_ShouldAnswerParsedItemsThenError() throws Exception {
+        List<String> lines = process(VALID_ITEM + "\n{\"message\":");
+
+        assertEquals(List.of(VALID_RESPONSE, "{\"index\":1,\"error\":\"ERROR\"}"), lines);
+    }
+
+    @Test
+    void testProcessBatch_WithEmptyBody_ShouldReturnNothing() throws Exception {
+        assertTrue(process("").isEmpty());
+        assertTrue(process("[]").isEmpty());
+    }
+
+    @Test
+    void testProcessBatch_WithLargeBatch_ShouldPreserveOrder() throws Exception {
+        int count = DevOpsBatchService.CHUNK_SIZE * 2 + 10;
+        List<String> lines = process(largeBatch(count));
+
+        assertEquals(count, lines.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals("{\"message\":\"Hello User" + i + " your message will be send\"}", lines.get(i));
+        }
+    }
+
+    @Test
+    void testProcessBatch_OverKeyLimit_ShouldChargeEachItemAfterTheFirst() throws Exception {
+        ApiKeyInfo limited = new ApiKeyInfo("limited", ApiKeyStatus.ACTIVE, 1, 2);
+
+        List<String> lines = process(devOpsBatchService, VALID_ITEM + "\n" + VALID_ITEM + "\n" + VALID_ITEM + "\n"
+                + VALID_ITEM, limited);
+
+        // The request's own permit covers item 0; the burst of 2 covers items 1 and 2.
+        assertEquals(List.of(VALID_RESPONSE, VALID_RESPONSE, VALID_RESPONSE, "{\"index\":3,\"error\":\"ERROR\"}"),
+                lines);
+    }
+
+    @Test
+    void testProcessBatch_WhenItemThrows_ShouldReturnErrorForThatItemOnly() throws Exception {
+        DeliveryQueue queue = new DeliveryQueue(100, System::currentTimeMillis);
+        Outbox failing = new Outbox() {
+            @Override
+            public void offer(DevOpsRequest request) {
+                if (request.getTo().equals("Broken")) {
+                    throw new IllegalStateException("outbox unavailable");
+                }
+                queue.offer(request);
+            }
+
+            @Override
+            public void offer(DevOpsRequest request, long expiresAtMillis) {
+                queue.offer(request, expiresAtMillis);
+            }
+        };
+        String broken = VALID_ITEM.replace("Juan Perez", "Broken");
+
+        List<String> lines = process(batchService(failing, new SimpleAsyncTaskExecutor()),
+                VALID_ITEM + "\n" + broken + "\n" + VALID_ITEM, UNLIMITED);
+
+        assertEquals(List.of(VALID_RESPONSE, "{\"index\":1,\"error\":\"ERROR\"}", VALID_RESPONSE), lines);
+        assertEquals(2, queue.getStats().enqueued());
+    }
+
+    @Test
+    void testProcessBatch_WhenSliceCannotRun_ShouldReturnErrorsForThatSliceAndContinue() throws Exception {
+        SimpleAsyncTaskExecutor delegate = new SimpleAsyncTaskExecutor();
+        AtomicInteger submitted = new AtomicInteger();
+        AsyncTaskExecutor rejectingSecondSlice = new AsyncTaskExecutor() {
+            @Override
+            public void execute(Runnable task) {
+                if (submitted.getAndIncrement() == 1) {
+                    throw new TaskRejectedException("saturated");
+                }
+                delegate.execute(task);
+            }
+        };
+        int count = DevOpsBatchService.PARALLEL_THRESHOLD;
+
+        List<String> lines = process(batchService(new DeliveryQueue(100, System::currentTimeMillis),
+                rejectingSecondSlice), largeBatch(count), UNLIMITED);
+
+        assertEquals(count, lines.size());
+        int slices = count / DevOpsBatchService.SLICE_SIZE;
+        for (int i = 0; i < count; i++) {
+            DevOpsRequest request = new DevOpsRequest("m", "User" + i, "f", 10);
+            boolean rejected = DevOpsBatchService.sliceOf(request, slices) == 1;
+            assertEquals(rejected ? "{\"index\":" + i + ",\"error\":\"ERROR\"}"
+                    : "{\"message\":\"Hello User" + i + " your message will be send\"}", lines.get(i));
+        }
+    }
+
+    @Test
+    void testProcessBatch_WithLargeBatch_ShouldEnqueueEachRecipientInOrder() throws Exception {
+        List<DevOpsRequest> enqueued = Collections.synchronizedList(new ArrayList<>());
+        Outbox recording = new Outbox() {
+            @Override
+            public void offer(DevOpsRequest request) {
+                enqueued.add(request);
+            }
+
+            @Override
+            public void offer(DevOpsRequest request, long expiresAtMillis) {
+                enqueued.add(request);
+            }
+        };
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
+        taskExecutor.setVirtualThreads(true);
+        int count = DevOpsBatchService.CHUNK_SIZE;
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            body.append("{\"message\":\"").append(i).append("\",\"to\":\"User").append(i % 3)
+                    .append("\",\"from\":\"f\",\"timeToLifeSec\":10}\n");
+        }
+
+        process(batchService(recording, taskExecutor), body.toString(), UNLIMITED);
+
+        assertEquals(count, enqueued.size());
+        Map<String, Integer> last = new HashMap<>();
+        for (DevOpsRequest request : enqueued) {
+            int sequence = Integer.parseInt(request.getMessage());
+            assertTrue(last.getOrDefault(request.getTo(), -1) < sequence, "out of order for " + request.getTo());
+            last.put(request.getTo(), sequence);
+        }
+    }
+}
@@ -1,20 +1,39 @@
 package com.devops.payload.service;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import com.devops.payload.codec.DevOpsProtobufCodec;
+import com.devops.payload.codec.ResponseEncoder;
+import com.devops.payload.codec.ResponseFormat;
+import com.devops.payload.delivery.DeliveryQueue;
+import com.devops.payload.directory.RecipientDirectory;
+import com.devops.payload.exception.UnknownRecipientException;
+import com.devops.payload.journal.MessageJournal;
 import com.devops.payload.model.DevOpsRequest;
 import com.devops.payload.model.DevOpsResponse;
+import com.devops.payload.template.ResponseTemplateEngine;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class DevOpsServiceTest {
 
+    private DeliveryQueue deliveryQueue;
     private DevOpsService devOpsService;
 
     @BeforeEach
     void setUp() {
-        devOpsService = new DevOpsService();
+        deliveryQueue = new DeliveryQueue(100, System::currentTimeMillis);
+        devOpsService = new DevOpsService(deliveryQueue, new ResponseTemplateEngine(), new ResponseEncoder(),
+                Optional.empty(), Optional.empty());
     }
 
     @Test
@@ -26,6 +45,38 @@ class DevOpsServiceTest {
         assertEquals("Hello Juan Perez your message will be send", response.getMessage());
     }
 
+    @Test
+    void testProcessDevOpsRequest_WithJournal_ShouldJournalBeforeEnqueueing(@TempDir Path directory) {
+        MessageJournal journal = new MessageJournal(directory, 1 << 16, System::currentTimeMillis, (r, e) -> { });
+        DevOpsService journaled = new DevOpsService(deliveryQueue, new ResponseTemplateEngine(), new ResponseEncoder(),
+                Optional.of(journal), Optional.empty());
+        journaled.processDevOpsRequest(new DevOpsRequest("This is a test", "Juan Perez", "Rita Asturia", 45));
+        journal.close();
+
+        List<DevOpsRequest> replayed = new ArrayList<>();
+        new MessageJournal(directory, 1 << 16, System::currentTimeMillis, (r, e) -> replayed.add(r)).close();
+        assertEquals(List.of(new DevOpsRequest("This is a test", "Juan Perez", "Rita Asturia", 45)), replayed);
+        assertEquals(1, deliveryQueue.getStats().enqueued());
+    }
+
+    @Test
+    void testProcessDevOpsRequest_WithDirectory_ShouldRejectUnknownAddresses(@TempDir Path directory) throws Exception {
+        Path source = Files.writeString(directory.resolve("directory.txt"), "Juan Perez\nRita Asturia\n");
+        RecipientDirectory recipients = new RecipientDirectory(source, directory.resolve("index"));
+        DevOpsService checked = new DevOpsService(deliveryQueue, new ResponseTemplateEngine(), new ResponseEncoder(),
+                Optional.empty(), Optional.of(recipients));
+
+        checked.processDevOpsRequest(new DevOpsRequest("This is a test", "Juan Perez", "Rita Asturia", 45));
+        UnknownRecipientException unknownTo = assertThrows(UnknownRecipientException.class,
+                () -> checked.processDevOpsRequest(new DevOpsRequest("This is a test", "Maria Garcia", "Rita Asturia", 45)));
+        UnknownRecipientException unknownFrom = assertThrows(UnknownRecipientException.class,
+                () -> checked.processDevOpsRequest(new DevOpsRequest("This is a test", "Juan Perez", "John Doe", 45)));
+
+        assertEquals("Maria Garcia", unknownTo.getAddress());
+        assertEquals("John Doe", unknownFrom.getAddress());
+        assertEquals(1, deliveryQueue.getStats().enqueued());
+    }
+
     @Test
     void testProcessDevOpsRequest_WithDifferentRecipient_ShouldIncludeRecipientNameInResponse() {
         DevOpsRequest request = new DevOpsRequest("Message", "Maria Garcia", "John Doe", 30);
@@ -52,5 +103,25 @@ class DevOpsServiceTest {
         assertTrue(response.getMessage().endsWith(" your message will be send"));
         assertTrue(response.getMessage().contains("TestRecipient"));
     }
-}
 
+    @Test
+    void testProcessDevOpsRequest_ShouldEnqueueMessageForDelivery() {
+        DevOpsRequest request = new DevOpsRequest("Queued message", "Juan Perez", "Rita Asturia", 45);
+        devOpsService.processDevOpsRequest(request);
+
+        assertEquals(1, deliveryQueue.getStats().depth());
+        assertEquals(request, deliveryQueue.poll().getRequest());
+    }
+
+    @Test
+    void testEncodeResponse_WithProtobufFormat_ShouldEncodeLocalizedMessage() {
+        DevOpsRequest request = new DevOpsRequest("Binary message", "Juan Perez", "Rita Asturia", 45);
+
+        devOpsService.enqueue(request);
+        byte[] body = devOpsService.encodeResponse(request, Locale.forLanguageTag("es"), ResponseFormat.PROTOBUF);
+
+        assertEquals("Hola Juan Perez, tu mensaje ser\u00e1 enviado",
+                new DevOpsProtobufCodec(1024).readResponse(body).getMessage());
+        assertEquals(1, deliveryQueue.getStats().depth());
+    }
+}
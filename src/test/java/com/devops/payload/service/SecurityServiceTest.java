@@ -3,7 +3,10 @@ package com.devops.payload.service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.devops.payload.apikey.ApiKeyInfo;
+import com.devops.payload.apikey.ApiKeyRegistry;
 import com.devops.payload.exception.InvalidApiKeyException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -13,7 +16,8 @@ class SecurityServiceTest {
 
     @BeforeEach
     void setUp() {
-        securityService = new SecurityService();
+        securityService = new SecurityService(
+                new ApiKeyRegistry("2f5ae96c-b558-4c7b-a590-a501ae1c3f6c", "", new ObjectMapper()));
     }
 
     @Test
@@ -59,5 +63,20 @@ class SecurityServiceTest {
             assertFalse(e.getMessage().contains("wrong-key"));
         }
     }
-}
 
+    @Test
+    void testValidateApiKey_WithValidKey_ShouldReturnTenant() {
+        ApiKeyInfo apiKeyInfo = securityService.validateApiKey("2f5ae96c-b558-4c7b-a590-a501ae1c3f6c");
+
+        assertEquals(ApiKeyRegistry.DEFAULT_TENANT, apiKeyInfo.tenant());
+        assertTrue(apiKeyInfo.isActive());
+    }
+
+    @Test
+    void testResolveApiKey_WithInvalidKeys_ShouldReturnNull() {
+        assertNull(securityService.resolveApiKey(null));
+        assertNull(securityService.resolveApiKey(" "));
+        assertNull(securityService.resolveApiKey("invalid-key"));
+        assertNotNull(securityService.resolveApiKey("2f5ae96c-b558-4c7b-a590-a501ae1c3f6c"));
+    }
+}
@@ -0,0 +1,179 @@
+package com.devops.payload.spool;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.devops.payload.apikey.ApiKeyInfo;
+import com.devops.payload.apikey.ApiKeyStatus;
+import com.devops.payload.exception.MessageTooLargeException;
+import com.devops.payload.model.MessageBody;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageSpoolTest {
+
+    @TempDir
+    Path directory;
+
+    private static MessageBody write(SpoolWriter writer, String text) throws IOException {
+        text.codePoints().forEach(codePoint -> {
+            try {
+                writer.writeCodePoint(codePoint);
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        });
+        return writer.finish();
+    }
+
+    private long spoolFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void testNewWriter_BelowThreshold_ShouldKeepMessageInMemory() throws IOException {
+        MessageSpool spool = new MessageSpool(directory, 16, 1024);
+
+        MessageBody body = write(spool.newWriter(1024), "héllo");
+
+        assertFalse(body.isSpooled());
+        assertEquals("héllo", body.asString());
+        assertEquals(0, spoolFiles());
+    }
+
+    @Test
+    void testNewWriter_PastThreshold_ShouldSpoolToFile() throws IOException {
+        MessageSpool spool = new MessageSpool(directory, 16, 1024);
+        String text = "A message well past the threshold, with ünïcödé and 😀";
+
+        MessageBody body = write(spool.newWriter(1024), text);
+
+        assertTrue(body.isSpooled());
+        assertFalse(body.isBlank());
+        assertEquals(text.getBytes(StandardCharsets.UTF_8).length, body.size());
+        assertEquals(text, body.asString());
+        try (InputStream in = body.openStream()) {
+            assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), in.readAllBytes());
+        }
+        assertEquals(1, spoolFiles());
+        assertEquals(new SpoolStats(1, body.size(), 1, 0), spool.getStats());
+    }
+
+    @Test
+    void testSpooledBodies_WithSameText_ShouldBeEqual() throws IOException {
+        MessageSpool spool = new MessageSpool(directory, 4, 1024);
+
+        MessageBody first = write(spool.newWriter(1024), "same spooled text");
+        MessageBody second = write(spool.newWriter(1024), "same spooled text");
+        MessageBody other = write(spool.newWriter(1024), "other spooled text");
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, other);
+        assertNotEquals(MessageBody.of("same spooled text"), first);
+    }
+
+    @Test
+    void testSpooledBody_WithOnlyWhitespace_ShouldBeBlank() throws IOException {
+        MessageSpool spool = new MessageSpool(directory, 4, 1024);
+
+        assertTrue(write(spool.newWriter(1024), " \t\n          ").isBlank());
+    }
+
+    @Test
+    void testWriteCodePoint_OverLimit_ShouldRejectAndDeleteFile() throws IOException {
+        MessageSpool spool = new MessageSpool(directory, 4, 1024);
+
+        MessageTooLargeException e = assertThrows(MessageTooLargeException.class,
+                () -> write(spool.newWriter(10), "eleven byte"));
+
+        assertEquals(10, e.getMaxBytes());
+        assertEquals(0, spoolFiles());
+        assertEquals(new SpoolStats(0, 0, 0, 1), spool.getStats());
+    }
+
+    @Test
+    void testRelease_ShouldDeleteFileOnce() throws IOException {
+        MessageSpool spool = new MessageSpool(directory, 4, 1024);
+        MessageBody body = write(spool.newWriter(1024), "spooled message");
+
+        body.release();
+        body.release();
+
+        assertEquals(0, spoolFiles());
+        assertEquals(new SpoolStats(0, 0, 1, 0), spool.getStats());
+        assertThrows(IOException.class, body::openStream);
+    }
+
+    @Test
+    void testReleaseUnclaimed_AfterClaim_ShouldKeepFile() throws IOException {
+        MessageSpool spool = new MessageSpool(directory, 4, 1024);
+        MessageBody claimed = write(spool.newWriter(1024), "claimed message");
+        MessageBody unclaimed = write(spool.newWriter(1024), "unclaimed message");
+
+        assertTrue(claimed.claim());
+        assertFalse(claimed.claim());
+        claimed.releaseUnclaimed();
+        unclaimed.releaseUnclaimed();
+
+        assertEquals(1, spoolFiles());
+        assertEquals("claimed message", claimed.asString());
+    }
+
+    @Test
+    void testAbort_AfterFinish_ShouldDeleteFile() throws IOException {
+        MessageSpool spool = new MessageSpool(directory, 4, 1024);
+        SpoolWriter writer = spool.newWriter(1024);
+        write(writer, "spooled message");
+
+        writer.abort();
+
+        assertEquals(0, spoolFiles());
+        assertEquals(0, spool.getStats().files());
+    }
+
+    @Test
+    void testConstructor_WithLeftoverFiles_ShouldDeleteOnlySpoolFiles() throws IOException {
+        Files.writeString(directory.resolve("spool-123.msg"), "left over");
+        Files.writeString(directory.resolve("unrelated.txt"), "kept");
+
+        new MessageSpool(directory, 4, 1024);
+
+        assertFalse(Files.exists(directory.resolve("spool-123.msg")));
+        assertTrue(Files.exists(directory.resolve("unrelated.txt")));
+    }
+
+    @Test
+    void testLimitFor_ShouldPreferKeyLimit() {
+        MessageSpool spool = new MessageSpool(directory, 4, 1024);
+
+        assertEquals(1024, spool.limitFor(null));
+        assertEquals(1024, spool.limitFor(new ApiKeyInfo("acme", ApiKeyStatus.ACTIVE, 0, 0)));
+        assertEquals(4096, spool.limitFor(new ApiKeyInfo("acme", ApiKeyStatus.ACTIVE, 0, 0, 4096)));
+    }
+
+    @Test
+    void testBindTo_ShouldRegisterSpoolMeters() throws IOException {
+        MessageSpool spool = new MessageSpool(directory, 4, 1024);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        spool.bindTo(registry);
+
+        MessageBody body = write(spool.newWriter(1024), "spooled message");
+
+        assertEquals(1.0, registry.get("devops.spool.files").gauge().value());
+        assertEquals(body.size(), registry.get("devops.spool.bytes").gauge().value());
+        assertEquals(1.0, registry.get("devops.spool.spooled").functionCounter().count());
+        assertEquals(0.0, registry.get("devops.spool.rejected").functionCounter().count());
+    }
+}
@@ -0,0 +1,64 @@
+package com.devops.payload.template;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonByteSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String escaped(String value) {
+        JsonByteSink sink = new JsonByteSink(4);
+        sink.writeEscaped(value);
+        return new String(sink.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private String jackson(String value) throws Exception {
+        String quoted = objectMapper.writeValueAsString(value);
+        return quoted.substring(1, quoted.length() - 1);
+    }
+
+    @Test
+    void testWriteEscaped_WithPlainAscii_ShouldCopyAsIs() {
+        assertEquals("Juan Perez", escaped("Juan Perez"));
+    }
+
+    @Test
+    void testWriteEscaped_WithQuotesAndBackslashes_ShouldMatchJackson() throws Exception {
+        String value = "say \"hi\" to C:\\temp";
+        assertEquals(jackson(value), escaped(value));
+    }
+
+    @Test
+    void testWriteEscaped_WithControlCharacters_ShouldMatchJackson() throws Exception {
+        String value = "a\nb\rc\td\be\ff\u0000g\u001f";
+        assertEquals(jackson(value), escaped(value));
+    }
+
+    @Test
+    void testWriteEscaped_WithNonAscii_ShouldEncodeUtf8() throws Exception {
+        String value = "Mar\u00eda \u20ac \uD83D\uDE80";
+        assertEquals(jackson(value), escaped(value));
+    }
+
+    @Test
+    void testWriteEscaped_WithUnpairedSurrogate_ShouldWriteReplacementCharacter() {
+        assertEquals("a\uFFFDb", escaped("a\uD83Db"));
+    }
+
+    @Test
+    void testToByteArray_AfterReset_ShouldOnlyContainNewContent() {
+        JsonByteSink sink = new JsonByteSink(4);
+        sink.writeEscaped("a long first value that grows the buffer");
+        sink.reset();
+        sink.writeEscaped("b");
+
+        assertEquals(1, sink.size());
+        assertArrayEquals("b".getBytes(StandardCharsets.UTF_8), sink.toByteArray());
+    }
+}
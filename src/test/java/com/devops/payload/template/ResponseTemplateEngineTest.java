@@ -0,0 +1,55 @@
+package com.devops.payload.template;
+
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.devops.payload.model.DevOpsRequest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseTemplateEngineTest {
+
+    private final DevOpsRequest request = new DevOpsRequest("This is a test", "Juan Perez", "Rita Asturia", 45);
+
+    @Test
+    void testTemplateFor_WithSpanishLocale_ShouldReturnSpanishTemplate() {
+        ResponseTemplateEngine engine = new ResponseTemplateEngine();
+
+        assertEquals("Hola Juan Perez, tu mensaje ser\u00e1 enviado",
+                engine.templateFor(Locale.forLanguageTag("es-MX")).message(request));
+    }
+
+    @Test
+    void testTemplateFor_WithUnknownOrNullLocale_ShouldFallBackToEnglish() {
+        ResponseTemplateEngine engine = new ResponseTemplateEngine();
+
+        assertEquals("Hello Juan Perez your message will be send", engine.templateFor(Locale.FRENCH).message(request));
+        assertSame(engine.templateFor(Locale.ENGLISH), engine.templateFor(null));
+    }
+
+    @Test
+    void testConstructor_WithoutEnglishTemplate_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ResponseTemplateEngine(Map.of("es", "Hola {to}"), 10, System::currentTimeMillis));
+    }
+
+    @Test
+    void testBindTo_ShouldExposeCacheMeters() {
+        ResponseTemplateEngine engine = new ResponseTemplateEngine(
+                Map.of("en", "Hello {to}", "ES", "Hola {to}"), 100, System::currentTimeMillis);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        engine.bindTo(registry);
+
+        engine.templateFor(Locale.ENGLISH).render(request);
+        engine.templateFor(Locale.ENGLISH).render(request);
+        engine.templateFor(Locale.forLanguageTag("es")).render(request);
+
+        assertEquals(1.0, registry.get("devops.response.cache.hits").functionCounter().count());
+        assertEquals(2.0, registry.get("devops.response.cache.misses").functionCounter().count());
+        assertEquals(2.0, registry.get("devops.response.cache.size").gauge().value());
+    }
+}
@@ -0,0 +1,104 @@
+package com.devops.payload.template;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.DevOpsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseTemplateTest {
+
+    private static final String EN = "Hello {to} your message will be send";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static DevOpsRequest request(String to, String from) {
+        return new DevOpsRequest("This is a test", to, from, 45);
+    }
+
+    private static String render(ResponseTemplate template, DevOpsRequest request) {
+        return new String(template.render(request), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testRender_WithRecipient_ShouldMatchJacksonSerialization() throws Exception {
+        ResponseTemplate template = new ResponseTemplate(EN, 0, System::currentTimeMillis);
+        DevOpsRequest request = request("Juan Perez", "Rita Asturia");
+
+        String expected = objectMapper.writeValueAsString(
+                new DevOpsResponse(String.format("Hello %s your message will be send", request.getTo())));
+        assertEquals(expected, render(template, request));
+    }
+
+    @Test
+    void testRender_WithCharactersToEscape_ShouldProduceValidJson() throws Exception {
+        ResponseTemplate template = new ResponseTemplate("\"{to}\" \u00e9 {from}", 0, System::currentTimeMillis);
+        DevOpsRequest request = request("Ana \"la\"\n\\", "Mar\u00eda");
+
+        DevOpsResponse response = objectMapper.readValue(template.render(request), DevOpsResponse.class);
+        assertEquals("\"Ana \"la\"\n\\\" \u00e9 Mar\u00eda", response.getMessage());
+    }
+
+    @Test
+    void testMessage_WithBothPlaceholders_ShouldSubstituteFields() {
+        ResponseTemplate template = new ResponseTemplate("{from} -> {to}", 0, System::currentTimeMillis);
+
+        assertEquals("Rita -> Juan", template.message(request("Juan", "Rita")));
+    }
+
+    @Test
+    void testRender_WithSameRecipientTwice_ShouldServeCachedBody() {
+        ResponseTemplate template = new ResponseTemplate(EN, 100, System::currentTimeMillis);
+
+        byte[] first = template.render(request("Juan Perez", "Rita"));
+        byte[] second = template.render(request("Juan Perez", "Someone else"));
+
+        assertSame(first, second);
+        assertEquals(1, template.cacheHits());
+        assertEquals(1, template.cacheMisses());
+        assertEquals(1, template.cacheSize());
+    }
+
+    @Test
+    void testRender_WithSenderPlaceholder_ShouldNotCache() {
+        ResponseTemplate template = new ResponseTemplate("{to} from {from}", 100, System::currentTimeMillis);
+
+        assertEquals("{\"message\":\"Juan from Rita\"}", render(template, request("Juan", "Rita")));
+        assertEquals("{\"message\":\"Juan from Ana\"}", render(template, request("Juan", "Ana")));
+        assertEquals(0, template.cacheSize());
+    }
+
+    @Test
+    void testRender_WithOversizedBody_ShouldNotCache() {
+        ResponseTemplate template = new ResponseTemplate(EN, 100, System::currentTimeMillis);
+
+        template.render(request("x".repeat(ResponseTemplate.MAX_CACHED_BODY_BYTES), "Rita"));
+
+        assertEquals(0, template.cacheSize());
+    }
+
+    @Test
+    void testRender_AfterBodyLargerThanPooledSink_ShouldRenderNextBodyAlone() {
+        ResponseTemplate template = new ResponseTemplate("{to} from {from}", 0, System::currentTimeMillis);
+        String longRecipient = "x".repeat(ResponseTemplate.MAX_POOLED_SINK_BYTES * 2);
+
+        assertEquals("{\"message\":\"" + longRecipient + " from Rita\"}", render(template, request(longRecipient, "Rita")));
+        assertEquals("{\"message\":\"Juan from Rita\"}", render(template, request("Juan", "Rita")));
+    }
+
+    @Test
+    void testConstructor_WithUnknownPlaceholder_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ResponseTemplate("Hello {name}", 0, System::currentTimeMillis));
+    }
+
+    @Test
+    void testConstructor_WithUnclosedPlaceholder_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ResponseTemplate("Hello {to", 0, System::currentTimeMillis));
+    }
+}
@@ -0,0 +1,155 @@
+package com.devops.payload.validation;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.SimpleErrors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import com.devops.payload.model.DevOpsRequest;
+import com.devops.payload.model.DevOpsRequestValidator;
+import com.devops.payload.model.MessageBody;
+
+import jakarta.validation.groups.Default;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeneratedValidatorsTest {
+
+    private final LocalValidatorFactoryBean reflective = reflective();
+    private final GeneratedValidators validators = new GeneratedValidators(List.of(new DevOpsRequestValidator()),
+            reflective);
+
+    private static LocalValidatorFactoryBean reflective() {
+        LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+        return validator;
+    }
+
+    private static List<FieldError> sorted(Errors errors) {
+        return errors.getFieldErrors().stream()
+                .sorted(Comparator.comparing(FieldError::getField).thenComparing(FieldError::getCode))
+                .toList();
+    }
+
+    private void assertSameErrors(DevOpsRequest request) {
+        BindingResult expected = new BeanPropertyBindingResult(request, "devOpsRequest");
+        BindingResult actual = new BeanPropertyBindingResult(request, "devOpsRequest");
+        reflective.validate(request, expected);
+        validators.validate(request, actual);
+
+        List<FieldError> expectedErrors = sorted(expected);
+        List<FieldError> actualErrors = sorted(actual);
+        assertEquals(expectedErrors.size(), actualErrors.size(), () -> "errors for " + request);
+        for (int i = 0; i < expectedErrors.size(); i++) {
+            FieldError e = expectedErrors.get(i);
+            FieldError a = actualErrors.get(i);
+            assertEquals(e.getObjectName(), a.getObjectName());
+            assertEquals(e.getField(), a.getField());
+            assertArrayEquals(e.getCodes(), a.getCodes());
+            assertEquals(e.getDefaultMessage(), a.getDefaultMessage());
+            assertEquals(e.getRejectedValue(), a.getRejectedValue());
+            assertFalse(a.isBindingFailure());
+            assertEquals(e.getArguments().length, a.getArguments().length);
+            MessageSourceResolvable expectedField = (MessageSourceResolvable) e.getArguments()[0];
+            MessageSourceResolvable actualField = (MessageSourceResolvable) a.getArguments()[0];
+            assertArrayEquals(expectedField.getCodes(), actualField.getCodes());
+            assertEquals(expectedField.getDefaultMessage(), actualField.getDefaultMessage());
+        }
+    }
+
+    @Test
+    void testValidate_WithValidRequest_ShouldReportNothing() {
+        BindingResult errors = new BeanPropertyBindingResult(new DevOpsRequest("m", "t", "f", 1), "request");
+
+        validators.validate(errors.getTarget(), errors);
+
+        assertFalse(errors.hasErrors());
+    }
+
+    @Test
+    void testValidate_WithInvalidRequests_ShouldMatchReflectiveValidation() {
+        assertSameErrors(new DevOpsRequest("m", "t", "f", 45));
+        assertSameErrors(new DevOpsRequest(null, null, null, null));
+        assertSameErrors(new DevOpsRequest("", "", "", 0));
+        assertSameErrors(new DevOpsRequest(" \t\n", "  ", " ", -5));
+        assertSameErrors(new DevOpsRequest("m", "t", "f", Integer.MIN_VALUE));
+        DevOpsRequest spooled = new DevOpsRequest(null, "t", "f", 1);
+        spooled.setMessageBody(MessageBody.spooled(Path.of("blank.tmp"), 3, new byte[32], true, null));
+        assertSameErrors(spooled);
+    }
+
+    @Test
+    void testValidate_WithBindingFailure_ShouldNotReportFieldAgain() {
+        DevOpsRequest request = new DevOpsRequest("m", "t", "f", null);
+        BindingResult errors = new BeanPropertyBindingResult(request, "request");
+        errors.addError(new FieldError("request", "timeToLifeSec", "abc", true, new String[] {"typeMismatch"},
+                null, "Not a number"));
+
+        validators.validate(request, errors);
+
+        assertEquals(1, errors.getErrorCount());
+        assertTrue(errors.getFieldError("timeToLifeSec").isBindingFailure());
+    }
+
+    @Test
+    void testValidate_WithPlainErrors_ShouldRejectValue() {
+        DevOpsRequest request = new DevOpsRequest("m", "", "f", 1);
+        Errors errors = new SimpleErrors(request, "request");
+
+        validators.validate(request, errors);
+
+        FieldError error = errors.getFieldError("to");
+        assertEquals("NotBlank", error.getCode());
+        assertEquals("To field cannot be blank", error.getDefaultMessage());
+        assertEquals("", error.getRejectedValue());
+    }
+
+    @Test
+    void testValidate_WithHintsOrOtherTypes_ShouldUseFallback() {
+        AtomicInteger fallbackCalls = new AtomicInteger();
+        SmartValidator fallback = new SmartValidator() {
+            @Override
+            public boolean supports(Class<?> clazz) {
+                return clazz == String.class;
+            }
+
+            @Override
+            public void validate(Object target, Errors errors) {
+                fallbackCalls.incrementAndGet();
+            }
+
+            @Override
+            public void validate(Object target, Errors errors, Object... validationHints) {
+                fallbackCalls.incrementAndGet();
+            }
+
+            @Override
+            public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors,
+                    Object... validationHints) {
+                fallbackCalls.incrementAndGet();
+            }
+        };
+        GeneratedValidators generated = new GeneratedValidators(List.of(new DevOpsRequestValidator()), fallback);
+        DevOpsRequest request = new DevOpsRequest("m", "t", "f", 1);
+
+        generated.validate(request, new SimpleErrors(request), new Object[0]);
+        assertEquals(0, fallbackCalls.get());
+        generated.validate(request, new SimpleErrors(request), Default.class);
+        generated.validate("text", new SimpleErrors("text"));
+        generated.validateValue(DevOpsRequest.class, "to", "", new SimpleErrors(request));
+        assertEquals(3, fallbackCalls.get());
+        assertTrue(generated.supports(DevOpsRequest.class));
+        assertTrue(generated.supports(String.class));
+        assertFalse(generated.supports(Integer.class));
+    }
+}
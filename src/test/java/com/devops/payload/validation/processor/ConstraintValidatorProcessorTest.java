@@ -0,0 +1,311 @@
+package com.devops.payload.validation.processor;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+
+import com.devops.payload.validation.GeneratedValidator;
+
+import jakarta.validation.constraints.NotBlank;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConstraintValidatorProcessorTest {
+
+    @TempDir
+    Path dir;
+
+    private DiagnosticCollector<JavaFileObject> diagnostics;
+
+    private static String location(Class<?> type) {
+        try {
+            return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void compile(String className, String source) throws Exception {
+        Path sources = dir.resolve("src");
+        Path file = sources.resolve(className.replace('.', '/') + ".java");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, source);
+        Files.createDirectories(dir.resolve("classes"));
+        String classpath = Stream.of(NotBlank.class, Component.class, Errors.class, GeneratedValidator.class)
+                .map(ConstraintValidatorProcessorTest::location)
+                .collect(Collectors.joining(File.pathSeparator));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics,
+                    List.of("-classpath", classpath, "-d", dir.resolve("classes").toString(),
+                            "-s", sources.toString(), "-sourcepath", sources.toString(), "-implicit:class"),
+                    null, files.getJavaFileObjects(file));
+            task.setProcessors(List.of(new ConstraintValidatorProcessor()));
+            assertTrue(task.call(), () -> diagnostics.getDiagnostics().toString());
+        }
+    }
+
+    private boolean generated(String className) {
+        return Files.exists(dir.resolve("src").resolve(className.replace('.', '/') + "Validator.java"));
+    }
+
+    private String notes() {
+        return diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.NOTE)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .collect(Collectors.joining("\n"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private GeneratedValidator<Object> load(String className) throws Exception {
+        URLClassLoader loader = new URLClassLoader(new URL[] {dir.resolve("classes").toUri().toURL()},
+                getClass().getClassLoader());
+        return (GeneratedValidator<Object>) loader.loadClass(className + "Validator").getConstructor().newInstance();
+    }
+
+    @Test
+    void testProcess_WithSupportedConstraints_ShouldGenerateStraightLineValidator() throws Exception {
+        compile("sample.Order", """
+                package sample;
+
+                import jakarta.validation.constraints.*;
+
+                public class Order {
+                    @NotBlank(message = "Id \\"required\\"")
+                    private String id;
+                    @NotNull(message = "Count required")
+                    @Positive(message = "Count must be positive")
+                    private Long count;
+                    @Positive(message = "Priority must be positive")
+                    short priority;
+                    @NotNull(message = "never fails")
+                    private int attempts;
+                    @NotBlank(message = "Note required")
+                    public StringBuilder getNote() { return note; }
+                    private StringBuilder note;
+                    public boolean isURLSafe() { return true; }
+
+                    public Order(String id, Long count, short priority, StringBuilder note) {
+                        this.id = id; this.count = count; this.priority = priority; this.note = note;
+                    }
+                    public String getId() { return id; }
+                    public Long getCount() { return count; }
+                    public int getAttempts() { return attempts; }
+                }
+                """);
+        GeneratedValidator<Object> validator = load("sample.Order");
+        Object valid = validator.getTargetType().getConstructor(String.class, Long.class, short.class,
+                StringBuilder.class).newInstance("a", 1L, (short) 1, new StringBuilder("n"));
+        Object invalid = validator.getTargetType().getConstructor(String.class, Long.class, short.class,
+                StringBuilder.class).newInstance(" ", -1L, (short) 0, new StringBuilder(" "));
+        Object missing = validator.getTargetType().getConstructor(String.class, Long.class, short.class,
+                StringBuilder.class).newInstance(null, null, (short) 2, null);
+
+        BindingResult validErrors = new BeanPropertyBindingResult(valid, "order");
+        BindingResult invalidErrors = new BeanPropertyBindingResult(invalid, "order");
+        BindingResult missingErrors = new BeanPropertyBindingResult(missing, "order");
+        validator.validate(valid, validErrors);
+        validator.validate(invalid, invalidErrors);
+        validator.validate(missing, missingErrors);
+
+        assertEquals("sample.Order", validator.getTargetType().getName());
+        assertFalse(validErrors.hasErrors());
+        assertEquals(List.of("id:NotBlank", "count:Positive", "priority:Positive", "note:NotBlank"),
+                invalidErrors.getFieldErrors().stream().map(e -> e.getField() + ":" + e.getCode()).toList());
+        assertEquals("Id \"required\"", invalidErrors.getFieldError("id").getDefaultMessage());
+        assertEquals(List.of("id:NotBlank", "count:NotNull", "note:NotBlank"),
+                missingErrors.getFieldErrors().stream().map(e -> e.getField() + ":" + e.getCode()).toList());
+        String source = Files.readString(dir.resolve("src/sample/OrderValidator.java"));
+        assertFalse(source.contains("attempts"));
+        assertTrue(source.contains("@org.springframework.stereotype.Component"));
+    }
+
+    @Test
+    void testProcess_WithOtherConstraint_ShouldLeaveClassToReflection() throws Exception {
+        compile("sample.Sized", """
+                package sample;
+
+                import jakarta.validation.constraints.*;
+
+                public class Sized {
+                    @NotBlank(message = "Name required")
+                    @Size(max = 10)
+                    private String name;
+                    public String getName() { return name; }
+                }
+                """);
+
+        assertFalse(generated("sample.Sized"));
+        assertTrue(notes().contains("@Size"), notes());
+    }
+
+    @Test
+    void testProcess_WithInterpolatedMessageOrGroups_ShouldLeaveClassToReflection() throws Exception {
+        compile("sample.Defaults", """
+                package sample;
+
+                import jakarta.validation.constraints.*;
+
+                public class Defaults {
+                    @NotBlank
+                    private String name;
+                    public String getName() { return name; }
+                }
+                """);
+        compile("sample.Grouped", """
+                package sample;
+
+                import jakarta.validation.constraints.*;
+
+                public class Grouped {
+                    @NotNull(message = "Name required", groups = Grouped.class)
+                    private String name;
+                    public String getName() { return name; }
+                }
+                """);
+
+        assertFalse(generated("sample.Defaults"));
+        assertFalse(generated("sample.Grouped"));
+        assertTrue(notes().contains("sets groups"), notes());
+    }
+
+    @Test
+    void testProcess_WithUnreadableOrUnsupportedProperty_ShouldLeaveClassToReflection() throws Exception {
+        compile("sample.Hidden", """
+                package sample;
+
+                import jakarta.validation.constraints.*;
+
+                public class Hidden {
+                    @NotNull(message = "Name required")
+                    private String name;
+                }
+                """);
+        compile("sample.Ratio", """
+                package sample;
+
+                import jakarta.validation.constraints.*;
+
+                public class Ratio {
+                    @Positive(message = "Ratio must be positive")
+                    public Double ratio;
+                }
+                """);
+        compile("sample.Tags", """
+                package sample;
+
+                import java.util.List;
+                import jakarta.validation.constraints.*;
+
+                public class Tags {
+                    @NotNull(message = "Tags required")
+                    public List<@NotBlank String> tags;
+                }
+                """);
+        compile("sample.Child", """
+                package sample;
+
+                import jakarta.validation.constraints.*;
+
+                public class Child extends Hidden {
+                    @NotNull(message = "Age required")
+                    public Integer age;
+                }
+                """);
+
+        assertFalse(generated("sample.Hidden"));
+        assertFalse(generated("sample.Ratio"));
+        assertFalse(generated("sample.Tags"));
+        assertFalse(generated("sample.Child"));
+        assertTrue(notes().contains("supertypes"), notes());
+    }
+
+    @Test
+    void testProcess_WithNotBlankOnOtherType_ShouldCallRegisteredValidator() throws Exception {
+        Path services = dir.resolve("classes/META-INF/services/jakarta.validation.ConstraintValidator");
+        Files.createDirectories(services.getParent());
+        Files.writeString(services, "# NotBlank for Text\nsample.TextNotBlankValidator\n");
+        Files.createDirectories(dir.resolve("src/sample"));
+        Files.writeString(dir.resolve("src/sample/Text.java"), """
+                package sample;
+
+                public record Text(String value) {
+                }
+                """);
+        Files.writeString(dir.resolve("src/sample/TextNotBlankValidator.java"), """
+                package sample;
+
+                import jakarta.validation.ConstraintValidator;
+                import jakarta.validation.ConstraintValidatorContext;
+                import jakarta.validation.constraints.NotBlank;
+
+                public class TextNotBlankValidator implements ConstraintValidator<NotBlank, Text> {
+                    @Override
+                    public boolean isValid(Text text, ConstraintValidatorContext context) {
+                        return text != null && !"-".equals(text.value());
+                    }
+                }
+                """);
+        compile("sample.Note", """
+                package sample;
+
+                import jakarta.validation.constraints.*;
+
+                public class Note {
+                    @NotBlank(message = "Text required")
+                    public Text text;
+                }
+                """);
+        compile("sample.Counter", """
+                package sample;
+
+                import java.util.concurrent.atomic.AtomicLong;
+                import jakarta.validation.constraints.*;
+
+                public class Counter {
+                    @NotBlank(message = "Count required")
+                    public AtomicLong count;
+                }
+                """);
+
+        GeneratedValidator<Object> validator = load("sample.Note");
+        Class<?> text = validator.getTargetType().getClassLoader().loadClass("sample.Text");
+        Object note = validator.getTargetType().getConstructor().newInstance();
+        validator.getTargetType().getField("text").set(note, text.getConstructor(String.class).newInstance("-"));
+        BindingResult errors = new BeanPropertyBindingResult(note, "note");
+        validator.validate(note, errors);
+
+        assertEquals("NotBlank", errors.getFieldError("text").getCode());
+        assertTrue(Files.readString(dir.resolve("src/sample/NoteValidator.java"))
+                .contains("new sample.TextNotBlankValidator()"));
+        assertFalse(generated("sample.Counter"));
+        assertTrue(notes().contains("@NotBlank on count"), notes());
+    }
+
+    @Test
+    void testLiteral_ShouldEscapeQuotesAndControlCharacters() {
+        assertEquals("\"a\\\"b\\\\c\\012é\"", ConstraintValidatorProcessor.literal("a\"b\\c\né"));
+    }
+}
@@ -64,5 +64,8 @@ module "ecs" {
   desired_count      = var.desired_count
   min_capacity       = var.min_capacity
   max_capacity       = var.max_capacity
+  task_cpu           = var.task_cpu
+  task_memory        = var.task_memory
+  api_key_secret_arn = var.api_key_secret_arn
 }
 
@@ -58,3 +58,19 @@ variable "max_capacity" {
   default     = 10
 }
 
+variable "task_cpu" {
+  description = "Fargate task CPU units"
+  type        = number
+  default     = 512
+}
+
+variable "task_memory" {
+  description = "Fargate task memory in MiB"
+  type        = number
+  default     = 1024
+}
+
+variable "api_key_secret_arn" {
+  description = "ARN of the Secrets Manager secret holding the bootstrap API key (API_KEY)"
+  type        = string
+}
@@ -58,6 +58,18 @@ variable "max_capacity" {
   default     = 10
 }
 
+variable "task_cpu" {
+  description = "Fargate task CPU units"
+  type        = number
+  default     = 512
+}
+
+variable "task_memory" {
+  description = "Fargate task memory in MiB"
+  type        = number
+  default     = 1024
+}
+
 variable "cpu_target_value" {
   description = "Target CPU utilization percentage for auto-scaling"
   type        = number
@@ -70,3 +82,7 @@ variable "memory_target_value" {
   default     = 80
 }
 
+variable "api_key_secret_arn" {
+  description = "ARN of the Secrets Manager secret holding the bootstrap API key (API_KEY)"
+  type        = string
+}